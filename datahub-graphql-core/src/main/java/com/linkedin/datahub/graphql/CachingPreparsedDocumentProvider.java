@@ -0,0 +1,108 @@
+package com.linkedin.datahub.graphql;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import graphql.ErrorType;
+import graphql.ExecutionInput;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * A {@link PreparsedDocumentProvider} which keeps a bounded number of parsed & validated query documents in memory,
+ * keyed by the SHA-256 hash of the query text. Repeated queries (e.g. the search results & entity profile queries
+ * sent by the UI) therefore skip parsing and validation against the schema.
+ *
+ * Also implements <a href="https://www.apollographql.com/docs/apollo-server/performance/apq/">Automatic Persisted
+ * Queries</a>: a client may send only the hash of a query in the "persistedQuery" request extension. If the query is
+ * not cached, a PersistedQueryNotFound error is returned, and the client is expected to retry with the full query
+ * text, which is then cached under its hash.
+ */
+@Slf4j
+public class CachingPreparsedDocumentProvider implements PreparsedDocumentProvider {
+
+  public static final String PERSISTED_QUERY_EXTENSION = "persistedQuery";
+  public static final String PERSISTED_QUERY_HASH_FIELD = "sha256Hash";
+
+  static final String PERSISTED_QUERY_NOT_FOUND = "PersistedQueryNotFound";
+  static final String PERSISTED_QUERY_HASH_MISMATCH = "PersistedQueryHashMismatch";
+
+  private final Cache<String, PreparsedDocumentEntry> _documents;
+
+  public CachingPreparsedDocumentProvider(final int maxSize) {
+    _documents = CacheBuilder.newBuilder()
+        .maximumSize(maxSize)
+        .build();
+  }
+
+  @Override
+  public PreparsedDocumentEntry getDocument(
+      @Nonnull final ExecutionInput executionInput,
+      @Nonnull final Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+    final String query = executionInput.getQuery();
+    final Optional<String> persistedQueryHash = getPersistedQueryHash(executionInput);
+
+    if (query == null || query.trim().isEmpty()) {
+      if (!persistedQueryHash.isPresent()) {
+        // Nothing to look up, let the parser report the empty query.
+        return parseAndValidateFunction.apply(executionInput);
+      }
+      final PreparsedDocumentEntry cached = _documents.getIfPresent(persistedQueryHash.get());
+      if (cached == null) {
+        MetricUtils.counter(this.getClass(), "persistedQueryNotFound").inc();
+        return error(PERSISTED_QUERY_NOT_FOUND);
+      }
+      MetricUtils.counter(this.getClass(), "documentCacheHit").inc();
+      return cached;
+    }
+
+    final String hash = hash(query);
+    if (persistedQueryHash.isPresent() && !persistedQueryHash.get().equalsIgnoreCase(hash)) {
+      // Never register a query under a hash it does not match, as other clients would execute it instead of theirs.
+      return error(PERSISTED_QUERY_HASH_MISMATCH);
+    }
+    final PreparsedDocumentEntry cached = _documents.getIfPresent(hash);
+    if (cached != null) {
+      MetricUtils.counter(this.getClass(), "documentCacheHit").inc();
+      return cached;
+    }
+    MetricUtils.counter(this.getClass(), "documentCacheMiss").inc();
+    final PreparsedDocumentEntry entry = parseAndValidateFunction.apply(executionInput);
+    if (!entry.hasErrors()) {
+      _documents.put(hash, entry);
+    }
+    return entry;
+  }
+
+  @VisibleForTesting
+  static String hash(@Nonnull final String query) {
+    return Hashing.sha256().hashString(query, StandardCharsets.UTF_8).toString();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Optional<String> getPersistedQueryHash(final ExecutionInput executionInput) {
+    final Map<String, Object> extensions = executionInput.getExtensions();
+    if (extensions == null || !(extensions.get(PERSISTED_QUERY_EXTENSION) instanceof Map)) {
+      return Optional.empty();
+    }
+    final Object hash = ((Map<String, Object>) extensions.get(PERSISTED_QUERY_EXTENSION)).get(PERSISTED_QUERY_HASH_FIELD);
+    return hash instanceof String ? Optional.of((String) hash) : Optional.empty();
+  }
+
+  private static PreparsedDocumentEntry error(final String message) {
+    return new PreparsedDocumentEntry(GraphqlErrorBuilder.newError()
+        .message(message)
+        .errorType(ErrorType.ValidationError)
+        .build());
+  }
+}
@@ -18,6 +18,7 @@ import com.linkedin.datahub.graphql.analytics.resolver.GetHighlightsResolver;
 import com.linkedin.datahub.graphql.analytics.resolver.GetMetadataAnalyticsResolver;
 import com.linkedin.datahub.graphql.analytics.resolver.IsAnalyticsEnabledResolver;
 import com.linkedin.datahub.graphql.analytics.service.AnalyticsService;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.featureflags.FeatureFlags;
 import com.linkedin.datahub.graphql.generated.AccessToken;
 import com.linkedin.datahub.graphql.generated.AccessTokenMetadata;
@@ -168,6 +169,7 @@ import com.linkedin.datahub.graphql.resolvers.load.EntityTypeResolver;
 import com.linkedin.datahub.graphql.resolvers.load.LoadableTypeBatchResolver;
 import com.linkedin.datahub.graphql.resolvers.load.LoadableTypeResolver;
 import com.linkedin.datahub.graphql.resolvers.load.OwnerTypeResolver;
+import com.linkedin.datahub.graphql.resolvers.load.TimeSeriesAspectDataLoader;
 import com.linkedin.datahub.graphql.resolvers.load.TimeSeriesAspectResolver;
 import com.linkedin.datahub.graphql.resolvers.mutate.AddLinkResolver;
 import com.linkedin.datahub.graphql.resolvers.mutate.AddOwnerResolver;
@@ -221,6 +223,7 @@ import com.linkedin.datahub.graphql.resolvers.search.AggregateAcrossEntitiesReso
 import com.linkedin.datahub.graphql.resolvers.search.AutoCompleteForMultipleResolver;
 import com.linkedin.datahub.graphql.resolvers.search.AutoCompleteResolver;
 import com.linkedin.datahub.graphql.resolvers.search.GetQuickFiltersResolver;
+import com.linkedin.datahub.graphql.resolvers.search.HydratingSearchResolver;
 import com.linkedin.datahub.graphql.resolvers.search.ScrollAcrossEntitiesResolver;
 import com.linkedin.datahub.graphql.resolvers.search.ScrollAcrossLineageResolver;
 import com.linkedin.datahub.graphql.resolvers.search.SearchAcrossEntitiesResolver;
@@ -336,7 +339,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -705,6 +707,10 @@ public class GmsGraphQLEngine {
             .addDataLoaders(loaderSuppliers(loadableTypes))
             .addDataLoader("Aspect", context -> createDataLoader(aspectType, context))
             .configureRuntimeWiring(this::configureRuntimeWiring);
+        if (timeseriesAspectService != null) {
+            builder.addDataLoader(TimeSeriesAspectDataLoader.NAME,
+                context -> TimeSeriesAspectDataLoader.create(timeseriesAspectService, context));
+        }
         return builder;
     }
 
@@ -784,11 +790,23 @@ public class GmsGraphQLEngine {
                     this.featureFlags
                 ))
             .dataFetcher("me", new MeResolver(this.entityClient, featureFlags))
-            .dataFetcher("search", new SearchResolver(this.entityClient))
-            .dataFetcher("searchAcrossEntities", new SearchAcrossEntitiesResolver(this.entityClient, this.viewService))
-            .dataFetcher("scrollAcrossEntities", new ScrollAcrossEntitiesResolver(this.entityClient, this.viewService))
-            .dataFetcher("searchAcrossLineage", new SearchAcrossLineageResolver(this.entityClient))
-            .dataFetcher("scrollAcrossLineage", new ScrollAcrossLineageResolver(this.entityClient))
+            .dataFetcher("search", new HydratingSearchResolver<>(new SearchResolver(this.entityClient),
+                results -> results.getSearchResults().stream().map(SearchResult::getEntity).collect(Collectors.toList()),
+                this.entityClient, entityTypes))
+            .dataFetcher("searchAcrossEntities", new HydratingSearchResolver<>(
+                new SearchAcrossEntitiesResolver(this.entityClient, this.viewService),
+                results -> results.getSearchResults().stream().map(SearchResult::getEntity).collect(Collectors.toList()),
+                this.entityClient, entityTypes))
+            .dataFetcher("scrollAcrossEntities", new HydratingSearchResolver<>(
+                new ScrollAcrossEntitiesResolver(this.entityClient, this.viewService),
+                results -> results.getSearchResults().stream().map(SearchResult::getEntity).collect(Collectors.toList()),
+                this.entityClient, entityTypes))
+            .dataFetcher("searchAcrossLineage", new HydratingSearchResolver<>(new SearchAcrossLineageResolver(this.entityClient),
+                results -> results.getSearchResults().stream().map(SearchAcrossLineageResult::getEntity).collect(Collectors.toList()),
+                this.entityClient, entityTypes))
+            .dataFetcher("scrollAcrossLineage", new HydratingSearchResolver<>(new ScrollAcrossLineageResolver(this.entityClient),
+                results -> results.getSearchResults().stream().map(SearchAcrossLineageResult::getEntity).collect(Collectors.toList()),
+                this.entityClient, entityTypes))
             .dataFetcher("aggregateAcrossEntities", new AggregateAcrossEntitiesResolver(this.entityClient, this.viewService))
             .dataFetcher("autoComplete", new AutoCompleteResolver(searchableTypes))
             .dataFetcher("autoCompleteForMultiple", new AutoCompleteForMultipleResolver(searchableTypes, this.viewService))
@@ -1791,8 +1809,12 @@ public class GmsGraphQLEngine {
 
     private <T, K> DataLoader<K, DataFetcherResult<T>> createDataLoader(final LoadableType<T, K> graphType, final QueryContext queryContext) {
         BatchLoaderContextProvider contextProvider = () -> queryContext;
-        DataLoaderOptions loaderOptions = DataLoaderOptions.newOptions().setBatchLoaderContextProvider(contextProvider);
-        return DataLoader.newDataLoader((keys, context) -> CompletableFuture.supplyAsync(() -> {
+        // Results are cached for the duration of the request, so a key referenced by several fields is loaded once.
+        DataLoaderOptions loaderOptions = DataLoaderOptions.newOptions()
+            .setBatchLoaderContextProvider(contextProvider)
+            .setMaxBatchSize(graphType.maxBatchSize())
+            .setCachingEnabled(true);
+        return DataLoader.newDataLoader((keys, context) -> GraphQLConcurrencyUtils.supplyAsync(() -> {
             try {
                 log.debug(String.format("Batch loading entities of type: %s, keys: %s", graphType.name(), keys));
                 return graphType.batchLoad(keys, context.getContext());
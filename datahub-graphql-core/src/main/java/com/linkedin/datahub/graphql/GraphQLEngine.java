@@ -1,9 +1,15 @@
 package com.linkedin.datahub.graphql;
 
 import com.linkedin.datahub.graphql.exception.DataHubDataFetcherExceptionHandler;
+import com.linkedin.datahub.graphql.instrumentation.DataHubFieldComplexityCalculator;
+import com.linkedin.datahub.graphql.instrumentation.QueryBudgetInstrumentation;
 import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.execution.instrumentation.ChainedInstrumentation;
+import graphql.execution.instrumentation.Instrumentation;
+import graphql.execution.instrumentation.dataloader.DataLoaderDispatcherInstrumentation;
 import graphql.execution.instrumentation.tracing.TracingInstrumentation;
 import graphql.schema.GraphQLSchema;
 import graphql.schema.idl.RuntimeWiring;
@@ -11,6 +17,7 @@ import graphql.schema.idl.SchemaGenerator;
 import graphql.schema.idl.SchemaParser;
 import graphql.schema.idl.TypeDefinitionRegistry;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -40,7 +47,11 @@ public class GraphQLEngine {
 
     private GraphQLEngine(@Nonnull final List<String> schemas,
                           @Nonnull final RuntimeWiring runtimeWiring,
-                          @Nonnull final Map<String, Function<QueryContext, DataLoader<?, ?>>> dataLoaderSuppliers) {
+                          @Nonnull final Map<String, Function<QueryContext, DataLoader<?, ?>>> dataLoaderSuppliers,
+                          final int documentCacheSize,
+                          final int maxQueryComplexity,
+                          final int maxDataLoaderBatches,
+                          final int maxDataFetcherCalls) {
 
         _dataLoaderSuppliers = dataLoaderSuppliers;
 
@@ -57,18 +68,48 @@ public class GraphQLEngine {
         SchemaGenerator schemaGenerator = new SchemaGenerator();
         GraphQLSchema graphQLSchema = schemaGenerator.makeExecutableSchema(typeDefinitionRegistry, runtimeWiring);
 
+        /*
+         * Configure instrumentation: DataLoader dispatch, tracing, static query cost analysis & runtime budgets
+         */
+        List<Instrumentation> instrumentations = new ArrayList<>();
+        // Dispatches the DataLoaders of every type together once all fields of a query level have been fetched, so
+        // the batches of one level run concurrently (see GraphQLConcurrencyUtils) rather than one type at a time.
+        instrumentations.add(new DataLoaderDispatcherInstrumentation());
+        instrumentations.add(new TracingInstrumentation());
+        if (maxQueryComplexity > 0) {
+            instrumentations.add(
+                new MaxQueryComplexityInstrumentation(maxQueryComplexity, new DataHubFieldComplexityCalculator()));
+        }
+        if (maxDataLoaderBatches > 0 || maxDataFetcherCalls > 0) {
+            instrumentations.add(new QueryBudgetInstrumentation(maxDataLoaderBatches, maxDataFetcherCalls));
+        }
+
         /*
          * Instantiate engine
          */
-        _graphQL = new GraphQL.Builder(graphQLSchema)
+        GraphQL.Builder graphQLBuilder = new GraphQL.Builder(graphQLSchema)
             .defaultDataFetcherExceptionHandler(new DataHubDataFetcherExceptionHandler())
-            .instrumentation(new TracingInstrumentation())
-            .build();
+            .instrumentation(new ChainedInstrumentation(instrumentations));
+        if (documentCacheSize > 0) {
+            graphQLBuilder.preparsedDocumentProvider(new CachingPreparsedDocumentProvider(documentCacheSize));
+        }
+        _graphQL = graphQLBuilder.build();
     }
 
     public ExecutionResult execute(@Nonnull final String query,
                                    @Nullable final Map<String, Object> variables,
                                    @Nonnull final QueryContext context) {
+        return execute(query, variables, null, context);
+    }
+
+    /**
+     * Executes a query. The request extensions may carry the hash of a persisted query, in which case the query
+     * text may be empty (see {@link CachingPreparsedDocumentProvider}).
+     */
+    public ExecutionResult execute(@Nonnull final String query,
+                                   @Nullable final Map<String, Object> variables,
+                                   @Nullable final Map<String, Object> extensions,
+                                   @Nonnull final QueryContext context) {
         /*
          * Init DataLoaderRegistry - should be created for each request.
          */
@@ -80,6 +121,7 @@ public class GraphQLEngine {
         ExecutionInput executionInput = ExecutionInput.newExecutionInput()
             .query(query)
             .variables(variables)
+            .extensions(extensions != null ? extensions : Collections.emptyMap())
             .dataLoaderRegistry(register)
             .context(context)
             .build();
@@ -106,6 +148,10 @@ public class GraphQLEngine {
         private final List<String> _schemas = new ArrayList<>();
         private final Map<String, Function<QueryContext, DataLoader<?, ?>>> _loaderSuppliers = new HashMap<>();
         private final RuntimeWiring.Builder _runtimeWiringBuilder = newRuntimeWiring();
+        private int _documentCacheSize = 0;
+        private int _maxQueryComplexity = 0;
+        private int _maxDataLoaderBatches = 0;
+        private int _maxDataFetcherCalls = 0;
 
         /**
          * Used to add a schema file containing the GQL types resolved by the engine.
@@ -153,11 +199,40 @@ public class GraphQLEngine {
             return this;
         }
 
+        /**
+         * Used to set the maximum number of parsed & validated query documents kept in memory, which also bounds
+         * the number of persisted queries. A size of 0 (the default) disables the cache.
+         */
+        public Builder setDocumentCacheSize(final int documentCacheSize) {
+            _documentCacheSize = documentCacheSize;
+            return this;
+        }
+
+        /**
+         * Used to set the maximum complexity of a query, as scored by {@link DataHubFieldComplexityCalculator}.
+         * Queries above it are rejected before execution. A value of 0 (the default) disables the check.
+         */
+        public Builder setMaxQueryComplexity(final int maxQueryComplexity) {
+            _maxQueryComplexity = maxQueryComplexity;
+            return this;
+        }
+
+        /**
+         * Used to cap the number of DataLoader batches & resolver calls a single query can make
+         * (see {@link QueryBudgetInstrumentation}). A value of 0 (the default) disables a cap.
+         */
+        public Builder setQueryBudget(final int maxDataLoaderBatches, final int maxDataFetcherCalls) {
+            _maxDataLoaderBatches = maxDataLoaderBatches;
+            _maxDataFetcherCalls = maxDataFetcherCalls;
+            return this;
+        }
+
         /**
          * Builds a {@link GraphQLEngine}.
          */
         public GraphQLEngine build() {
-            return new GraphQLEngine(_schemas, _runtimeWiringBuilder.build(), _loaderSuppliers);
+            return new GraphQLEngine(_schemas, _runtimeWiringBuilder.build(), _loaderSuppliers, _documentCacheSize,
+                _maxQueryComplexity, _maxDataLoaderBatches, _maxDataFetcherCalls);
         }
     }
 
@@ -0,0 +1,138 @@
+package com.linkedin.datahub.graphql.analytics.service;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.linkedin.datahub.graphql.generated.DateInterval;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Value;
+
+
+/**
+ * Cache of the results of the analytics charts, keyed by chart, index, date range and chart parameters.
+ *
+ * Results over a time range which has ended are immutable: they are kept until evicted by size. All other results,
+ * e.g. over a range ending in the future or without a range, are only kept for a short time. A time range is
+ * considered ended once the closed bucket delay has passed, to leave time for the late events to be indexed.
+ *
+ * Time buckets are aligned the same way as the Elasticsearch date histogram buckets: in UTC, weeks starting on Monday.
+ */
+public class AnalyticsChartCache {
+
+  private final Cache<ChartKey, Object> _closedResults;
+  private final Cache<ChartKey, Object> _openResults;
+  private final long _closedBucketDelayMillis;
+  private final Clock _clock;
+
+  public AnalyticsChartCache(final int maxSize, final long openResultTtlSeconds, final long closedBucketDelaySeconds) {
+    this(maxSize, openResultTtlSeconds, closedBucketDelaySeconds, Clock.systemUTC());
+  }
+
+  @VisibleForTesting
+  AnalyticsChartCache(final int maxSize, final long openResultTtlSeconds, final long closedBucketDelaySeconds,
+      @Nonnull final Clock clock) {
+    _closedResults = CacheBuilder.newBuilder()
+        .maximumSize(maxSize)
+        .build();
+    _openResults = CacheBuilder.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(openResultTtlSeconds, TimeUnit.SECONDS)
+        .build();
+    _closedBucketDelayMillis = TimeUnit.SECONDS.toMillis(closedBucketDelaySeconds);
+    _clock = clock;
+  }
+
+  /**
+   * Returns the cached result of the chart, computing and caching it if absent.
+   *
+   * @param closed whether the result is over an ended time range, and can be kept until evicted
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T get(@Nonnull final ChartKey key, final boolean closed, @Nonnull final Supplier<T> compute) {
+    final Cache<ChartKey, Object> cache = closed ? _closedResults : _openResults;
+    final Object cached = cache.getIfPresent(key);
+    if (cached != null) {
+      MetricUtils.counter(this.getClass(), "chartCacheHit").inc();
+      return (T) cached;
+    }
+    MetricUtils.counter(this.getClass(), "chartCacheMiss").inc();
+    final T result = compute.get();
+    cache.put(key, result);
+    return result;
+  }
+
+  /**
+   * Returns true if no more events are expected before the given time.
+   */
+  public boolean isClosed(final long endMillis) {
+    return endMillis <= getClosedBefore();
+  }
+
+  /**
+   * Returns the start of the first bucket of the interval which may still receive events. All the buckets before it
+   * are closed.
+   */
+  public long getOpenBucketStart(@Nonnull final DateInterval interval) {
+    return getBucketStart(getClosedBefore(), interval);
+  }
+
+  private long getClosedBefore() {
+    return _clock.millis() - _closedBucketDelayMillis;
+  }
+
+  @VisibleForTesting
+  static long getBucketStart(final long timeMillis, @Nonnull final DateInterval interval) {
+    final ZonedDateTime time = Instant.ofEpochMilli(timeMillis).atZone(ZoneOffset.UTC);
+    final ZonedDateTime bucketStart;
+    switch (interval) {
+      case SECOND:
+        bucketStart = time.truncatedTo(ChronoUnit.SECONDS);
+        break;
+      case MINUTE:
+        bucketStart = time.truncatedTo(ChronoUnit.MINUTES);
+        break;
+      case HOUR:
+        bucketStart = time.truncatedTo(ChronoUnit.HOURS);
+        break;
+      case DAY:
+        bucketStart = time.truncatedTo(ChronoUnit.DAYS);
+        break;
+      case WEEK:
+        bucketStart = time.truncatedTo(ChronoUnit.DAYS).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        break;
+      case MONTH:
+        bucketStart = time.truncatedTo(ChronoUnit.DAYS).with(TemporalAdjusters.firstDayOfMonth());
+        break;
+      case YEAR:
+        bucketStart = time.truncatedTo(ChronoUnit.DAYS).with(TemporalAdjusters.firstDayOfYear());
+        break;
+      default:
+        throw new IllegalArgumentException("Unsupported date interval " + interval);
+    }
+    return bucketStart.toInstant().toEpochMilli();
+  }
+
+  @Value
+  public static class ChartKey {
+    String chart;
+    String indexName;
+    @Nullable
+    Long startMillis;
+    @Nullable
+    Long endMillis;
+    // The other parameters of the chart, e.g. granularity, dimensions & filters
+    List<Object> parameters;
+  }
+}
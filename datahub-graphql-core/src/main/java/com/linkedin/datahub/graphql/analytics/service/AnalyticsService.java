@@ -12,14 +12,20 @@ import com.linkedin.datahub.graphql.generated.NumericDataPoint;
 import com.linkedin.datahub.graphql.generated.Row;
 import com.linkedin.datahub.graphql.resolvers.EntityTypeMapper;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.annotation.Nonnull;
-import lombok.RequiredArgsConstructor;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.client.RequestOptions;
@@ -42,11 +48,13 @@ import org.elasticsearch.search.builder.SearchSourceBuilder;
 
 
 @Slf4j
-@RequiredArgsConstructor
 public class AnalyticsService {
 
   private final RestHighLevelClient _elasticClient;
   private final IndexConvention _indexConvention;
+  // Null when chart results are not cached
+  @Nullable
+  private final AnalyticsChartCache _chartCache;
 
   private static final String FILTERED = "filtered";
   private static final String DATE_HISTOGRAM = "date_histogram";
@@ -57,6 +65,21 @@ public class AnalyticsService {
 
   public static final String DATAHUB_USAGE_EVENT_INDEX = "datahub_usage_event";
 
+  private static final String TIMESERIES_CHART = "timeseries";
+  private static final String BAR_CHART = "bar";
+  private static final String TOP_N_TABLE_CHART = "topNTable";
+
+  public AnalyticsService(RestHighLevelClient elasticClient, IndexConvention indexConvention) {
+    this(elasticClient, indexConvention, null);
+  }
+
+  public AnalyticsService(RestHighLevelClient elasticClient, IndexConvention indexConvention,
+      @Nullable AnalyticsChartCache chartCache) {
+    _elasticClient = elasticClient;
+    _indexConvention = indexConvention;
+    _chartCache = chartCache;
+  }
+
   @Nonnull
   public String getEntityIndexName(EntityType entityType) {
     return _indexConvention.getEntityIndexName(EntityTypeMapper.getName(entityType));
@@ -81,6 +104,39 @@ public class AnalyticsService {
             indexName, dateRange.getStart(), dateRange.getEnd(), granularity, dimension) + String.format("filters: %s, uniqueOn: %s", filters,
             uniqueOn));
 
+    final Optional<Long> start = parseMillis(dateRange.getStart());
+    final Optional<Long> end = parseMillis(dateRange.getEnd());
+    if (_chartCache == null || !start.isPresent() || !end.isPresent()) {
+      return computeTimeseriesChart(indexName, dateRange, granularity, dimension, filters, mustNotFilters, uniqueOn);
+    }
+
+    final List<Object> parameters = Arrays.asList(granularity, dimension, filters, mustNotFilters, uniqueOn);
+    if (dimension.isPresent()) {
+      // The top dimension values are chosen over the whole range, so the range cannot be split into closed and open
+      // parts whose lines are computed separately
+      final List<NamedLine> lines = _chartCache.get(new AnalyticsChartCache.ChartKey(TIMESERIES_CHART, indexName,
+          start.get(), end.get(), parameters), false, () -> computeTimeseriesChart(indexName, dateRange, granularity,
+          dimension, filters, mustNotFilters, uniqueOn));
+      return mergeLines(lines, ImmutableList.of());
+    }
+
+    // The buckets before the open one are closed: they are computed once, and only the open bucket is recomputed
+    final long openBucketStart =
+        Math.max(start.get(), Math.min(end.get(), _chartCache.getOpenBucketStart(granularity)));
+    final List<NamedLine> closedLines = openBucketStart <= start.get() ? ImmutableList.of()
+        : _chartCache.get(new AnalyticsChartCache.ChartKey(TIMESERIES_CHART, indexName, start.get(), openBucketStart,
+            parameters), true, () -> computeTimeseriesChart(indexName, toDateRange(start.get(), openBucketStart),
+            granularity, dimension, filters, mustNotFilters, uniqueOn));
+    final List<NamedLine> openLines = openBucketStart >= end.get() ? ImmutableList.of()
+        : _chartCache.get(new AnalyticsChartCache.ChartKey(TIMESERIES_CHART, indexName, openBucketStart, end.get(),
+            parameters), false, () -> computeTimeseriesChart(indexName, toDateRange(openBucketStart, end.get()),
+            granularity, dimension, filters, mustNotFilters, uniqueOn));
+    return mergeLines(closedLines, openLines);
+  }
+
+  private List<NamedLine> computeTimeseriesChart(String indexName, DateRange dateRange, DateInterval granularity,
+      Optional<String> dimension, Map<String, List<String>> filters, Map<String, List<String>> mustNotFilters,
+      Optional<String> uniqueOn) {
     AggregationBuilder filteredAgg = getFilteredAggregation(filters, mustNotFilters, Optional.of(dateRange));
 
     AggregationBuilder dateHistogram = AggregationBuilders.dateHistogram(DATE_HISTOGRAM)
@@ -114,6 +170,21 @@ public class AnalyticsService {
     }
   }
 
+  /**
+   * Concatenates the points of the lines of the closed and open buckets, returning copies which may be modified.
+   */
+  private static List<NamedLine> mergeLines(List<NamedLine> closedLines, List<NamedLine> openLines) {
+    final Map<String, List<NumericDataPoint>> points = new LinkedHashMap<>();
+    Stream.concat(closedLines.stream(), openLines.stream())
+        .forEach(line -> line.getData()
+            .forEach(point -> points.computeIfAbsent(line.getName(), name -> new ArrayList<>())
+                .add(new NumericDataPoint(point.getX(), point.getY()))));
+    return points.entrySet()
+        .stream()
+        .map(entry -> new NamedLine(entry.getKey(), entry.getValue()))
+        .collect(Collectors.toList());
+  }
+
   private int extractCount(MultiBucketsAggregation.Bucket bucket, boolean didUnique) {
     return didUnique ? (int) bucket.getAggregations().<Cardinality>get(UNIQUE).getValue() : (int) bucket.getDocCount();
   }
@@ -134,6 +205,24 @@ public class AnalyticsService {
             dimensions) + String.format("filters: %s, uniqueOn: %s", filters, uniqueOn));
 
     assert (dimensions.size() == 1 || dimensions.size() == 2);
+    if (_chartCache == null) {
+      return computeBarChart(indexName, dateRange, dimensions, filters, mustNotFilters, uniqueOn, showMissing);
+    }
+    final List<NamedBar> bars = getCached(BAR_CHART, indexName, dateRange,
+        Arrays.asList(dimensions, filters, mustNotFilters, uniqueOn, showMissing),
+        () -> computeBarChart(indexName, dateRange, dimensions, filters, mustNotFilters, uniqueOn, showMissing));
+    // Display names are hydrated into the returned bars, so the cached bars are copied
+    return bars.stream()
+        .map(bar -> new NamedBar(bar.getName(), bar.getSegments()
+            .stream()
+            .map(segment -> new BarSegment(segment.getLabel(), segment.getValue()))
+            .collect(Collectors.toList())))
+        .collect(Collectors.toList());
+  }
+
+  private List<NamedBar> computeBarChart(String indexName, Optional<DateRange> dateRange, List<String> dimensions,
+      Map<String, List<String>> filters, Map<String, List<String>> mustNotFilters, Optional<String> uniqueOn,
+      boolean showMissing) {
     AggregationBuilder filteredAgg = getFilteredAggregation(filters, mustNotFilters, dateRange);
 
     TermsAggregationBuilder termAgg = AggregationBuilders.terms(DIMENSION).field(dimensions.get(0));
@@ -199,6 +288,20 @@ public class AnalyticsService {
         String.format("Invoked getTopNTableChart with indexName: %s, dateRange: %s, groupBy: %s", indexName, dateRange,
             groupBy) + String.format("filters: %s, uniqueOn: %s", filters, uniqueOn));
 
+    // Cells are built from the cached counts on each call, as display names are hydrated into them
+    final List<Pair<String, Integer>> counts = _chartCache == null
+        ? computeTopNCounts(indexName, dateRange, groupBy, filters, mustNotFilters, uniqueOn, maxRows)
+        : getCached(TOP_N_TABLE_CHART, indexName, dateRange,
+            Arrays.asList(groupBy, filters, mustNotFilters, uniqueOn, maxRows),
+            () -> computeTopNCounts(indexName, dateRange, groupBy, filters, mustNotFilters, uniqueOn, maxRows));
+    return counts.stream()
+        .map(count -> buildRow(count.getKey(), groupByValueToCell, count.getValue()))
+        .collect(Collectors.toList());
+  }
+
+  private List<Pair<String, Integer>> computeTopNCounts(String indexName, Optional<DateRange> dateRange,
+      String groupBy, Map<String, List<String>> filters, Map<String, List<String>> mustNotFilters,
+      Optional<String> uniqueOn, int maxRows) {
     AggregationBuilder filteredAgg = getFilteredAggregation(filters, mustNotFilters, dateRange);
 
     TermsAggregationBuilder termAgg = AggregationBuilders.terms(DIMENSION).field(groupBy).size(maxRows);
@@ -214,8 +317,7 @@ public class AnalyticsService {
     try {
       return aggregationResult.<Terms>get(DIMENSION).getBuckets()
           .stream()
-          .map(bucket -> buildRow(bucket.getKeyAsString(), groupByValueToCell,
-              extractCount(bucket, uniqueOn.isPresent())))
+          .map(bucket -> Pair.of(bucket.getKeyAsString(), extractCount(bucket, uniqueOn.isPresent())))
           .collect(Collectors.toList());
     } catch (Exception e) {
       log.error(String.format("Caught exception while getting top n chart: %s", e.getMessage()));
@@ -246,6 +348,35 @@ public class AnalyticsService {
     }
   }
 
+  /**
+   * Returns the cached result of a chart over the optional date range, which is kept until evicted if the range has
+   * ended.
+   */
+  private <T> T getCached(String chart, String indexName, Optional<DateRange> dateRange, List<Object> parameters,
+      Supplier<T> compute) {
+    final Optional<Long> start = dateRange.flatMap(range -> parseMillis(range.getStart()));
+    final Optional<Long> end = dateRange.flatMap(range -> parseMillis(range.getEnd()));
+    if (dateRange.isPresent() && (!start.isPresent() || !end.isPresent())) {
+      return compute.get();
+    }
+    final boolean closed = end.isPresent() && _chartCache.isClosed(end.get());
+    return _chartCache.get(
+        new AnalyticsChartCache.ChartKey(chart, indexName, start.orElse(null), end.orElse(null), parameters), closed,
+        compute);
+  }
+
+  private static Optional<Long> parseMillis(String millis) {
+    try {
+      return Optional.of(Long.parseLong(millis));
+    } catch (NumberFormatException e) {
+      return Optional.empty();
+    }
+  }
+
+  private static DateRange toDateRange(long startMillis, long endMillis) {
+    return new DateRange(String.valueOf(startMillis), String.valueOf(endMillis));
+  }
+
   private SearchRequest constructSearchRequest(String indexName, AggregationBuilder aggregationBuilder) {
     SearchRequest searchRequest = new SearchRequest(indexName);
     SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
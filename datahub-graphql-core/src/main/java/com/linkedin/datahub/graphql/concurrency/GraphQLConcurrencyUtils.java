@@ -0,0 +1,98 @@
+package com.linkedin.datahub.graphql.concurrency;
+
+import com.codahale.metrics.InstrumentedExecutorService;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Runs the asynchronous work of GraphQL resolvers & DataLoaders on a dedicated executor, instead of the common
+ * {@link ForkJoinPool} shared with the rest of the JVM.
+ *
+ * The executor is owned by whoever creates the GraphQL engine, e.g. a Spring bean in GMS, which is responsible for
+ * shutting it down. It is handed over through {@link #setExecutorService} so that resolvers & DataLoaders, which are
+ * not injected, can reach it. Until then, work runs on the common pool.
+ */
+@Slf4j
+public class GraphQLConcurrencyUtils {
+  private GraphQLConcurrencyUtils() {
+  }
+
+  private static final String METRIC_NAME = "graphQLExecutor";
+
+  private static volatile ExecutorService graphQLExecutorService = null;
+
+  /**
+   * Returns a future completed by running the supplier on the GraphQL executor.
+   */
+  public static <T> CompletableFuture<T> supplyAsync(@Nonnull final Supplier<T> supplier) {
+    final ExecutorService executorService = graphQLExecutorService;
+    return executorService == null
+        ? CompletableFuture.supplyAsync(supplier)
+        : CompletableFuture.supplyAsync(supplier, executorService);
+  }
+
+  public static void setExecutorService(@Nullable final ExecutorService executorService) {
+    graphQLExecutorService = executorService;
+  }
+
+  /**
+   * Creates a bounded, instrumented executor for GraphQL.
+   *
+   * At most {@code maxThreads} tasks run at once and at most {@code queueSize} wait. When both are exhausted, the
+   * submitting thread runs the task itself, which slows down the request that caused the overload rather than failing
+   * it. If {@code preferVirtualThreads} is set and the JVM supports virtual threads, tasks run on virtual threads.
+   */
+  public static ExecutorService newExecutorService(final int maxThreads, final int queueSize,
+      final boolean preferVirtualThreads) {
+    final ThreadFactory threadFactory = preferVirtualThreads ? virtualThreadFactory() : null;
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+        maxThreads,
+        maxThreads,
+        60L, TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(queueSize),
+        threadFactory != null ? threadFactory : new GraphQLThreadFactory(),
+        new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.allowCoreThreadTimeOut(true);
+    return new InstrumentedExecutorService(executor, MetricUtils.get(), METRIC_NAME);
+  }
+
+  /**
+   * Returns a factory of virtual threads, or null if the JVM does not support them.
+   */
+  @Nullable
+  private static ThreadFactory virtualThreadFactory() {
+    try {
+      // Thread.ofVirtual().name(...).factory(), resolved reflectively as virtual threads require Java 21.
+      final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, "graphql-", 0L);
+      return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+    } catch (ReflectiveOperationException e) {
+      log.info("Virtual threads are not supported by this JVM. Using platform threads for GraphQL.");
+      return null;
+    }
+  }
+
+  private static class GraphQLThreadFactory implements ThreadFactory {
+    private final AtomicInteger _count = new AtomicInteger();
+
+    @Override
+    public Thread newThread(@Nonnull final Runnable runnable) {
+      final Thread thread = new Thread(runnable, "graphql-" + _count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package com.linkedin.datahub.graphql.instrumentation;
+
+import com.google.common.collect.ImmutableSet;
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.FieldComplexityEnvironment;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * Scores the cost of a field of a DataHub GraphQL query, for use with
+ * {@link graphql.analysis.MaxQueryComplexityInstrumentation}.
+ *
+ * Each field costs 1. Fields which page through results (through a "count" or "limit" argument, either directly or
+ * inside an "input" object) multiply the cost of their selections by the requested page size, since each selection
+ * is resolved once per result. Fields which fan out to search, lineage, relationship or timeseries queries in GMS
+ * carry an extra fixed cost.
+ */
+public class DataHubFieldComplexityCalculator implements FieldComplexityCalculator {
+
+  static final int EXPENSIVE_FIELD_COST = 10;
+  // Upper bound of the page size used for scoring, in case clients ask for more than the services will return.
+  static final int MAX_PAGE_SIZE = 1000;
+
+  private static final Set<String> PAGE_SIZE_ARGUMENTS = ImmutableSet.of("count", "limit");
+  private static final String INPUT_ARGUMENT = "input";
+
+  private static final Set<String> EXPENSIVE_FIELDS = ImmutableSet.of(
+      // Search
+      "search",
+      "searchAcrossEntities",
+      "scrollAcrossEntities",
+      "searchAcrossLineage",
+      "scrollAcrossLineage",
+      "autoComplete",
+      "autoCompleteForMultiple",
+      "browse",
+      "browseV2",
+      // Graph
+      "lineage",
+      "relationships",
+      // Timeseries
+      "datasetProfiles",
+      "operations",
+      "usageStats",
+      "runEvents",
+      "health"
+  );
+
+  @Override
+  public int calculate(final FieldComplexityEnvironment environment, final int childComplexity) {
+    final long pageSize = getPageSize(environment.getArguments());
+    long cost = 1 + childComplexity * pageSize;
+    if (EXPENSIVE_FIELDS.contains(environment.getField().getName())) {
+      cost += EXPENSIVE_FIELD_COST;
+    }
+    return (int) Math.min(cost, Integer.MAX_VALUE);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static long getPageSize(final Map<String, Object> arguments) {
+    if (arguments == null) {
+      return 1;
+    }
+    for (String argument : PAGE_SIZE_ARGUMENTS) {
+      if (arguments.get(argument) instanceof Number) {
+        return clamp(((Number) arguments.get(argument)).longValue());
+      }
+    }
+    if (arguments.get(INPUT_ARGUMENT) instanceof Map) {
+      final Map<String, Object> input = (Map<String, Object>) arguments.get(INPUT_ARGUMENT);
+      for (String argument : PAGE_SIZE_ARGUMENTS) {
+        if (input.get(argument) instanceof Number) {
+          return clamp(((Number) input.get(argument)).longValue());
+        }
+      }
+    }
+    return 1;
+  }
+
+  private static long clamp(final long pageSize) {
+    return Math.max(1, Math.min(pageSize, MAX_PAGE_SIZE));
+  }
+}
@@ -0,0 +1,78 @@
+package com.linkedin.datahub.graphql.instrumentation;
+
+import com.linkedin.datahub.graphql.exception.DataHubGraphQLErrorCode;
+import com.linkedin.datahub.graphql.exception.DataHubGraphQLException;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.DataFetcher;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.dataloader.DataLoaderRegistry;
+
+
+/**
+ * Enforces per-request caps on the work a single GraphQL query can cause downstream, so that one expensive query
+ * cannot monopolize GMS.
+ *
+ * Two budgets are tracked per request:
+ *
+ * - the number of DataLoader batches dispatched, each of which is a batch call to GMS
+ * - the number of non-trivial data fetcher invocations, i.e. resolvers which may call GMS themselves
+ *
+ * Once either budget is exhausted, every further resolver fails with a BAD_REQUEST error and resolves to null, so
+ * the client receives the part of the result which was resolved within budget. A value of 0 disables a cap.
+ */
+public class QueryBudgetInstrumentation extends SimpleInstrumentation {
+
+  private final int _maxDataLoaderBatches;
+  private final int _maxDataFetcherCalls;
+
+  public QueryBudgetInstrumentation(final int maxDataLoaderBatches, final int maxDataFetcherCalls) {
+    _maxDataLoaderBatches = maxDataLoaderBatches;
+    _maxDataFetcherCalls = maxDataFetcherCalls;
+  }
+
+  @Override
+  public InstrumentationState createState(final InstrumentationCreateStateParameters parameters) {
+    return new QueryBudgetState();
+  }
+
+  @Override
+  public DataFetcher<?> instrumentDataFetcher(
+      final DataFetcher<?> dataFetcher,
+      final InstrumentationFieldFetchParameters parameters) {
+    if (parameters.isTrivialDataFetcher()) {
+      return dataFetcher;
+    }
+    final QueryBudgetState state = parameters.getInstrumentationState();
+    final DataLoaderRegistry dataLoaderRegistry = parameters.getExecutionContext().getDataLoaderRegistry();
+    return environment -> {
+      checkBudget(state, dataLoaderRegistry);
+      return dataFetcher.get(environment);
+    };
+  }
+
+  private void checkBudget(final QueryBudgetState state, final DataLoaderRegistry dataLoaderRegistry) {
+    if (_maxDataFetcherCalls > 0 && state._dataFetcherCalls.incrementAndGet() > _maxDataFetcherCalls) {
+      MetricUtils.counter(this.getClass(), "dataFetcherBudgetExceeded").inc();
+      throw new DataHubGraphQLException(
+          String.format("Query exceeded the maximum of %s resolver calls. Please request fewer fields or results.",
+              _maxDataFetcherCalls),
+          DataHubGraphQLErrorCode.BAD_REQUEST);
+    }
+    if (_maxDataLoaderBatches > 0 && dataLoaderRegistry != null
+        && dataLoaderRegistry.getStatistics().getBatchInvokeCount() > _maxDataLoaderBatches) {
+      MetricUtils.counter(this.getClass(), "dataLoaderBudgetExceeded").inc();
+      throw new DataHubGraphQLException(
+          String.format("Query exceeded the maximum of %s batch loads. Please request fewer fields or results.",
+              _maxDataLoaderBatches),
+          DataHubGraphQLErrorCode.BAD_REQUEST);
+    }
+  }
+
+  static class QueryBudgetState implements InstrumentationState {
+    private final AtomicInteger _dataFetcherCalls = new AtomicInteger();
+  }
+}
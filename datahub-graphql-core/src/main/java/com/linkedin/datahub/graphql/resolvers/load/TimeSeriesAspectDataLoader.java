@@ -0,0 +1,108 @@
+package com.linkedin.datahub.graphql.resolvers.load;
+
+import com.datahub.authorization.ResourceSpec;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
+import com.linkedin.metadata.aspect.EnvelopedAspect;
+import com.linkedin.metadata.authorization.PoliciesConfig;
+import com.linkedin.metadata.query.filter.Filter;
+import com.linkedin.metadata.query.filter.SortCriterion;
+import com.linkedin.metadata.timeseries.TimeseriesAspectService;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Value;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderOptions;
+
+
+/**
+ * A {@link DataLoader} of the Time-Series aspects of entities, used by {@link TimeSeriesAspectResolver}.
+ *
+ * Keys requesting the same aspect with the same parameters (time window, limit, filter & sort) are fetched with a
+ * single call to {@link TimeseriesAspectService#batchGetAspectValues}, so that a list of entities showing e.g. their
+ * latest profile costs one search instead of one per entity.
+ *
+ * Keys whose aspect requires a privilege the actor lacks on the entity resolve to no aspects, without being fetched.
+ * The check runs in the batch, off the GraphQL execution thread.
+ */
+public class TimeSeriesAspectDataLoader {
+  private TimeSeriesAspectDataLoader() {
+  }
+
+  public static final String NAME = "TimeSeriesAspect";
+
+  private static final int MAX_BATCH_SIZE = 100;
+
+  /**
+   * The parameters of a Time-Series aspect query, shared by every key of a batch.
+   */
+  @Value
+  public static class Query {
+    String entityName;
+    String aspectName;
+    @Nullable Long startTimeMillis;
+    @Nullable Long endTimeMillis;
+    @Nullable Integer limit;
+    @Nullable Filter filter;
+    @Nullable SortCriterion sort;
+    // The privilege required on the entity to read the aspect, if any
+    @Nullable PoliciesConfig.Privilege privilege;
+  }
+
+  @Value
+  public static class Key {
+    Urn urn;
+    Query query;
+  }
+
+  public static DataLoader<Key, List<EnvelopedAspect>> create(
+      @Nonnull final TimeseriesAspectService timeseriesAspectService,
+      @Nonnull final QueryContext context) {
+    final DataLoaderOptions loaderOptions = DataLoaderOptions.newOptions().setMaxBatchSize(MAX_BATCH_SIZE);
+    return DataLoader.newDataLoader(
+        keys -> GraphQLConcurrencyUtils.supplyAsync(() -> batchLoad(timeseriesAspectService, context, keys)),
+        loaderOptions);
+  }
+
+  static List<List<EnvelopedAspect>> batchLoad(
+      @Nonnull final TimeseriesAspectService timeseriesAspectService,
+      @Nonnull final QueryContext context,
+      @Nonnull final List<Key> keys) {
+    final Map<Query, Set<Urn>> urnsByQuery = new LinkedHashMap<>();
+    keys.stream()
+        .filter(key -> isAuthorized(context, key))
+        .forEach(key -> urnsByQuery.computeIfAbsent(key.getQuery(), q -> new LinkedHashSet<>()).add(key.getUrn()));
+
+    final Map<Key, List<EnvelopedAspect>> results = new LinkedHashMap<>();
+    urnsByQuery.forEach((query, urns) -> timeseriesAspectService.batchGetAspectValues(
+        urns,
+        query.getEntityName(),
+        query.getAspectName(),
+        query.getStartTimeMillis(),
+        query.getEndTimeMillis(),
+        query.getLimit(),
+        query.getFilter(),
+        query.getSort()
+    ).forEach((urn, aspects) -> results.put(new Key(urn, query), aspects)));
+
+    return keys.stream()
+        .map(key -> results.getOrDefault(key, Collections.emptyList()))
+        .collect(Collectors.toList());
+  }
+
+  private static boolean isAuthorized(@Nonnull final QueryContext context, @Nonnull final Key key) {
+    final PoliciesConfig.Privilege privilege = key.getQuery().getPrivilege();
+    return privilege == null || AuthorizationUtils.isAuthorized(context,
+        Optional.of(new ResourceSpec(key.getQuery().getEntityName(), key.getUrn().toString())), privilege);
+  }
+}
@@ -1,8 +1,10 @@
 package com.linkedin.datahub.graphql.resolvers.load;
 
 import com.datahub.authorization.ResourceSpec;
+import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.generated.Entity;
 import com.linkedin.datahub.graphql.generated.FilterInput;
 import com.linkedin.datahub.graphql.generated.TimeSeriesAspect;
@@ -26,6 +28,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
+import org.dataloader.DataLoader;
 
 import static com.linkedin.datahub.graphql.resolvers.ResolverUtils.*;
 
@@ -74,39 +77,58 @@ public class TimeSeriesAspectResolver implements DataFetcher<CompletableFuture<L
   }
 
   /**
-   * Check whether the actor is authorized to fetch the timeseries aspect given the resource urn
+   * Returns the privilege required on the resource to fetch the timeseries aspect, if any
    */
-  private boolean isAuthorized(QueryContext context, String urn) {
+  @Nullable
+  private PoliciesConfig.Privilege getRequiredPrivilege() {
     if (_entityName.equals(Constants.DATASET_ENTITY_NAME) && _aspectName.equals(
         Constants.DATASET_PROFILE_ASPECT_NAME)) {
-      return AuthorizationUtils.isAuthorized(context, Optional.of(new ResourceSpec(_entityName, urn)),
-          PoliciesConfig.VIEW_DATASET_PROFILE_PRIVILEGE);
+      return PoliciesConfig.VIEW_DATASET_PROFILE_PRIVILEGE;
     }
-    return true;
+    return null;
+  }
+
+  /**
+   * Check whether the actor is authorized to fetch the timeseries aspect given the resource urn
+   */
+  private boolean isAuthorized(QueryContext context, String urn) {
+    final PoliciesConfig.Privilege privilege = getRequiredPrivilege();
+    return privilege == null
+        || AuthorizationUtils.isAuthorized(context, Optional.of(new ResourceSpec(_entityName, urn)), privilege);
   }
 
   @Override
   public CompletableFuture<List<TimeSeriesAspect>> get(DataFetchingEnvironment environment) {
-    return CompletableFuture.supplyAsync(() -> {
+    final QueryContext context = environment.getContext();
+    // Fetch the urn, assuming the parent has an urn field.
+    // todo: what if the parent urn isn't projected?
+    final String urn = ((Entity) environment.getSource()).getUrn();
 
-      final QueryContext context = environment.getContext();
-      // Fetch the urn, assuming the parent has an urn field.
-      // todo: what if the parent urn isn't projected?
-      final String urn = ((Entity) environment.getSource()).getUrn();
+    final Long maybeStartTimeMillis = environment.getArgumentOrDefault("startTimeMillis", null);
+    final Long maybeEndTimeMillis = environment.getArgumentOrDefault("endTimeMillis", null);
+    // Max number of aspects to return.
+    final Integer maybeLimit = environment.getArgumentOrDefault("limit", null);
+    final FilterInput maybeFilters = environment.getArgument("filter") != null
+        ? bindArgument(environment.getArgument("filter"), FilterInput.class)
+        : null;
+    final SortCriterion maybeSort = _sort;
 
+    final DataLoader<TimeSeriesAspectDataLoader.Key, List<EnvelopedAspect>> loader =
+        environment.getDataLoaderRegistry().getDataLoader(TimeSeriesAspectDataLoader.NAME);
+    if (loader != null) {
+      // Batch the aspects of all the entities of the query level into a single fetch. The batch checks authorization.
+      final TimeSeriesAspectDataLoader.Query query = new TimeSeriesAspectDataLoader.Query(_entityName, _aspectName,
+          maybeStartTimeMillis, maybeEndTimeMillis, maybeLimit, buildFilters(maybeFilters), maybeSort,
+          getRequiredPrivilege());
+      return loader.load(new TimeSeriesAspectDataLoader.Key(UrnUtils.getUrn(urn), query))
+          .thenApply(aspects -> aspects.stream().map(_aspectMapper).collect(Collectors.toList()));
+    }
+
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       if (!isAuthorized(context, urn)) {
         return Collections.emptyList();
       }
 
-      final Long maybeStartTimeMillis = environment.getArgumentOrDefault("startTimeMillis", null);
-      final Long maybeEndTimeMillis = environment.getArgumentOrDefault("endTimeMillis", null);
-      // Max number of aspects to return.
-      final Integer maybeLimit = environment.getArgumentOrDefault("limit", null);
-      final FilterInput maybeFilters = environment.getArgument("filter") != null
-          ? bindArgument(environment.getArgument("filter"), FilterInput.class)
-          : null;
-      final SortCriterion maybeSort = _sort;
-
       try {
         // Step 1: Get aspects.
         List<EnvelopedAspect> aspects =
@@ -1,13 +1,16 @@
 package com.linkedin.datahub.graphql.resolvers.mutate;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.urn.Urn;
+import com.linkedin.data.ByteString;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.data.template.StringMap;
 import com.linkedin.datahub.graphql.generated.SubResourceType;
 import com.linkedin.events.metadata.ChangeType;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.mxe.GenericAspect;
 import com.linkedin.mxe.MetadataChangeProposal;
 import com.linkedin.mxe.SystemMetadata;
 import com.linkedin.schema.EditableSchemaFieldInfo;
@@ -15,6 +18,7 @@ import com.linkedin.schema.EditableSchemaFieldInfoArray;
 import com.linkedin.schema.EditableSchemaMetadata;
 import com.linkedin.schema.SchemaField;
 import com.linkedin.schema.SchemaMetadata;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 
@@ -60,12 +64,36 @@ public class MutationUtils {
     return setProposalProperties(proposal, entityType, aspectName, aspect);
   }
 
+  /**
+   * Only intended for use from GraphQL mutations, executes a different flow indicating a request sourced from the UI.
+   * Builds a PATCH proposal, which is applied to the latest version of the aspect at write time, so the caller does not
+   * need to read the aspect first.
+   * @param urn
+   * @param aspectName an aspect supported by the AspectTemplateEngine
+   * @param patch a JSON Patch, i.e. an array of operations
+   * @return
+   */
+  public static MetadataChangeProposal buildPatchProposalWithUrn(Urn urn, String aspectName, JsonNode patch) {
+    final MetadataChangeProposal proposal = new MetadataChangeProposal();
+    proposal.setEntityUrn(urn);
+    final GenericAspect aspect = new GenericAspect();
+    aspect.setValue(ByteString.copyString(patch.toString(), StandardCharsets.UTF_8));
+    aspect.setContentType(GenericRecordUtils.JSON);
+    return setProposalProperties(proposal, urn.getEntityType(), aspectName, aspect, ChangeType.PATCH);
+  }
+
   private static MetadataChangeProposal setProposalProperties(MetadataChangeProposal proposal,
       String entityType, String aspectName, RecordTemplate aspect) {
+    return setProposalProperties(proposal, entityType, aspectName, GenericRecordUtils.serializeAspect(aspect),
+        ChangeType.UPSERT);
+  }
+
+  private static MetadataChangeProposal setProposalProperties(MetadataChangeProposal proposal,
+      String entityType, String aspectName, GenericAspect aspect, ChangeType changeType) {
     proposal.setEntityType(entityType);
     proposal.setAspectName(aspectName);
-    proposal.setAspect(GenericRecordUtils.serializeAspect(aspect));
-    proposal.setChangeType(ChangeType.UPSERT);
+    proposal.setAspect(aspect);
+    proposal.setChangeType(changeType);
 
     // Assumes proposal is generated first from the builder methods above so SystemMetadata is empty
     SystemMetadata systemMetadata = new SystemMetadata();
@@ -0,0 +1,87 @@
+package com.linkedin.datahub.graphql.resolvers.mutate.util;
+
+import com.datahub.util.RecordUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.linkedin.data.template.RecordTemplate;
+import java.io.IOException;
+import javax.annotation.Nonnull;
+
+import static com.fasterxml.jackson.databind.node.JsonNodeFactory.*;
+
+
+/**
+ * Builds the JSON Patch of a PATCH {@link com.linkedin.mxe.MetadataChangeProposal}, as applied by the aspect
+ * templates of the {@link com.linkedin.metadata.models.registry.template.AspectTemplateEngine}. Array fields are
+ * addressed by key in those templates, e.g. /tags/{tagUrn} for globalTags.
+ */
+class JsonPatchBuilder {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private static final String OP_KEY = "op";
+  private static final String PATH_KEY = "path";
+  private static final String VALUE_KEY = "value";
+
+  private final ArrayNode _operations = instance.arrayNode();
+
+  @Nonnull
+  JsonPatchBuilder add(@Nonnull final String path, @Nonnull final RecordTemplate value) {
+    return add(path, toJson(value));
+  }
+
+  /**
+   * Adds the value at the path unless a value is already there, which is then kept as is, e.g. with the context of a
+   * tag association. The value must only hold the key fields of the path. They are added one by one under the path,
+   * which the compound key templates create first when it is absent.
+   */
+  @Nonnull
+  JsonPatchBuilder addIfAbsent(@Nonnull final String path, @Nonnull final RecordTemplate keyValue) {
+    toJson(keyValue).fields().forEachRemaining(field -> add(path + "/" + escapeKey(field.getKey()), field.getValue()));
+    return this;
+  }
+
+  @Nonnull
+  JsonPatchBuilder remove(@Nonnull final String path) {
+    _operations.add(instance.objectNode().put(OP_KEY, "remove").put(PATH_KEY, path));
+    return this;
+  }
+
+  /**
+   * JSON Patch fails to remove a path which does not exist, so the path is first added with a placeholder value.
+   */
+  @Nonnull
+  JsonPatchBuilder removeIfExists(@Nonnull final String path) {
+    return add(path, instance.objectNode()).remove(path);
+  }
+
+  @Nonnull
+  ArrayNode build() {
+    return _operations;
+  }
+
+  /**
+   * Escapes a key, e.g. an urn, to be used as a single JSON Pointer token (RFC 6901).
+   */
+  @Nonnull
+  static String escapeKey(@Nonnull final String key) {
+    return key.replace("~", "~0").replace("/", "~1");
+  }
+
+  private JsonPatchBuilder add(final String path, final JsonNode value) {
+    final ObjectNode operation = instance.objectNode().put(OP_KEY, "add").put(PATH_KEY, path);
+    operation.set(VALUE_KEY, value);
+    _operations.add(operation);
+    return this;
+  }
+
+  private static JsonNode toJson(final RecordTemplate value) {
+    try {
+      return OBJECT_MAPPER.readTree(RecordUtils.toJsonString(value));
+    } catch (IOException e) {
+      throw new IllegalArgumentException(String.format("Failed to serialize %s to JSON", value), e);
+    }
+  }
+}
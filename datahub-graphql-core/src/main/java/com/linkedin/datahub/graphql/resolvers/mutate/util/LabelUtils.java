@@ -45,6 +45,11 @@ public class LabelUtils {
   public static final String EDITABLE_SCHEMA_METADATA = "editableSchemaMetadata";
   public static final String TAGS_ASPECT_NAME = "globalTags";
 
+  // Paths of the globalTags & glossaryTerms patch templates, where tags & terms are keyed by urn.
+  private static final String TAGS_PATH_PREFIX = "/tags/";
+  private static final String TERMS_PATH_PREFIX = "/terms/";
+  private static final String AUDIT_STAMP_PATH = "/auditStamp";
+
   public static void removeTermFromResource(
       Urn labelUrn,
       Urn resourceUrn,
@@ -319,14 +324,11 @@ public class LabelUtils {
       Urn actor,
       EntityService entityService
   ) {
-    com.linkedin.common.GlobalTags tags =
-        (com.linkedin.common.GlobalTags) getAspectFromEntity(resource.getResourceUrn(), TAGS_ASPECT_NAME, entityService, new GlobalTags());
-
-    if (!tags.hasTags()) {
-      tags.setTags(new TagAssociationArray());
+    final JsonPatchBuilder patch = new JsonPatchBuilder();
+    for (Urn tagUrn : tagUrns) {
+      patch.removeIfExists(TAGS_PATH_PREFIX + JsonPatchBuilder.escapeKey(tagUrn.toString()));
     }
-    removeTagsIfExists(tags, tagUrns);
-    return buildMetadataChangeProposalWithUrn(UrnUtils.getUrn(resource.getResourceUrn()), TAGS_ASPECT_NAME, tags);
+    return buildPatchProposalWithUrn(UrnUtils.getUrn(resource.getResourceUrn()), TAGS_ASPECT_NAME, patch.build());
   }
 
   private static MetadataChangeProposal buildRemoveTagsToSubResourceProposal(
@@ -356,14 +358,13 @@ public class LabelUtils {
       Urn actor,
       EntityService entityService
   ) throws URISyntaxException {
-    com.linkedin.common.GlobalTags tags =
-        (com.linkedin.common.GlobalTags) getAspectFromEntity(resource.getResourceUrn(), TAGS_ASPECT_NAME, entityService, new GlobalTags());
-
-    if (!tags.hasTags()) {
-      tags.setTags(new TagAssociationArray());
+    // A tag which is already present keeps its association, and its context
+    final JsonPatchBuilder patch = new JsonPatchBuilder();
+    for (Urn tagUrn : tagUrns) {
+      patch.addIfAbsent(TAGS_PATH_PREFIX + JsonPatchBuilder.escapeKey(tagUrn.toString()),
+          new TagAssociation().setTag(TagUrn.createFromUrn(tagUrn)));
     }
-    addTagsIfNotExists(tags, tagUrns);
-    return buildMetadataChangeProposalWithUrn(UrnUtils.getUrn(resource.getResourceUrn()), TAGS_ASPECT_NAME, tags);
+    return buildPatchProposalWithUrn(UrnUtils.getUrn(resource.getResourceUrn()), TAGS_ASPECT_NAME, patch.build());
   }
 
   private static MetadataChangeProposal buildAddTagsToSubResourceProposal(
@@ -448,16 +449,13 @@ public class LabelUtils {
       Urn actor,
       EntityService entityService
   ) throws URISyntaxException {
-    com.linkedin.common.GlossaryTerms terms =
-        (com.linkedin.common.GlossaryTerms) getAspectFromEntity(resource.getResourceUrn(), GLOSSARY_TERM_ASPECT_NAME, entityService, new GlossaryTerms());
-    terms.setAuditStamp(getAuditStamp(actor));
-
-    if (!terms.hasTerms()) {
-      terms.setTerms(new GlossaryTermAssociationArray());
+    // A term which is already present keeps its association, and its context
+    final JsonPatchBuilder patch = new JsonPatchBuilder().add(AUDIT_STAMP_PATH, getAuditStamp(actor));
+    for (Urn termUrn : termUrns) {
+      patch.addIfAbsent(TERMS_PATH_PREFIX + JsonPatchBuilder.escapeKey(termUrn.toString()),
+          new GlossaryTermAssociation().setUrn(GlossaryTermUrn.createFromUrn(termUrn)));
     }
-
-    addTermsIfNotExists(terms, termUrns);
-    return buildMetadataChangeProposalWithUrn(UrnUtils.getUrn(resource.getResourceUrn()), GLOSSARY_TERM_ASPECT_NAME, terms);
+    return buildPatchProposalWithUrn(UrnUtils.getUrn(resource.getResourceUrn()), GLOSSARY_TERM_ASPECT_NAME, patch.build());
   }
 
   private static MetadataChangeProposal buildAddTermsToSubResourceProposal(
@@ -487,13 +485,11 @@ public class LabelUtils {
       Urn actor,
       EntityService entityService
   ) {
-    com.linkedin.common.GlossaryTerms terms =
-        (com.linkedin.common.GlossaryTerms) MutationUtils.getAspectFromEntity(
-            resource.getResourceUrn(), GLOSSARY_TERM_ASPECT_NAME, entityService, new GlossaryTerms());
-    terms.setAuditStamp(getAuditStamp(actor));
-
-    removeTermsIfExists(terms, termUrns);
-    return buildMetadataChangeProposalWithUrn(UrnUtils.getUrn(resource.getResourceUrn()), GLOSSARY_TERM_ASPECT_NAME, terms);
+    final JsonPatchBuilder patch = new JsonPatchBuilder().add(AUDIT_STAMP_PATH, getAuditStamp(actor));
+    for (Urn termUrn : termUrns) {
+      patch.removeIfExists(TERMS_PATH_PREFIX + JsonPatchBuilder.escapeKey(termUrn.toString()));
+    }
+    return buildPatchProposalWithUrn(UrnUtils.getUrn(resource.getResourceUrn()), GLOSSARY_TERM_ASPECT_NAME, patch.build());
   }
 
   private static MetadataChangeProposal buildRemoveTermsToSubResourceProposal(
@@ -554,9 +550,12 @@ public class LabelUtils {
   }
 
   private static void ingestChangeProposals(List<MetadataChangeProposal> changes, EntityService entityService, Urn actor) {
-    // TODO: Replace this with a batch ingest proposals endpoint.
-    for (MetadataChangeProposal change : changes) {
-      entityService.ingestProposal(change, getAuditStamp(actor), false);
+    // A proposal which fails to apply does not prevent the others from being written, but still fails the mutation
+    for (EntityService.IngestProposalResult result : entityService.ingestProposals(changes, getAuditStamp(actor), false)) {
+      if (result.getFailure() != null) {
+        throw new RuntimeException(String.format("Failed to update resource with urn %s", result.getUrn()),
+            result.getFailure());
+      }
     }
   }
 }
@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 
 import static com.linkedin.datahub.graphql.resolvers.mutate.MutationUtils.*;
@@ -40,6 +41,10 @@ public class OwnerUtils {
   ));
   public static final String SYSTEM_ID = "__system__";
 
+  // Paths of the ownership patch template, where owners are keyed by owner urn, then by deprecated ownership type.
+  private static final String OWNERS_PATH_PREFIX = "/owners/";
+  private static final String LAST_MODIFIED_PATH = "/lastModified";
+
   private OwnerUtils() { }
 
   public static void addOwnersToResources(
@@ -70,6 +75,9 @@ public class OwnerUtils {
 
 
   private static MetadataChangeProposal buildAddOwnersProposal(List<OwnerInput> owners, Urn resourceUrn, Urn actor, EntityService entityService) {
+    if (owners.stream().allMatch(input -> isPatchable(input.getOwnerUrn(), input.getType(), input.getOwnershipTypeUrn()))) {
+      return buildAddOwnersPatchProposal(owners, resourceUrn, actor);
+    }
     Ownership ownershipAspect = (Ownership) getAspectFromEntity(
         resourceUrn.toString(),
         Constants.OWNERSHIP_ASPECT_NAME,
@@ -81,11 +89,34 @@ public class OwnerUtils {
     return buildMetadataChangeProposalWithUrn(resourceUrn, Constants.OWNERSHIP_ASPECT_NAME, ownershipAspect);
   }
 
+  private static MetadataChangeProposal buildAddOwnersPatchProposal(List<OwnerInput> owners, Urn resourceUrn, Urn actor) {
+    final JsonPatchBuilder patch = new JsonPatchBuilder().add(LAST_MODIFIED_PATH, getAuditStamp(actor));
+    for (OwnerInput input : owners) {
+      final Owner newOwner = new Owner()
+          .setOwner(UrnUtils.getUrn(input.getOwnerUrn()))
+          .setType(com.linkedin.common.OwnershipType.valueOf(input.getType().toString()))
+          .setTypeUrn(UrnUtils.getUrn(input.getOwnershipTypeUrn()))
+          .setSource(new OwnershipSource().setType(OwnershipSourceType.MANUAL));
+      patch.add(OWNERS_PATH_PREFIX + input.getOwnerUrn() + "/" + input.getType().toString(), newOwner);
+    }
+    return buildPatchProposalWithUrn(resourceUrn, Constants.OWNERSHIP_ASPECT_NAME, patch.build());
+  }
+
   public static MetadataChangeProposal buildRemoveOwnersProposal(
       List<Urn> ownerUrns, Optional<Urn> maybeOwnershipTypeUrn, Urn resourceUrn,
       Urn actor,
       EntityService entityService
   ) {
+    final Optional<OwnershipType> maybeSystemType = maybeOwnershipTypeUrn.map(OwnerUtils::getSystemOwnershipType);
+    if ((!maybeOwnershipTypeUrn.isPresent() || maybeSystemType.isPresent())
+        && ownerUrns.stream().allMatch(ownerUrn -> isPatchableKey(ownerUrn.toString()))) {
+      final JsonPatchBuilder patch = new JsonPatchBuilder().add(LAST_MODIFIED_PATH, getAuditStamp(actor));
+      for (Urn ownerUrn : ownerUrns) {
+        patch.removeIfExists(OWNERS_PATH_PREFIX + ownerUrn
+            + maybeSystemType.map(type -> "/" + type.toString()).orElse(""));
+      }
+      return buildPatchProposalWithUrn(resourceUrn, Constants.OWNERSHIP_ASPECT_NAME, patch.build());
+    }
     Ownership ownershipAspect = (Ownership) MutationUtils.getAspectFromEntity(
         resourceUrn.toString(),
         Constants.OWNERSHIP_ASPECT_NAME,
@@ -96,6 +127,35 @@ public class OwnerUtils {
     return buildMetadataChangeProposalWithUrn(resourceUrn, Constants.OWNERSHIP_ASPECT_NAME, ownershipAspect);
   }
 
+  /**
+   * The ownership patch template keys owners by owner urn & deprecated ownership type, so an owner can only be patched
+   * if its ownership type urn is the system entity of its deprecated type. Custom ownership types are read-modify-write.
+   */
+  private static boolean isPatchable(String ownerUrn, OwnershipType type, String ownershipTypeUrn) {
+    return type != null
+        && type != OwnershipType.CUSTOM
+        && mapOwnershipTypeToEntity(type.name()).equals(ownershipTypeUrn)
+        && isPatchableKey(ownerUrn);
+  }
+
+  // The ownership template splits patch paths on "/" without unescaping, so keys including "/" or "~" cannot be used.
+  private static boolean isPatchableKey(String key) {
+    return !key.contains("/") && !key.contains("~");
+  }
+
+  /**
+   * Returns the deprecated ownership type of a system ownership type urn, or null for a custom ownership type.
+   */
+  @Nullable
+  private static OwnershipType getSystemOwnershipType(Urn ownershipTypeUrn) {
+    for (OwnershipType type : OwnershipType.values()) {
+      if (type != OwnershipType.CUSTOM && mapOwnershipTypeToEntity(type.name()).equals(ownershipTypeUrn.toString())) {
+        return type;
+      }
+    }
+    return null;
+  }
+
   private static void addOwner(Ownership ownershipAspect, Urn ownerUrn, OwnershipType type, Urn ownershipUrn) {
     if (!ownershipAspect.hasOwners()) {
       ownershipAspect.setOwners(new OwnerArray());
@@ -270,9 +330,12 @@ public class OwnerUtils {
   }
 
   private static void ingestChangeProposals(List<MetadataChangeProposal> changes, EntityService entityService, Urn actor) {
-    // TODO: Replace this with a batch ingest proposals endpoint.
-    for (MetadataChangeProposal change : changes) {
-      entityService.ingestProposal(change, getAuditStamp(actor), false);
+    // A proposal which fails to apply does not prevent the others from being written, but still fails the mutation
+    for (EntityService.IngestProposalResult result : entityService.ingestProposals(changes, getAuditStamp(actor), false)) {
+      if (result.getFailure() != null) {
+        throw new RuntimeException(String.format("Failed to update resource with urn %s", result.getUrn()),
+            result.getFailure());
+      }
     }
   }
 
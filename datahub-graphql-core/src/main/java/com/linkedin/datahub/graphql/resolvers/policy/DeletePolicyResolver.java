@@ -31,7 +31,7 @@ public class DeletePolicyResolver implements DataFetcher<CompletableFuture<Strin
         try {
           _entityClient.deleteEntity(urn, context.getAuthentication());
           if (context.getAuthorizer() instanceof AuthorizerChain) {
-            ((AuthorizerChain) context.getAuthorizer()).getDefaultAuthorizer().invalidateCache();
+            ((AuthorizerChain) context.getAuthorizer()).getDefaultAuthorizer().removePolicy(urn);
           }
           return policyUrn;
         } catch (Exception e) {
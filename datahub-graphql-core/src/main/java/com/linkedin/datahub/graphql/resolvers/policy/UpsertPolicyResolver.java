@@ -65,7 +65,7 @@ public class UpsertPolicyResolver implements DataFetcher<CompletableFuture<Strin
         try {
           String urn = _entityClient.ingestProposal(proposal, context.getAuthentication(), false);
           if (context.getAuthorizer() instanceof AuthorizerChain) {
-            ((AuthorizerChain) context.getAuthorizer()).getDefaultAuthorizer().invalidateCache();
+            ((AuthorizerChain) context.getAuthorizer()).getDefaultAuthorizer().upsertPolicy(Urn.createFromString(urn), info);
           }
           return urn;
         } catch (Exception e) {
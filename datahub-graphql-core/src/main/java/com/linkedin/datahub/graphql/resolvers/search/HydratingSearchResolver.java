@@ -0,0 +1,122 @@
+package com.linkedin.datahub.graphql.resolvers.search;
+
+import com.google.common.collect.ImmutableSet;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.generated.Entity;
+import com.linkedin.datahub.graphql.types.EntityType;
+import com.linkedin.datahub.graphql.types.HydratableEntityType;
+import com.linkedin.entity.EntityResponse;
+import com.linkedin.entity.client.EntityClient;
+import graphql.execution.DataFetcherResult;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.dataloader.DataLoader;
+
+
+/**
+ * Wraps a search resolver to hydrate the entities of its results before they are resolved.
+ *
+ * The aspects of every result are fetched in a single batch across entity types, each type fetching only the aspects
+ * it maps. The built entities are primed into the request's DataLoaders, so that
+ * {@link com.linkedin.datahub.graphql.resolvers.load.EntityTypeResolver} does not load them again one type at a time.
+ *
+ * @param <T> the type of the search results
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class HydratingSearchResolver<T> implements DataFetcher<CompletableFuture<T>> {
+
+  private static final String ENTITY_FIELDS = "searchResults/entity/*";
+  private static final Set<String> IDENTITY_FIELDS = ImmutableSet.of("__typename", "urn", "type");
+
+  private final DataFetcher<CompletableFuture<T>> _searchResolver;
+  private final Function<T, List<Entity>> _entitiesProvider;
+  private final EntityClient _entityClient;
+  private final List<EntityType<?, ?>> _entityTypes;
+
+  @Override
+  public CompletableFuture<T> get(DataFetchingEnvironment environment) throws Exception {
+    return _searchResolver.get(environment).thenApply(results -> {
+      if (results != null && !isOnlySelectingIdentityFields(environment)) {
+        hydrate(_entitiesProvider.apply(results), environment);
+      }
+      return results;
+    });
+  }
+
+  private boolean isOnlySelectingIdentityFields(@Nonnull final DataFetchingEnvironment environment) {
+    return environment.getSelectionSet().getFields(ENTITY_FIELDS).stream()
+        .allMatch(field -> IDENTITY_FIELDS.contains(field.getName()));
+  }
+
+  private void hydrate(@Nonnull final List<Entity> entities, @Nonnull final DataFetchingEnvironment environment) {
+    final QueryContext context = environment.getContext();
+    final Map<Urn, Entity> entitiesByUrn = new HashMap<>();
+    final Map<Urn, HydratableEntityType<?>> typesByUrn = new HashMap<>();
+    final Map<Urn, Set<String>> aspectNamesByUrn = new HashMap<>();
+    entities.stream().filter(Objects::nonNull).forEach(entity -> {
+      final HydratableEntityType<?> type = getHydratableType(entity);
+      if (type != null) {
+        final Urn urn = UrnUtils.getUrn(entity.getUrn());
+        entitiesByUrn.put(urn, entity);
+        typesByUrn.put(urn, type);
+        aspectNamesByUrn.put(urn, type.getAspectsToFetch());
+      }
+    });
+    if (aspectNamesByUrn.isEmpty()) {
+      return;
+    }
+
+    final Map<Urn, EntityResponse> entityResponses;
+    try {
+      entityResponses = _entityClient.batchGetV2(aspectNamesByUrn, context.getAuthentication());
+    } catch (Exception e) {
+      // The DataLoaders still load the entities one type at a time
+      log.warn(String.format("Failed to hydrate %s search results", aspectNamesByUrn.size()), e);
+      return;
+    }
+    entityResponses.forEach((urn, entityResponse) ->
+        prime(typesByUrn.get(urn), entitiesByUrn.get(urn), entityResponse, environment));
+  }
+
+  @Nullable
+  private HydratableEntityType<?> getHydratableType(@Nonnull final Entity entity) {
+    return _entityTypes.stream()
+        .filter(type -> entity.getClass().isAssignableFrom(type.objectClass()))
+        .filter(type -> type instanceof HydratableEntityType)
+        .map(type -> (HydratableEntityType<?>) type)
+        .findFirst()
+        .orElse(null);
+  }
+
+  private <E extends Entity> void prime(
+      @Nonnull final HydratableEntityType<E> type,
+      @Nonnull final Entity searchEntity,
+      @Nonnull final EntityResponse entityResponse,
+      @Nonnull final DataFetchingEnvironment environment) {
+    final DataLoader<String, DataFetcherResult<E>> loader = environment.getDataLoaderRegistry().getDataLoader(type.name());
+    if (loader == null) {
+      return;
+    }
+    try {
+      final E entity = type.mapEntityResponse(entityResponse, environment.getContext());
+      loader.prime(type.getKeyProvider().apply(searchEntity), DataFetcherResult.<E>newResult().data(entity).build());
+    } catch (Exception e) {
+      // Left to the DataLoader, which reports the failure on the entity field
+      log.warn(String.format("Failed to hydrate search result %s", searchEntity.getUrn()), e);
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package com.linkedin.datahub.graphql.types;
+
+import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.generated.Entity;
+import com.linkedin.entity.EntityResponse;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+
+/**
+ * Extension of {@link EntityType} whose entities are built from the aspects of a single batch get. This allows the
+ * entities of several types to be fetched together, eg. to hydrate a page of search results in one batch.
+ *
+ * @param <T>: The GraphQL object type corresponding to the entity, must extend the `Entity` interface.
+ */
+public interface HydratableEntityType<T extends Entity> extends EntityType<T, String> {
+
+    /**
+     * Returns the aspects fetched to build an entity of this type, or null if all of its aspects are fetched.
+     */
+    @Nullable
+    Set<String> getAspectsToFetch();
+
+    /**
+     * Builds an entity of this type from the aspects fetched for it.
+     *
+     * @param entityResponse the aspects fetched for the entity
+     * @param context the {@link QueryContext} corresponding to the request.
+     */
+    @Nonnull
+    T mapEntityResponse(@Nonnull EntityResponse entityResponse, @Nonnull QueryContext context);
+}
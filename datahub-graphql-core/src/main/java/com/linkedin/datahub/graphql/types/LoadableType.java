@@ -15,6 +15,8 @@ import java.util.List;
  */
 public interface LoadableType<T, K> {
 
+    int DEFAULT_MAX_BATCH_SIZE = 100;
+
     /**
      * Returns generated GraphQL class associated with the type
      */
@@ -27,6 +29,14 @@ public interface LoadableType<T, K> {
         return objectClass().getSimpleName();
     }
 
+    /**
+     * Returns the maximum number of keys passed to a single {@link #batchLoad} call. Larger sets of keys are split into
+     * several batches, which are loaded concurrently.
+     */
+    default int maxBatchSize() {
+        return DEFAULT_MAX_BATCH_SIZE;
+    }
+
     /**
      * Retrieves an entity by urn string. Null is provided in place of an entity object if an entity cannot be found.
      *
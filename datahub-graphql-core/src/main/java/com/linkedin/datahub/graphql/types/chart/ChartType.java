@@ -23,6 +23,7 @@ import com.linkedin.datahub.graphql.generated.FacetFilterInput;
 import com.linkedin.datahub.graphql.generated.SearchResults;
 import com.linkedin.datahub.graphql.resolvers.ResolverUtils;
 import com.linkedin.datahub.graphql.types.BrowsableEntityType;
+import com.linkedin.datahub.graphql.types.HydratableEntityType;
 import com.linkedin.datahub.graphql.types.MutableType;
 import com.linkedin.datahub.graphql.types.SearchableEntityType;
 import com.linkedin.datahub.graphql.types.chart.mappers.ChartMapper;
@@ -58,7 +59,8 @@ import static com.linkedin.datahub.graphql.Constants.*;
 import static com.linkedin.metadata.Constants.*;
 
 
-public class ChartType implements SearchableEntityType<Chart, String>, BrowsableEntityType<Chart, String>, MutableType<ChartUpdateInput, Chart> {
+public class ChartType implements SearchableEntityType<Chart, String>, HydratableEntityType<Chart>,
+                                  BrowsableEntityType<Chart, String>, MutableType<ChartUpdateInput, Chart> {
 
     private static final Set<String> ASPECTS_TO_RESOLVE = ImmutableSet.of(
         CHART_KEY_ASPECT_NAME,
@@ -107,6 +109,18 @@ public class ChartType implements SearchableEntityType<Chart, String>, Browsable
         return Chart.class;
     }
 
+    @Nullable
+    @Override
+    public Set<String> getAspectsToFetch() {
+        return ASPECTS_TO_RESOLVE;
+    }
+
+    @Nonnull
+    @Override
+    public Chart mapEntityResponse(@Nonnull final EntityResponse entityResponse, @Nonnull final QueryContext context) {
+        return ChartMapper.map(entityResponse);
+    }
+
     @Override
     public List<DataFetcherResult<Chart>> batchLoad(@Nonnull List<String> urnStrs, @Nonnull QueryContext context) throws Exception {
         final List<Urn> urns = urnStrs.stream()
@@ -126,7 +140,7 @@ public class ChartType implements SearchableEntityType<Chart, String>, Browsable
             }
             return gmsResults.stream()
                 .map(gmsChart -> gmsChart == null ? null : DataFetcherResult.<Chart>newResult()
-                    .data(ChartMapper.map(gmsChart))
+                    .data(mapEntityResponse(gmsChart, context))
                     .build())
                 .collect(Collectors.toList());
         } catch (Exception e) {
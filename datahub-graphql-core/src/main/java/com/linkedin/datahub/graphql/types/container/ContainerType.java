@@ -10,6 +10,7 @@ import com.linkedin.datahub.graphql.generated.EntityType;
 import com.linkedin.datahub.graphql.generated.FacetFilterInput;
 import com.linkedin.datahub.graphql.generated.SearchResults;
 import com.linkedin.datahub.graphql.resolvers.ResolverUtils;
+import com.linkedin.datahub.graphql.types.HydratableEntityType;
 import com.linkedin.datahub.graphql.types.SearchableEntityType;
 import com.linkedin.datahub.graphql.types.container.mappers.ContainerMapper;
 import com.linkedin.datahub.graphql.types.mappers.AutoCompleteResultsMapper;
@@ -34,7 +35,7 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 
-public class ContainerType implements SearchableEntityType<Container, String>,
+public class ContainerType implements SearchableEntityType<Container, String>, HydratableEntityType<Container>,
         com.linkedin.datahub.graphql.types.EntityType<Container, String> {
 
   static final Set<String> ASPECTS_TO_FETCH = ImmutableSet.of(
@@ -76,6 +77,19 @@ public class ContainerType implements SearchableEntityType<Container, String>,
     return Container.class;
   }
 
+  @Nullable
+  @Override
+  public Set<String> getAspectsToFetch() {
+    return ASPECTS_TO_FETCH;
+  }
+
+  @Nonnull
+  @Override
+  public Container mapEntityResponse(@Nonnull final EntityResponse entityResponse,
+      @Nonnull final QueryContext context) {
+    return ContainerMapper.map(entityResponse);
+  }
+
   @Override
   public List<DataFetcherResult<Container>> batchLoad(@Nonnull List<String> urns, @Nonnull QueryContext context) throws Exception {
     final List<Urn> containerUrns = urns.stream()
@@ -96,7 +110,7 @@ public class ContainerType implements SearchableEntityType<Container, String>,
       return gmsResults.stream()
           .map(gmsResult ->
               gmsResult == null ? null : DataFetcherResult.<Container>newResult()
-                  .data(ContainerMapper.map(gmsResult))
+                  .data(mapEntityResponse(gmsResult, context))
                   .build()
           )
           .collect(Collectors.toList());
@@ -17,6 +17,7 @@ import com.linkedin.datahub.graphql.generated.Entity;
 import com.linkedin.datahub.graphql.generated.EntityType;
 import com.linkedin.datahub.graphql.generated.FacetFilterInput;
 import com.linkedin.datahub.graphql.generated.SearchResults;
+import com.linkedin.datahub.graphql.types.HydratableEntityType;
 import com.linkedin.datahub.graphql.types.MutableType;
 import com.linkedin.datahub.graphql.types.SearchableEntityType;
 import com.linkedin.datahub.graphql.types.corpgroup.mappers.CorpGroupMapper;
@@ -37,6 +38,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -45,7 +47,8 @@ import javax.annotation.Nullable;
 import static com.linkedin.datahub.graphql.resolvers.mutate.MutationUtils.*;
 import static com.linkedin.metadata.Constants.*;
 
-public class CorpGroupType implements SearchableEntityType<CorpGroup, String>, MutableType<CorpGroupUpdateInput, CorpGroup> {
+public class CorpGroupType implements SearchableEntityType<CorpGroup, String>, HydratableEntityType<CorpGroup>,
+                                      MutableType<CorpGroupUpdateInput, CorpGroup> {
 
     private final EntityClient _entityClient;
 
@@ -72,6 +75,19 @@ public class CorpGroupType implements SearchableEntityType<CorpGroup, String>, M
         return Entity::getUrn;
     }
 
+    @Nullable
+    @Override
+    public Set<String> getAspectsToFetch() {
+        return null;
+    }
+
+    @Nonnull
+    @Override
+    public CorpGroup mapEntityResponse(@Nonnull final EntityResponse entityResponse,
+        @Nonnull final QueryContext context) {
+        return CorpGroupMapper.map(entityResponse);
+    }
+
     @Override
     public List<DataFetcherResult<CorpGroup>> batchLoad(final List<String> urns, final QueryContext context) {
         try {
@@ -89,7 +105,7 @@ public class CorpGroupType implements SearchableEntityType<CorpGroup, String>, M
             }
             return results.stream()
                     .map(gmsCorpGroup -> gmsCorpGroup == null ? null
-                        : DataFetcherResult.<CorpGroup>newResult().data(CorpGroupMapper.map(gmsCorpGroup)).build())
+                        : DataFetcherResult.<CorpGroup>newResult().data(mapEntityResponse(gmsCorpGroup, context)).build())
                     .collect(Collectors.toList());
         } catch (Exception e) {
             throw new RuntimeException("Failed to batch load CorpGroup", e);
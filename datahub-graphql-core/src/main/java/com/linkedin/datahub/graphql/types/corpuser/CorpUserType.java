@@ -19,6 +19,7 @@ import com.linkedin.datahub.graphql.generated.Entity;
 import com.linkedin.datahub.graphql.generated.EntityType;
 import com.linkedin.datahub.graphql.generated.FacetFilterInput;
 import com.linkedin.datahub.graphql.generated.SearchResults;
+import com.linkedin.datahub.graphql.types.HydratableEntityType;
 import com.linkedin.datahub.graphql.types.MutableType;
 import com.linkedin.datahub.graphql.types.SearchableEntityType;
 import com.linkedin.datahub.graphql.types.corpuser.mappers.CorpUserMapper;
@@ -40,6 +41,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -49,7 +51,8 @@ import static com.linkedin.datahub.graphql.resolvers.mutate.MutationUtils.*;
 import static com.linkedin.metadata.Constants.*;
 
 
-public class CorpUserType implements SearchableEntityType<CorpUser, String>, MutableType<CorpUserUpdateInput, CorpUser> {
+public class CorpUserType implements SearchableEntityType<CorpUser, String>, HydratableEntityType<CorpUser>,
+                                     MutableType<CorpUserUpdateInput, CorpUser> {
 
     private final EntityClient _entityClient;
     private final FeatureFlags _featureFlags;
@@ -64,6 +67,12 @@ public class CorpUserType implements SearchableEntityType<CorpUser, String>, Mut
         return CorpUser.class;
     }
 
+    @Override
+    public int maxBatchSize() {
+        // Users are small and are referenced many times per page, e.g. as owners.
+        return 250;
+    }
+
     @Override
     public EntityType type() {
         return EntityType.CORP_USER;
@@ -74,6 +83,19 @@ public class CorpUserType implements SearchableEntityType<CorpUser, String>, Mut
         return Entity::getUrn;
     }
 
+    @Nullable
+    @Override
+    public Set<String> getAspectsToFetch() {
+        return null;
+    }
+
+    @Nonnull
+    @Override
+    public CorpUser mapEntityResponse(@Nonnull final EntityResponse entityResponse,
+        @Nonnull final QueryContext context) {
+        return CorpUserMapper.map(entityResponse, _featureFlags);
+    }
+
     @Override
     public List<DataFetcherResult<CorpUser>> batchLoad(final List<String> urns, final QueryContext context) {
         try {
@@ -92,7 +114,7 @@ public class CorpUserType implements SearchableEntityType<CorpUser, String>, Mut
             }
             return results.stream()
                     .map(gmsCorpUser -> gmsCorpUser == null ? null
-                        : DataFetcherResult.<CorpUser>newResult().data(CorpUserMapper.map(gmsCorpUser, _featureFlags)).build())
+                        : DataFetcherResult.<CorpUser>newResult().data(mapEntityResponse(gmsCorpUser, context)).build())
                     .collect(Collectors.toList());
         } catch (Exception e) {
             throw new RuntimeException("Failed to batch load Datasets", e);
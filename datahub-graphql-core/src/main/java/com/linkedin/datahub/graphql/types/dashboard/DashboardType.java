@@ -23,6 +23,7 @@ import com.linkedin.datahub.graphql.generated.FacetFilterInput;
 import com.linkedin.datahub.graphql.generated.SearchResults;
 import com.linkedin.datahub.graphql.resolvers.ResolverUtils;
 import com.linkedin.datahub.graphql.types.BrowsableEntityType;
+import com.linkedin.datahub.graphql.types.HydratableEntityType;
 import com.linkedin.datahub.graphql.types.MutableType;
 import com.linkedin.datahub.graphql.types.SearchableEntityType;
 import com.linkedin.datahub.graphql.types.dashboard.mappers.DashboardMapper;
@@ -59,7 +60,8 @@ import static com.linkedin.datahub.graphql.Constants.*;
 import static com.linkedin.metadata.Constants.*;
 
 
-public class DashboardType implements SearchableEntityType<Dashboard, String>, BrowsableEntityType<Dashboard, String>,
+public class DashboardType implements SearchableEntityType<Dashboard, String>, HydratableEntityType<Dashboard>,
+                                      BrowsableEntityType<Dashboard, String>,
                                       MutableType<DashboardUpdateInput, Dashboard> {
 
     private static final Set<String> ASPECTS_TO_RESOLVE = ImmutableSet.of(
@@ -109,6 +111,19 @@ public class DashboardType implements SearchableEntityType<Dashboard, String>, B
         return Dashboard.class;
     }
 
+    @Nullable
+    @Override
+    public Set<String> getAspectsToFetch() {
+        return ASPECTS_TO_RESOLVE;
+    }
+
+    @Nonnull
+    @Override
+    public Dashboard mapEntityResponse(@Nonnull final EntityResponse entityResponse,
+        @Nonnull final QueryContext context) {
+        return DashboardMapper.map(entityResponse);
+    }
+
     @Override
     public List<DataFetcherResult<Dashboard>> batchLoad(@Nonnull List<String> urnStrs, @Nonnull QueryContext context) throws Exception {
         final List<Urn> urns = urnStrs.stream()
@@ -128,7 +143,7 @@ public class DashboardType implements SearchableEntityType<Dashboard, String>, B
             }
             return gmsResults.stream()
                 .map(gmsDashboard -> gmsDashboard == null ? null : DataFetcherResult.<Dashboard>newResult()
-                    .data(DashboardMapper.map(gmsDashboard))
+                    .data(mapEntityResponse(gmsDashboard, context))
                     .build())
                 .collect(Collectors.toList());
         } catch (Exception e) {
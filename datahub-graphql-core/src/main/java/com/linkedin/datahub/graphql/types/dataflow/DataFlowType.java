@@ -23,6 +23,7 @@ import com.linkedin.datahub.graphql.generated.FacetFilterInput;
 import com.linkedin.datahub.graphql.generated.SearchResults;
 import com.linkedin.datahub.graphql.resolvers.ResolverUtils;
 import com.linkedin.datahub.graphql.types.BrowsableEntityType;
+import com.linkedin.datahub.graphql.types.HydratableEntityType;
 import com.linkedin.datahub.graphql.types.MutableType;
 import com.linkedin.datahub.graphql.types.SearchableEntityType;
 import com.linkedin.datahub.graphql.types.dataflow.mappers.DataFlowMapper;
@@ -58,7 +59,8 @@ import static com.linkedin.datahub.graphql.Constants.*;
 import static com.linkedin.metadata.Constants.*;
 
 
-public class DataFlowType implements SearchableEntityType<DataFlow, String>, BrowsableEntityType<DataFlow, String>,
+public class DataFlowType implements SearchableEntityType<DataFlow, String>, HydratableEntityType<DataFlow>,
+                                     BrowsableEntityType<DataFlow, String>,
                                      MutableType<DataFlowUpdateInput, DataFlow> {
 
     private static final Set<String> ASPECTS_TO_RESOLVE = ImmutableSet.of(
@@ -103,6 +105,19 @@ public class DataFlowType implements SearchableEntityType<DataFlow, String>, Bro
         return DataFlowUpdateInput.class;
     }
 
+    @Nullable
+    @Override
+    public Set<String> getAspectsToFetch() {
+        return ASPECTS_TO_RESOLVE;
+    }
+
+    @Nonnull
+    @Override
+    public DataFlow mapEntityResponse(@Nonnull final EntityResponse entityResponse,
+        @Nonnull final QueryContext context) {
+        return DataFlowMapper.map(entityResponse);
+    }
+
     @Override
     public List<DataFetcherResult<DataFlow>> batchLoad(final List<String> urnStrs, @Nonnull final QueryContext context)
         throws Exception {
@@ -123,7 +138,7 @@ public class DataFlowType implements SearchableEntityType<DataFlow, String>, Bro
             }
             return gmsResults.stream()
                 .map(gmsDataFlow -> gmsDataFlow == null ? null : DataFetcherResult.<DataFlow>newResult()
-                    .data(DataFlowMapper.map(gmsDataFlow))
+                    .data(mapEntityResponse(gmsDataFlow, context))
                     .build())
                 .collect(Collectors.toList());
         } catch (Exception e) {
@@ -23,6 +23,7 @@ import com.linkedin.datahub.graphql.generated.FacetFilterInput;
 import com.linkedin.datahub.graphql.generated.SearchResults;
 import com.linkedin.datahub.graphql.resolvers.ResolverUtils;
 import com.linkedin.datahub.graphql.types.BrowsableEntityType;
+import com.linkedin.datahub.graphql.types.HydratableEntityType;
 import com.linkedin.datahub.graphql.types.MutableType;
 import com.linkedin.datahub.graphql.types.SearchableEntityType;
 import com.linkedin.datahub.graphql.types.datajob.mappers.DataJobMapper;
@@ -58,7 +59,8 @@ import static com.linkedin.datahub.graphql.Constants.*;
 import static com.linkedin.metadata.Constants.*;
 
 
-public class DataJobType implements SearchableEntityType<DataJob, String>, BrowsableEntityType<DataJob, String>,
+public class DataJobType implements SearchableEntityType<DataJob, String>, HydratableEntityType<DataJob>,
+                                    BrowsableEntityType<DataJob, String>,
                                     MutableType<DataJobUpdateInput, DataJob> {
 
     private static final Set<String> ASPECTS_TO_RESOLVE = ImmutableSet.of(
@@ -104,6 +106,19 @@ public class DataJobType implements SearchableEntityType<DataJob, String>, Brows
         return DataJobUpdateInput.class;
     }
 
+    @Nullable
+    @Override
+    public Set<String> getAspectsToFetch() {
+        return ASPECTS_TO_RESOLVE;
+    }
+
+    @Nonnull
+    @Override
+    public DataJob mapEntityResponse(@Nonnull final EntityResponse entityResponse,
+        @Nonnull final QueryContext context) {
+        return DataJobMapper.map(entityResponse);
+    }
+
     @Override
     public List<DataFetcherResult<DataJob>> batchLoad(final List<String> urnStrs, @Nonnull final QueryContext context)
         throws Exception {
@@ -123,7 +138,7 @@ public class DataJobType implements SearchableEntityType<DataJob, String>, Brows
             }
             return gmsResults.stream()
                 .map(gmsDataJob -> gmsDataJob == null ? null : DataFetcherResult.<DataJob>newResult()
-                    .data(DataJobMapper.map(gmsDataJob))
+                    .data(mapEntityResponse(gmsDataJob, context))
                     .build())
                 .collect(Collectors.toList());
         } catch (Exception e) {
@@ -33,6 +33,12 @@ public class DataPlatformType implements EntityType<DataPlatform, String> {
         return DataPlatform.class;
     }
 
+    @Override
+    public int maxBatchSize() {
+        // Platforms are small and are referenced by every entity on a page.
+        return 250;
+    }
+
     @Override
     public List<DataFetcherResult<DataPlatform>> batchLoad(final List<String> urns, final QueryContext context) {
 
@@ -10,6 +10,7 @@ import com.linkedin.datahub.graphql.generated.Entity;
 import com.linkedin.datahub.graphql.generated.EntityType;
 import com.linkedin.datahub.graphql.generated.FacetFilterInput;
 import com.linkedin.datahub.graphql.generated.SearchResults;
+import com.linkedin.datahub.graphql.types.HydratableEntityType;
 import com.linkedin.datahub.graphql.types.SearchableEntityType;
 import com.linkedin.datahub.graphql.types.dataproduct.mappers.DataProductMapper;
 import com.linkedin.datahub.graphql.types.mappers.AutoCompleteResultsMapper;
@@ -40,7 +41,7 @@ import static com.linkedin.metadata.Constants.INSTITUTIONAL_MEMORY_ASPECT_NAME;
 import static com.linkedin.metadata.Constants.OWNERSHIP_ASPECT_NAME;
 
 @RequiredArgsConstructor
-public class DataProductType implements SearchableEntityType<DataProduct, String>,
+public class DataProductType implements SearchableEntityType<DataProduct, String>, HydratableEntityType<DataProduct>,
                                         com.linkedin.datahub.graphql.types.EntityType<DataProduct, String> {
   public static final Set<String> ASPECTS_TO_FETCH = ImmutableSet.of(
       DATA_PRODUCT_PROPERTIES_ASPECT_NAME,
@@ -67,6 +68,19 @@ public class DataProductType implements SearchableEntityType<DataProduct, String
     return DataProduct.class;
   }
 
+  @Nullable
+  @Override
+  public Set<String> getAspectsToFetch() {
+    return ASPECTS_TO_FETCH;
+  }
+
+  @Nonnull
+  @Override
+  public DataProduct mapEntityResponse(@Nonnull final EntityResponse entityResponse,
+      @Nonnull final QueryContext context) {
+    return DataProductMapper.map(entityResponse);
+  }
+
   @Override
   public List<DataFetcherResult<DataProduct>> batchLoad(@Nonnull List<String> urns, @Nonnull QueryContext context)
       throws Exception {
@@ -83,7 +97,7 @@ public class DataProductType implements SearchableEntityType<DataProduct, String
       }
       return gmsResults.stream()
           .map(gmsResult -> gmsResult == null ? null
-              : DataFetcherResult.<DataProduct>newResult().data(DataProductMapper.map(gmsResult)).build())
+              : DataFetcherResult.<DataProduct>newResult().data(mapEntityResponse(gmsResult, context)).build())
           .collect(Collectors.toList());
     } catch (Exception e) {
       throw new RuntimeException("Failed to batch load Queries", e);
@@ -24,6 +24,7 @@ import com.linkedin.datahub.graphql.generated.BatchDatasetUpdateInput;
 import com.linkedin.datahub.graphql.resolvers.ResolverUtils;
 import com.linkedin.datahub.graphql.types.BatchMutableType;
 import com.linkedin.datahub.graphql.types.BrowsableEntityType;
+import com.linkedin.datahub.graphql.types.HydratableEntityType;
 import com.linkedin.datahub.graphql.types.SearchableEntityType;
 import com.linkedin.datahub.graphql.types.dataset.mappers.DatasetMapper;
 import com.linkedin.datahub.graphql.types.dataset.mappers.DatasetUpdateInputMapper;
@@ -60,7 +61,8 @@ import static com.linkedin.datahub.graphql.Constants.*;
 import static com.linkedin.metadata.Constants.*;
 
 
-public class DatasetType implements SearchableEntityType<Dataset, String>, BrowsableEntityType<Dataset, String>,
+public class DatasetType implements SearchableEntityType<Dataset, String>, HydratableEntityType<Dataset>,
+                                    BrowsableEntityType<Dataset, String>,
         BatchMutableType<DatasetUpdateInput, BatchDatasetUpdateInput, Dataset> {
 
     private static final Set<String> ASPECTS_TO_RESOLVE = ImmutableSet.of(
@@ -103,6 +105,12 @@ public class DatasetType implements SearchableEntityType<Dataset, String>, Brows
         return Dataset.class;
     }
 
+    @Override
+    public int maxBatchSize() {
+        // Datasets carry large aspects, e.g. schemaMetadata, so keep batches small.
+        return 50;
+    }
+
     @Override
     public Class<DatasetUpdateInput> inputClass() {
         return DatasetUpdateInput.class;
@@ -123,6 +131,19 @@ public class DatasetType implements SearchableEntityType<Dataset, String>, Brows
         return Entity::getUrn;
     }
 
+    @Nullable
+    @Override
+    public Set<String> getAspectsToFetch() {
+        return ASPECTS_TO_RESOLVE;
+    }
+
+    @Nonnull
+    @Override
+    public Dataset mapEntityResponse(@Nonnull final EntityResponse entityResponse,
+        @Nonnull final QueryContext context) {
+        return DatasetMapper.map(entityResponse);
+    }
+
     @Override
     public List<DataFetcherResult<Dataset>> batchLoad(@Nonnull final List<String> urnStrs,
         @Nonnull final QueryContext context) {
@@ -144,7 +165,7 @@ public class DatasetType implements SearchableEntityType<Dataset, String>, Brows
             }
             return gmsResults.stream()
                 .map(gmsDataset -> gmsDataset == null ? null : DataFetcherResult.<Dataset>newResult()
-                    .data(DatasetMapper.map(gmsDataset))
+                    .data(mapEntityResponse(gmsDataset, context))
                     .build())
                 .collect(Collectors.toList());
         } catch (Exception e) {
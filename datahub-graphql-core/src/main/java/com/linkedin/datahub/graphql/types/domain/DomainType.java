@@ -9,6 +9,7 @@ import com.linkedin.datahub.graphql.generated.Entity;
 import com.linkedin.datahub.graphql.generated.EntityType;
 import com.linkedin.datahub.graphql.generated.FacetFilterInput;
 import com.linkedin.datahub.graphql.generated.SearchResults;
+import com.linkedin.datahub.graphql.types.HydratableEntityType;
 import com.linkedin.datahub.graphql.types.SearchableEntityType;
 import com.linkedin.datahub.graphql.types.mappers.AutoCompleteResultsMapper;
 import com.linkedin.entity.EntityResponse;
@@ -31,7 +32,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 
-public class DomainType implements SearchableEntityType<Domain, String>, com.linkedin.datahub.graphql.types.EntityType<Domain, String> {
+public class DomainType implements SearchableEntityType<Domain, String>, HydratableEntityType<Domain>,
+                                   com.linkedin.datahub.graphql.types.EntityType<Domain, String> {
 
   static final Set<String> ASPECTS_TO_FETCH = ImmutableSet.of(
     Constants.DOMAIN_KEY_ASPECT_NAME,
@@ -60,6 +62,18 @@ public class DomainType implements SearchableEntityType<Domain, String>, com.lin
     return Domain.class;
   }
 
+  @Nullable
+  @Override
+  public Set<String> getAspectsToFetch() {
+    return ASPECTS_TO_FETCH;
+  }
+
+  @Nonnull
+  @Override
+  public Domain mapEntityResponse(@Nonnull final EntityResponse entityResponse, @Nonnull final QueryContext context) {
+    return DomainMapper.map(entityResponse);
+  }
+
   @Override
   public List<DataFetcherResult<Domain>> batchLoad(@Nonnull List<String> urns, @Nonnull QueryContext context) throws Exception {
     final List<Urn> domainUrns = urns.stream()
@@ -80,7 +94,7 @@ public class DomainType implements SearchableEntityType<Domain, String>, com.lin
       return gmsResults.stream()
           .map(gmsResult ->
               gmsResult == null ? null : DataFetcherResult.<Domain>newResult()
-                  .data(DomainMapper.map(gmsResult))
+                  .data(mapEntityResponse(gmsResult, context))
                   .build()
           )
           .collect(Collectors.toList());
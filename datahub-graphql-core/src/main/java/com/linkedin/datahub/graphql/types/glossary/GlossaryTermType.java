@@ -15,6 +15,7 @@ import com.linkedin.datahub.graphql.generated.GlossaryTerm;
 import com.linkedin.datahub.graphql.generated.SearchResults;
 import com.linkedin.datahub.graphql.resolvers.ResolverUtils;
 import com.linkedin.datahub.graphql.types.BrowsableEntityType;
+import com.linkedin.datahub.graphql.types.HydratableEntityType;
 import com.linkedin.datahub.graphql.types.SearchableEntityType;
 import com.linkedin.datahub.graphql.types.glossary.mappers.GlossaryTermMapper;
 import com.linkedin.datahub.graphql.types.mappers.AutoCompleteResultsMapper;
@@ -42,7 +43,7 @@ import javax.annotation.Nullable;
 import static com.linkedin.datahub.graphql.Constants.*;
 import static com.linkedin.metadata.Constants.*;
 
-public class GlossaryTermType implements SearchableEntityType<GlossaryTerm, String>,
+public class GlossaryTermType implements SearchableEntityType<GlossaryTerm, String>, HydratableEntityType<GlossaryTerm>,
                                          BrowsableEntityType<GlossaryTerm, String> {
 
     private static final Set<String> FACET_FIELDS = ImmutableSet.of("");
@@ -80,6 +81,19 @@ public class GlossaryTermType implements SearchableEntityType<GlossaryTerm, Stri
         return Entity::getUrn;
     }
 
+    @Nullable
+    @Override
+    public Set<String> getAspectsToFetch() {
+        return ASPECTS_TO_RESOLVE;
+    }
+
+    @Nonnull
+    @Override
+    public GlossaryTerm mapEntityResponse(@Nonnull final EntityResponse entityResponse,
+        @Nonnull final QueryContext context) {
+        return GlossaryTermMapper.map(entityResponse);
+    }
+
     @Override
     public List<DataFetcherResult<GlossaryTerm>> batchLoad(final List<String> urns, final QueryContext context) {
         final List<Urn> glossaryTermUrns = urns.stream()
@@ -98,7 +112,7 @@ public class GlossaryTermType implements SearchableEntityType<GlossaryTerm, Stri
                     .map(gmsGlossaryTerm ->
                         gmsGlossaryTerm == null ? null
                             : DataFetcherResult.<GlossaryTerm>newResult()
-                                .data(GlossaryTermMapper.map(gmsGlossaryTerm))
+                                .data(mapEntityResponse(gmsGlossaryTerm, context))
                                 .build())
                     .collect(Collectors.toList());
         } catch (Exception e) {
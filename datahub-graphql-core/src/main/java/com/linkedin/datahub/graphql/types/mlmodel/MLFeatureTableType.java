@@ -15,6 +15,7 @@ import com.linkedin.datahub.graphql.generated.MLFeatureTable;
 import com.linkedin.datahub.graphql.generated.SearchResults;
 import com.linkedin.datahub.graphql.resolvers.ResolverUtils;
 import com.linkedin.datahub.graphql.types.BrowsableEntityType;
+import com.linkedin.datahub.graphql.types.HydratableEntityType;
 import com.linkedin.datahub.graphql.types.SearchableEntityType;
 import com.linkedin.datahub.graphql.types.mappers.AutoCompleteResultsMapper;
 import com.linkedin.datahub.graphql.types.mappers.BrowsePathsMapper;
@@ -42,7 +43,7 @@ import static com.linkedin.datahub.graphql.Constants.*;
 import static com.linkedin.metadata.Constants.*;
 
 
-public class MLFeatureTableType implements SearchableEntityType<MLFeatureTable, String>,
+public class MLFeatureTableType implements SearchableEntityType<MLFeatureTable, String>, HydratableEntityType<MLFeatureTable>,
                                            BrowsableEntityType<MLFeatureTable, String> {
 
     private static final Set<String> FACET_FIELDS = ImmutableSet.of("platform", "name");
@@ -67,6 +68,19 @@ public class MLFeatureTableType implements SearchableEntityType<MLFeatureTable,
         return MLFeatureTable.class;
     }
 
+    @Nullable
+    @Override
+    public Set<String> getAspectsToFetch() {
+        return null;
+    }
+
+    @Nonnull
+    @Override
+    public MLFeatureTable mapEntityResponse(@Nonnull final EntityResponse entityResponse,
+        @Nonnull final QueryContext context) {
+        return MLFeatureTableMapper.map(entityResponse);
+    }
+
     @Override
     public List<DataFetcherResult<MLFeatureTable>> batchLoad(final List<String> urns, final QueryContext context) throws Exception {
         final List<Urn> mlFeatureTableUrns = urns.stream()
@@ -84,7 +98,7 @@ public class MLFeatureTableType implements SearchableEntityType<MLFeatureTable,
             return gmsResults.stream()
                 .map(gmsMlFeatureTable -> gmsMlFeatureTable == null ? null
                     : DataFetcherResult.<MLFeatureTable>newResult()
-                        .data(MLFeatureTableMapper.map(gmsMlFeatureTable))
+                        .data(mapEntityResponse(gmsMlFeatureTable, context))
                         .build())
                 .collect(Collectors.toList());
         } catch (Exception e) {
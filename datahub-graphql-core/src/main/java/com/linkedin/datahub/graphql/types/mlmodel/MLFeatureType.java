@@ -11,6 +11,7 @@ import com.linkedin.datahub.graphql.generated.FacetFilterInput;
 import com.linkedin.datahub.graphql.generated.MLFeature;
 import com.linkedin.datahub.graphql.generated.SearchResults;
 import com.linkedin.datahub.graphql.resolvers.ResolverUtils;
+import com.linkedin.datahub.graphql.types.HydratableEntityType;
 import com.linkedin.datahub.graphql.types.SearchableEntityType;
 import com.linkedin.datahub.graphql.types.mappers.AutoCompleteResultsMapper;
 import com.linkedin.datahub.graphql.types.mappers.UrnSearchResultsMapper;
@@ -34,7 +35,7 @@ import javax.annotation.Nullable;
 import static com.linkedin.metadata.Constants.*;
 
 
-public class MLFeatureType implements SearchableEntityType<MLFeature, String> {
+public class MLFeatureType implements SearchableEntityType<MLFeature, String>, HydratableEntityType<MLFeature> {
 
     private static final Set<String> FACET_FIELDS = ImmutableSet.of("");
     private final EntityClient _entityClient;
@@ -58,6 +59,19 @@ public class MLFeatureType implements SearchableEntityType<MLFeature, String> {
         return MLFeature.class;
     }
 
+    @Nullable
+    @Override
+    public Set<String> getAspectsToFetch() {
+        return null;
+    }
+
+    @Nonnull
+    @Override
+    public MLFeature mapEntityResponse(@Nonnull final EntityResponse entityResponse,
+        @Nonnull final QueryContext context) {
+        return MLFeatureMapper.map(entityResponse);
+    }
+
     @Override
     public List<DataFetcherResult<MLFeature>> batchLoad(final List<String> urns, @Nonnull final QueryContext context)
         throws Exception {
@@ -76,7 +90,7 @@ public class MLFeatureType implements SearchableEntityType<MLFeature, String> {
             return gmsResults.stream()
                 .map(gmsMlFeature -> gmsMlFeature == null ? null
                     : DataFetcherResult.<MLFeature>newResult()
-                        .data(MLFeatureMapper.map(gmsMlFeature))
+                        .data(mapEntityResponse(gmsMlFeature, context))
                         .build())
                 .collect(Collectors.toList());
         } catch (Exception e) {
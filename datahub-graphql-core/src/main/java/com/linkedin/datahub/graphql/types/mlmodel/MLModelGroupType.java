@@ -15,6 +15,7 @@ import com.linkedin.datahub.graphql.generated.MLModelGroup;
 import com.linkedin.datahub.graphql.generated.SearchResults;
 import com.linkedin.datahub.graphql.resolvers.ResolverUtils;
 import com.linkedin.datahub.graphql.types.BrowsableEntityType;
+import com.linkedin.datahub.graphql.types.HydratableEntityType;
 import com.linkedin.datahub.graphql.types.SearchableEntityType;
 import com.linkedin.datahub.graphql.types.mappers.AutoCompleteResultsMapper;
 import com.linkedin.datahub.graphql.types.mappers.BrowsePathsMapper;
@@ -42,7 +43,7 @@ import static com.linkedin.datahub.graphql.Constants.*;
 import static com.linkedin.metadata.Constants.*;
 
 
-public class MLModelGroupType implements SearchableEntityType<MLModelGroup, String>,
+public class MLModelGroupType implements SearchableEntityType<MLModelGroup, String>, HydratableEntityType<MLModelGroup>,
                                          BrowsableEntityType<MLModelGroup, String> {
 
     private static final Set<String> FACET_FIELDS = ImmutableSet.of("origin", "platform");
@@ -67,6 +68,19 @@ public class MLModelGroupType implements SearchableEntityType<MLModelGroup, Stri
         return MLModelGroup.class;
     }
 
+    @Nullable
+    @Override
+    public Set<String> getAspectsToFetch() {
+        return null;
+    }
+
+    @Nonnull
+    @Override
+    public MLModelGroup mapEntityResponse(@Nonnull final EntityResponse entityResponse,
+        @Nonnull final QueryContext context) {
+        return MLModelGroupMapper.map(entityResponse);
+    }
+
     @Override
     public List<DataFetcherResult<MLModelGroup>> batchLoad(final List<String> urns, @Nonnull final QueryContext context)
         throws Exception {
@@ -85,7 +99,7 @@ public class MLModelGroupType implements SearchableEntityType<MLModelGroup, Stri
             return gmsResults.stream()
                 .map(gmsMlModelGroup -> gmsMlModelGroup == null ? null
                     : DataFetcherResult.<MLModelGroup>newResult()
-                        .data(MLModelGroupMapper.map(gmsMlModelGroup))
+                        .data(mapEntityResponse(gmsMlModelGroup, context))
                         .build())
                 .collect(Collectors.toList());
         } catch (Exception e) {
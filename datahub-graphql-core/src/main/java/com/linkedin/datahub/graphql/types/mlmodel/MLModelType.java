@@ -15,6 +15,7 @@ import com.linkedin.datahub.graphql.generated.MLModel;
 import com.linkedin.datahub.graphql.generated.SearchResults;
 import com.linkedin.datahub.graphql.resolvers.ResolverUtils;
 import com.linkedin.datahub.graphql.types.BrowsableEntityType;
+import com.linkedin.datahub.graphql.types.HydratableEntityType;
 import com.linkedin.datahub.graphql.types.SearchableEntityType;
 import com.linkedin.datahub.graphql.types.mappers.AutoCompleteResultsMapper;
 import com.linkedin.datahub.graphql.types.mappers.BrowsePathsMapper;
@@ -42,7 +43,8 @@ import static com.linkedin.datahub.graphql.Constants.*;
 import static com.linkedin.metadata.Constants.*;
 
 
-public class MLModelType implements SearchableEntityType<MLModel, String>, BrowsableEntityType<MLModel, String> {
+public class MLModelType implements SearchableEntityType<MLModel, String>, HydratableEntityType<MLModel>,
+                                    BrowsableEntityType<MLModel, String> {
 
     private static final Set<String> FACET_FIELDS = ImmutableSet.of("origin", "platform");
     private final EntityClient _entityClient;
@@ -66,6 +68,19 @@ public class MLModelType implements SearchableEntityType<MLModel, String>, Brows
         return MLModel.class;
     }
 
+    @Nullable
+    @Override
+    public Set<String> getAspectsToFetch() {
+        return null;
+    }
+
+    @Nonnull
+    @Override
+    public MLModel mapEntityResponse(@Nonnull final EntityResponse entityResponse,
+        @Nonnull final QueryContext context) {
+        return MLModelMapper.map(entityResponse);
+    }
+
     @Override
     public List<DataFetcherResult<MLModel>> batchLoad(final List<String> urns, final QueryContext context) throws Exception {
         final List<Urn> mlModelUrns = urns.stream()
@@ -83,7 +98,7 @@ public class MLModelType implements SearchableEntityType<MLModel, String>, Brows
             return gmsResults.stream()
                 .map(gmsMlModel -> gmsMlModel == null ? null
                     : DataFetcherResult.<MLModel>newResult()
-                        .data(MLModelMapper.map(gmsMlModel))
+                        .data(mapEntityResponse(gmsMlModel, context))
                         .build())
                 .collect(Collectors.toList());
         } catch (Exception e) {
@@ -11,6 +11,7 @@ import com.linkedin.datahub.graphql.generated.FacetFilterInput;
 import com.linkedin.datahub.graphql.generated.MLPrimaryKey;
 import com.linkedin.datahub.graphql.generated.SearchResults;
 import com.linkedin.datahub.graphql.resolvers.ResolverUtils;
+import com.linkedin.datahub.graphql.types.HydratableEntityType;
 import com.linkedin.datahub.graphql.types.SearchableEntityType;
 import com.linkedin.datahub.graphql.types.mappers.AutoCompleteResultsMapper;
 import com.linkedin.datahub.graphql.types.mappers.UrnSearchResultsMapper;
@@ -34,7 +35,7 @@ import javax.annotation.Nullable;
 import static com.linkedin.metadata.Constants.*;
 
 
-public class MLPrimaryKeyType implements SearchableEntityType<MLPrimaryKey, String> {
+public class MLPrimaryKeyType implements SearchableEntityType<MLPrimaryKey, String>, HydratableEntityType<MLPrimaryKey> {
 
     private static final Set<String> FACET_FIELDS = ImmutableSet.of("");
     private final EntityClient _entityClient;
@@ -58,6 +59,19 @@ public class MLPrimaryKeyType implements SearchableEntityType<MLPrimaryKey, Stri
         return MLPrimaryKey.class;
     }
 
+    @Nullable
+    @Override
+    public Set<String> getAspectsToFetch() {
+        return null;
+    }
+
+    @Nonnull
+    @Override
+    public MLPrimaryKey mapEntityResponse(@Nonnull final EntityResponse entityResponse,
+        @Nonnull final QueryContext context) {
+        return MLPrimaryKeyMapper.map(entityResponse);
+    }
+
     @Override
     public List<DataFetcherResult<MLPrimaryKey>> batchLoad(final List<String> urns, @Nonnull final QueryContext context)
         throws Exception {
@@ -76,7 +90,7 @@ public class MLPrimaryKeyType implements SearchableEntityType<MLPrimaryKey, Stri
             return gmsResults.stream()
                 .map(gmsMlPrimaryKey -> gmsMlPrimaryKey == null ? null
                     : DataFetcherResult.<MLPrimaryKey>newResult()
-                        .data(MLPrimaryKeyMapper.map(gmsMlPrimaryKey))
+                        .data(mapEntityResponse(gmsMlPrimaryKey, context))
                         .build())
                 .collect(Collectors.toList());
         } catch (Exception e) {
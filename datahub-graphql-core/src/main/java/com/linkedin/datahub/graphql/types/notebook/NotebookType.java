@@ -22,6 +22,7 @@ import com.linkedin.datahub.graphql.generated.SearchResults;
 import com.linkedin.datahub.graphql.generated.Notebook;
 import com.linkedin.datahub.graphql.generated.NotebookUpdateInput;
 import com.linkedin.datahub.graphql.types.BrowsableEntityType;
+import com.linkedin.datahub.graphql.types.HydratableEntityType;
 import com.linkedin.datahub.graphql.types.MutableType;
 import com.linkedin.datahub.graphql.types.SearchableEntityType;
 import com.linkedin.datahub.graphql.types.mappers.BrowsePathsMapper;
@@ -56,7 +57,8 @@ import javax.annotation.Nullable;
 import static com.linkedin.datahub.graphql.Constants.*;
 import static com.linkedin.metadata.Constants.*;
 
-public class NotebookType implements SearchableEntityType<Notebook, String>, BrowsableEntityType<Notebook, String>,
+public class NotebookType implements SearchableEntityType<Notebook, String>, HydratableEntityType<Notebook>,
+                                     BrowsableEntityType<Notebook, String>,
                                      MutableType<NotebookUpdateInput, Notebook> {
   static final Set<String> ASPECTS_TO_RESOLVE = ImmutableSet.of(
       NOTEBOOK_KEY_ASPECT_NAME,
@@ -136,6 +138,18 @@ public class NotebookType implements SearchableEntityType<Notebook, String>, Bro
     return Notebook.class;
   }
 
+  @Nullable
+  @Override
+  public Set<String> getAspectsToFetch() {
+    return ASPECTS_TO_RESOLVE;
+  }
+
+  @Nonnull
+  @Override
+  public Notebook mapEntityResponse(@Nonnull final EntityResponse entityResponse, @Nonnull final QueryContext context) {
+    return NotebookMapper.map(entityResponse);
+  }
+
   @Override
   public List<DataFetcherResult<Notebook>> batchLoad(@Nonnull List<String> urnStrs, @Nonnull QueryContext context)
       throws Exception {
@@ -151,7 +165,7 @@ public class NotebookType implements SearchableEntityType<Notebook, String>, Bro
           .map(entityResponse -> entityResponse == null
               ? null
               : DataFetcherResult.<Notebook>newResult()
-                  .data(NotebookMapper.map(entityResponse))
+                  .data(mapEntityResponse(entityResponse, context))
                   .build())
           .collect(Collectors.toList());
     } catch (Exception e) {
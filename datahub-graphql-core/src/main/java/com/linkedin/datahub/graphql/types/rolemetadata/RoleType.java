@@ -10,6 +10,7 @@ import com.linkedin.datahub.graphql.generated.EntityType;
 import com.linkedin.datahub.graphql.generated.FacetFilterInput;
 import com.linkedin.datahub.graphql.generated.Role;
 import com.linkedin.datahub.graphql.generated.SearchResults;
+import com.linkedin.datahub.graphql.types.HydratableEntityType;
 import com.linkedin.datahub.graphql.types.SearchableEntityType;
 import com.linkedin.datahub.graphql.types.rolemetadata.mappers.RoleMapper;
 import com.linkedin.datahub.graphql.types.mappers.AutoCompleteResultsMapper;
@@ -34,7 +35,7 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-public class RoleType implements SearchableEntityType<Role, String>,
+public class RoleType implements SearchableEntityType<Role, String>, HydratableEntityType<Role>,
         com.linkedin.datahub.graphql.types.EntityType<Role, String> {
 
     static final Set<String> ASPECTS_TO_FETCH = ImmutableSet.of(
@@ -64,6 +65,18 @@ public class RoleType implements SearchableEntityType<Role, String>,
         return Role.class;
     }
 
+    @Nullable
+    @Override
+    public Set<String> getAspectsToFetch() {
+        return ASPECTS_TO_FETCH;
+    }
+
+    @Nonnull
+    @Override
+    public Role mapEntityResponse(@Nonnull final EntityResponse entityResponse, @Nonnull final QueryContext context) {
+        return RoleMapper.map(entityResponse);
+    }
+
     @Override
     public List<DataFetcherResult<Role>> batchLoad(@Nonnull List<String> urns,
                                                                    @Nonnull QueryContext context) throws Exception {
@@ -85,7 +98,7 @@ public class RoleType implements SearchableEntityType<Role, String>,
             return gmsResults.stream()
                     .map(gmsResult ->
                             gmsResult == null ? null : DataFetcherResult.<Role>newResult()
-                                    .data(RoleMapper.map(gmsResult))
+                                    .data(mapEntityResponse(gmsResult, context))
                                     .build()
                     )
                     .collect(Collectors.toList());
@@ -17,6 +17,7 @@ import com.linkedin.datahub.graphql.generated.SearchResults;
 import com.linkedin.datahub.graphql.generated.Tag;
 import com.linkedin.datahub.graphql.generated.TagUpdateInput;
 import com.linkedin.datahub.graphql.resolvers.ResolverUtils;
+import com.linkedin.datahub.graphql.types.HydratableEntityType;
 import com.linkedin.datahub.graphql.types.MutableType;
 import com.linkedin.datahub.graphql.types.mappers.AutoCompleteResultsMapper;
 import com.linkedin.datahub.graphql.types.mappers.UrnSearchResultsMapper;
@@ -47,7 +48,7 @@ import javax.annotation.Nullable;
 import static com.linkedin.metadata.Constants.*;
 
 
-public class TagType implements com.linkedin.datahub.graphql.types.SearchableEntityType<Tag, String>,
+public class TagType implements com.linkedin.datahub.graphql.types.SearchableEntityType<Tag, String>, HydratableEntityType<Tag>,
                                 MutableType<TagUpdateInput, Tag> {
 
     private static final Set<String> FACET_FIELDS = Collections.emptySet();
@@ -63,6 +64,12 @@ public class TagType implements com.linkedin.datahub.graphql.types.SearchableEnt
         return Tag.class;
     }
 
+    @Override
+    public int maxBatchSize() {
+        // Tags are small and are referenced many times per page.
+        return 250;
+    }
+
     @Override
     public EntityType type() {
         return EntityType.TAG;
@@ -78,6 +85,18 @@ public class TagType implements com.linkedin.datahub.graphql.types.SearchableEnt
         return TagUpdateInput.class;
     }
 
+    @Nullable
+    @Override
+    public Set<String> getAspectsToFetch() {
+        return null;
+    }
+
+    @Nonnull
+    @Override
+    public Tag mapEntityResponse(@Nonnull final EntityResponse entityResponse, @Nonnull final QueryContext context) {
+        return TagMapper.map(entityResponse);
+    }
+
     @Override
     public List<DataFetcherResult<Tag>> batchLoad(final List<String> urns, final QueryContext context) {
 
@@ -96,7 +115,7 @@ public class TagType implements com.linkedin.datahub.graphql.types.SearchableEnt
             return gmsResults.stream()
                     .map(gmsTag -> gmsTag == null ? null
                         : DataFetcherResult.<Tag>newResult()
-                            .data(TagMapper.map(gmsTag))
+                            .data(mapEntityResponse(gmsTag, context))
                             .build())
                     .collect(Collectors.toList());
         } catch (Exception e) {
@@ -0,0 +1,82 @@
+package com.linkedin.datahub.graphql;
+
+import com.google.common.collect.ImmutableMap;
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.parser.Parser;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class CachingPreparsedDocumentProviderTest {
+
+  private static final String QUERY = "query { me { corpUser { urn } } }";
+
+  @Test
+  public void testDocumentIsCachedByQuery() {
+    final CachingPreparsedDocumentProvider provider = new CachingPreparsedDocumentProvider(10);
+    final AtomicInteger parses = new AtomicInteger();
+    final Function<ExecutionInput, PreparsedDocumentEntry> parse = parser(parses);
+
+    final PreparsedDocumentEntry first = provider.getDocument(input(QUERY, ImmutableMap.of()), parse);
+    final PreparsedDocumentEntry second = provider.getDocument(input(QUERY, ImmutableMap.of()), parse);
+    assertSame(second, first);
+    assertEquals(parses.get(), 1);
+  }
+
+  @Test
+  public void testPersistedQuery() {
+    final CachingPreparsedDocumentProvider provider = new CachingPreparsedDocumentProvider(10);
+    final AtomicInteger parses = new AtomicInteger();
+    final Function<ExecutionInput, PreparsedDocumentEntry> parse = parser(parses);
+    final String hash = CachingPreparsedDocumentProvider.hash(QUERY);
+
+    // Unknown hash: the client must send the full query.
+    PreparsedDocumentEntry entry = provider.getDocument(input("", persistedQuery(hash)), parse);
+    assertTrue(entry.hasErrors());
+    assertEquals(entry.getErrors().get(0).getMessage(), CachingPreparsedDocumentProvider.PERSISTED_QUERY_NOT_FOUND);
+
+    // Full query with its hash registers the query.
+    final PreparsedDocumentEntry registered = provider.getDocument(input(QUERY, persistedQuery(hash)), parse);
+    assertFalse(registered.hasErrors());
+
+    // Hash only is now resolved from the cache.
+    assertSame(provider.getDocument(input("", persistedQuery(hash)), parse), registered);
+    assertEquals(parses.get(), 1);
+  }
+
+  @Test
+  public void testPersistedQueryHashMismatch() {
+    final CachingPreparsedDocumentProvider provider = new CachingPreparsedDocumentProvider(10);
+    final AtomicInteger parses = new AtomicInteger();
+    final Function<ExecutionInput, PreparsedDocumentEntry> parse = parser(parses);
+    final String otherHash = CachingPreparsedDocumentProvider.hash("query { other }");
+
+    PreparsedDocumentEntry entry = provider.getDocument(input(QUERY, persistedQuery(otherHash)), parse);
+    assertEquals(entry.getErrors().get(0).getMessage(), CachingPreparsedDocumentProvider.PERSISTED_QUERY_HASH_MISMATCH);
+
+    // The query was not registered under the other hash.
+    entry = provider.getDocument(input("", persistedQuery(otherHash)), parse);
+    assertEquals(entry.getErrors().get(0).getMessage(), CachingPreparsedDocumentProvider.PERSISTED_QUERY_NOT_FOUND);
+    assertEquals(parses.get(), 0);
+  }
+
+  private static Function<ExecutionInput, PreparsedDocumentEntry> parser(AtomicInteger parses) {
+    return executionInput -> {
+      parses.incrementAndGet();
+      return new PreparsedDocumentEntry(Parser.parse(executionInput.getQuery()));
+    };
+  }
+
+  private static ImmutableMap<String, Object> persistedQuery(String hash) {
+    return ImmutableMap.of(CachingPreparsedDocumentProvider.PERSISTED_QUERY_EXTENSION,
+        ImmutableMap.of("version", 1, CachingPreparsedDocumentProvider.PERSISTED_QUERY_HASH_FIELD, hash));
+  }
+
+  private static ExecutionInput input(String query, ImmutableMap<String, Object> extensions) {
+    return ExecutionInput.newExecutionInput().query(query).extensions(extensions).build();
+  }
+}
@@ -6,12 +6,23 @@ import com.datahub.authentication.Authentication;
 import com.datahub.authorization.AuthorizationRequest;
 import com.datahub.authorization.AuthorizationResult;
 import com.datahub.plugins.auth.authorization.Authorizer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linkedin.common.AuditStamp;
+import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.events.metadata.ChangeType;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.mxe.MetadataChangeProposal;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import static org.testng.Assert.*;
+
 
 public class TestUtils {
 
@@ -107,6 +118,54 @@ public class TestUtils {
     Mockito.verify(mockService, Mockito.times(0)).ingestProposal(
         Mockito.any(),
         Mockito.any(AuditStamp.class), Mockito.anyBoolean());
+    Mockito.verify(mockService, Mockito.times(0)).ingestProposals(
+        Mockito.any(),
+        Mockito.any(AuditStamp.class), Mockito.anyBoolean());
+  }
+
+  /**
+   * Verifies that a single batch of proposals was ingested, and returns the proposals of the batch.
+   */
+  @SuppressWarnings("unchecked")
+  public static List<MetadataChangeProposal> verifyIngestProposals(EntityService mockService, int numberOfProposals) {
+    ArgumentCaptor<List<MetadataChangeProposal>> captor = ArgumentCaptor.forClass(List.class);
+    Mockito.verify(mockService, Mockito.times(1)).ingestProposals(
+        captor.capture(),
+        Mockito.any(AuditStamp.class),
+        Mockito.eq(false)
+    );
+    assertEquals(captor.getValue().size(), numberOfProposals);
+    return captor.getValue();
+  }
+
+  public static void verifyIngestProposals(EntityService mockService, List<MetadataChangeProposal> proposals) {
+    Mockito.verify(mockService, Mockito.times(1)).ingestProposals(
+        Mockito.eq(proposals),
+        Mockito.any(AuditStamp.class),
+        Mockito.eq(false)
+    );
+  }
+
+  /**
+   * Verifies that the proposal is a patch of the aspect, made of the given operations, formatted as "{op} {path}".
+   */
+  public static void verifyPatchProposal(MetadataChangeProposal proposal, Urn urn, String aspectName, List<String> operations) {
+    assertEquals(proposal.getChangeType(), ChangeType.PATCH);
+    assertEquals(proposal.getEntityUrn(), urn);
+    assertEquals(proposal.getAspectName(), aspectName);
+    final List<String> actualOperations = new ArrayList<>();
+    for (JsonNode operation : getPatch(proposal)) {
+      actualOperations.add(operation.get("op").asText() + " " + operation.get("path").asText());
+    }
+    assertEquals(actualOperations, operations);
+  }
+
+  public static JsonNode getPatch(MetadataChangeProposal proposal) {
+    try {
+      return new ObjectMapper().readTree(proposal.getAspect().getValue().asString(StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
   }
 
   private TestUtils() { }
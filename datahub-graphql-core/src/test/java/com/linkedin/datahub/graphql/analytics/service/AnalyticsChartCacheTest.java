@@ -0,0 +1,59 @@
+package com.linkedin.datahub.graphql.analytics.service;
+
+import com.google.common.collect.ImmutableList;
+import com.linkedin.datahub.graphql.generated.DateInterval;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class AnalyticsChartCacheTest {
+
+  // Wednesday 2023-03-15T10:30:00Z
+  private static final long NOW = Instant.parse("2023-03-15T10:30:00Z").toEpochMilli();
+
+  @Test
+  public void testBucketStartIsAlignedInUtc() {
+    assertEquals(AnalyticsChartCache.getBucketStart(NOW, DateInterval.HOUR), millis("2023-03-15T10:00:00Z"));
+    assertEquals(AnalyticsChartCache.getBucketStart(NOW, DateInterval.DAY), millis("2023-03-15T00:00:00Z"));
+    assertEquals(AnalyticsChartCache.getBucketStart(NOW, DateInterval.WEEK), millis("2023-03-13T00:00:00Z"));
+    assertEquals(AnalyticsChartCache.getBucketStart(NOW, DateInterval.MONTH), millis("2023-03-01T00:00:00Z"));
+    assertEquals(AnalyticsChartCache.getBucketStart(NOW, DateInterval.YEAR), millis("2023-01-01T00:00:00Z"));
+  }
+
+  @Test
+  public void testOpenBucketStartAccountsForDelay() {
+    final AnalyticsChartCache cache =
+        new AnalyticsChartCache(10, 60, 3600, Clock.fixed(Instant.parse("2023-03-15T00:30:00Z"), ZoneOffset.UTC));
+    // Events of the previous day may still arrive for another half hour
+    assertEquals(cache.getOpenBucketStart(DateInterval.DAY), millis("2023-03-14T00:00:00Z"));
+    assertFalse(cache.isClosed(millis("2023-03-15T00:00:00Z")));
+    assertTrue(cache.isClosed(millis("2023-03-14T23:00:00Z")));
+  }
+
+  @Test
+  public void testResultsAreCachedByKey() {
+    final AnalyticsChartCache cache = new AnalyticsChartCache(10, 60, 0, Clock.fixed(Instant.ofEpochMilli(NOW),
+        ZoneOffset.UTC));
+    final AtomicInteger computations = new AtomicInteger();
+    final AnalyticsChartCache.ChartKey key =
+        new AnalyticsChartCache.ChartKey("timeseries", "datahub_usage_event", 0L, NOW, ImmutableList.of("WEEK"));
+    final AnalyticsChartCache.ChartKey otherKey =
+        new AnalyticsChartCache.ChartKey("timeseries", "datahub_usage_event", 0L, NOW, ImmutableList.of("MONTH"));
+
+    assertEquals(cache.get(key, true, computations::incrementAndGet), Integer.valueOf(1));
+    assertEquals(cache.get(key, true, computations::incrementAndGet), Integer.valueOf(1));
+    assertEquals(cache.get(otherKey, true, computations::incrementAndGet), Integer.valueOf(2));
+    // Closed & open results are cached separately
+    assertEquals(cache.get(key, false, computations::incrementAndGet), Integer.valueOf(3));
+    assertEquals(computations.get(), 3);
+  }
+
+  private static long millis(String instant) {
+    return Instant.parse(instant).toEpochMilli();
+  }
+}
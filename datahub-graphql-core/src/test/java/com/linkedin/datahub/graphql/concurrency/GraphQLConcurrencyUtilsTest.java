@@ -0,0 +1,54 @@
+package com.linkedin.datahub.graphql.concurrency;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class GraphQLConcurrencyUtilsTest {
+
+  @AfterMethod
+  public void resetExecutor() {
+    GraphQLConcurrencyUtils.setExecutorService(null);
+  }
+
+  @Test
+  public void testSupplyAsyncUsesConfiguredExecutor() throws Exception {
+    final ExecutorService executorService = GraphQLConcurrencyUtils.newExecutorService(2, 10, false);
+    GraphQLConcurrencyUtils.setExecutorService(executorService);
+
+    final String threadName = GraphQLConcurrencyUtils.supplyAsync(() -> Thread.currentThread().getName()).get();
+
+    assertTrue(threadName.startsWith("graphql-"));
+    executorService.shutdown();
+  }
+
+  @Test
+  public void testSaturatedExecutorRunsOnCaller() throws Exception {
+    final ExecutorService executorService = GraphQLConcurrencyUtils.newExecutorService(1, 1, false);
+    GraphQLConcurrencyUtils.setExecutorService(executorService);
+    final CountDownLatch release = new CountDownLatch(1);
+
+    // Occupy the only thread, then the only queue slot.
+    GraphQLConcurrencyUtils.supplyAsync(() -> await(release));
+    GraphQLConcurrencyUtils.supplyAsync(() -> await(release));
+    final String threadName = GraphQLConcurrencyUtils.supplyAsync(() -> Thread.currentThread().getName()).get();
+
+    assertEquals(threadName, Thread.currentThread().getName());
+    release.countDown();
+    executorService.shutdown();
+    assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+  }
+
+  private static Boolean await(final CountDownLatch latch) {
+    try {
+      return latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
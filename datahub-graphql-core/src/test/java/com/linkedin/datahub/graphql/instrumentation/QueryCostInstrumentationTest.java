@@ -0,0 +1,87 @@
+package com.linkedin.datahub.graphql.instrumentation;
+
+import com.google.common.collect.ImmutableMap;
+import com.linkedin.datahub.graphql.GraphQLEngine;
+import com.linkedin.datahub.graphql.QueryContext;
+import graphql.ExecutionResult;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.mockito.Mockito;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class QueryCostInstrumentationTest {
+
+  private static final String SCHEMA = "type Query {\n"
+      + "  search(input: SearchInput!): SearchResults\n"
+      + "}\n"
+      + "input SearchInput {\n"
+      + "  query: String!\n"
+      + "  count: Int\n"
+      + "}\n"
+      + "type SearchResults {\n"
+      + "  results: [Result!]!\n"
+      + "}\n"
+      + "type Result {\n"
+      + "  name: String\n"
+      + "  description: String\n"
+      + "}\n";
+
+  private static final String QUERY = "query($count: Int) { search(input: { query: \"*\", count: $count }) "
+      + "{ results { name description } } }";
+
+  @Test
+  public void testComplexityLimit() {
+    // search (1 + extra) + count * (results (1) + name (1) + description (1))
+    final GraphQLEngine engine = engine().setMaxQueryComplexity(1 + DataHubFieldComplexityCalculator.EXPENSIVE_FIELD_COST + 30)
+        .build();
+
+    ExecutionResult result = engine.execute(QUERY, ImmutableMap.of("count", 10), mockContext());
+    assertTrue(result.getErrors().isEmpty(), result.getErrors().toString());
+
+    result = engine.execute(QUERY, ImmutableMap.of("count", 11), mockContext());
+    assertEquals(result.getErrors().size(), 1);
+    assertNull(result.getData());
+  }
+
+  @Test
+  public void testResolverBudget() {
+    final GraphQLEngine engine = engine().setQueryBudget(0, 5).build();
+
+    final ExecutionResult result = engine.execute(QUERY, ImmutableMap.of("count", 10), mockContext());
+
+    // The search itself and 4 descriptions are resolved, the remaining descriptions are truncated.
+    final List<Map<String, Object>> results = getResults(result);
+    assertEquals(results.stream().filter(r -> r.get("description") != null).count(), 4);
+    assertEquals(result.getErrors().size(), 6);
+    assertTrue(results.stream().allMatch(r -> r.get("name") != null));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Map<String, Object>> getResults(ExecutionResult result) {
+    final Map<String, Object> data = result.getData();
+    return (List<Map<String, Object>>) ((Map<String, Object>) data.get("search")).get("results");
+  }
+
+  private static GraphQLEngine.Builder engine() {
+    return GraphQLEngine.builder()
+        .addSchema(SCHEMA)
+        .configureRuntimeWiring(builder -> builder
+            .type("Query", typeWiring -> typeWiring.dataFetcher("search", env -> {
+              final Map<String, Object> input = env.getArgument("input");
+              final int count = (int) input.get("count");
+              return ImmutableMap.of("results", IntStream.range(0, count)
+                  .mapToObj(i -> ImmutableMap.of("name", "result" + i))
+                  .collect(Collectors.toList()));
+            }))
+            .type("Result", typeWiring -> typeWiring.dataFetcher("description", env -> "description")));
+  }
+
+  private static QueryContext mockContext() {
+    return Mockito.mock(QueryContext.class);
+  }
+}
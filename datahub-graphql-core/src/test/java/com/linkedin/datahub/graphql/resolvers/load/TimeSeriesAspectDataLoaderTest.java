@@ -0,0 +1,81 @@
+package com.linkedin.datahub.graphql.resolvers.load;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.aspect.EnvelopedAspect;
+import com.linkedin.metadata.authorization.PoliciesConfig;
+import com.linkedin.metadata.timeseries.TimeseriesAspectService;
+import java.util.Collections;
+import java.util.List;
+import org.mockito.Mockito;
+import org.testng.annotations.Test;
+
+import static com.linkedin.datahub.graphql.TestUtils.*;
+import static org.testng.Assert.*;
+
+
+public class TimeSeriesAspectDataLoaderTest {
+
+  private static final Urn TEST_URN_1 = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,test1,PROD)");
+  private static final Urn TEST_URN_2 = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,test2,PROD)");
+
+  @Test
+  public void testBatchLoadGroupsKeysByQuery() {
+    final TimeseriesAspectService service = Mockito.mock(TimeseriesAspectService.class);
+    final EnvelopedAspect profile1 = new EnvelopedAspect();
+    final EnvelopedAspect profile2 = new EnvelopedAspect();
+    final EnvelopedAspect operation = new EnvelopedAspect();
+    Mockito.when(service.batchGetAspectValues(ImmutableSet.of(TEST_URN_1, TEST_URN_2), "dataset", "datasetProfile",
+        null, null, 1, null, null))
+        .thenReturn(ImmutableMap.of(TEST_URN_1, ImmutableList.of(profile1), TEST_URN_2, ImmutableList.of(profile2)));
+    Mockito.when(service.batchGetAspectValues(ImmutableSet.of(TEST_URN_1), "dataset", "operation",
+        null, null, 1, null, null))
+        .thenReturn(ImmutableMap.of(TEST_URN_1, ImmutableList.of(operation)));
+
+    final TimeSeriesAspectDataLoader.Query profiles =
+        new TimeSeriesAspectDataLoader.Query("dataset", "datasetProfile", null, null, 1, null, null, null);
+    final TimeSeriesAspectDataLoader.Query operations =
+        new TimeSeriesAspectDataLoader.Query("dataset", "operation", null, null, 1, null, null, null);
+
+    final List<List<EnvelopedAspect>> results = TimeSeriesAspectDataLoader.batchLoad(service, getMockAllowContext(),
+        ImmutableList.of(
+            new TimeSeriesAspectDataLoader.Key(TEST_URN_1, profiles),
+            new TimeSeriesAspectDataLoader.Key(TEST_URN_1, operations),
+            new TimeSeriesAspectDataLoader.Key(TEST_URN_2, profiles)));
+
+    assertEquals(results, ImmutableList.of(
+        ImmutableList.of(profile1), ImmutableList.of(operation), ImmutableList.of(profile2)));
+    Mockito.verify(service, Mockito.times(2)).batchGetAspectValues(Mockito.any(), Mockito.any(), Mockito.any(),
+        Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+  }
+
+  @Test
+  public void testBatchLoadMissingUrn() {
+    final TimeseriesAspectService service = Mockito.mock(TimeseriesAspectService.class);
+    Mockito.when(service.batchGetAspectValues(ImmutableSet.of(TEST_URN_1), "dataset", "datasetProfile",
+        null, null, null, null, null))
+        .thenReturn(Collections.emptyMap());
+
+    final List<List<EnvelopedAspect>> results = TimeSeriesAspectDataLoader.batchLoad(service, getMockAllowContext(),
+        ImmutableList.of(new TimeSeriesAspectDataLoader.Key(TEST_URN_1,
+            new TimeSeriesAspectDataLoader.Query("dataset", "datasetProfile", null, null, null, null, null, null))));
+
+    assertEquals(results, ImmutableList.of(Collections.emptyList()));
+  }
+
+  @Test
+  public void testBatchLoadUnauthorized() {
+    final TimeseriesAspectService service = Mockito.mock(TimeseriesAspectService.class);
+
+    final List<List<EnvelopedAspect>> results = TimeSeriesAspectDataLoader.batchLoad(service, getMockDenyContext(),
+        ImmutableList.of(new TimeSeriesAspectDataLoader.Key(TEST_URN_1,
+            new TimeSeriesAspectDataLoader.Query("dataset", "datasetProfile", null, null, null, null, null,
+                PoliciesConfig.VIEW_DATASET_PROFILE_PRIVILEGE))));
+
+    assertEquals(results, ImmutableList.of(Collections.emptyList()));
+    Mockito.verifyNoInteractions(service);
+  }
+}
@@ -11,8 +11,10 @@ import com.linkedin.datahub.graphql.generated.OwnerInput;
 import com.linkedin.datahub.graphql.generated.OwnershipType;
 import com.linkedin.datahub.graphql.resolvers.mutate.AddOwnersResolver;
 import com.linkedin.datahub.graphql.resolvers.mutate.util.OwnerUtils;
+import com.linkedin.events.metadata.ChangeType;
 import com.linkedin.metadata.Constants;
 import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.mxe.MetadataChangeProposal;
 import graphql.schema.DataFetchingEnvironment;
 import java.util.concurrent.CompletionException;
 import org.mockito.Mockito;
@@ -61,8 +63,13 @@ public class AddOwnersResolverTest {
     Mockito.when(mockEnv.getContext()).thenReturn(mockContext);
     assertTrue(resolver.get(mockEnv).get());
 
-    // Unable to easily validate exact payload due to the injected timestamp
-    verifyIngestProposal(mockService, 1);
+    // Owners with a system ownership type are patched in, without reading the existing owners.
+    verifyPatchProposal(verifyIngestProposals(mockService, 1).get(0), Urn.createFromString(TEST_ENTITY_URN),
+        Constants.OWNERSHIP_ASPECT_NAME, ImmutableList.of(
+            "add /lastModified",
+            "add /owners/" + TEST_OWNER_1_URN + "/TECHNICAL_OWNER",
+            "add /owners/" + TEST_OWNER_2_URN + "/TECHNICAL_OWNER"
+        ));
 
     Mockito.verify(mockService, Mockito.times(1)).exists(
         Mockito.eq(Urn.createFromString(TEST_OWNER_1_URN))
@@ -73,6 +80,42 @@ public class AddOwnersResolverTest {
     );
   }
 
+  @Test
+  public void testGetSuccessCustomOwnershipType() throws Exception {
+    final String customOwnershipTypeUrn = "urn:li:ownershipType:my-custom-type";
+    EntityService mockService = Mockito.mock(EntityService.class);
+
+    Mockito.when(mockService.getAspect(
+        Mockito.eq(UrnUtils.getUrn(TEST_ENTITY_URN)),
+        Mockito.eq(Constants.OWNERSHIP_ASPECT_NAME),
+        Mockito.eq(0L)))
+        .thenReturn(null);
+
+    Mockito.when(mockService.exists(Urn.createFromString(TEST_ENTITY_URN))).thenReturn(true);
+    Mockito.when(mockService.exists(Urn.createFromString(TEST_OWNER_1_URN))).thenReturn(true);
+    Mockito.when(mockService.exists(Urn.createFromString(customOwnershipTypeUrn))).thenReturn(true);
+
+    AddOwnersResolver resolver = new AddOwnersResolver(mockService);
+
+    // Execute resolver
+    QueryContext mockContext = getMockAllowContext();
+    DataFetchingEnvironment mockEnv = Mockito.mock(DataFetchingEnvironment.class);
+    AddOwnersInput input = new AddOwnersInput(ImmutableList.of(
+        new OwnerInput(TEST_OWNER_1_URN, OwnerEntityType.CORP_USER, OwnershipType.CUSTOM, customOwnershipTypeUrn)
+    ), TEST_ENTITY_URN);
+    Mockito.when(mockEnv.getArgument(Mockito.eq("input"))).thenReturn(input);
+    Mockito.when(mockEnv.getContext()).thenReturn(mockContext);
+    assertTrue(resolver.get(mockEnv).get());
+
+    // Custom ownership types cannot be addressed by the ownership patch template, so the whole aspect is written.
+    final MetadataChangeProposal proposal = verifyIngestProposals(mockService, 1).get(0);
+    assertEquals(proposal.getChangeType(), ChangeType.UPSERT);
+    Mockito.verify(mockService, Mockito.times(1)).getAspect(
+        Mockito.eq(UrnUtils.getUrn(TEST_ENTITY_URN)),
+        Mockito.eq(Constants.OWNERSHIP_ASPECT_NAME),
+        Mockito.eq(0L));
+  }
+
   @Test
   public void testGetSuccessExistingOwners() throws Exception {
     EntityService mockService = Mockito.mock(EntityService.class);
@@ -107,7 +150,7 @@ public class AddOwnersResolverTest {
     assertTrue(resolver.get(mockEnv).get());
 
     // Unable to easily validate exact payload due to the injected timestamp
-    verifyIngestProposal(mockService, 1);
+    verifyIngestProposals(mockService, 1);
 
     Mockito.verify(mockService, Mockito.times(1)).exists(
         Mockito.eq(Urn.createFromString(TEST_OWNER_1_URN))
@@ -197,7 +240,7 @@ public class AddOwnersResolverTest {
   public void testGetEntityClientException() throws Exception {
     EntityService mockService = Mockito.mock(EntityService.class);
 
-    Mockito.doThrow(RuntimeException.class).when(mockService).ingestProposal(
+    Mockito.doThrow(RuntimeException.class).when(mockService).ingestProposals(
         Mockito.any(),
         Mockito.any(AuditStamp.class), Mockito.anyBoolean());
 
@@ -82,7 +82,7 @@ public class BatchAddOwnersResolverTest {
     Mockito.when(mockEnv.getContext()).thenReturn(mockContext);
     assertTrue(resolver.get(mockEnv).get());
 
-    verifyIngestProposal(mockService, 2);
+    verifyIngestProposals(mockService, 2);
 
     Mockito.verify(mockService, Mockito.times(1)).exists(
         Mockito.eq(Urn.createFromString(TEST_OWNER_URN_1))
@@ -150,7 +150,7 @@ public class BatchAddOwnersResolverTest {
     Mockito.when(mockEnv.getContext()).thenReturn(mockContext);
     assertTrue(resolver.get(mockEnv).get());
 
-    verifyIngestProposal(mockService, 2);
+    verifyIngestProposals(mockService, 2);
 
     Mockito.verify(mockService, Mockito.times(1)).exists(
         Mockito.eq(Urn.createFromString(TEST_OWNER_URN_1))
@@ -279,7 +279,7 @@ public class BatchAddOwnersResolverTest {
   public void testGetEntityClientException() throws Exception {
     EntityService mockService = Mockito.mock(EntityService.class);
 
-    Mockito.doThrow(RuntimeException.class).when(mockService).ingestProposal(
+    Mockito.doThrow(RuntimeException.class).when(mockService).ingestProposals(
         Mockito.any(),
         Mockito.any(AuditStamp.class), Mockito.anyBoolean());
 
@@ -14,7 +14,9 @@ import com.linkedin.datahub.graphql.generated.ResourceRefInput;
 import com.linkedin.datahub.graphql.resolvers.mutate.BatchRemoveOwnersResolver;
 import com.linkedin.metadata.Constants;
 import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.mxe.MetadataChangeProposal;
 import graphql.schema.DataFetchingEnvironment;
+import java.util.List;
 import java.util.concurrent.CompletionException;
 import org.mockito.Mockito;
 import org.testng.annotations.Test;
@@ -66,7 +68,18 @@ public class BatchRemoveOwnersResolverTest {
     Mockito.when(mockEnv.getContext()).thenReturn(mockContext);
     assertTrue(resolver.get(mockEnv).get());
 
-    verifyIngestProposal(mockService, 2);
+    // Owners of any type are removed by patch. Each owner is added before being removed, so that removing an owner
+    // which is not present does not fail the patch.
+    final List<MetadataChangeProposal> proposals = verifyIngestProposals(mockService, 2);
+    final List<String> operations = ImmutableList.of(
+        "add /lastModified",
+        "add /owners/" + TEST_OWNER_URN_1,
+        "remove /owners/" + TEST_OWNER_URN_1,
+        "add /owners/" + TEST_OWNER_URN_2,
+        "remove /owners/" + TEST_OWNER_URN_2
+    );
+    verifyPatchProposal(proposals.get(0), Urn.createFromString(TEST_ENTITY_URN_1), Constants.OWNERSHIP_ASPECT_NAME, operations);
+    verifyPatchProposal(proposals.get(1), Urn.createFromString(TEST_ENTITY_URN_2), Constants.OWNERSHIP_ASPECT_NAME, operations);
   }
 
   @Test
@@ -112,7 +125,7 @@ public class BatchRemoveOwnersResolverTest {
     Mockito.when(mockEnv.getContext()).thenReturn(mockContext);
     assertTrue(resolver.get(mockEnv).get());
 
-    verifyIngestProposal(mockService, 2);
+    verifyIngestProposals(mockService, 2);
   }
 
   @Test
@@ -174,7 +187,7 @@ public class BatchRemoveOwnersResolverTest {
   public void testGetEntityClientException() throws Exception {
     EntityService mockService = Mockito.mock(EntityService.class);
 
-    Mockito.doThrow(RuntimeException.class).when(mockService).ingestProposal(
+    Mockito.doThrow(RuntimeException.class).when(mockService).ingestProposals(
         Mockito.any(),
         Mockito.any(AuditStamp.class), Mockito.anyBoolean());
 
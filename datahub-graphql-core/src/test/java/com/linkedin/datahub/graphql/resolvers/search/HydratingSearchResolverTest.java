@@ -0,0 +1,147 @@
+package com.linkedin.datahub.graphql.resolvers.search;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.generated.Chart;
+import com.linkedin.datahub.graphql.generated.Dataset;
+import com.linkedin.datahub.graphql.generated.Entity;
+import com.linkedin.datahub.graphql.generated.EntityType;
+import com.linkedin.datahub.graphql.types.HydratableEntityType;
+import com.linkedin.entity.EntityResponse;
+import com.linkedin.entity.client.EntityClient;
+import graphql.execution.DataFetcherResult;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.SelectedField;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+import org.mockito.Mockito;
+import org.testng.annotations.Test;
+
+import static com.linkedin.datahub.graphql.TestUtils.*;
+import static org.testng.Assert.*;
+
+
+public class HydratingSearchResolverTest {
+
+  private static final Urn DATASET_URN = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,test,PROD)");
+  private static final Urn CHART_URN = UrnUtils.getUrn("urn:li:chart:(looker,test)");
+  private static final Set<String> DATASET_ASPECTS = ImmutableSet.of("datasetKey", "datasetProperties");
+
+  @Test
+  public void testHydratesResultsAcrossEntityTypesInOneBatch() throws Exception {
+    final EntityClient mockClient = Mockito.mock(EntityClient.class);
+    final Map<Urn, Set<String>> expectedAspects = new HashMap<>();
+    expectedAspects.put(DATASET_URN, DATASET_ASPECTS);
+    // The chart type fetches all of its aspects
+    expectedAspects.put(CHART_URN, null);
+    Mockito.when(mockClient.batchGetV2(Mockito.eq(expectedAspects), Mockito.any())).thenReturn(ImmutableMap.of(
+        DATASET_URN, new EntityResponse().setUrn(DATASET_URN),
+        CHART_URN, new EntityResponse().setUrn(CHART_URN)));
+
+    final Dataset hydratedDataset = new Dataset();
+    hydratedDataset.setUrn(DATASET_URN.toString());
+    final Chart hydratedChart = new Chart();
+    hydratedChart.setUrn(CHART_URN.toString());
+    final HydratableEntityType<Dataset> datasetType = mockType(Dataset.class, DATASET_ASPECTS, hydratedDataset);
+    final HydratableEntityType<Chart> chartType = mockType(Chart.class, null, hydratedChart);
+
+    final DataLoaderRegistry registry = new DataLoaderRegistry();
+    registry.register("Dataset", failingDataLoader());
+    registry.register("Chart", failingDataLoader());
+    final DataFetchingEnvironment mockEnv = mockEnvironment(registry, "name");
+
+    final List<Entity> results = ImmutableList.of(searchDataset(DATASET_URN), searchChart(CHART_URN));
+    final HydratingSearchResolver<List<Entity>> resolver = new HydratingSearchResolver<>(
+        env -> CompletableFuture.completedFuture(results), Function.identity(), mockClient,
+        ImmutableList.<com.linkedin.datahub.graphql.types.EntityType<?, ?>>of(datasetType, chartType));
+
+    assertEquals(resolver.get(mockEnv).join(), results);
+
+    // Both types are fetched in a single batch, and resolved from the primed DataLoaders
+    Mockito.verify(mockClient, Mockito.times(1)).batchGetV2(Mockito.anyMap(), Mockito.any());
+    Mockito.verify(mockClient, Mockito.never())
+        .batchGetV2(Mockito.anyString(), Mockito.anySet(), Mockito.any(), Mockito.any());
+    final DataLoader<String, DataFetcherResult<Dataset>> datasetLoader = registry.getDataLoader("Dataset");
+    assertEquals(datasetLoader.load(DATASET_URN.toString()).getNow(null).getData(), hydratedDataset);
+    final DataLoader<String, DataFetcherResult<Chart>> chartLoader = registry.getDataLoader("Chart");
+    assertEquals(chartLoader.load(CHART_URN.toString()).getNow(null).getData(), hydratedChart);
+  }
+
+  @Test
+  public void testSkipsHydrationWhenOnlySelectingIdentityFields() throws Exception {
+    final EntityClient mockClient = Mockito.mock(EntityClient.class);
+    final HydratableEntityType<Dataset> datasetType = mockType(Dataset.class, DATASET_ASPECTS, new Dataset());
+    final DataLoaderRegistry registry = new DataLoaderRegistry();
+    registry.register("Dataset", failingDataLoader());
+    final DataFetchingEnvironment mockEnv = mockEnvironment(registry, "urn", "type");
+
+    final List<Entity> results = ImmutableList.of(searchDataset(DATASET_URN));
+    final HydratingSearchResolver<List<Entity>> resolver = new HydratingSearchResolver<>(
+        env -> CompletableFuture.completedFuture(results), Function.identity(), mockClient,
+        ImmutableList.<com.linkedin.datahub.graphql.types.EntityType<?, ?>>of(datasetType));
+
+    assertEquals(resolver.get(mockEnv).join(), results);
+    Mockito.verify(mockClient, Mockito.never()).batchGetV2(Mockito.anyMap(), Mockito.any());
+  }
+
+  private static Dataset searchDataset(Urn urn) {
+    final Dataset dataset = new Dataset();
+    dataset.setUrn(urn.toString());
+    dataset.setType(EntityType.DATASET);
+    return dataset;
+  }
+
+  private static Chart searchChart(Urn urn) {
+    final Chart chart = new Chart();
+    chart.setUrn(urn.toString());
+    chart.setType(EntityType.CHART);
+    return chart;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T extends Entity> HydratableEntityType<T> mockType(Class<T> objectClass, Set<String> aspects,
+      T hydratedEntity) {
+    final HydratableEntityType<T> mockType = Mockito.mock(HydratableEntityType.class);
+    Mockito.when(mockType.objectClass()).thenReturn(objectClass);
+    Mockito.when(mockType.name()).thenReturn(objectClass.getSimpleName());
+    Mockito.when(mockType.getKeyProvider()).thenReturn(Entity::getUrn);
+    Mockito.when(mockType.getAspectsToFetch()).thenReturn(aspects);
+    Mockito.when(mockType.mapEntityResponse(Mockito.any(), Mockito.any())).thenReturn(hydratedEntity);
+    return mockType;
+  }
+
+  private static <T> DataLoader<String, DataFetcherResult<T>> failingDataLoader() {
+    return DataLoader.newDataLoader(keys -> {
+      throw new AssertionError("Search results should not be loaded one type at a time");
+    });
+  }
+
+  private static DataFetchingEnvironment mockEnvironment(DataLoaderRegistry registry, String... selectedFields) {
+    final QueryContext mockContext = getMockAllowContext();
+    final DataFetchingFieldSelectionSet mockSelectionSet = Mockito.mock(DataFetchingFieldSelectionSet.class);
+    final ImmutableList.Builder<SelectedField> fields = ImmutableList.builder();
+    for (String selectedField : selectedFields) {
+      final SelectedField mockField = Mockito.mock(SelectedField.class);
+      Mockito.when(mockField.getName()).thenReturn(selectedField);
+      fields.add(mockField);
+    }
+    Mockito.when(mockSelectionSet.getFields("searchResults/entity/*")).thenReturn(fields.build());
+
+    final DataFetchingEnvironment mockEnv = Mockito.mock(DataFetchingEnvironment.class);
+    Mockito.when(mockEnv.getContext()).thenReturn(mockContext);
+    Mockito.when(mockEnv.getSelectionSet()).thenReturn(mockSelectionSet);
+    Mockito.when(mockEnv.getDataLoaderRegistry()).thenReturn(registry);
+    return mockEnv;
+  }
+}
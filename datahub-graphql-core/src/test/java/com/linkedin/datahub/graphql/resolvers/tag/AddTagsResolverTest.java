@@ -11,7 +11,6 @@ import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.generated.AddTagsInput;
 import com.linkedin.datahub.graphql.resolvers.mutate.AddTagsResolver;
-import com.linkedin.datahub.graphql.resolvers.mutate.MutationUtils;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.mxe.MetadataChangeProposal;
 import graphql.schema.DataFetchingEnvironment;
@@ -57,15 +56,13 @@ public class AddTagsResolverTest {
     Mockito.when(mockEnv.getContext()).thenReturn(mockContext);
     assertTrue(resolver.get(mockEnv).get());
 
-    final GlobalTags newTags = new GlobalTags().setTags(new TagAssociationArray(ImmutableList.of(
-        new TagAssociation().setTag(TagUrn.createFromString(TEST_TAG_1_URN)),
-        new TagAssociation().setTag(TagUrn.createFromString(TEST_TAG_2_URN))
-    )));
-
-    final MetadataChangeProposal proposal = MutationUtils.buildMetadataChangeProposalWithUrn(Urn.createFromString(TEST_ENTITY_URN),
-        GLOBAL_TAGS_ASPECT_NAME, newTags);
-
-    verifyIngestProposal(mockService, 1, proposal);
+    // Tags are patched in, without reading the existing tags.
+    final MetadataChangeProposal proposal = verifyIngestProposals(mockService, 1).get(0);
+    verifyPatchProposal(proposal, Urn.createFromString(TEST_ENTITY_URN), GLOBAL_TAGS_ASPECT_NAME, ImmutableList.of(
+        "add /tags/" + TEST_TAG_1_URN + "/tag",
+        "add /tags/" + TEST_TAG_2_URN + "/tag"
+    ));
+    assertEquals(getPatch(proposal).get(0).get("value").asText(), TEST_TAG_1_URN);
 
     Mockito.verify(mockService, Mockito.times(1)).exists(
         Mockito.eq(Urn.createFromString(TEST_TAG_1_URN))
@@ -79,7 +76,7 @@ public class AddTagsResolverTest {
   @Test
   public void testGetSuccessExistingTags() throws Exception {
     GlobalTags originalTags = new GlobalTags().setTags(new TagAssociationArray(ImmutableList.of(
-        new TagAssociation().setTag(TagUrn.createFromString(TEST_TAG_1_URN))))
+        new TagAssociation().setTag(TagUrn.createFromString(TEST_TAG_1_URN)).setContext("test-context")))
     );
 
     EntityService mockService = Mockito.mock(EntityService.class);
@@ -107,15 +104,13 @@ public class AddTagsResolverTest {
     Mockito.when(mockEnv.getContext()).thenReturn(mockContext);
     assertTrue(resolver.get(mockEnv).get());
 
-    final GlobalTags newTags = new GlobalTags().setTags(new TagAssociationArray(ImmutableList.of(
-        new TagAssociation().setTag(TagUrn.createFromString(TEST_TAG_1_URN)),
-        new TagAssociation().setTag(TagUrn.createFromString(TEST_TAG_2_URN))
-    )));
-
-    final MetadataChangeProposal proposal = MutationUtils.buildMetadataChangeProposalWithUrn(Urn.createFromString(TEST_ENTITY_URN),
-        GLOBAL_TAGS_ASPECT_NAME, newTags);
-
-    verifyIngestProposal(mockService, 1, proposal);
+    // Only the key of each tag is patched in, so the existing association and its context are kept, without reading them.
+    final MetadataChangeProposal proposal = verifyIngestProposals(mockService, 1).get(0);
+    verifyPatchProposal(proposal, Urn.createFromString(TEST_ENTITY_URN), GLOBAL_TAGS_ASPECT_NAME, ImmutableList.of(
+        "add /tags/" + TEST_TAG_1_URN + "/tag",
+        "add /tags/" + TEST_TAG_2_URN + "/tag"
+    ));
+    Mockito.verify(mockService, Mockito.never()).getAspect(Mockito.any(), Mockito.any(), Mockito.anyLong());
 
     Mockito.verify(mockService, Mockito.times(1)).exists(
         Mockito.eq(Urn.createFromString(TEST_TAG_1_URN))
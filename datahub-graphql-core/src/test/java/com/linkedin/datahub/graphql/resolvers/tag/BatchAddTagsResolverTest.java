@@ -12,11 +12,11 @@ import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.generated.BatchAddTagsInput;
 import com.linkedin.datahub.graphql.generated.ResourceRefInput;
 import com.linkedin.datahub.graphql.resolvers.mutate.BatchAddTagsResolver;
-import com.linkedin.datahub.graphql.resolvers.mutate.MutationUtils;
 import com.linkedin.metadata.Constants;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.mxe.MetadataChangeProposal;
 import graphql.schema.DataFetchingEnvironment;
+import java.util.List;
 import java.util.concurrent.CompletionException;
 import org.mockito.Mockito;
 import org.testng.annotations.Test;
@@ -71,20 +71,14 @@ public class BatchAddTagsResolverTest {
     Mockito.when(mockEnv.getContext()).thenReturn(mockContext);
     assertTrue(resolver.get(mockEnv).get());
 
-    final GlobalTags newTags = new GlobalTags().setTags(new TagAssociationArray(ImmutableList.of(
-        new TagAssociation().setTag(TagUrn.createFromString(TEST_TAG_1_URN)),
-        new TagAssociation().setTag(TagUrn.createFromString(TEST_TAG_2_URN))
-    )));
-
-    final MetadataChangeProposal proposal1 = MutationUtils.buildMetadataChangeProposalWithUrn(Urn.createFromString(TEST_ENTITY_URN_1),
-        GLOBAL_TAGS_ASPECT_NAME, newTags);
-
-    verifyIngestProposal(mockService, 1, proposal1);
-
-    final MetadataChangeProposal proposal2 = MutationUtils.buildMetadataChangeProposalWithUrn(Urn.createFromString(TEST_ENTITY_URN_2),
-        GLOBAL_TAGS_ASPECT_NAME, newTags);
-
-    verifyIngestProposal(mockService, 1, proposal2);
+    // Both resources are patched in a single batch.
+    final List<MetadataChangeProposal> proposals = verifyIngestProposals(mockService, 2);
+    final List<String> operations = ImmutableList.of(
+        "add /tags/" + TEST_TAG_1_URN + "/tag",
+        "add /tags/" + TEST_TAG_2_URN + "/tag"
+    );
+    verifyPatchProposal(proposals.get(0), Urn.createFromString(TEST_ENTITY_URN_1), GLOBAL_TAGS_ASPECT_NAME, operations);
+    verifyPatchProposal(proposals.get(1), Urn.createFromString(TEST_ENTITY_URN_2), GLOBAL_TAGS_ASPECT_NAME, operations);
 
     Mockito.verify(mockService, Mockito.times(1)).exists(
         Mockito.eq(Urn.createFromString(TEST_TAG_1_URN))
@@ -136,20 +130,14 @@ public class BatchAddTagsResolverTest {
     Mockito.when(mockEnv.getContext()).thenReturn(mockContext);
     assertTrue(resolver.get(mockEnv).get());
 
-    final GlobalTags newTags = new GlobalTags().setTags(new TagAssociationArray(ImmutableList.of(
-        new TagAssociation().setTag(TagUrn.createFromString(TEST_TAG_1_URN)),
-        new TagAssociation().setTag(TagUrn.createFromString(TEST_TAG_2_URN))
-    )));
-
-    final MetadataChangeProposal proposal1 = MutationUtils.buildMetadataChangeProposalWithUrn(Urn.createFromString(TEST_ENTITY_URN_1),
-        GLOBAL_TAGS_ASPECT_NAME, newTags);
-
-    verifyIngestProposal(mockService, 1, proposal1);
-
-    final MetadataChangeProposal proposal2 = MutationUtils.buildMetadataChangeProposalWithUrn(Urn.createFromString(TEST_ENTITY_URN_2),
-        GLOBAL_TAGS_ASPECT_NAME, newTags);
-
-    verifyIngestProposal(mockService, 1, proposal2);
+    // Both resources are patched in a single batch. The tag already present keeps its association.
+    final List<MetadataChangeProposal> proposals = verifyIngestProposals(mockService, 2);
+    final List<String> operations = ImmutableList.of(
+        "add /tags/" + TEST_TAG_1_URN + "/tag",
+        "add /tags/" + TEST_TAG_2_URN + "/tag"
+    );
+    verifyPatchProposal(proposals.get(0), Urn.createFromString(TEST_ENTITY_URN_1), GLOBAL_TAGS_ASPECT_NAME, operations);
+    verifyPatchProposal(proposals.get(1), Urn.createFromString(TEST_ENTITY_URN_2), GLOBAL_TAGS_ASPECT_NAME, operations);
 
     Mockito.verify(mockService, Mockito.times(1)).exists(
         Mockito.eq(Urn.createFromString(TEST_TAG_1_URN))
@@ -259,7 +247,7 @@ public class BatchAddTagsResolverTest {
   public void testGetEntityClientException() throws Exception {
     EntityService mockService = Mockito.mock(EntityService.class);
 
-    Mockito.doThrow(RuntimeException.class).when(mockService).ingestProposal(
+    Mockito.doThrow(RuntimeException.class).when(mockService).ingestProposals(
         Mockito.any(),
         Mockito.any(AuditStamp.class), Mockito.anyBoolean());
 
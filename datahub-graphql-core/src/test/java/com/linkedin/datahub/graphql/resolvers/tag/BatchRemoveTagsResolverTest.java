@@ -12,14 +12,11 @@ import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.generated.BatchRemoveTagsInput;
 import com.linkedin.datahub.graphql.generated.ResourceRefInput;
 import com.linkedin.datahub.graphql.resolvers.mutate.BatchRemoveTagsResolver;
-import com.linkedin.datahub.graphql.resolvers.mutate.MutationUtils;
-import com.linkedin.events.metadata.ChangeType;
 import com.linkedin.metadata.Constants;
 import com.linkedin.metadata.entity.EntityService;
-import com.linkedin.metadata.utils.GenericRecordUtils;
 import com.linkedin.mxe.MetadataChangeProposal;
 import graphql.schema.DataFetchingEnvironment;
-import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletionException;
 import org.mockito.Mockito;
 import org.testng.annotations.Test;
@@ -72,25 +69,17 @@ public class BatchRemoveTagsResolverTest {
     Mockito.when(mockEnv.getContext()).thenReturn(mockContext);
     assertTrue(resolver.get(mockEnv).get());
 
-    final GlobalTags emptyTags = new GlobalTags().setTags(new TagAssociationArray(Collections.emptyList()));
-
-    final MetadataChangeProposal proposal1 = MutationUtils.buildMetadataChangeProposalWithUrn(Urn.createFromString(TEST_ENTITY_URN_1),
-        GLOBAL_TAGS_ASPECT_NAME, emptyTags);
-
-    Mockito.verify(mockService, Mockito.times(1)).ingestProposal(
-        Mockito.eq(proposal1),
-        Mockito.any(AuditStamp.class), Mockito.eq(false)
+    // Both resources are patched in a single batch. Each tag is added before being removed, so that removing a tag
+    // which is not present does not fail the patch.
+    final List<MetadataChangeProposal> proposals = verifyIngestProposals(mockService, 2);
+    final List<String> operations = ImmutableList.of(
+        "add /tags/" + TEST_TAG_1_URN,
+        "remove /tags/" + TEST_TAG_1_URN,
+        "add /tags/" + TEST_TAG_2_URN,
+        "remove /tags/" + TEST_TAG_2_URN
     );
-
-    final MetadataChangeProposal proposal2 = MutationUtils.buildMetadataChangeProposalWithUrn(Urn.createFromString(TEST_ENTITY_URN_2),
-        GLOBAL_TAGS_ASPECT_NAME, emptyTags);
-    proposal2.setEntityUrn(Urn.createFromString(TEST_ENTITY_URN_2));
-    proposal2.setEntityType(Constants.DATASET_ENTITY_NAME);
-    proposal2.setAspectName(Constants.GLOBAL_TAGS_ASPECT_NAME);
-    proposal2.setAspect(GenericRecordUtils.serializeAspect(emptyTags));
-    proposal2.setChangeType(ChangeType.UPSERT);
-
-    verifyIngestProposal(mockService, 1, proposal2);
+    verifyPatchProposal(proposals.get(0), Urn.createFromString(TEST_ENTITY_URN_1), GLOBAL_TAGS_ASPECT_NAME, operations);
+    verifyPatchProposal(proposals.get(1), Urn.createFromString(TEST_ENTITY_URN_2), GLOBAL_TAGS_ASPECT_NAME, operations);
   }
 
   @Test
@@ -139,20 +128,17 @@ public class BatchRemoveTagsResolverTest {
     Mockito.when(mockEnv.getContext()).thenReturn(mockContext);
     assertTrue(resolver.get(mockEnv).get());
 
-    final GlobalTags emptyTags = new GlobalTags().setTags(new TagAssociationArray(Collections.emptyList()));
-
-    final MetadataChangeProposal proposal1 = MutationUtils.buildMetadataChangeProposalWithUrn(Urn.createFromString(TEST_ENTITY_URN_1),
-        GLOBAL_TAGS_ASPECT_NAME, emptyTags);
-
-    Mockito.verify(mockService, Mockito.times(1)).ingestProposal(
-        Mockito.eq(proposal1),
-        Mockito.any(AuditStamp.class), Mockito.eq(false)
+    // Both resources are patched in a single batch. Each tag is added before being removed, so that removing a tag
+    // which is not present does not fail the patch.
+    final List<MetadataChangeProposal> proposals = verifyIngestProposals(mockService, 2);
+    final List<String> operations = ImmutableList.of(
+        "add /tags/" + TEST_TAG_1_URN,
+        "remove /tags/" + TEST_TAG_1_URN,
+        "add /tags/" + TEST_TAG_2_URN,
+        "remove /tags/" + TEST_TAG_2_URN
     );
-
-    final MetadataChangeProposal proposal2 = MutationUtils.buildMetadataChangeProposalWithUrn(Urn.createFromString(TEST_ENTITY_URN_2),
-        GLOBAL_TAGS_ASPECT_NAME, emptyTags);
-
-    verifyIngestProposal(mockService, 1, proposal2);
+    verifyPatchProposal(proposals.get(0), Urn.createFromString(TEST_ENTITY_URN_1), GLOBAL_TAGS_ASPECT_NAME, operations);
+    verifyPatchProposal(proposals.get(1), Urn.createFromString(TEST_ENTITY_URN_2), GLOBAL_TAGS_ASPECT_NAME, operations);
   }
 
   @Test
@@ -222,7 +208,7 @@ public class BatchRemoveTagsResolverTest {
   public void testGetEntityClientException() throws Exception {
     EntityService mockService = Mockito.mock(EntityService.class);
 
-    Mockito.doThrow(RuntimeException.class).when(mockService).ingestProposal(
+    Mockito.doThrow(RuntimeException.class).when(mockService).ingestProposals(
         Mockito.any(),
         Mockito.any(AuditStamp.class), Mockito.anyBoolean());
 
@@ -13,7 +13,6 @@ import com.linkedin.datahub.graphql.generated.AddTermsInput;
 import com.linkedin.datahub.graphql.resolvers.mutate.AddTermsResolver;
 import com.linkedin.metadata.Constants;
 import com.linkedin.metadata.entity.EntityService;
-import com.linkedin.mxe.MetadataChangeProposal;
 import graphql.schema.DataFetchingEnvironment;
 import java.util.concurrent.CompletionException;
 import org.mockito.Mockito;
@@ -56,11 +55,13 @@ public class AddTermsResolverTest {
     Mockito.when(mockEnv.getContext()).thenReturn(mockContext);
     assertTrue(resolver.get(mockEnv).get());
 
-    // Unable to easily validate exact payload due to the injected timestamp
-    Mockito.verify(mockService, Mockito.times(1)).ingestProposal(
-        Mockito.any(MetadataChangeProposal.class),
-        Mockito.any(AuditStamp.class), Mockito.eq(false)
-    );
+    // Terms are patched in, without reading the existing terms.
+    verifyPatchProposal(verifyIngestProposals(mockService, 1).get(0), Urn.createFromString(TEST_ENTITY_URN),
+        Constants.GLOSSARY_TERMS_ASPECT_NAME, ImmutableList.of(
+            "add /auditStamp",
+            "add /terms/" + TEST_TERM_1_URN + "/urn",
+            "add /terms/" + TEST_TERM_2_URN + "/urn"
+        ));
 
     Mockito.verify(mockService, Mockito.times(1)).exists(
         Mockito.eq(Urn.createFromString(TEST_TERM_1_URN))
@@ -74,7 +75,8 @@ public class AddTermsResolverTest {
   @Test
   public void testGetSuccessExistingTerms() throws Exception {
     GlossaryTerms originalTerms = new GlossaryTerms().setTerms(new GlossaryTermAssociationArray(ImmutableList.of(
-        new GlossaryTermAssociation().setUrn(GlossaryTermUrn.createFromString(TEST_TERM_1_URN))))
+        new GlossaryTermAssociation().setUrn(GlossaryTermUrn.createFromString(TEST_TERM_1_URN))
+            .setContext("test-context")))
     );
 
     EntityService mockService = Mockito.mock(EntityService.class);
@@ -102,11 +104,14 @@ public class AddTermsResolverTest {
     Mockito.when(mockEnv.getContext()).thenReturn(mockContext);
     assertTrue(resolver.get(mockEnv).get());
 
-    // Unable to easily validate exact payload due to the injected timestamp
-    Mockito.verify(mockService, Mockito.times(1)).ingestProposal(
-        Mockito.any(MetadataChangeProposal.class),
-        Mockito.any(AuditStamp.class), Mockito.eq(false)
-    );
+    // Only the key of each term is patched in, so the existing association and its context are kept, without reading them.
+    verifyPatchProposal(verifyIngestProposals(mockService, 1).get(0), Urn.createFromString(TEST_ENTITY_URN),
+        Constants.GLOSSARY_TERMS_ASPECT_NAME, ImmutableList.of(
+            "add /auditStamp",
+            "add /terms/" + TEST_TERM_1_URN + "/urn",
+            "add /terms/" + TEST_TERM_2_URN + "/urn"
+        ));
+    Mockito.verify(mockService, Mockito.never()).getAspect(Mockito.any(), Mockito.any(), Mockito.anyLong());
 
     Mockito.verify(mockService, Mockito.times(1)).exists(
         Mockito.eq(Urn.createFromString(TEST_TERM_1_URN))
@@ -202,7 +207,7 @@ public class AddTermsResolverTest {
   public void testGetEntityClientException() throws Exception {
     EntityService mockService = Mockito.mock(EntityService.class);
 
-    Mockito.doThrow(RuntimeException.class).when(mockService).ingestProposal(
+    Mockito.doThrow(RuntimeException.class).when(mockService).ingestProposals(
         Mockito.any(),
         Mockito.any(AuditStamp.class), Mockito.anyBoolean());
 
@@ -3,6 +3,7 @@ package com.linkedin.datahub.upgrade;
 import com.linkedin.datahub.upgrade.system.SystemUpdate;
 import com.linkedin.datahub.upgrade.system.elasticsearch.BuildIndices;
 import com.linkedin.datahub.upgrade.impl.DefaultUpgradeManager;
+import com.linkedin.datahub.upgrade.encodeaspects.EncodeAspects;
 import com.linkedin.datahub.upgrade.system.elasticsearch.CleanIndices;
 import com.linkedin.datahub.upgrade.nocode.NoCodeUpgrade;
 import com.linkedin.datahub.upgrade.nocodecleanup.NoCodeCleanupUpgrade;
@@ -64,6 +65,10 @@ public class UpgradeCli implements CommandLineRunner {
   @Named("systemUpdate")
   private SystemUpdate systemUpdate;
 
+  @Inject
+  @Named("encodeAspects")
+  private EncodeAspects encodeAspects;
+
   @Override
   public void run(String... cmdLineArgs) {
     _upgradeManager.register(noCodeUpgrade);
@@ -74,6 +79,7 @@ public class UpgradeCli implements CommandLineRunner {
     _upgradeManager.register(buildIndices);
     _upgradeManager.register(cleanIndices);
     _upgradeManager.register(systemUpdate);
+    _upgradeManager.register(encodeAspects);
 
     final Args args = new Args();
     new CommandLine(args).setCaseInsensitiveEnumValuesAllowed(true).parseArgs(cmdLineArgs);
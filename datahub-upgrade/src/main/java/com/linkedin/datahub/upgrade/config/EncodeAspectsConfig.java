@@ -0,0 +1,25 @@
+package com.linkedin.datahub.upgrade.config;
+
+import com.linkedin.datahub.upgrade.encodeaspects.EncodeAspects;
+import io.ebean.EbeanServer;
+import javax.annotation.Nonnull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+
+
+@Configuration
+public class EncodeAspectsConfig {
+  @Autowired
+  ApplicationContext applicationContext;
+
+  @Bean(name = "encodeAspects")
+  @DependsOn({"ebeanServer"})
+  @Nonnull
+  public EncodeAspects createInstance() {
+    final EbeanServer ebeanServer = applicationContext.getBean(EbeanServer.class);
+    return new EncodeAspects(ebeanServer);
+  }
+}
@@ -0,0 +1,53 @@
+package com.linkedin.datahub.upgrade.encodeaspects;
+
+import com.google.common.collect.ImmutableList;
+import com.linkedin.datahub.upgrade.Upgrade;
+import com.linkedin.datahub.upgrade.UpgradeCleanupStep;
+import com.linkedin.datahub.upgrade.UpgradeStep;
+import io.ebean.EbeanServer;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Converts the aspects & system metadata stored in the aspect table to another format, see
+ * {@link com.linkedin.metadata.entity.AspectCodec}. Rows already in the target format are left as they are, so the
+ * upgrade may be re-run after a failure.
+ *
+ * Rows are read and rewritten without locking them, so ingestion should be paused while the upgrade runs.
+ *
+ * A GMS from before the PSON formats cannot read PSON or PSON_DEFLATE rows. Run the upgrade with format JSON before
+ * downgrading to such a version.
+ */
+public class EncodeAspects implements Upgrade {
+  public static final String FORMAT_ARG_NAME = "format";
+  public static final String BATCH_SIZE_ARG_NAME = "batchSize";
+  public static final String ASPECT_NAME_ARG_NAME = "aspectName";
+
+  private final List<UpgradeStep> _steps;
+
+  public EncodeAspects(final EbeanServer server) {
+    _steps = buildSteps(server);
+  }
+
+  @Override
+  public String id() {
+    return "EncodeAspects";
+  }
+
+  @Override
+  public List<UpgradeStep> steps() {
+    return _steps;
+  }
+
+  private List<UpgradeStep> buildSteps(final EbeanServer server) {
+    final List<UpgradeStep> steps = new ArrayList<>();
+    steps.add(new EncodeAspectsStep(server));
+    return steps;
+  }
+
+  @Override
+  public List<UpgradeCleanupStep> cleanupSteps() {
+    return ImmutableList.of();
+  }
+}
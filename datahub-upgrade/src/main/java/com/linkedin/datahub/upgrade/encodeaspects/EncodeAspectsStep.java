@@ -0,0 +1,150 @@
+package com.linkedin.datahub.upgrade.encodeaspects;
+
+import com.linkedin.datahub.upgrade.UpgradeContext;
+import com.linkedin.datahub.upgrade.UpgradeStep;
+import com.linkedin.datahub.upgrade.UpgradeStepResult;
+import com.linkedin.datahub.upgrade.impl.DefaultUpgradeStepResult;
+import com.linkedin.metadata.entity.AspectCodec;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import io.ebean.EbeanServer;
+import io.ebean.ExpressionList;
+import io.ebean.Transaction;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+
+@Slf4j
+public class EncodeAspectsStep implements UpgradeStep {
+
+  private static final int DEFAULT_BATCH_SIZE = 1000;
+  private static final AspectCodec.Format DEFAULT_FORMAT = AspectCodec.Format.PSON_DEFLATE;
+
+  private final EbeanServer _server;
+
+  public EncodeAspectsStep(final EbeanServer server) {
+    _server = server;
+  }
+
+  @Override
+  public String id() {
+    return "EncodeAspectsStep";
+  }
+
+  @Override
+  public int retryCount() {
+    return 0;
+  }
+
+  @Override
+  public Function<UpgradeContext, UpgradeStepResult> executable() {
+    return (context) -> {
+      final AspectCodec.Format format = getFormat(context.parsedArgs());
+      final int batchSize = getBatchSize(context.parsedArgs());
+      final Optional<String> aspectName = getArg(context.parsedArgs(), EncodeAspects.ASPECT_NAME_ARG_NAME);
+      context.report().addLine(String.format("Converting aspects to %s in batches of %s", format, batchSize));
+
+      final long startTime = System.currentTimeMillis();
+      EbeanAspectV2.PrimaryKey lastKey = null;
+      int rowsRead = 0;
+      int rowsConverted = 0;
+      int rowsFailed = 0;
+      List<EbeanAspectV2> rows;
+      do {
+        // The page is read and locked in the transaction which rewrites it, so concurrent writes to these rows wait
+        // for the conversion rather than being overwritten by it.
+        try (Transaction transaction = _server.beginTransaction()) {
+          transaction.setBatchMode(true);
+          transaction.setBatchSize(batchSize);
+          rows = findPageForUpdate(aspectName, lastKey, batchSize);
+          for (EbeanAspectV2 row : rows) {
+            try {
+              final String metadata = AspectCodec.convert(row.getMetadata(), format);
+              final String systemMetadata = row.getSystemMetadata() == null || row.getSystemMetadata().isEmpty()
+                  ? row.getSystemMetadata() : AspectCodec.convert(row.getSystemMetadata(), format);
+              if (!metadata.equals(row.getMetadata()) || !systemMetadata.equals(row.getSystemMetadata())) {
+                row.setMetadata(metadata);
+                row.setSystemMetadata(systemMetadata);
+                _server.update(row, transaction);
+                rowsConverted++;
+              }
+            } catch (Exception e) {
+              log.error("Failed to convert aspect {} of {} at version {}", row.getAspect(), row.getUrn(),
+                  row.getVersion(), e);
+              rowsFailed++;
+            }
+          }
+          transaction.commit();
+        }
+
+        if (!rows.isEmpty()) {
+          lastKey = rows.get(rows.size() - 1).getKey();
+        }
+        rowsRead += rows.size();
+        context.report().addLine(String.format("Converted %s rows of %s read in %.2f minutes. %s rows failed.",
+            rowsConverted, rowsRead, (float) (System.currentTimeMillis() - startTime) / 1000 / 60, rowsFailed));
+      } while (rows.size() == batchSize);
+
+      if (rowsFailed > 0) {
+        context.report().addLine(String.format("Failed to convert %s rows", rowsFailed));
+        return new DefaultUpgradeStepResult(id(), UpgradeStepResult.Result.FAILED);
+      }
+      return new DefaultUpgradeStepResult(id(), UpgradeStepResult.Result.SUCCEEDED);
+    };
+  }
+
+  /**
+   * Reads and locks the page of rows following the given key, in primary key order. Paging by key rather than by
+   * offset keeps the cost of a page constant, and does not skip rows when rows before the page are inserted or deleted.
+   */
+  private List<EbeanAspectV2> findPageForUpdate(final Optional<String> aspectName,
+      @Nullable final EbeanAspectV2.PrimaryKey lastKey, final int batchSize) {
+    ExpressionList<EbeanAspectV2> exp = _server.find(EbeanAspectV2.class)
+        .select(EbeanAspectV2.ALL_COLUMNS)
+        .where();
+    if (aspectName.isPresent()) {
+      exp = exp.eq(EbeanAspectV2.ASPECT_COLUMN, aspectName.get());
+    }
+    if (lastKey != null) {
+      exp = exp.or()
+          .gt(EbeanAspectV2.URN_COLUMN, lastKey.getUrn())
+          .and()
+          .eq(EbeanAspectV2.URN_COLUMN, lastKey.getUrn())
+          .or()
+          .gt(EbeanAspectV2.ASPECT_COLUMN, lastKey.getAspect())
+          .and()
+          .eq(EbeanAspectV2.ASPECT_COLUMN, lastKey.getAspect())
+          .gt(EbeanAspectV2.VERSION_COLUMN, lastKey.getVersion())
+          .endAnd()
+          .endOr()
+          .endAnd()
+          .endOr();
+    }
+    return exp.orderBy()
+        .asc(EbeanAspectV2.URN_COLUMN)
+        .orderBy()
+        .asc(EbeanAspectV2.ASPECT_COLUMN)
+        .orderBy()
+        .asc(EbeanAspectV2.VERSION_COLUMN)
+        .setMaxRows(batchSize)
+        .forUpdate()
+        .findList();
+  }
+
+  private static AspectCodec.Format getFormat(final Map<String, Optional<String>> parsedArgs) {
+    return getArg(parsedArgs, EncodeAspects.FORMAT_ARG_NAME)
+        .map(format -> AspectCodec.Format.valueOf(format.toUpperCase()))
+        .orElse(DEFAULT_FORMAT);
+  }
+
+  private static int getBatchSize(final Map<String, Optional<String>> parsedArgs) {
+    return getArg(parsedArgs, EncodeAspects.BATCH_SIZE_ARG_NAME).map(Integer::parseInt).orElse(DEFAULT_BATCH_SIZE);
+  }
+
+  private static Optional<String> getArg(final Map<String, Optional<String>> parsedArgs, final String argName) {
+    return parsedArgs.containsKey(argName) ? parsedArgs.get(argName) : Optional.empty();
+  }
+}
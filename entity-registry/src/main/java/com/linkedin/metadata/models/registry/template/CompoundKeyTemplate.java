@@ -28,10 +28,12 @@ public abstract class CompoundKeyTemplate<T extends RecordTemplate> implements A
       // Skip first as it will always be blank due to path starting with /, skip last key as we only need to populate top level
       JsonNode parent = transformedNodeClone;
       for (int i = 1; i < keys.length - 1; i++) {
-        if (parent.get(keys[i]) == null) {
-          ((ObjectNode) parent).set(keys[i], instance.objectNode());
+        // Keys are JSON Pointer tokens, where e.g. the slashes of an urn are escaped
+        final String key = keys[i].replace("~1", "/").replace("~0", "~");
+        if (parent.get(key) == null) {
+          ((ObjectNode) parent).set(key, instance.objectNode());
         }
-        parent = parent.get(keys[i]);
+        parent = parent.get(key);
       }
     }
 
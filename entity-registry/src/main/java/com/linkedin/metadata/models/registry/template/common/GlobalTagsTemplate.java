@@ -4,12 +4,12 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.linkedin.common.GlobalTags;
 import com.linkedin.common.TagAssociationArray;
 import com.linkedin.data.template.RecordTemplate;
-import com.linkedin.metadata.models.registry.template.ArrayMergingTemplate;
+import com.linkedin.metadata.models.registry.template.CompoundKeyTemplate;
 import java.util.Collections;
 import javax.annotation.Nonnull;
 
 
-public class GlobalTagsTemplate implements ArrayMergingTemplate<GlobalTags> {
+public class GlobalTagsTemplate extends CompoundKeyTemplate<GlobalTags> {
 
   private static final String TAGS_FIELD_NAME = "tags";
   private static final String TAG_FIELD_NAME = "tag";
@@ -7,7 +7,7 @@ import com.linkedin.common.GlossaryTermAssociationArray;
 import com.linkedin.common.GlossaryTerms;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.data.template.RecordTemplate;
-import com.linkedin.metadata.models.registry.template.ArrayMergingTemplate;
+import com.linkedin.metadata.models.registry.template.CompoundKeyTemplate;
 import java.util.Collections;
 import javax.annotation.Nonnull;
 
@@ -15,7 +15,7 @@ import static com.fasterxml.jackson.databind.node.JsonNodeFactory.*;
 import static com.linkedin.metadata.Constants.*;
 
 
-public class GlossaryTermsTemplate implements ArrayMergingTemplate<GlossaryTerms> {
+public class GlossaryTermsTemplate extends CompoundKeyTemplate<GlossaryTerms> {
 
   private static final String TERMS_FIELD_NAME = "terms";
   private static final String URN_FIELD_NAME = "urn";
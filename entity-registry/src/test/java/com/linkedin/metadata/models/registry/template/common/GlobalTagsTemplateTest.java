@@ -0,0 +1,51 @@
+package com.linkedin.metadata.models.registry.template.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fge.jsonpatch.JsonPatch;
+import com.linkedin.common.GlobalTags;
+import com.linkedin.common.TagAssociation;
+import com.linkedin.common.TagAssociationArray;
+import com.linkedin.common.urn.TagUrn;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class GlobalTagsTemplateTest {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  @Test
+  public void testAddKeyKeepsExistingAssociation() throws Exception {
+    final GlobalTagsTemplate template = new GlobalTagsTemplate();
+    final GlobalTags tags = new GlobalTags().setTags(new TagAssociationArray(Collections.singletonList(
+        new TagAssociation().setTag(TagUrn.createFromString("urn:li:tag:existing")).setContext("context"))));
+
+    // Adding the key field alone creates a missing association, and leaves an existing one as is
+    final JsonPatch patch = JsonPatch.fromJson(OBJECT_MAPPER.readTree("["
+        + "{\"op\": \"add\", \"path\": \"/tags/urn:li:tag:existing/tag\", \"value\": \"urn:li:tag:existing\"},"
+        + "{\"op\": \"add\", \"path\": \"/tags/urn:li:tag:new/tag\", \"value\": \"urn:li:tag:new\"}]"));
+    final GlobalTags patched = template.applyPatch(tags, patch);
+
+    final Map<String, TagAssociation> associations = new HashMap<>();
+    patched.getTags().forEach(association -> associations.put(association.getTag().toString(), association));
+    assertEquals(associations.size(), 2);
+    assertEquals(associations.get("urn:li:tag:existing").getContext(), "context");
+    assertFalse(associations.get("urn:li:tag:new").hasContext());
+  }
+
+  @Test
+  public void testAddKeyWithEscapedToken() throws Exception {
+    final GlobalTagsTemplate template = new GlobalTagsTemplate();
+
+    final JsonPatch patch = JsonPatch.fromJson(OBJECT_MAPPER.readTree(
+        "[{\"op\": \"add\", \"path\": \"/tags/urn:li:tag:a~1b/tag\", \"value\": \"urn:li:tag:a/b\"}]"));
+    final GlobalTags patched = template.applyPatch(template.getDefault(), patch);
+
+    assertEquals(patched.getTags().size(), 1);
+    assertEquals(patched.getTags().get(0).getTag().toString(), "urn:li:tag:a/b");
+  }
+}
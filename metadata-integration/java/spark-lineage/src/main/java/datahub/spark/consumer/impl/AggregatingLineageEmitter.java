@@ -0,0 +1,222 @@
+package datahub.spark.consumer.impl;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.linkedin.common.urn.DataJobUrn;
+import com.linkedin.common.urn.DatasetUrn;
+import com.linkedin.data.template.StringMap;
+import com.linkedin.datajob.DataJobInfo;
+import com.linkedin.datajob.JobStatus;
+import com.linkedin.mxe.MetadataChangeProposal;
+import com.typesafe.config.Config;
+
+import datahub.client.patch.datajob.DataJobInputOutputPatchBuilder;
+import datahub.event.MetadataChangeProposalWrapper;
+import datahub.spark.model.AppEndEvent;
+import datahub.spark.model.AppStartEvent;
+import datahub.spark.model.DatasetLineage;
+import datahub.spark.model.LineageEvent;
+import datahub.spark.model.SQLQueryExecStartEvent;
+import datahub.spark.model.dataset.SparkDataset;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Emitter that keeps an in-memory dataset lineage graph per application and periodically emits only the edges that
+ * were discovered since the last flush, as a PATCH on the application's single data job.
+ *
+ * Unlike {@link CoalesceJobsEmitter}, lineage stays current while the application is running, and unlike
+ * {@link McpEmitter}, repeated executions over the same datasets (streaming micro-batches, looping ETL) do not produce
+ * any additional MCPs.
+ */
+@Slf4j
+public class AggregatingLineageEmitter extends McpEmitter {
+
+  public static final String FLUSH_INTERVAL_KEY = "aggregate_lineage_flush_interval_sec";
+  private static final long DEFAULT_FLUSH_INTERVAL_SEC = 60;
+  private static final String PARENT_JOB_KEY = "parent.datajob_urn";
+
+  private final String parentJobUrn;
+  private final long flushIntervalSec;
+
+  // Sink dataset -> deduped source datasets, across all executions of the application.
+  private final Map<DatasetUrn, Set<DatasetUrn>> lineageGraph = new TreeMap<>(new DataSetUrnComparator());
+  private final Set<DatasetUrn> emittedInputs = new TreeSet<>(new DataSetUrnComparator());
+  private final Set<DatasetUrn> emittedOutputs = new TreeSet<>(new DataSetUrnComparator());
+  private final Set<DatasetUrn> pendingInputs = new TreeSet<>(new DataSetUrnComparator());
+  private final Set<DatasetUrn> pendingOutputs = new TreeSet<>(new DataSetUrnComparator());
+
+  private AppStartEvent appStartEvent = null;
+  private boolean jobInfoEmitted = false;
+  private ScheduledExecutorService scheduler = null;
+
+  public AggregatingLineageEmitter(Config datahubConf) {
+    super(datahubConf);
+    parentJobUrn = datahubConf.hasPath(PARENT_JOB_KEY) ? datahubConf.getString(PARENT_JOB_KEY) : null;
+    flushIntervalSec = datahubConf.hasPath(FLUSH_INTERVAL_KEY) ? datahubConf.getLong(FLUSH_INTERVAL_KEY)
+        : DEFAULT_FLUSH_INTERVAL_SEC;
+    log.info("AggregatingLineageEmitter initialised with " + FLUSH_INTERVAL_KEY + ":" + flushIntervalSec);
+  }
+
+  @Override
+  public void accept(LineageEvent evt) {
+    if (evt instanceof AppStartEvent) {
+      synchronized (this) {
+        this.appStartEvent = (AppStartEvent) evt;
+      }
+      log.debug("AppstartEvent received for processing: " + appStartEvent.getAppId());
+      emit(evt.asMetadataEvents());
+      startScheduler();
+    } else if (evt instanceof SQLQueryExecStartEvent) {
+      SQLQueryExecStartEvent sqlQueryExecStartEvent = (SQLQueryExecStartEvent) evt;
+      log.debug("SQLQueryExecStartEvent received for processing. for app: " + sqlQueryExecStartEvent.getAppId() + ":"
+          + sqlQueryExecStartEvent.getAppName() + "sqlID: " + sqlQueryExecStartEvent.getSqlQueryExecId());
+      addLineage(sqlQueryExecStartEvent.getDatasetLineage());
+    } else if (evt instanceof AppEndEvent) {
+      AppEndEvent appEndEvent = (AppEndEvent) evt;
+      if (appStartEvent == null) {
+        log.error("Application End event received for processing but start event is not received for processing for "
+            + appEndEvent.getAppId() + "-" + appEndEvent.getAppName());
+        return;
+      }
+      log.debug("AppEndEvent received for processing. for app start :" + appEndEvent.getAppId());
+      stopScheduler();
+      flush();
+      emit(appEndEvent.asMetadataEvents());
+      emit(Collections.singletonList(jobInfo(JobStatus.COMPLETED, appEndEvent)));
+    }
+  }
+
+  /**
+   * Merges the lineage of a single execution into the application graph, remembering only edges not seen before.
+   */
+  synchronized void addLineage(DatasetLineage lineage) {
+    if (lineage == null || lineage.getSink() == null) {
+      return;
+    }
+    DatasetUrn sink = lineage.getSink().urn();
+    Set<DatasetUrn> sources = lineageGraph.computeIfAbsent(sink, k -> new TreeSet<>(new DataSetUrnComparator()));
+    if (!emittedOutputs.contains(sink)) {
+      pendingOutputs.add(sink);
+    }
+    for (SparkDataset source : lineage.getSources()) {
+      DatasetUrn sourceUrn = source.urn();
+      if (sources.add(sourceUrn) && !emittedInputs.contains(sourceUrn)) {
+        pendingInputs.add(sourceUrn);
+      }
+    }
+  }
+
+  /**
+   * Emits the edges discovered since the previous flush. Nothing is sent when the graph has not changed.
+   */
+  void flush() {
+    List<MetadataChangeProposal> patches = new ArrayList<>();
+    MetadataChangeProposalWrapper jobInfo = null;
+    synchronized (this) {
+      if (appStartEvent == null || (pendingInputs.isEmpty() && pendingOutputs.isEmpty())) {
+        return;
+      }
+      DataJobInputOutputPatchBuilder patchBuilder = new DataJobInputOutputPatchBuilder().urn(jobUrn());
+      pendingInputs.forEach(patchBuilder::addInputDatasetEdge);
+      pendingOutputs.forEach(patchBuilder::addOutputDatasetEdge);
+      if (!jobInfoEmitted) {
+        DataJobUrn parent = parentJobUrn();
+        if (parent != null) {
+          patchBuilder.addInputDatajobEdge(parent);
+        }
+        jobInfo = jobInfo(JobStatus.IN_PROGRESS, null);
+        jobInfoEmitted = true;
+      }
+      log.debug("Flushing lineage delta for app {}: {} new inputs, {} new outputs", appStartEvent.getAppId(),
+          pendingInputs.size(), pendingOutputs.size());
+      emittedInputs.addAll(pendingInputs);
+      emittedOutputs.addAll(pendingOutputs);
+      pendingInputs.clear();
+      pendingOutputs.clear();
+      patches.add(patchBuilder.build());
+    }
+    if (jobInfo != null) {
+      emit(Collections.singletonList(jobInfo));
+    }
+    emitProposals(patches);
+  }
+
+  private void startScheduler() {
+    if (scheduler != null || flushIntervalSec <= 0) {
+      return;
+    }
+    scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, "datahub-lineage-flush");
+      t.setDaemon(true);
+      return t;
+    });
+    scheduler.scheduleWithFixedDelay(() -> {
+      try {
+        flush();
+      } catch (Exception e) {
+        // log error, but keep the timer alive
+        log.error("Failed to flush aggregated lineage", e);
+      }
+    }, flushIntervalSec, flushIntervalSec, TimeUnit.SECONDS);
+  }
+
+  private void stopScheduler() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+      scheduler = null;
+    }
+  }
+
+  private DataJobUrn jobUrn() {
+    return new DataJobUrn(appStartEvent.getFlowUrn(), appStartEvent.getAppName());
+  }
+
+  private DataJobUrn parentJobUrn() {
+    if (parentJobUrn == null) {
+      return null;
+    }
+    try {
+      return DataJobUrn.createFromString(parentJobUrn);
+    } catch (URISyntaxException e) {
+      log.warn(PARENT_JOB_KEY + " is not a valid URN. Skipping setting up upstream job.");
+    } catch (ClassCastException e) {
+      log.warn(PARENT_JOB_KEY + " is not a valid Datajob URN. Skipping setting up upstream job.");
+    }
+    return null;
+  }
+
+  private MetadataChangeProposalWrapper<?> jobInfo(JobStatus status, AppEndEvent appEndEvent) {
+    StringMap customProps = new StringMap();
+    customProps.put("startedAt", appStartEvent.timeStr());
+    customProps.put("appId", appStartEvent.getAppId());
+    customProps.put("appName", appStartEvent.getAppName());
+    if (appEndEvent != null) {
+      customProps.put("completedAt", appEndEvent.timeStr());
+    }
+
+    DataJobInfo jobInfo = new DataJobInfo().setName(appStartEvent.getAppName())
+        .setType(DataJobInfo.Type.create("sparkJob"));
+    jobInfo.setCustomProperties(customProps);
+    jobInfo.setStatus(status);
+    DataJobUrn jobUrn = jobUrn();
+    return MetadataChangeProposalWrapper
+        .create(b -> b.entityType("dataJob").entityUrn(jobUrn).upsert().aspect(jobInfo));
+  }
+
+  @Override
+  public void close() throws IOException {
+    stopScheduler();
+    super.close();
+  }
+}
@@ -5,11 +5,15 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import com.typesafe.config.Config;
 
+import com.linkedin.mxe.MetadataChangeProposal;
+
 import datahub.client.Emitter;
+import datahub.client.MetadataWriteResponse;
 import datahub.client.rest.RestEmitter;
 import datahub.client.rest.RestEmitterConfig;
 import datahub.event.MetadataChangeProposalWrapper;
@@ -47,7 +51,7 @@ public class McpEmitter implements LineageConsumer {
   protected void emit(List<MetadataChangeProposalWrapper> mcpws) {
     Optional<Emitter> emitter = getEmitter();
     if (emitter.isPresent()) {
-      mcpws.stream().map(mcpw -> {
+      waitForResponses(mcpws.stream().map(mcpw -> {
         try {
           log.debug("emitting mcpw: " + mcpw);
           return emitter.get().emit(mcpw);
@@ -55,19 +59,46 @@ public class McpEmitter implements LineageConsumer {
           log.error("Failed to emit metadata to DataHub", ioException);
           return null;
         }
-      }).filter(Objects::nonNull).collect(Collectors.toList()).forEach(future -> {
+      }).filter(Objects::nonNull).collect(Collectors.toList()));
+      closeEmitter(emitter.get());
+    }
+  }
+
+  /**
+   * Emits raw proposals, e.g. PATCH proposals produced by the datahub-client patch builders.
+   */
+  protected void emitProposals(List<MetadataChangeProposal> mcps) {
+    Optional<Emitter> emitter = getEmitter();
+    if (emitter.isPresent()) {
+      waitForResponses(mcps.stream().map(mcp -> {
         try {
-          log.info(future.get().toString());
-        } catch (InterruptedException | ExecutionException e) {
-          // log error, but don't impact thread
-          log.error("Failed to emit metadata to DataHub", e);
+          log.debug("emitting mcp: " + mcp);
+          return emitter.get().emit(mcp);
+        } catch (IOException ioException) {
+          log.error("Failed to emit metadata to DataHub", ioException);
+          return null;
         }
-      });
+      }).filter(Objects::nonNull).collect(Collectors.toList()));
+      closeEmitter(emitter.get());
+    }
+  }
+
+  private void waitForResponses(List<Future<MetadataWriteResponse>> futures) {
+    futures.forEach(future -> {
       try {
-        emitter.get().close();
-      } catch (IOException e) {
-        log.error("Issue while closing emitter" + e);
+        log.info(future.get().toString());
+      } catch (InterruptedException | ExecutionException e) {
+        // log error, but don't impact thread
+        log.error("Failed to emit metadata to DataHub", e);
       }
+    });
+  }
+
+  private void closeEmitter(Emitter emitter) {
+    try {
+      emitter.close();
+    } catch (IOException e) {
+      log.error("Issue while closing emitter" + e);
     }
   }
 
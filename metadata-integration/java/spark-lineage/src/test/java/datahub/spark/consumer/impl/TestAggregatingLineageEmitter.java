@@ -0,0 +1,90 @@
+package datahub.spark.consumer.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.linkedin.common.FabricType;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.mxe.MetadataChangeProposal;
+import com.typesafe.config.ConfigFactory;
+
+import datahub.event.MetadataChangeProposalWrapper;
+import datahub.spark.model.AppEndEvent;
+import datahub.spark.model.AppStartEvent;
+import datahub.spark.model.DatasetLineage;
+import datahub.spark.model.SQLQueryExecStartEvent;
+import datahub.spark.model.dataset.HdfsPathDataset;
+
+public class TestAggregatingLineageEmitter {
+
+  private static class RecordingEmitter extends AggregatingLineageEmitter {
+    private final List<MetadataChangeProposalWrapper> mcpws = new ArrayList<>();
+    private final List<MetadataChangeProposal> patches = new ArrayList<>();
+
+    RecordingEmitter() {
+      super(ConfigFactory.parseString(FLUSH_INTERVAL_KEY + " = 0"));
+    }
+
+    @Override
+    protected void emit(List<MetadataChangeProposalWrapper> mcpws) {
+      this.mcpws.addAll(mcpws);
+    }
+
+    @Override
+    protected void emitProposals(List<MetadataChangeProposal> mcps) {
+      this.patches.addAll(mcps);
+    }
+  }
+
+  private static HdfsPathDataset dataset(String path) {
+    return new HdfsPathDataset(path, null, "hdfs", FabricType.PROD);
+  }
+
+  private static SQLQueryExecStartEvent execution(long id, String sink, String... sources) {
+    DatasetLineage lineage = new DatasetLineage("call site", "plan", dataset(sink));
+    for (String source : sources) {
+      lineage.addSource(dataset(source));
+    }
+    return new SQLQueryExecStartEvent("local", "app", "app-1", 0L, id, lineage);
+  }
+
+  @Test
+  public void testOnlyNewEdgesAreFlushed() {
+    RecordingEmitter emitter = new RecordingEmitter();
+    AppStartEvent start = new AppStartEvent("local", "app", "app-1", 0L, "user", ConfigFactory.empty());
+    emitter.accept(start);
+    int startMcps = emitter.mcpws.size();
+
+    emitter.accept(execution(1, "sink_x", "src_a", "src_b"));
+    emitter.accept(execution(2, "sink_x", "src_a"));
+    emitter.flush();
+    assertEquals(1, emitter.patches.size());
+    assertEquals(ChangeType.PATCH, emitter.patches.get(0).getChangeType());
+    String patch = emitter.patches.get(0).getAspect().getValue().asString(StandardCharsets.UTF_8);
+    assertTrue(patch.contains("src_a") && patch.contains("src_b") && patch.contains("sink_x"));
+    // job info is sent with the first delta only
+    assertEquals(startMcps + 1, emitter.mcpws.size());
+
+    // Repeating the same lineage does not emit anything
+    emitter.accept(execution(3, "sink_x", "src_b", "src_a"));
+    emitter.flush();
+    assertEquals(1, emitter.patches.size());
+
+    // A new source produces a delta containing just that edge
+    emitter.accept(execution(4, "sink_x", "src_c"));
+    emitter.flush();
+    assertEquals(2, emitter.patches.size());
+    String delta = emitter.patches.get(1).getAspect().getValue().asString(StandardCharsets.UTF_8);
+    assertTrue(delta.contains("src_c"));
+    assertTrue(!delta.contains("src_a") && !delta.contains("sink_x"));
+
+    emitter.accept(new AppEndEvent("local", "app", "app-1", 1L, start));
+    assertEquals(2, emitter.patches.size());
+  }
+}
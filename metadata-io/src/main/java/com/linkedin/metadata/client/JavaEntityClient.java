@@ -53,6 +53,7 @@ import com.linkedin.r2.RemoteInvocationException;
 import io.opentelemetry.extension.annotations.WithSpan;
 import java.net.URISyntaxException;
 import java.time.Clock;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -120,6 +121,21 @@ public class JavaEntityClient implements EntityClient {
         return _entityService.getEntitiesV2(entityName, urns, projectedAspects);
     }
 
+    /**
+     * Reads the urns of every entity type in a single batch get, instead of one batch get per entity type.
+     */
+    @Nonnull
+    @Override
+    public Map<Urn, EntityResponse> batchGetV2(
+        @Nonnull final Map<Urn, Set<String>> aspectNamesByUrn,
+        @Nonnull final Authentication authentication) throws URISyntaxException {
+        final Map<Urn, Set<String>> projectedAspectsByUrn = new HashMap<>();
+        aspectNamesByUrn.forEach((urn, aspectNames) -> projectedAspectsByUrn.put(urn, aspectNames == null
+            ? _entityService.getEntityAspectNames(urn.getEntityType())
+            : aspectNames));
+        return _entityService.getEntitiesV2(projectedAspectsByUrn);
+    }
+
     @Nonnull
     public Map<Urn, EntityResponse> batchGetVersionedV2(
         @Nonnull String entityName,
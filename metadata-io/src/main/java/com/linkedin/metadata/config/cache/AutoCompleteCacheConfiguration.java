@@ -0,0 +1,12 @@
+package com.linkedin.metadata.config.cache;
+
+import lombok.Data;
+
+
+@Data
+public class AutoCompleteCacheConfiguration {
+  boolean enabled;
+  int maxEntriesPerEntity;
+  int maxPrefixLength;
+  long refreshIntervalSeconds;
+}
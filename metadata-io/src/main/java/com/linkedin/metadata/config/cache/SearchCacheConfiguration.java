@@ -6,4 +6,5 @@ import lombok.Data;
 @Data
 public class SearchCacheConfiguration {
   SearchLineageCacheConfiguration lineage;
+  AutoCompleteCacheConfiguration autoComplete;
 }
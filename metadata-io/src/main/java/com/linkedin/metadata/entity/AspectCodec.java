@@ -0,0 +1,131 @@
+package com.linkedin.metadata.entity;
+
+import com.datahub.util.RecordUtils;
+import com.datahub.util.exception.ModelConversionException;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.JacksonDataCodec;
+import com.linkedin.data.codec.PsonDataCodec;
+import com.linkedin.data.template.RecordTemplate;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Base64;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import javax.annotation.Nonnull;
+
+
+/**
+ * Encodes aspects and system metadata as stored in the metadata and systemmetadata columns of the aspect table.
+ *
+ * Values are stored as JSON by default. They may instead be stored as PSON, the Pegasus binary encoding of a
+ * {@link DataMap}, optionally deflated. The columns are text, so binary values are base64 encoded and prefixed with a
+ * marker naming their format. JSON values always start with '{', so the format of every row is known when it is read,
+ * and rows stay readable whichever format new rows are written in.
+ */
+public class AspectCodec {
+
+  /**
+   * Format in which values are stored.
+   */
+  public enum Format {
+    JSON,
+    PSON,
+    PSON_DEFLATE
+  }
+
+  private static final String PSON_MARKER = "#pson:";
+  private static final String PSON_DEFLATE_MARKER = "#psonz:";
+  private static final JacksonDataCodec JSON_CODEC = new JacksonDataCodec();
+
+  private AspectCodec() {
+  }
+
+  @Nonnull
+  public static String encode(@Nonnull final RecordTemplate record, @Nonnull final Format format) {
+    if (format == Format.JSON) {
+      return RecordUtils.toJsonString(record);
+    }
+    return encode(record.data(), format);
+  }
+
+  @Nonnull
+  public static Format getFormat(@Nonnull final String value) {
+    if (value.startsWith(PSON_DEFLATE_MARKER)) {
+      return Format.PSON_DEFLATE;
+    }
+    if (value.startsWith(PSON_MARKER)) {
+      return Format.PSON;
+    }
+    return Format.JSON;
+  }
+
+  @Nonnull
+  public static <T extends RecordTemplate> T decode(@Nonnull final Class<T> type, @Nonnull final String value) {
+    if (getFormat(value) == Format.JSON) {
+      return RecordUtils.toRecordTemplate(type, value);
+    }
+    return RecordUtils.toRecordTemplate(type, decode(value));
+  }
+
+  /**
+   * Returns a stored value as JSON, e.g. to diff two versions of an aspect.
+   */
+  @Nonnull
+  public static String toJson(@Nonnull final String value) {
+    if (getFormat(value) == Format.JSON) {
+      return value;
+    }
+    try {
+      return JSON_CODEC.mapToString(decode(value));
+    } catch (IOException e) {
+      throw new ModelConversionException("Failed to serialize DataMap to JSON", e);
+    }
+  }
+
+  /**
+   * Returns a stored value in the given format, or the value itself if it is in that format already.
+   */
+  @Nonnull
+  public static String convert(@Nonnull final String value, @Nonnull final Format format) {
+    final Format currentFormat = getFormat(value);
+    if (currentFormat == format) {
+      return value;
+    }
+    if (format == Format.JSON) {
+      return toJson(value);
+    }
+    final DataMap dataMap;
+    try {
+      dataMap = currentFormat == Format.JSON ? JSON_CODEC.stringToMap(value) : decode(value);
+    } catch (IOException e) {
+      throw new ModelConversionException("Failed to deserialize DataMap: " + value);
+    }
+    return encode(dataMap, format);
+  }
+
+  private static String encode(final DataMap dataMap, final Format format) {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (OutputStream out = format == Format.PSON_DEFLATE ? new DeflaterOutputStream(bytes) : bytes) {
+      new PsonDataCodec().writeMap(dataMap, out);
+    } catch (IOException e) {
+      throw new ModelConversionException("Failed to serialize DataMap to PSON", e);
+    }
+    final String marker = format == Format.PSON_DEFLATE ? PSON_DEFLATE_MARKER : PSON_MARKER;
+    return marker + Base64.getEncoder().encodeToString(bytes.toByteArray());
+  }
+
+  private static DataMap decode(final String value) {
+    final Format format = getFormat(value);
+    final String marker = format == Format.PSON_DEFLATE ? PSON_DEFLATE_MARKER : PSON_MARKER;
+    final byte[] bytes = Base64.getDecoder().decode(value.substring(marker.length()));
+    try (InputStream in = format == Format.PSON_DEFLATE
+        ? new InflaterInputStream(new ByteArrayInputStream(bytes)) : new ByteArrayInputStream(bytes)) {
+      return new PsonDataCodec().readMap(in);
+    } catch (IOException e) {
+      throw new ModelConversionException("Failed to deserialize DataMap from " + format, e);
+    }
+  }
+}
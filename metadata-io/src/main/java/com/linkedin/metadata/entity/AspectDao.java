@@ -8,9 +8,11 @@ import io.ebean.PagedList;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
@@ -41,9 +43,23 @@ public interface AspectDao {
     @Nonnull
     List<EntityAspect> getAspectsInRange(@Nonnull Urn urn, Set<String> aspectNames, long startTimeMillis, long endTimeMillis);
 
+    /**
+     * Passes every version of the given aspects created within [startTimeMillis, endTimeMillis) to the consumer, without
+     * holding them all in memory. The versions of each aspect are passed in order, oldest first, i.e. the latest
+     * version (0) last. Versions of different aspects may be interleaved.
+     */
+    void forEachAspectInRange(@Nonnull Urn urn, @Nonnull Set<String> aspectNames, long startTimeMillis,
+        long endTimeMillis, @Nonnull Consumer<EntityAspect> consumer);
+
     @Nullable
     EntityAspect getLatestAspect(@Nonnull final String urn, @Nonnull final String aspectName);
 
+    /**
+     * Returns true if the latest version of any of the given aspects exists for the urn. Implementations should only
+     * read the primary key, not the aspect metadata.
+     */
+    boolean exists(@Nonnull final String urn, @Nonnull final Set<String> aspectNames);
+
     void saveAspect(
         @Nonnull final String urn,
         @Nonnull final String aspectName,
@@ -74,6 +90,18 @@ public interface AspectDao {
 
     void deleteAspect(@Nonnull final EntityAspect aspect);
 
+    /**
+     * Deletes the given aspect versions, in as few statements as the storage allows.
+     */
+    void deleteAspects(@Nonnull final Collection<EntityAspectIdentifier> keys);
+
+    /**
+     * Returns every version but the latest of the given aspects of each urn. Only the key and the system metadata of the
+     * returned {@link EntityAspect}s are populated: the aspect metadata is not fetched.
+     */
+    @Nonnull
+    List<EntityAspect> getPreviousVersionSummaries(@Nonnull final Map<String, Set<String>> aspectNamesByUrn);
+
     @Nonnull
     ListResult<String> listUrns(
         @Nonnull final String entityName,
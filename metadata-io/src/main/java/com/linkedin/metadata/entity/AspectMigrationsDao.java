@@ -1,6 +1,7 @@
 package com.linkedin.metadata.entity;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 /**
  * This interface is a split-off from {@link AspectDao} to segregate the methods that are only called by data migration
@@ -18,6 +19,17 @@ public interface AspectMigrationsDao {
   @Nonnull
   Iterable<String> listAllUrns(final int start, final int pageSize);
 
+  /**
+   * Return a page of URNs in the database, following the given URN in the order of the underlying store. Unlike
+   * {@link #listAllUrns}, the cost of a page does not grow with its position, and no URN is skipped when the URNs of
+   * earlier pages are deleted while paging.
+   * @param lastUrn Last URN of the previous page, or null for the first page.
+   * @param pageSize Number of records in a page.
+   * @return An iterable of {@code String} URNs.
+   */
+  @Nonnull
+  Iterable<String> listUrnsAfter(@Nullable final String lastUrn, final int pageSize);
+
   /**
    * Return the count of entities (unique URNs) in the database.
    * @return Count of entities.
@@ -0,0 +1,123 @@
+package com.linkedin.metadata.entity;
+
+import com.codahale.metrics.Timer;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * A per-node negative cache of entity existence, used by {@link EntityService#exists} to answer lookups of entities
+ * which do not exist without querying the database.
+ *
+ * The filter is a Bloom filter over the urns of every entity in the database. It is rebuilt periodically from
+ * {@link AspectMigrationsDao#listUrnsAfter}, and every urn written through this node is added as it is ingested. A Bloom
+ * filter has no false negatives, so an urn it does not contain was not in the database when the filter was built,
+ * nor has it been written through this node since. Until the first build completes, every urn may exist.
+ *
+ * Writes made by other nodes are only picked up by the next rebuild, so on deployments with more than one GMS an
+ * entity created elsewhere may be reported as missing for up to one rebuild interval. Deleted entities are never
+ * removed from the filter until the next rebuild; lookups of those fall through to the database.
+ */
+@Slf4j
+public class EntityExistenceFilter {
+
+  private final AspectMigrationsDao _migrationsDao;
+  private final int _expectedInsertions;
+  private final double _falsePositiveProbability;
+  private final int _pageSize;
+
+  // The filter answering lookups, or null until the first build completes.
+  @Nullable
+  private volatile BloomFilter<CharSequence> _filter;
+  // The filter being built, or null if no build is in flight. Receives ingested urns as well, so they are not lost
+  // when it replaces the current filter.
+  @Nullable
+  private volatile BloomFilter<CharSequence> _building;
+
+  public EntityExistenceFilter(
+      @Nonnull final AspectMigrationsDao migrationsDao,
+      final int expectedInsertions,
+      final double falsePositiveProbability,
+      final int pageSize) {
+    _migrationsDao = migrationsDao;
+    _expectedInsertions = expectedInsertions;
+    _falsePositiveProbability = falsePositiveProbability;
+    _pageSize = pageSize;
+  }
+
+  /**
+   * Builds the filter in the background now, then every {@code rebuildIntervalSeconds}.
+   */
+  public void start(final long rebuildIntervalSeconds) {
+    final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      final Thread thread = new Thread(runnable, "entity-existence-filter");
+      thread.setDaemon(true);
+      return thread;
+    });
+    executor.scheduleAtFixedRate(() -> {
+      try {
+        rebuild();
+      } catch (Exception e) {
+        log.error("Failed to rebuild the entity existence filter. Keeping the previous filter.", e);
+      }
+    }, 0, rebuildIntervalSeconds, TimeUnit.SECONDS);
+  }
+
+  /**
+   * Returns false if the entity definitely does not exist, true if it may exist.
+   */
+  public boolean mightExist(@Nonnull final String urn) {
+    final BloomFilter<CharSequence> filter = _filter;
+    return filter == null || filter.mightContain(urn);
+  }
+
+  /**
+   * Records that an entity has been written. Must be invoked before the write is visible to readers.
+   */
+  public void put(@Nonnull final String urn) {
+    // Read in the reverse order of the writes in rebuild(), so an urn put during the swap reaches the new filter.
+    final BloomFilter<CharSequence> building = _building;
+    if (building != null) {
+      building.put(urn);
+    }
+    final BloomFilter<CharSequence> filter = _filter;
+    if (filter != null) {
+      filter.put(urn);
+    }
+  }
+
+  @VisibleForTesting
+  synchronized void rebuild() {
+    final Timer.Context timer = MetricUtils.timer(this.getClass(), "rebuild").time();
+    final BloomFilter<CharSequence> building =
+        BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), _expectedInsertions, _falsePositiveProbability);
+    _building = building;
+    try {
+      String lastUrn = null;
+      int count;
+      do {
+        count = 0;
+        for (String urn : _migrationsDao.listUrnsAfter(lastUrn, _pageSize)) {
+          building.put(urn);
+          lastUrn = urn;
+          count++;
+        }
+      } while (count == _pageSize);
+      _filter = building;
+      log.info("Rebuilt the entity existence filter. Approximate number of entities: {}",
+          building.approximateElementCount());
+    } finally {
+      _building = null;
+      timer.stop();
+    }
+  }
+}
@@ -13,6 +13,7 @@ import com.github.fge.jsonpatch.Patch;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Streams;
 import com.linkedin.common.AuditStamp;
@@ -82,8 +83,10 @@ import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -164,15 +167,26 @@ public class EntityService {
     Urn urn;
     boolean didUpdate;
     boolean queued;
+    // Why the proposal could not be applied, in which case nothing was written for it
+    @Nullable
+    RuntimeException failure;
   }
 
   private static final int DEFAULT_MAX_TRANSACTION_RETRY = 3;
+  // Upper bound on the number of proposals written in a single transaction by ingestProposals.
+  private static final int MAX_PROPOSALS_PER_TRANSACTION = 100;
+  // Upper bound on the number of aspects rolled back in a single transaction by rollbackWithConditions.
+  private static final int MAX_ROLLBACKS_PER_TRANSACTION = 500;
 
   protected final AspectDao _aspectDao;
   private final EventProducer _producer;
   private final EntityRegistry _entityRegistry;
   private final Map<String, Set<String>> _entityToValidAspects;
   private RetentionService _retentionService;
+  @Nullable
+  private EntityExistenceFilter _existenceFilter;
+  // Format in which aspects are written. Aspects are read in whichever format they were written in.
+  private AspectCodec.Format _aspectFormat = AspectCodec.Format.JSON;
   private final Boolean _alwaysEmitChangeLog;
   private final UpdateIndicesService _updateIndicesService;
   private final PreProcessHooks _preProcessHooks;
@@ -320,6 +334,26 @@ public class EntityService {
         .collect(Collectors.toMap(Map.Entry::getKey, entry -> toEntityResponse(entry.getKey(), entry.getValue())));
   }
 
+  /**
+   * Retrieves the latest aspects for the given urns as dynamic aspect objects, fetching a different set of aspects for
+   * each urn. Urns of any entity type are fetched in a single batch.
+   *
+   * @param aspectNamesByUrn map of urn to the set of aspects to fetch for it
+   * @return a map of {@link Urn} to {@link EntityResponse} object
+   */
+  public Map<Urn, EntityResponse> getEntitiesV2(
+      @Nonnull final Map<Urn, Set<String>> aspectNamesByUrn) throws URISyntaxException {
+    final Set<EntityAspectIdentifier> dbKeys = aspectNamesByUrn.entrySet().stream()
+        .flatMap(entry -> entry.getValue().stream()
+            .map(aspectName -> new EntityAspectIdentifier(entry.getKey().toString(), aspectName, ASPECT_LATEST_VERSION)))
+        .collect(Collectors.toSet());
+
+    return getCorrespondingAspects(dbKeys, aspectNamesByUrn.keySet())
+        .entrySet()
+        .stream()
+        .collect(Collectors.toMap(Map.Entry::getKey, entry -> toEntityResponse(entry.getKey(), entry.getValue())));
+  }
+
   /**
    * Retrieves the aspects for the given set of urns and versions as dynamic aspect objects
    * (Without having to define union objects)
@@ -626,27 +660,41 @@ public class EntityService {
       final String aspectName = aspectSpec.getName();
       final EntityAspect latest = _aspectDao.getLatestAspect(urnStr, aspectName);
       final long nextVersion = _aspectDao.getNextVersion(urnStr, aspectName);
-      try {
-
-        final RecordTemplate currentValue = latest != null
-            ? EntityUtils.toAspectRecord(urn, aspectName, latest.getMetadata(), _entityRegistry)
-            : _entityRegistry.getAspectTemplateEngine().getDefaultTemplate(aspectSpec.getName());
+      final RecordTemplate updatedValue = applyPatch(urn, aspectSpec, jsonPatch, latest);
+      return ingestAspectToLocalDBNoTransaction(urn, aspectName, ignored -> updatedValue, auditStamp, providedSystemMetadata,
+          latest, nextVersion);
+    }, DEFAULT_MAX_TRANSACTION_RETRY);
+  }
 
-        if (latest == null && currentValue == null) {
-          // Attempting to patch a value to an aspect which has no default value and no existing value.
-          throw new UnsupportedOperationException(String.format("Patch not supported for aspect with name %s. "
-              + "Default aspect is required because no aspect currently exists for urn %s.", aspectName, urn));
-        }
+  /**
+   * Applies a patch to the latest version of an aspect, or to the default template of the aspect if there is none yet.
+   * Must be invoked within the transaction which writes the result.
+   */
+  @Nonnull
+  private RecordTemplate applyPatch(
+      @Nonnull final Urn urn,
+      @Nonnull final AspectSpec aspectSpec,
+      @Nonnull final Patch jsonPatch,
+      @Nullable final EntityAspect latest) {
+    final String aspectName = aspectSpec.getName();
+    try {
+      final RecordTemplate currentValue = latest != null
+          ? EntityUtils.toAspectRecord(urn, aspectName, latest.getMetadata(), _entityRegistry)
+          : _entityRegistry.getAspectTemplateEngine().getDefaultTemplate(aspectSpec.getName());
+
+      if (latest == null && currentValue == null) {
+        // Attempting to patch a value to an aspect which has no default value and no existing value.
+        throw new UnsupportedOperationException(String.format("Patch not supported for aspect with name %s. "
+            + "Default aspect is required because no aspect currently exists for urn %s.", aspectName, urn));
+      }
 
-        final RecordTemplate updatedValue = _entityRegistry.getAspectTemplateEngine().applyPatch(currentValue, jsonPatch, aspectSpec);
+      final RecordTemplate updatedValue = _entityRegistry.getAspectTemplateEngine().applyPatch(currentValue, jsonPatch, aspectSpec);
 
-        validateAspect(urn, updatedValue);
-        return ingestAspectToLocalDBNoTransaction(urn, aspectName, ignored -> updatedValue, auditStamp, providedSystemMetadata,
-            latest, nextVersion);
-      } catch (JsonProcessingException | JsonPatchException e) {
-        throw new IllegalStateException(e);
-      }
-    }, DEFAULT_MAX_TRANSACTION_RETRY);
+      validateAspect(urn, updatedValue);
+      return updatedValue;
+    } catch (JsonProcessingException | JsonPatchException e) {
+      throw new IllegalStateException(e);
+    }
   }
 
   /**
@@ -925,7 +973,7 @@ public class EntityService {
       } else {
         // When async is turned on, we write to proposal log and return without waiting
         _producer.produceMetadataChangeProposal(entityUrn, mcp);
-        return new IngestProposalResult(entityUrn, false, true);
+        return new IngestProposalResult(entityUrn, false, true, null);
       }
     } else {
       // For timeseries aspects
@@ -937,7 +985,151 @@ public class EntityService {
         emitChangeLog(oldAspect, oldSystemMetadata, newAspect, newSystemMetadata, mcp, entityUrn, auditStamp,
             aspectSpec);
 
-    return new IngestProposalResult(entityUrn, didUpdate, false);
+    return new IngestProposalResult(entityUrn, didUpdate, false, null);
+  }
+
+  /**
+   * Ingest a batch of {@link MetadataChangeProposal}s, with the same semantics as calling
+   * {@link #ingestProposal(MetadataChangeProposal, AuditStamp, boolean)} for each of them.
+   *
+   * When async mode is off, all proposals are validated up front and then written to the primary store in chunks of
+   * at most {@link #MAX_PROPOSALS_PER_TRANSACTION}, one transaction per chunk, instead of one transaction per proposal.
+   * Change logs are emitted once the chunk has been committed. Proposals for timeseries aspects are not written to the
+   * primary store and are ingested one by one.
+   *
+   * A patch which fails to apply to the latest value of its aspect does not roll back the chunk: nothing is written for
+   * that proposal, and its result holds the failure.
+   *
+   * @param mcps the proposals to ingest
+   * @param auditStamp an audit stamp representing the time and actor proposing the changes
+   * @param async a flag to control whether we commit to primary store or just write to proposal log before returning
+   * @return an {@link IngestProposalResult} per proposal, in the order of the proposals
+   */
+  public List<IngestProposalResult> ingestProposals(@Nonnull List<MetadataChangeProposal> mcps,
+      @Nonnull AuditStamp auditStamp, final boolean async) {
+    if (async) {
+      return mcps.stream().map(mcp -> ingestProposal(mcp, auditStamp, true)).collect(Collectors.toList());
+    }
+    final List<IngestProposalResult> results = new ArrayList<>(mcps.size());
+    for (List<MetadataChangeProposal> chunk : Iterables.partition(mcps, MAX_PROPOSALS_PER_TRANSACTION)) {
+      results.addAll(ingestProposalChunk(chunk, auditStamp));
+    }
+    return results;
+  }
+
+  private List<IngestProposalResult> ingestProposalChunk(@Nonnull List<MetadataChangeProposal> mcps,
+      @Nonnull AuditStamp auditStamp) {
+    final IngestProposalResult[] results = new IngestProposalResult[mcps.size()];
+    final List<PreparedProposal> prepared = new ArrayList<>(mcps.size());
+
+    // 1. Validate every proposal before opening the transaction, so a single bad proposal does not roll back the chunk.
+    for (int i = 0; i < mcps.size(); i++) {
+      final MetadataChangeProposal mcp = mcps.get(i);
+      final EntitySpec entitySpec = getEntityRegistry().getEntitySpec(mcp.getEntityType());
+      final AspectSpec aspectSpec = validateAspect(mcp, entitySpec);
+      if (aspectSpec.isTimeseries()) {
+        results[i] = ingestProposal(mcp, auditStamp, false);
+        continue;
+      }
+      if (!isValidChangeType(mcp.getChangeType(), aspectSpec)) {
+        throw new UnsupportedOperationException(
+            "ChangeType not supported: " + mcp.getChangeType() + " for aspect " + mcp.getAspectName());
+      }
+      final Urn entityUrn = EntityKeyUtils.getUrnFromProposal(mcp, entitySpec.getKeyAspectSpec());
+      validateUrn(entityUrn);
+
+      final SystemMetadata systemMetadata = generateSystemMetadataIfEmpty(mcp.getSystemMetadata());
+      systemMetadata.setRegistryName(aspectSpec.getRegistryName());
+      systemMetadata.setRegistryVersion(aspectSpec.getRegistryVersion().toString());
+
+      final Function<EntityAspect, RecordTemplate> valueFunction;
+      switch (mcp.getChangeType()) {
+        case UPSERT:
+          final RecordTemplate aspect = convertToRecordTemplate(mcp, aspectSpec);
+          validateAspect(entityUrn, aspect);
+          valueFunction = ignored -> aspect;
+          break;
+        case PATCH:
+          if (!supportsPatch(aspectSpec)) {
+            throw new UnsupportedOperationException("Aspect: " + aspectSpec.getName() + " does not currently support patch "
+                + "operations.");
+          }
+          final Patch jsonPatch = convertToJsonPatch(mcp);
+          valueFunction = latest -> applyPatch(entityUrn, aspectSpec, jsonPatch, latest);
+          break;
+        default:
+          // Should never reach since we throw error above
+          throw new UnsupportedOperationException("ChangeType not supported: " + mcp.getChangeType());
+      }
+      prepared.add(new PreparedProposal(i, mcp, entityUrn, aspectSpec, systemMetadata, valueFunction));
+    }
+
+    if (prepared.isEmpty()) {
+      return Arrays.asList(results);
+    }
+
+    // 2. Write the whole chunk in a single transaction. A proposal whose value cannot be computed, e.g. a patch which
+    // does not apply to the latest value, is skipped instead of rolling back the others.
+    final RuntimeException[] failures = new RuntimeException[prepared.size()];
+    Timer.Context ingestToLocalDBTimer = MetricUtils.timer(this.getClass(), "ingestProposalsToLocalDB").time();
+    final List<UpdateAspectResult> updates = _aspectDao.runInTransactionWithRetry(() -> {
+      Arrays.fill(failures, null);
+      final List<UpdateAspectResult> chunkUpdates = new ArrayList<>(prepared.size());
+      for (int i = 0; i < prepared.size(); i++) {
+        final PreparedProposal proposal = prepared.get(i);
+        final String urnStr = proposal.getUrn().toString();
+        final String aspectName = proposal.getAspectSpec().getName();
+        final EntityAspect latest = _aspectDao.getLatestAspect(urnStr, aspectName);
+        final RecordTemplate newValue;
+        try {
+          newValue = proposal.getValueFunction().apply(latest);
+        } catch (RuntimeException e) {
+          failures[i] = e;
+          chunkUpdates.add(null);
+          continue;
+        }
+        final long nextVersion = _aspectDao.getNextVersion(urnStr, aspectName);
+        chunkUpdates.add(ingestAspectToLocalDBNoTransaction(proposal.getUrn(), aspectName, ignored -> newValue,
+            auditStamp, proposal.getSystemMetadata(), latest, nextVersion));
+      }
+      return chunkUpdates;
+    }, DEFAULT_MAX_TRANSACTION_RETRY);
+    ingestToLocalDBTimer.stop();
+
+    // 3. Apply retention & emit change logs once the chunk is committed.
+    for (int i = 0; i < prepared.size(); i++) {
+      final PreparedProposal proposal = prepared.get(i);
+      if (failures[i] != null) {
+        log.warn("Failed to apply proposal for aspect {} of {}", proposal.getAspectSpec().getName(), proposal.getUrn(),
+            failures[i]);
+        MetricUtils.exceptionCounter(this.getClass(), "ingestProposalsFailure", failures[i]);
+        results[proposal.getIndex()] = new IngestProposalResult(proposal.getUrn(), false, false, failures[i]);
+        continue;
+      }
+      final UpdateAspectResult result = updates.get(i);
+      if (result.getOldValue() != result.getNewValue() && result.getOldValue() != null && _retentionService != null) {
+        _retentionService.applyRetention(proposal.getUrn(), proposal.getAspectSpec().getName(),
+            Optional.of(new RetentionService.RetentionContext(Optional.of(result.maxVersion))));
+      }
+      final boolean didUpdate = emitChangeLog(result.getOldValue(), result.getOldSystemMetadata(), result.getNewValue(),
+          result.getNewSystemMetadata(), proposal.getMcp(), proposal.getUrn(), auditStamp, proposal.getAspectSpec());
+      results[proposal.getIndex()] = new IngestProposalResult(proposal.getUrn(), didUpdate, false, null);
+    }
+    return Arrays.asList(results);
+  }
+
+  /**
+   * A validated proposal of a batch, waiting to be written. The value function computes the new value of the aspect
+   * from its latest version, read within the write transaction.
+   */
+  @Value
+  private static class PreparedProposal {
+    int index;
+    MetadataChangeProposal mcp;
+    Urn urn;
+    AspectSpec aspectSpec;
+    SystemMetadata systemMetadata;
+    Function<EntityAspect, RecordTemplate> valueFunction;
   }
 
   private AspectSpec validateAspect(MetadataChangeProposal mcp, EntitySpec entitySpec) {
@@ -1585,6 +1777,14 @@ public class EntityService {
     _retentionService = retentionService;
   }
 
+  public void setExistenceFilter(@Nullable EntityExistenceFilter existenceFilter) {
+    _existenceFilter = existenceFilter;
+  }
+
+  public void setAspectFormat(@Nonnull AspectCodec.Format aspectFormat) {
+    _aspectFormat = aspectFormat;
+  }
+
   protected Set<String> getEntityAspectNames(final Urn entityUrn) {
     return getEntityAspectNames(urnToEntityName(entityUrn));
   }
@@ -1602,12 +1802,44 @@ public class EntityService {
     return rollbackWithConditions(aspectRows, Collections.singletonMap("runId", runId), hardDelete);
   }
 
+  /**
+   * Rolls back the given aspects if their latest version matches the conditions.
+   *
+   * Aspects other than key aspects are rolled back in chunks of at most {@link #MAX_ROLLBACKS_PER_TRANSACTION}: the
+   * versions of a chunk are read, deleted and promoted with a handful of batched statements in one transaction, and
+   * the change logs of the chunk are produced once it is committed. Chunks which were committed no longer match the
+   * conditions, so an interrupted rollback is resumed by rolling back the same rows again.
+   *
+   * Key aspects may delete the whole entity, so they are rolled back one at a time, after every other aspect.
+   */
   public RollbackRunResult rollbackWithConditions(List<AspectRowSummary> aspectRows, Map<String, String> conditions, boolean hardDelete) {
     List<AspectRowSummary> removedAspects = new ArrayList<>();
     AtomicInteger rowsDeletedFromEntityDeletion = new AtomicInteger(0);
 
-    aspectRows.forEach(aspectToRemove -> {
+    final Map<Boolean, List<AspectRowSummary>> rowsByIsKeyAspect = aspectRows.stream()
+        .collect(Collectors.partitioningBy(row -> getKeyAspectName(UrnUtils.getUrn(row.getUrn())).equals(row.getAspectName())));
+
+    final List<AspectRowSummary> aspectRowsToRollback = rowsByIsKeyAspect.get(false);
+    int rowsProcessed = 0;
+    for (List<AspectRowSummary> chunk : Iterables.partition(aspectRowsToRollback, MAX_ROLLBACKS_PER_TRANSACTION)) {
+      final Timer.Context rollbackTimer = MetricUtils.timer(this.getClass(), "rollbackAspectsInLocalDB").time();
+      final List<Pair<AspectRowSummary, RollbackResult>> results = _aspectDao.runInTransactionWithRetry(
+          () -> rollbackAspectsNoTransaction(chunk, conditions), DEFAULT_MAX_TRANSACTION_RETRY);
+      rollbackTimer.stop();
+
+      // TODO: use properly attributed audit stamp.
+      final AuditStamp auditStamp = createSystemAuditStamp();
+      for (Pair<AspectRowSummary, RollbackResult> result : results) {
+        removedAspects.add(result.getFirst());
+        produceRollbackChangeLog(result.getSecond(), auditStamp);
+      }
+      rowsProcessed += chunk.size();
+      MetricUtils.counter(this.getClass(), "rollbackAspects").inc(results.size());
+      log.info("Rolled back {} of {} aspects processed so far, out of {}", removedAspects.size(), rowsProcessed,
+          aspectRowsToRollback.size());
+    }
 
+    rowsByIsKeyAspect.get(true).forEach(aspectToRemove -> {
       RollbackResult result = deleteAspect(aspectToRemove.getUrn(), aspectToRemove.getAspectName(),
           conditions, hardDelete);
       if (result != null) {
@@ -1619,17 +1851,118 @@ public class EntityService {
 
         rowsDeletedFromEntityDeletion.addAndGet(result.additionalRowsAffected);
         removedAspects.add(aspectToRemove);
-        produceMetadataChangeLog(result.getUrn(), result.getEntityName(), result.getAspectName(), aspectSpec.get(),
-            result.getOldValue(), result.getNewValue(), result.getOldSystemMetadata(), result.getNewSystemMetadata(),
-            // TODO: use properly attributed audit stamp.
-            createSystemAuditStamp(),
-            result.getChangeType());
+        // TODO: use properly attributed audit stamp.
+        produceRollbackChangeLog(result, createSystemAuditStamp());
       }
     });
 
     return new RollbackRunResult(removedAspects, rowsDeletedFromEntityDeletion.get());
   }
 
+  /**
+   * Rolls back a chunk of aspects which are not key aspects, see {@link #rollbackWithConditions}. Must be invoked
+   * within a transaction.
+   */
+  private List<Pair<AspectRowSummary, RollbackResult>> rollbackAspectsNoTransaction(
+      @Nonnull final List<AspectRowSummary> aspectRows, @Nonnull final Map<String, String> conditions) {
+    // 1. Fetch the latest version of every aspect, keeping those which match the conditions.
+    final Map<EntityAspectIdentifier, AspectRowSummary> rowsByLatestKey = new LinkedHashMap<>();
+    for (AspectRowSummary row : aspectRows) {
+      final Urn urn = UrnUtils.getUrn(row.getUrn());
+      if (!getAspectSpec(urnToEntityName(urn), row.getAspectName()).isPresent()) {
+        log.error("Issue while rolling back: unknown aspect {} for entity {}", row.getAspectName(), urn.getEntityType());
+        continue;
+      }
+      rowsByLatestKey.putIfAbsent(new EntityAspectIdentifier(row.getUrn(), row.getAspectName(), ASPECT_LATEST_VERSION), row);
+    }
+    final Map<EntityAspectIdentifier, EntityAspect> latestAspects = _aspectDao.batchGet(rowsByLatestKey.keySet());
+    final Map<EntityAspectIdentifier, EntityAspect> matchingLatestAspects = new LinkedHashMap<>();
+    for (EntityAspectIdentifier latestKey : rowsByLatestKey.keySet()) {
+      final EntityAspect latest = latestAspects.get(latestKey);
+      if (latest != null && filterMatch(EntityUtils.parseSystemMetadata(latest.getSystemMetadata()), conditions)) {
+        matchingLatestAspects.put(latestKey, latest);
+      }
+    }
+    if (matchingLatestAspects.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    // 2. Walk back through the previous versions of every aspect. Versions which match the conditions are deleted too,
+    // the most recent one which does not survives.
+    final Map<String, Set<String>> aspectNamesByUrn = new HashMap<>();
+    matchingLatestAspects.keySet().forEach(latestKey ->
+        aspectNamesByUrn.computeIfAbsent(latestKey.getUrn(), urn -> new HashSet<>()).add(latestKey.getAspect()));
+    final Map<EntityAspectIdentifier, List<EntityAspect>> previousVersionsByLatestKey =
+        _aspectDao.getPreviousVersionSummaries(aspectNamesByUrn).stream()
+            .collect(Collectors.groupingBy(
+                previous -> new EntityAspectIdentifier(previous.getUrn(), previous.getAspect(), ASPECT_LATEST_VERSION)));
+
+    final List<EntityAspectIdentifier> keysToDelete = new ArrayList<>();
+    final Map<EntityAspectIdentifier, EntityAspectIdentifier> survivingKeysByLatestKey = new HashMap<>();
+    for (EntityAspectIdentifier latestKey : matchingLatestAspects.keySet()) {
+      final List<EntityAspect> previousVersions = previousVersionsByLatestKey.getOrDefault(latestKey, new ArrayList<>());
+      previousVersions.sort(Comparator.comparingLong(EntityAspect::getVersion).reversed());
+      for (EntityAspect previous : previousVersions) {
+        if (!filterMatch(EntityUtils.parseSystemMetadata(previous.getSystemMetadata()), conditions)) {
+          survivingKeysByLatestKey.put(latestKey, previous.toAspectIdentifier());
+          break;
+        }
+        keysToDelete.add(previous.toAspectIdentifier());
+      }
+    }
+    final Map<EntityAspectIdentifier, EntityAspect> survivingAspects =
+        _aspectDao.batchGet(new HashSet<>(survivingKeysByLatestKey.values()));
+
+    // 3. Promote the surviving versions to the latest version, or delete the latest version if none survived.
+    final List<Pair<AspectRowSummary, RollbackResult>> results = new ArrayList<>();
+    for (Map.Entry<EntityAspectIdentifier, EntityAspect> entry : matchingLatestAspects.entrySet()) {
+      final EntityAspect latest = entry.getValue();
+      final EntityAspect survivingAspect = survivingKeysByLatestKey.containsKey(entry.getKey())
+          ? survivingAspects.get(survivingKeysByLatestKey.get(entry.getKey())) : null;
+      final String latestMetadata = latest.getMetadata();
+      final SystemMetadata latestSystemMetadata = EntityUtils.parseSystemMetadata(latest.getSystemMetadata());
+
+      if (survivingAspect != null) {
+        // eBean does not like us updating a pkey column (version) for the surviving aspect, so we copy its information
+        // into the latest row and delete the surviving row instead.
+        latest.setMetadata(survivingAspect.getMetadata());
+        latest.setSystemMetadata(survivingAspect.getSystemMetadata());
+        latest.setCreatedOn(survivingAspect.getCreatedOn());
+        latest.setCreatedBy(survivingAspect.getCreatedBy());
+        latest.setCreatedFor(survivingAspect.getCreatedFor());
+        _aspectDao.saveAspect(latest, false);
+        keysToDelete.add(survivingAspect.toAspectIdentifier());
+      } else {
+        keysToDelete.add(entry.getKey());
+      }
+
+      try {
+        final Urn urn = UrnUtils.getUrn(latest.getUrn());
+        final RecordTemplate latestValue =
+            EntityUtils.toAspectRecord(urn, latest.getAspect(), latestMetadata, getEntityRegistry());
+        final RecordTemplate previousValue = survivingAspect == null ? null
+            : EntityUtils.toAspectRecord(urn, latest.getAspect(), survivingAspect.getMetadata(), getEntityRegistry());
+        results.add(new Pair<>(rowsByLatestKey.get(entry.getKey()),
+            new RollbackResult(urn, urn.getEntityType(), latest.getAspect(), latestValue, previousValue,
+                latestSystemMetadata,
+                survivingAspect == null ? null : EntityUtils.parseSystemMetadata(survivingAspect.getSystemMetadata()),
+                survivingAspect == null ? ChangeType.DELETE : ChangeType.UPSERT, false, 0)));
+      } catch (IllegalStateException e) {
+        log.warn("Unable to find aspect, rollback result will not be sent. Error: {}", e.getMessage());
+      }
+    }
+    _aspectDao.deleteAspects(keysToDelete);
+
+    return results;
+  }
+
+  private void produceRollbackChangeLog(@Nonnull final RollbackResult result, @Nonnull final AuditStamp auditStamp) {
+    final AspectSpec aspectSpec = getAspectSpec(urnToEntityName(result.getUrn()), result.getAspectName()).get();
+    produceMetadataChangeLog(result.getUrn(), result.getEntityName(), result.getAspectName(), aspectSpec,
+        result.getOldValue(), result.getNewValue(), result.getOldSystemMetadata(), result.getNewSystemMetadata(),
+        auditStamp, result.getChangeType());
+  }
+
   public RollbackRunResult deleteUrn(Urn urn) {
     List<AspectRowSummary> removedAspects = new ArrayList<>();
     Integer rowsDeletedFromEntityDeletion = 0;
@@ -1674,17 +2007,24 @@ public class EntityService {
   /**
    * Returns true if the entity exists (has materialized aspects)
    *
+   * Only the keys of the latest aspect rows are looked up, not their metadata. If an {@link EntityExistenceFilter} is
+   * set, entities which definitely do not exist are answered without querying the database.
+   *
    * @param urn the urn of the entity to check
    * @return true if the entity exists, false otherwise
    */
   public Boolean exists(Urn urn) {
-    final Set<String> aspectsToFetch = getEntityAspectNames(urn);
-    final List<EntityAspectIdentifier> dbKeys = aspectsToFetch.stream()
-        .map(aspectName -> new EntityAspectIdentifier(urn.toString(), aspectName, ASPECT_LATEST_VERSION))
-        .collect(Collectors.toList());
+    if (_existenceFilter != null && !_existenceFilter.mightExist(urn.toString())) {
+      MetricUtils.counter(this.getClass(), "existsFilterNegative").inc();
+      return false;
+    }
+    return _aspectDao.exists(urn.toString(), getEntityAspectNames(urn));
+  }
 
-    Map<EntityAspectIdentifier, EntityAspect> aspects = _aspectDao.batchGet(new HashSet(dbKeys));
-    return aspects.values().stream().anyMatch(aspect -> aspect != null);
+  private void recordExists(@Nonnull final Urn urn) {
+    if (_existenceFilter != null) {
+      _existenceFilter.put(urn.toString());
+    }
   }
 
   /**
@@ -1902,7 +2242,7 @@ public class EntityService {
       }
 
       // Aspect found. Now turn it into an EnvelopedAspect
-      final com.linkedin.entity.Aspect aspect = RecordUtils.toRecordTemplate(com.linkedin.entity.Aspect.class, currAspectEntry
+      final com.linkedin.entity.Aspect aspect = AspectCodec.decode(com.linkedin.entity.Aspect.class, currAspectEntry
           .getMetadata());
       final EnvelopedAspect envelopedAspect = new EnvelopedAspect();
       envelopedAspect.setName(currAspectEntry.getAspect());
@@ -1914,7 +2254,7 @@ public class EntityService {
 
       try {
         if (currAspectEntry.getSystemMetadata() != null) {
-          final SystemMetadata systemMetadata = RecordUtils.toRecordTemplate(SystemMetadata.class, currAspectEntry.getSystemMetadata());
+          final SystemMetadata systemMetadata = AspectCodec.decode(SystemMetadata.class, currAspectEntry.getSystemMetadata());
           envelopedAspect.setSystemMetadata(systemMetadata);
         }
       } catch (Exception e) {
@@ -1971,7 +2311,7 @@ public class EntityService {
       SystemMetadata latestSystemMetadata = EntityUtils.parseSystemMetadata(latest.getSystemMetadata());
       latestSystemMetadata.setLastObserved(providedSystemMetadata.getLastObserved());
 
-      latest.setSystemMetadata(RecordUtils.toJsonString(latestSystemMetadata));
+      latest.setSystemMetadata(AspectCodec.encode(latestSystemMetadata, _aspectFormat));
 
       _aspectDao.saveAspect(latest, false);
 
@@ -1982,12 +2322,13 @@ public class EntityService {
 
     // 4. Save the newValue as the latest version
     log.debug("Ingesting aspect with name {}, urn {}", aspectName, urn);
-    long versionOfOld = _aspectDao.saveLatestAspect(urn.toString(), aspectName, latest == null ? null : EntityUtils.toJsonAspect(oldValue),
+    recordExists(urn);
+    long versionOfOld = _aspectDao.saveLatestAspect(urn.toString(), aspectName, latest == null ? null : AspectCodec.encode(oldValue, _aspectFormat),
         latest == null ? null : latest.getCreatedBy(), latest == null ? null : latest.getCreatedFor(),
         latest == null ? null : latest.getCreatedOn(), latest == null ? null : latest.getSystemMetadata(),
-        EntityUtils.toJsonAspect(newValue), auditStamp.getActor().toString(),
+        AspectCodec.encode(newValue, _aspectFormat), auditStamp.getActor().toString(),
         auditStamp.hasImpersonator() ? auditStamp.getImpersonator().toString() : null,
-        new Timestamp(auditStamp.getTime()), EntityUtils.toJsonAspect(providedSystemMetadata), nextVersion);
+        new Timestamp(auditStamp.getTime()), AspectCodec.encode(providedSystemMetadata, _aspectFormat), nextVersion);
 
     return new UpdateAspectResult(urn, oldValue, newValue,
         latest == null ? null : EntityUtils.parseSystemMetadata(latest.getSystemMetadata()), providedSystemMetadata,
@@ -2033,9 +2374,10 @@ public class EntityService {
       newSystemMetadata.setLastObserved(System.currentTimeMillis());
 
       log.debug("Updating aspect with name {}, urn {}", aspectName, urn);
-      _aspectDao.saveAspect(urn.toString(), aspectName, EntityUtils.toJsonAspect(value), auditStamp.getActor().toString(),
+      recordExists(urn);
+      _aspectDao.saveAspect(urn.toString(), aspectName, AspectCodec.encode(value, _aspectFormat), auditStamp.getActor().toString(),
           auditStamp.hasImpersonator() ? auditStamp.getImpersonator().toString() : null,
-          new Timestamp(auditStamp.getTime()), EntityUtils.toJsonAspect(newSystemMetadata), version, oldAspect == null);
+          new Timestamp(auditStamp.getTime()), AspectCodec.encode(newSystemMetadata, _aspectFormat), version, oldAspect == null);
 
       return new UpdateAspectResult(urn, oldValue, value, oldSystemMetadata, newSystemMetadata,
           MetadataAuditOperation.UPDATE, auditStamp, version);
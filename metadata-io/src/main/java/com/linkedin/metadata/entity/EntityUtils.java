@@ -42,7 +42,7 @@ public class EntityUtils {
   /**
    * @param entityName
    * @param aspectName
-   * @param jsonAspect
+   * @param jsonAspect the aspect as stored, see {@link AspectCodec}
    * @param entityRegistry
    * @return a RecordTemplate which has been validated, validation errors are logged as warnings
    */
@@ -56,7 +56,7 @@ public class EntityUtils {
     //TODO: aspectSpec can be null here
     Preconditions.checkState(aspectSpec != null, String.format("Aspect %s could not be found", aspectName));
     final RecordDataSchema aspectSchema = aspectSpec.getPegasusSchema();
-    RecordTemplate aspectRecord = RecordUtils.toRecordTemplate(aspectSpec.getDataTemplateClass(), jsonAspect);
+    RecordTemplate aspectRecord = AspectCodec.decode(aspectSpec.getDataTemplateClass(), jsonAspect);
     RecordTemplateValidator.validate(aspectRecord, validationFailure -> {
       log.warn(String.format("Failed to validate record %s against its schema.", aspectRecord));
     });
@@ -70,7 +70,7 @@ public class EntityUtils {
       response.setLastObserved(0);
       return response;
     }
-    return RecordUtils.toRecordTemplate(SystemMetadata.class, jsonSystemMetadata);
+    return AspectCodec.decode(SystemMetadata.class, jsonSystemMetadata);
   }
 
   /**
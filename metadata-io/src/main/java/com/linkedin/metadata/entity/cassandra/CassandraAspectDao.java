@@ -13,6 +13,7 @@ import com.datastax.oss.driver.api.core.paging.OffsetPager;
 import com.datastax.oss.driver.api.core.paging.OffsetPager.Page;
 import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
 import com.datastax.oss.driver.api.querybuilder.insert.Insert;
+import com.datastax.oss.driver.api.querybuilder.select.Select;
 import com.datastax.oss.driver.api.querybuilder.select.Selector;
 import com.datastax.oss.driver.api.querybuilder.term.Term;
 import com.datastax.oss.driver.api.querybuilder.update.Update;
@@ -33,11 +34,14 @@ import com.linkedin.metadata.query.ExtraInfoArray;
 import com.linkedin.metadata.query.ListResultMetadata;
 import java.net.URISyntaxException;
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -52,6 +56,9 @@ import static com.linkedin.metadata.Constants.*;
 @Slf4j
 public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
 
+  // Number of rows fetched at a time when streaming aspects.
+  private static final int STREAM_FETCH_SIZE = 100;
+
   private final CqlSession _cqlSession;
   private boolean _canWrite = true;
   private boolean _connectionValidated = false;
@@ -84,6 +91,24 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
     return getAspect(urn, aspectName, ASPECT_LATEST_VERSION);
   }
 
+  @Override
+  public boolean exists(@Nonnull final String urn, @Nonnull final Set<String> aspectNames) {
+    validateConnection();
+    if (aspectNames.isEmpty()) {
+      return false;
+    }
+    SimpleStatement ss = selectFrom(CassandraAspect.TABLE_NAME)
+        .column(CassandraAspect.URN_COLUMN)
+        .whereColumn(CassandraAspect.URN_COLUMN).isEqualTo(literal(urn))
+        .whereColumn(CassandraAspect.ASPECT_COLUMN).in(aspectNamesToLiterals(aspectNames))
+        .whereColumn(CassandraAspect.VERSION_COLUMN).isEqualTo(literal(ASPECT_LATEST_VERSION))
+        .limit(1)
+        .build();
+
+    ResultSet rs = _cqlSession.execute(ss);
+    return rs.one() != null;
+  }
+
   @Override
   public long getMaxVersion(@Nonnull final String urn, @Nonnull final String aspectName) {
     validateConnection();
@@ -330,6 +355,47 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
     _cqlSession.execute(ss);
   }
 
+  @Override
+  public void deleteAspects(@Nonnull final Collection<EntityAspectIdentifier> keys) {
+    validateConnection();
+    // Batches are only efficient within a partition, so one batch is executed per urn.
+    keys.stream().collect(Collectors.groupingBy(EntityAspectIdentifier::getUrn)).values().forEach(urnKeys -> {
+      BatchStatement batch = BatchStatement.newInstance(BatchType.UNLOGGED);
+      for (EntityAspectIdentifier key : urnKeys) {
+        batch = batch.add(deleteFrom(CassandraAspect.TABLE_NAME)
+            .whereColumn(CassandraAspect.URN_COLUMN).isEqualTo(literal(key.getUrn()))
+            .whereColumn(CassandraAspect.ASPECT_COLUMN).isEqualTo(literal(key.getAspect()))
+            .whereColumn(CassandraAspect.VERSION_COLUMN).isEqualTo(literal(key.getVersion()))
+            .build());
+      }
+      _cqlSession.execute(batch);
+    });
+  }
+
+  @Override
+  @Nonnull
+  public List<EntityAspect> getPreviousVersionSummaries(@Nonnull final Map<String, Set<String>> aspectNamesByUrn) {
+    validateConnection();
+    final List<EntityAspect> result = new ArrayList<>();
+    aspectNamesByUrn.forEach((urn, aspectNames) -> {
+      SimpleStatement ss = selectFrom(CassandraAspect.TABLE_NAME)
+          .columns(CassandraAspect.URN_COLUMN, CassandraAspect.ASPECT_COLUMN, CassandraAspect.VERSION_COLUMN,
+              CassandraAspect.SYSTEM_METADATA_COLUMN)
+          .whereColumn(CassandraAspect.URN_COLUMN).isEqualTo(literal(urn))
+          .whereColumn(CassandraAspect.ASPECT_COLUMN).in(aspectNamesToLiterals(aspectNames))
+          .build();
+
+      for (Row row : _cqlSession.execute(ss)) {
+        if (row.getLong(CassandraAspect.VERSION_COLUMN) != ASPECT_LATEST_VERSION) {
+          result.add(new EntityAspect(row.getString(CassandraAspect.URN_COLUMN),
+              row.getString(CassandraAspect.ASPECT_COLUMN), row.getLong(CassandraAspect.VERSION_COLUMN), null,
+              row.getString(CassandraAspect.SYSTEM_METADATA_COLUMN), null, null, null));
+        }
+      }
+    });
+    return result;
+  }
+
   @Override
   public int deleteUrn(@Nonnull final String urn) {
     validateConnection();
@@ -451,6 +517,23 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
         .collect(Collectors.toList());
   }
 
+  @Override
+  @Nonnull
+  public Iterable<String> listUrnsAfter(@Nullable final String lastUrn, final int pageSize) {
+    validateConnection();
+    // The urn is the partition key, so the partitions are iterated in token order rather than in urn order.
+    Select select = selectFrom(CassandraAspect.TABLE_NAME)
+        .distinct()
+        .column(CassandraAspect.URN_COLUMN);
+    if (lastUrn != null) {
+      select = select.whereToken(CassandraAspect.URN_COLUMN).isGreaterThan(function("token", literal(lastUrn)));
+    }
+    SimpleStatement ss = select.limit(pageSize).build();
+
+    ResultSet rs = _cqlSession.execute(ss);
+    return rs.all().stream().map(row -> row.getString(CassandraAspect.URN_COLUMN)).collect(Collectors.toList());
+  }
+
   @Override
   public long getNextVersion(@Nonnull final String urn, @Nonnull final String aspectName) {
     validateConnection();
@@ -616,6 +699,40 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
     return rs.all().stream().map(CassandraAspect::rowToEntityAspect).collect(Collectors.toList());
   }
 
+  @Override
+  public void forEachAspectInRange(@Nonnull Urn urn, @Nonnull Set<String> aspectNames, long startTimeMillis,
+      long endTimeMillis, @Nonnull Consumer<EntityAspect> consumer) {
+    validateConnection();
+    SimpleStatement ss = selectFrom(CassandraAspect.TABLE_NAME)
+        .all()
+        .whereColumn(CassandraAspect.URN_COLUMN).isEqualTo(literal(urn.toString()))
+        .whereColumn(CassandraAspect.ASPECT_COLUMN).in(aspectNamesToLiterals(aspectNames))
+        .whereColumn(CassandraAspect.CREATED_ON_COLUMN).isGreaterThanOrEqualTo(literal(startTimeMillis))
+        .whereColumn(CassandraAspect.CREATED_ON_COLUMN).isLessThan(literal(endTimeMillis))
+        .allowFiltering()
+        .build()
+        .setPageSize(STREAM_FETCH_SIZE);
+
+    // Rows are clustered by aspect and version, so the latest version of an aspect comes first. It is held back until
+    // the older versions of the aspect have been passed.
+    EntityAspect latest = null;
+    for (Row row : _cqlSession.execute(ss)) {
+      EntityAspect aspect = CassandraAspect.rowToEntityAspect(row);
+      if (latest != null && !latest.getAspect().equals(aspect.getAspect())) {
+        consumer.accept(latest);
+        latest = null;
+      }
+      if (aspect.getVersion() == ASPECT_LATEST_VERSION) {
+        latest = aspect;
+      } else {
+        consumer.accept(aspect);
+      }
+    }
+    if (latest != null) {
+      consumer.accept(latest);
+    }
+  }
+
   private Iterable<Term> aspectNamesToLiterals(Set<String> aspectNames) {
     return aspectNames.stream().map(QueryBuilder::literal).collect(Collectors.toSet());
   }
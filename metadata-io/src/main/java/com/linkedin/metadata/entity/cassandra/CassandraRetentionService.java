@@ -1,6 +1,5 @@
 package com.linkedin.metadata.entity.cassandra;
 
-import com.datahub.util.RecordUtils;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
@@ -10,6 +9,7 @@ import com.datastax.oss.driver.api.querybuilder.select.Select;
 import com.datastax.oss.driver.api.querybuilder.select.Selector;
 import com.google.common.collect.ImmutableList;
 import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.entity.AspectCodec;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.entity.RetentionService;
 import com.linkedin.metadata.entity.EntityAspectIdentifier;
@@ -196,6 +196,6 @@ public class CassandraRetentionService extends RetentionService {
         .map(CassandraAspect::rowToEntityAspect)
         .collect(Collectors.toMap(
             EntityAspect::getUrn,
-            aspect -> RecordUtils.toRecordTemplate(DataHubRetentionConfig.class, aspect.getMetadata())));
+            aspect -> AspectCodec.decode(DataHubRetentionConfig.class, aspect.getMetadata())));
   }
 }
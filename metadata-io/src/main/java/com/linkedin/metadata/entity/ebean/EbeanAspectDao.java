@@ -2,6 +2,7 @@ package com.linkedin.metadata.entity.ebean;
 
 import com.datahub.util.exception.ModelConversionException;
 import com.datahub.util.exception.RetryLimitReached;
+import com.google.common.collect.Lists;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.entity.AspectDao;
@@ -33,11 +34,14 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.Clock;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -52,6 +56,9 @@ import static com.linkedin.metadata.Constants.ASPECT_LATEST_VERSION;
 @Slf4j
 public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
 
+  // Number of rows fetched at a time when streaming aspects.
+  private static final int STREAM_FETCH_SIZE = 100;
+
   private final EbeanServer _server;
   private boolean _connectionValidated = false;
   private final Clock _clock = Clock.systemUTC();
@@ -188,6 +195,21 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
     return ebeanAspect == null ? null : ebeanAspect.toEntityAspect();
   }
 
+  @Override
+  public boolean exists(@Nonnull final String urn, @Nonnull final Set<String> aspectNames) {
+    validateConnection();
+    if (aspectNames.isEmpty()) {
+      return false;
+    }
+    // exists() only selects the id, so this is answered from the primary key index without reading the metadata.
+    return _server.find(EbeanAspectV2.class)
+        .where()
+        .eq(EbeanAspectV2.URN_COLUMN, urn)
+        .in(EbeanAspectV2.ASPECT_COLUMN, aspectNames)
+        .eq(EbeanAspectV2.VERSION_COLUMN, ASPECT_LATEST_VERSION)
+        .exists();
+  }
+
   @Override
   public long getMaxVersion(@Nonnull final String urn, @Nonnull final String aspectName) {
     validateConnection();
@@ -244,6 +266,45 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
     _server.delete(ebeanAspect);
   }
 
+  @Override
+  public void deleteAspects(@Nonnull final Collection<EntityAspectIdentifier> keys) {
+    validateConnection();
+    if (keys.isEmpty()) {
+      return;
+    }
+    // Deletes by id, i.e. one statement per page of keys.
+    final List<EbeanAspectV2.PrimaryKey> ebeanKeys =
+        keys.stream().map(EbeanAspectV2.PrimaryKey::fromAspectIdentifier).collect(Collectors.toList());
+    for (List<EbeanAspectV2.PrimaryKey> page : Lists.partition(ebeanKeys,
+        _queryKeysCount == 0 ? ebeanKeys.size() : _queryKeysCount)) {
+      _server.deleteAll(EbeanAspectV2.class, page);
+    }
+  }
+
+  @Override
+  @Nonnull
+  public List<EntityAspect> getPreviousVersionSummaries(@Nonnull final Map<String, Set<String>> aspectNamesByUrn) {
+    validateConnection();
+    if (aspectNamesByUrn.isEmpty()) {
+      return Collections.emptyList();
+    }
+    final Set<String> aspectNames =
+        aspectNamesByUrn.values().stream().flatMap(Set::stream).collect(Collectors.toSet());
+    // Only the id & system metadata are selected. No other property may be read, as that would lazy load the row.
+    return _server.find(EbeanAspectV2.class)
+        .select("systemMetadata")
+        .where()
+        .in(EbeanAspectV2.URN_COLUMN, aspectNamesByUrn.keySet())
+        .in(EbeanAspectV2.ASPECT_COLUMN, aspectNames)
+        .gt(EbeanAspectV2.VERSION_COLUMN, ASPECT_LATEST_VERSION)
+        .findList()
+        .stream()
+        .filter(aspect -> aspectNamesByUrn.get(aspect.getKey().getUrn()).contains(aspect.getKey().getAspect()))
+        .map(aspect -> new EntityAspect(aspect.getKey().getUrn(), aspect.getKey().getAspect(),
+            aspect.getKey().getVersion(), null, aspect.getSystemMetadata(), null, null, null))
+        .collect(Collectors.toList());
+  }
+
   @Override
   public int deleteUrn(@Nonnull final String urn) {
     validateConnection();
@@ -452,6 +513,26 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
     return ebeanAspects.getList().stream().map(EbeanAspectV2::getUrn).collect(Collectors.toList());
   }
 
+  @Override
+  @Nonnull
+  public Iterable<String> listUrnsAfter(@Nullable final String lastUrn, final int pageSize) {
+    validateConnection();
+    ExpressionList<EbeanAspectV2> exp = _server.find(EbeanAspectV2.class)
+        .setDistinct(true)
+        .select(EbeanAspectV2.URN_COLUMN)
+        .where();
+    if (lastUrn != null) {
+      exp = exp.gt(EbeanAspectV2.URN_COLUMN, lastUrn);
+    }
+    return exp.orderBy()
+        .asc(EbeanAspectV2.URN_COLUMN)
+        .setMaxRows(pageSize)
+        .findList()
+        .stream()
+        .map(EbeanAspectV2::getUrn)
+        .collect(Collectors.toList());
+  }
+
   @Override
   @Nonnull
   public ListResult<String> listAspectMetadata(
@@ -671,4 +752,45 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
         .findList();
     return ebeanAspects.stream().map(EbeanAspectV2::toEntityAspect).collect(Collectors.toList());
   }
+
+  @Override
+  public void forEachAspectInRange(@Nonnull Urn urn, @Nonnull Set<String> aspectNames, long startTimeMillis,
+      long endTimeMillis, @Nonnull Consumer<EntityAspect> consumer) {
+    validateConnection();
+    // Pages by keyset on (createdOn, version) rather than streaming a single query: MySQL Connector/J ignores the fetch
+    // size and buffers the whole result set unless useCursorFetch=true is set on the JDBC url.
+    for (String aspectName : new TreeSet<>(aspectNames)) {
+      Timestamp lastCreatedOn = null;
+      long lastVersion = 0;
+      List<EbeanAspectV2> page;
+      do {
+        ExpressionList<EbeanAspectV2> exp = _server.find(EbeanAspectV2.class)
+            .select(EbeanAspectV2.ALL_COLUMNS)
+            .where()
+            .eq(EbeanAspectV2.URN_COLUMN, urn.toString())
+            .eq(EbeanAspectV2.ASPECT_COLUMN, aspectName)
+            .inRange(EbeanAspectV2.CREATED_ON_COLUMN, new Timestamp(startTimeMillis), new Timestamp(endTimeMillis));
+        if (lastCreatedOn != null) {
+          exp = exp.or()
+              .gt(EbeanAspectV2.CREATED_ON_COLUMN, lastCreatedOn)
+              .and()
+              .eq(EbeanAspectV2.CREATED_ON_COLUMN, lastCreatedOn)
+              .gt(EbeanAspectV2.VERSION_COLUMN, lastVersion)
+              .endAnd()
+              .endOr();
+        }
+        page = exp.orderBy()
+            .asc(EbeanAspectV2.CREATED_ON_COLUMN)
+            .orderBy()
+            .asc(EbeanAspectV2.VERSION_COLUMN)
+            .setMaxRows(STREAM_FETCH_SIZE)
+            .findList();
+        for (EbeanAspectV2 aspect : page) {
+          consumer.accept(aspect.toEntityAspect());
+          lastCreatedOn = aspect.getCreatedOn();
+          lastVersion = aspect.getKey().getVersion();
+        }
+      } while (page.size() == STREAM_FETCH_SIZE);
+    }
+  }
 }
@@ -1,7 +1,7 @@
 package com.linkedin.metadata.entity.ebean;
 
 import com.linkedin.common.urn.Urn;
-import com.datahub.util.RecordUtils;
+import com.linkedin.metadata.entity.AspectCodec;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.entity.RetentionService;
 import com.linkedin.metadata.entity.retention.BulkApplyRetentionArgs;
@@ -247,7 +247,7 @@ public class EbeanRetentionService extends RetentionService {
         .findList()
         .stream()
         .collect(Collectors.toMap(EbeanAspectV2::getUrn,
-            row -> RecordUtils.toRecordTemplate(DataHubRetentionConfig.class, row.getMetadata())));
+            row -> AspectCodec.decode(DataHubRetentionConfig.class, row.getMetadata())));
   }
 
   private ExpressionList<EbeanAspectV2> queryCandidates(@Nullable String urn,
@@ -2,6 +2,7 @@ package com.linkedin.metadata.graph;
 
 import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.models.registry.LineageRegistry;
+import com.linkedin.metadata.query.filter.ConjunctiveCriterionArray;
 import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.query.filter.RelationshipDirection;
 import com.linkedin.metadata.query.filter.RelationshipFilter;
@@ -244,6 +245,30 @@ public interface GraphService {
   void removeEdgesFromNode(@Nonnull final Urn urn, @Nonnull final List<String> relationshipTypes,
       @Nonnull final RelationshipFilter relationshipFilter);
 
+  /**
+   * Replaces the outgoing edges of the given relationship types of the given node with the given edges.
+   *
+   * Unless overridden, it removes the outgoing edges of the node and then adds the given edges.
+   */
+  default void setEdgesFromNode(@Nonnull final Urn urn, @Nonnull final List<String> relationshipTypes,
+      @Nonnull final List<Edge> edges) {
+    removeEdgesFromNode(urn, relationshipTypes,
+        newRelationshipFilter(new Filter().setOr(new ConjunctiveCriterionArray()), RelationshipDirection.OUTGOING));
+    edges.forEach(this::addEdge);
+  }
+
+  /**
+   * Replaces the outgoing edges of the given relationship types of the given node with the given edges, given the
+   * edges the node had before, e.g. from the previous version of the aspect. The previous edges are removed even when
+   * their writes are not visible to searches yet.
+   *
+   * Unless overridden, it ignores the previous edges and calls {@link #setEdgesFromNode(Urn, List, List)}.
+   */
+  default void setEdgesFromNode(@Nonnull final Urn urn, @Nonnull final List<String> relationshipTypes,
+      @Nonnull final List<Edge> edges, @Nonnull final List<Edge> previousEdges) {
+    setEdgesFromNode(urn, relationshipTypes, edges);
+  }
+
   void configure();
 
   /**
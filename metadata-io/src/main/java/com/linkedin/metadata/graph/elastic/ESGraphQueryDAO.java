@@ -27,12 +27,14 @@ import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import io.opentelemetry.extension.annotations.WithSpan;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -155,6 +157,44 @@ public class ESGraphQueryDAO {
     return executeSearchQuery(finalQuery, offset, count);
   }
 
+  /**
+   * Returns the ids of the edge documents going out of the given node with one of the given relationship types, or
+   * empty if the node has more such edges than a single query returns.
+   */
+  @Nonnull
+  public Optional<Set<String>> getOutgoingEdgeIds(@Nonnull final Urn urn, @Nonnull final List<String> relationshipTypes) {
+    BoolQueryBuilder finalQuery = QueryBuilders.boolQuery();
+    finalQuery.filter(QueryBuilders.termQuery(SOURCE + ".urn", urn.toString()));
+    if (relationshipTypes.size() > 0) {
+      finalQuery.filter(QueryBuilders.termsQuery(RELATIONSHIP_TYPE, relationshipTypes));
+    }
+
+    SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
+    searchSourceBuilder.query(finalQuery);
+    searchSourceBuilder.size(graphQueryConfiguration.getMaxResult());
+    searchSourceBuilder.fetchSource(false);
+    searchSourceBuilder.trackTotalHits(true);
+
+    SearchRequest searchRequest = new SearchRequest();
+    searchRequest.source(searchSourceBuilder);
+    searchRequest.indices(indexConvention.getIndexName(INDEX_NAME));
+
+    SearchResponse response;
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "esOutgoingEdgeIdsQuery").time()) {
+      MetricUtils.counter(this.getClass(), SEARCH_EXECUTIONS_METRIC).inc();
+      response = client.search(searchRequest, RequestOptions.DEFAULT);
+    } catch (Exception e) {
+      log.error("Search query failed", e);
+      throw new ESQueryException("Search query failed:", e);
+    }
+
+    SearchHit[] hits = response.getHits().getHits();
+    if (response.getHits().getTotalHits() == null || response.getHits().getTotalHits().value > hits.length) {
+      return Optional.empty();
+    }
+    return Optional.of(Arrays.stream(hits).map(SearchHit::getId).collect(Collectors.toSet()));
+  }
+
   public static BoolQueryBuilder buildQuery(@Nullable final List<String> sourceTypes, @Nonnull final Filter sourceEntityFilter,
       @Nullable final List<String> destinationTypes, @Nonnull final Filter destinationEntityFilter,
       @Nonnull final List<String> relationshipTypes, @Nonnull final RelationshipFilter relationshipFilter) {
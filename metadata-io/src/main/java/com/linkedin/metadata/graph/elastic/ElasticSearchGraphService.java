@@ -37,9 +37,12 @@ import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -314,6 +317,43 @@ public class ElasticSearchGraphService implements GraphService, ElasticSearchInd
     );
   }
 
+  /**
+   * Edge documents have deterministic ids, so rather than deleting the outgoing edges of the node by query, this looks
+   * up the ids of the existing edges, upserts the new edges and deletes the existing edges that are not among them.
+   * Falls back to a delete by query when the node has more edges than a single lookup returns.
+   */
+  @Override
+  public void setEdgesFromNode(@Nonnull final Urn urn, @Nonnull final List<String> relationshipTypes,
+      @Nonnull final List<Edge> edges) {
+    setEdgesFromNode(urn, relationshipTypes, edges, Collections.emptyList());
+  }
+
+  /**
+   * The lookup only sees the edges which have been refreshed, so the previous edges, which may still be queued in the
+   * bulk processor, are deleted as well.
+   */
+  @Override
+  public void setEdgesFromNode(@Nonnull final Urn urn, @Nonnull final List<String> relationshipTypes,
+      @Nonnull final List<Edge> edges, @Nonnull final List<Edge> previousEdges) {
+    final Optional<Set<String>> existingDocIds = _graphReadDAO.getOutgoingEdgeIds(urn, relationshipTypes);
+    if (!existingDocIds.isPresent()) {
+      GraphService.super.setEdgesFromNode(urn, relationshipTypes, edges);
+      return;
+    }
+
+    final Set<String> docIdsToDelete = new HashSet<>(existingDocIds.get());
+    previousEdges.stream()
+        .filter(edge -> edge.getSource().equals(urn) && relationshipTypes.contains(edge.getRelationshipType()))
+        .map(this::toDocId)
+        .forEach(docIdsToDelete::add);
+    for (Edge edge : edges) {
+      final String docId = toDocId(edge);
+      docIdsToDelete.remove(docId);
+      _graphWriteDAO.upsertDocument(docId, toDocument(edge));
+    }
+    docIdsToDelete.forEach(_graphWriteDAO::deleteDocument);
+  }
+
   @Override
   public void configure() {
     log.info("Setting up elastic graph index");
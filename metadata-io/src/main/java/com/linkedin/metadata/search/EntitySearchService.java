@@ -8,6 +8,7 @@ import com.linkedin.metadata.query.SearchFlags;
 import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.query.filter.SortCriterion;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import javax.annotation.Nonnull;
@@ -30,6 +31,15 @@ public interface EntitySearchService {
    */
   long docCount(@Nonnull String entityName);
 
+  /**
+   * Get the number of documents corresponding to each of the entities, in a single request
+   *
+   * @param entityNames names of the entities
+   * @return map of entity name to document count. Entities whose count failed are left out
+   */
+  @Nonnull
+  Map<String, Long> docCountPerEntity(@Nonnull Collection<String> entityNames);
+
 
   /**
    * Updates or inserts the given search document.
@@ -128,6 +138,17 @@ public interface EntitySearchService {
   AutoCompleteResult autoComplete(@Nonnull String entityName, @Nonnull String query, @Nullable String field,
       @Nullable Filter requestParams, int limit);
 
+  /**
+   * Returns the values of the default auto complete fields of the most popular entities of the given type, ranked by
+   * the search score fields of the entity. Used to serve auto complete locally.
+   *
+   * @param entityName name of the entity
+   * @param limit the max number of entities returned
+   * @return map of urn to the auto complete field values of the entity by field, in rank order
+   */
+  @Nonnull
+  Map<Urn, Map<String, List<String>>> getAutoCompleteValues(@Nonnull String entityName, int limit);
+
   /**
    * Returns number of documents per field value given the field and filters
    *
@@ -0,0 +1,277 @@
+package com.linkedin.metadata.search.cache;
+
+import com.codahale.metrics.Timer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.metadata.config.cache.AutoCompleteCacheConfiguration;
+import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.query.AutoCompleteEntity;
+import com.linkedin.metadata.query.AutoCompleteEntityArray;
+import com.linkedin.metadata.query.AutoCompleteResult;
+import com.linkedin.metadata.search.EntitySearchService;
+import com.linkedin.metadata.search.elasticsearch.query.request.AutocompleteRequestHandler;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * In-memory prefix index of the auto complete field values of the most popular entities of each type.
+ *
+ * Each value is split into tokens, and the tokens are kept sorted so that all the entities with a token starting with
+ * a given prefix are found with a single range lookup. Short prefixes match many entities, so they are served from
+ * the index. Longer prefixes, and prefixes that match fewer entities than requested while the index does not hold
+ * every entity of the type, are left to Elasticsearch.
+ *
+ * The index of each type is rebuilt from Elasticsearch in the background, and kept up to date in between from the
+ * search documents written while processing change logs.
+ */
+@Slf4j
+public class AutoCompletePrefixIndex {
+
+  private static final Pattern TOKEN_DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private final EntityRegistry _entityRegistry;
+  private final EntitySearchService _entitySearchService;
+  private final AutoCompleteCacheConfiguration _config;
+  private final Map<String, EntityIndex> _indices = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService _refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "autocomplete-prefix-index-refresh");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  public AutoCompletePrefixIndex(@Nonnull EntityRegistry entityRegistry, @Nonnull EntitySearchService entitySearchService,
+      @Nonnull AutoCompleteCacheConfiguration config) {
+    _entityRegistry = entityRegistry;
+    _entitySearchService = entitySearchService;
+    _config = config;
+  }
+
+  /**
+   * Builds the index now and then rebuilds it at the configured interval.
+   */
+  public void start() {
+    _refreshExecutor.scheduleWithFixedDelay(this::refresh, 0, _config.getRefreshIntervalSeconds(), TimeUnit.SECONDS);
+  }
+
+  public void stop() {
+    _refreshExecutor.shutdownNow();
+  }
+
+  /**
+   * Rebuilds the index of every entity type with auto complete fields.
+   */
+  public void refresh() {
+    for (EntitySpec entitySpec : _entityRegistry.getEntitySpecs().values()) {
+      if (getAutoCompleteFields(entitySpec.getName()).isEmpty()) {
+        continue;
+      }
+      try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "refresh").time()) {
+        refresh(entitySpec.getName());
+      } catch (Exception e) {
+        log.error("Failed to refresh the auto complete index of entity {}", entitySpec.getName(), e);
+        MetricUtils.exceptionCounter(this.getClass(), "refreshFailed", e);
+      }
+    }
+  }
+
+  private void refresh(@Nonnull String entityName) {
+    final int maxEntries = _config.getMaxEntriesPerEntity();
+    final Map<Urn, Map<String, List<String>>> values = _entitySearchService.getAutoCompleteValues(entityName, maxEntries);
+    final EntityIndex index = new EntityIndex(values.size() < maxEntries);
+    values.forEach(index::put);
+    _indices.put(entityName, index);
+  }
+
+  /**
+   * Returns auto complete results for the input if they can be served from the index.
+   *
+   * @param entityName name of the entity
+   * @param input the type ahead input
+   * @param limit the max number of results
+   * @return the results, or empty if the request must be sent to Elasticsearch
+   */
+  @Nonnull
+  public Optional<AutoCompleteResult> autoComplete(@Nonnull String entityName, @Nonnull String input, int limit) {
+    final EntityIndex index = _indices.get(entityName);
+    final String prefix = input.trim().toLowerCase(Locale.ROOT);
+    if (index == null || prefix.isEmpty() || prefix.length() > _config.getMaxPrefixLength()
+        || TOKEN_DELIMITER.matcher(prefix).find()) {
+      return Optional.empty();
+    }
+
+    final List<Map.Entry<Urn, String>> matches = index.find(prefix, limit);
+    if (matches.size() < limit && !index.isComplete()) {
+      MetricUtils.counter(this.getClass(), "autoCompleteFallThrough").inc();
+      return Optional.empty();
+    }
+    MetricUtils.counter(this.getClass(), "autoCompleteServedLocally").inc();
+    return Optional.of(new AutoCompleteResult()
+        .setQuery(input)
+        .setSuggestions(new StringArray(matches.stream().map(Map.Entry::getValue).distinct().collect(Collectors.toList())))
+        .setEntities(new AutoCompleteEntityArray(matches.stream()
+            .map(match -> new AutoCompleteEntity().setUrn(match.getKey()))
+            .collect(Collectors.toList()))));
+  }
+
+  /**
+   * Updates the index from a search document written for the entity. A document only holds the fields of the aspect
+   * written, so its auto complete fields are merged into the values of the other fields already indexed. Documents
+   * without auto complete fields are ignored, and removed entities are dropped from the index.
+   */
+  public void upsertDocument(@Nonnull String entityName, @Nonnull Urn urn, @Nonnull String searchDocument) {
+    final EntityIndex index = _indices.get(entityName);
+    if (index == null) {
+      return;
+    }
+    final JsonNode document;
+    try {
+      document = OBJECT_MAPPER.readTree(searchDocument);
+    } catch (IOException e) {
+      log.warn("Failed to parse search document of {}", urn, e);
+      return;
+    }
+    if (document.path("removed").asBoolean(false)) {
+      index.remove(urn);
+      return;
+    }
+    final Map<String, List<String>> valuesByField = new LinkedHashMap<>();
+    for (String field : getAutoCompleteFields(entityName)) {
+      final JsonNode value = document.get(field);
+      if (value == null) {
+        continue;
+      }
+      final List<String> values = new ArrayList<>();
+      if (value.isArray()) {
+        value.forEach(element -> values.add(element.asText()));
+      } else if (!value.isNull()) {
+        values.add(value.asText());
+      }
+      valuesByField.put(field, values);
+    }
+    if (!valuesByField.isEmpty()) {
+      index.merge(urn, valuesByField);
+    }
+  }
+
+  public void remove(@Nonnull String entityName, @Nonnull Urn urn) {
+    final EntityIndex index = _indices.get(entityName);
+    if (index != null) {
+      index.remove(urn);
+    }
+  }
+
+  private List<String> getAutoCompleteFields(@Nonnull String entityName) {
+    return AutocompleteRequestHandler.getBuilder(_entityRegistry.getEntitySpec(entityName))
+        .getDefaultAutocompleteFieldsWithoutUrn();
+  }
+
+  private static Set<String> tokenize(@Nonnull String value) {
+    final Set<String> tokens = new HashSet<>();
+    for (String token : TOKEN_DELIMITER.split(value.toLowerCase(Locale.ROOT))) {
+      if (!token.isEmpty()) {
+        tokens.add(token);
+      }
+    }
+    return tokens;
+  }
+
+  /**
+   * Index of the entities of a single type. Entities loaded from Elasticsearch keep their rank; entities added from
+   * change logs rank after them until the next refresh.
+   */
+  private static class EntityIndex {
+    private final boolean _complete;
+    private final NavigableMap<String, Set<Urn>> _urnsByToken = new TreeMap<>();
+    private final Map<Urn, Map<String, List<String>>> _valuesByUrn = new HashMap<>();
+    private final Map<Urn, Integer> _rankByUrn = new HashMap<>();
+
+    EntityIndex(boolean complete) {
+      _complete = complete;
+    }
+
+    boolean isComplete() {
+      return _complete;
+    }
+
+    synchronized void put(@Nonnull Urn urn, @Nonnull Map<String, List<String>> valuesByField) {
+      remove(urn);
+      _valuesByUrn.put(urn, valuesByField);
+      _rankByUrn.putIfAbsent(urn, _rankByUrn.size());
+      getValues(valuesByField).forEach(value -> tokenize(value)
+          .forEach(token -> _urnsByToken.computeIfAbsent(token, key -> new HashSet<>()).add(urn)));
+    }
+
+    /**
+     * Replaces the values of the given fields of the entity, keeping the values of its other fields.
+     */
+    synchronized void merge(@Nonnull Urn urn, @Nonnull Map<String, List<String>> valuesByField) {
+      final Map<String, List<String>> merged = new LinkedHashMap<>(_valuesByUrn.getOrDefault(urn, Map.of()));
+      merged.putAll(valuesByField);
+      put(urn, merged);
+    }
+
+    synchronized void remove(@Nonnull Urn urn) {
+      final Map<String, List<String>> valuesByField = _valuesByUrn.remove(urn);
+      if (valuesByField == null) {
+        return;
+      }
+      getValues(valuesByField).forEach(value -> tokenize(value).forEach(token -> {
+        final Set<Urn> urns = _urnsByToken.get(token);
+        if (urns != null) {
+          urns.remove(urn);
+          if (urns.isEmpty()) {
+            _urnsByToken.remove(token);
+          }
+        }
+      }));
+    }
+
+    /**
+     * Returns up to limit of the highest ranked entities with a token starting with the prefix, each with the value
+     * that matched.
+     */
+    synchronized List<Map.Entry<Urn, String>> find(@Nonnull String prefix, int limit) {
+      final Set<Urn> urns = new LinkedHashSet<>();
+      _urnsByToken.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values().forEach(urns::addAll);
+      return urns.stream()
+          .sorted(Comparator.comparing(urn -> _rankByUrn.getOrDefault(urn, Integer.MAX_VALUE)))
+          .limit(limit)
+          .map(urn -> Map.entry(urn, getValues(_valuesByUrn.get(urn))
+              .filter(value -> tokenize(value).stream().anyMatch(token -> token.startsWith(prefix)))
+              .findFirst()
+              .orElse("")))
+          .collect(Collectors.toList());
+    }
+
+    private static Stream<String> getValues(@Nonnull Map<String, List<String>> valuesByField) {
+      return valuesByField.values().stream().flatMap(List::stream);
+    }
+  }
+}
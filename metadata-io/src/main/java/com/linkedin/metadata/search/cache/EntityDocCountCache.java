@@ -1,41 +1,108 @@
 package com.linkedin.metadata.search.cache;
 
-import com.google.common.base.Suppliers;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.linkedin.metadata.config.cache.EntityDocCountCacheConfiguration;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.search.EntitySearchService;
-import com.linkedin.metadata.utils.ConcurrencyUtils;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import io.opentelemetry.extension.annotations.WithSpan;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Function;
-import java.util.function.Supplier;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
 
 
+/**
+ * Caches the number of documents of each entity.
+ *
+ * Only the first read loads the counts on the calling thread. Afterwards, a read made once half of the ttl has passed
+ * triggers a refresh in the background and is served the current counts, so requests never wait for a recount. If a
+ * refresh fails, or the count of an entity fails, the previous counts keep being served.
+ */
+@Slf4j
 public class EntityDocCountCache {
+  private static final ExecutorService REFRESH_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "entity-doc-count-refresh");
+    thread.setDaemon(true);
+    return thread;
+  });
+
   private final EntityRegistry _entityRegistry;
   private final EntitySearchService _entitySearchService;
-  private final Supplier<Map<String, Long>> entityDocCount;
+  private final long _ttlMillis;
+  private final AtomicBoolean _refreshing = new AtomicBoolean(false);
+  private volatile Map<String, Long> _entityDocCount;
+  private volatile long _lastRefreshMillis;
 
   public EntityDocCountCache(EntityRegistry entityRegistry, EntitySearchService entitySearchService,
       EntityDocCountCacheConfiguration config) {
     _entityRegistry = entityRegistry;
     _entitySearchService = entitySearchService;
-    entityDocCount = Suppliers.memoizeWithExpiration(this::fetchEntityDocCount, config.getTtlSeconds(), TimeUnit.SECONDS);
+    _ttlMillis = TimeUnit.SECONDS.toMillis(config.getTtlSeconds());
+  }
+
+  private synchronized void refresh() {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "refresh").time()) {
+      final Map<String, Long> fetched = _entitySearchService.docCountPerEntity(_entityRegistry.getEntitySpecs().keySet());
+      final Map<String, Long> previous = _entityDocCount == null ? Map.of() : _entityDocCount;
+      final Map<String, Long> entityDocCount = new HashMap<>(previous);
+      entityDocCount.putAll(fetched);
+      final long changed = fetched.entrySet()
+          .stream()
+          .filter(entry -> !Objects.equals(previous.get(entry.getKey()), entry.getValue()))
+          .count();
+      MetricUtils.counter(this.getClass(), "changedEntities").inc(changed);
+      if (fetched.size() < _entityRegistry.getEntitySpecs().size()) {
+        MetricUtils.counter(this.getClass(), "failedEntities").inc(_entityRegistry.getEntitySpecs().size() - fetched.size());
+      }
+      _entityDocCount = entityDocCount;
+      _lastRefreshMillis = System.currentTimeMillis();
+    }
   }
 
-  private Map<String, Long> fetchEntityDocCount() {
-    return ConcurrencyUtils
-        .transformAndCollectAsync(_entityRegistry.getEntitySpecs().keySet(),
-            Function.identity(),
-            Collectors.toMap(Function.identity(), _entitySearchService::docCount));
+  private void refreshAsync() {
+    if (!_refreshing.compareAndSet(false, true)) {
+      return;
+    }
+    REFRESH_EXECUTOR.execute(() -> {
+      try {
+        refresh();
+      } catch (Exception e) {
+        log.error("Failed to refresh entity doc counts", e);
+        MetricUtils.exceptionCounter(this.getClass(), "refreshFailed", e);
+      } finally {
+        _refreshing.set(false);
+      }
+    });
   }
 
   @WithSpan
   public Map<String, Long> getEntityDocCount() {
-    return entityDocCount.get();
+    if (_entityDocCount == null) {
+      synchronized (this) {
+        if (_entityDocCount == null) {
+          refresh();
+        }
+      }
+      return _entityDocCount;
+    }
+
+    final long age = System.currentTimeMillis() - _lastRefreshMillis;
+    MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "ageMillis")).update(age);
+    if (age >= _ttlMillis) {
+      MetricUtils.counter(this.getClass(), "staleRead").inc();
+    }
+    if (age >= _ttlMillis / 2) {
+      refreshAsync();
+    }
+    return _entityDocCount;
   }
 
   public List<String> getNonEmptyEntities() {
@@ -9,6 +9,7 @@ import com.linkedin.metadata.query.filter.SortCriterion;
 import com.linkedin.metadata.search.EntitySearchService;
 import com.linkedin.metadata.search.ScrollResult;
 import com.linkedin.metadata.search.SearchResult;
+import com.linkedin.metadata.search.cache.AutoCompletePrefixIndex;
 import com.linkedin.metadata.search.cache.CacheableSearcher;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import java.util.List;
@@ -16,6 +17,7 @@ import java.util.Optional;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.javatuples.Quintet;
 import org.javatuples.Sextet;
 import org.springframework.cache.Cache;
@@ -36,6 +38,9 @@ public class CachingEntitySearchService {
   private final EntitySearchService entitySearchService; // This is a shared component, also used in search aggregation
   private final int batchSize;
   private final boolean enableCache;
+  @Setter
+  @Nullable
+  private AutoCompletePrefixIndex autoCompletePrefixIndex;
 
   /**
    * Retrieves cached search results. If the query has been cached, this will return quickly. If not, a full
@@ -170,6 +175,12 @@ public class CachingEntitySearchService {
       int limit,
       @Nullable SearchFlags flags) {
     try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "getCachedAutoCompleteResults").time()) {
+      if (autoCompletePrefixIndex != null && field == null && filters == null) {
+        Optional<AutoCompleteResult> localResult = autoCompletePrefixIndex.autoComplete(entityName, input, limit);
+        if (localResult.isPresent()) {
+          return localResult.get();
+        }
+      }
       Cache cache = cacheManager.getCache(ENTITY_SEARCH_SERVICE_AUTOCOMPLETE_CACHE_NAME);
       AutoCompleteResult result;
       if (enableCache(flags)) {
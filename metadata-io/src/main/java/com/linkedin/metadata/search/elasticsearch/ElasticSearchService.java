@@ -10,6 +10,7 @@ import com.linkedin.metadata.query.filter.SortCriterion;
 import com.linkedin.metadata.search.EntitySearchService;
 import com.linkedin.metadata.search.ScrollResult;
 import com.linkedin.metadata.search.SearchResult;
+import com.linkedin.metadata.search.elasticsearch.browse.ESBrowseTreeDAO;
 import com.linkedin.metadata.search.elasticsearch.indexbuilder.EntityIndexBuilders;
 import com.linkedin.metadata.search.elasticsearch.indexbuilder.ReindexConfig;
 import com.linkedin.metadata.search.elasticsearch.query.ESBrowseDAO;
@@ -18,6 +19,7 @@ import com.linkedin.metadata.search.elasticsearch.update.ESWriteDAO;
 import com.linkedin.metadata.search.utils.ESUtils;
 import com.linkedin.metadata.search.utils.SearchUtils;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -59,11 +61,24 @@ public class ElasticSearchService implements EntitySearchService, ElasticSearchI
     esWriteDAO.clear();
   }
 
+  /**
+   * Serves unfiltered browse V2 requests from the given browse tree.
+   */
+  public void setBrowseTreeDAO(@Nullable ESBrowseTreeDAO browseTreeDAO) {
+    esBrowseDAO.setBrowseTreeDAO(browseTreeDAO);
+  }
+
   @Override
   public long docCount(@Nonnull String entityName) {
     return esSearchDAO.docCount(entityName);
   }
 
+  @Nonnull
+  @Override
+  public Map<String, Long> docCountPerEntity(@Nonnull Collection<String> entityNames) {
+    return esSearchDAO.docCountPerEntity(entityNames);
+  }
+
   @Override
   public void upsertDocument(@Nonnull String entityName, @Nonnull String document, @Nonnull String docId) {
     log.debug(String.format("Upserting Search document entityName: %s, document: %s, docId: %s", entityName, document,
@@ -79,6 +94,9 @@ public class ElasticSearchService implements EntitySearchService, ElasticSearchI
 
   @Override
   public void appendRunId(@Nonnull String entityName, @Nonnull Urn urn, @Nullable String runId) {
+    if (runId == null) {
+      return;
+    }
     final Optional<String> maybeDocId = SearchUtils.getDocId(urn);
     if (!maybeDocId.isPresent()) {
       log.warn(String.format("Failed to append run id, could not generate a doc id for urn %s", urn));
@@ -86,22 +104,7 @@ public class ElasticSearchService implements EntitySearchService, ElasticSearchI
     }
     final String docId = maybeDocId.get();
     log.debug(String.format("Appending run id for entityName: %s, docId: %s", entityName, docId));
-    esWriteDAO.applyScriptUpdate(entityName, docId,
-        /*
-          Script used to apply updates to the runId field of the index.
-          This script saves the past N run ids which touched a particular URN in the search index.
-          It only adds a new run id if it is not already stored inside the list. (List is unique AND ordered)
-        */
-        String.format(
-            "if (ctx._source.containsKey('runId')) { "
-                + "if (!ctx._source.runId.contains('%s')) { "
-                + "ctx._source.runId.add('%s'); "
-                + "if (ctx._source.runId.length > %s) { ctx._source.runId.remove(0) } } "
-                + "} else { ctx._source.runId = ['%s'] }",
-            runId,
-            runId,
-            MAX_RUN_IDS_INDEXED,
-            runId));
+    esWriteDAO.appendRunId(entityName, docId, runId, MAX_RUN_IDS_INDEXED);
   }
 
   @Nonnull
@@ -139,6 +142,12 @@ public class ElasticSearchService implements EntitySearchService, ElasticSearchI
     return esSearchDAO.autoComplete(entityName, query, field, requestParams, limit);
   }
 
+  @Nonnull
+  @Override
+  public Map<Urn, Map<String, List<String>>> getAutoCompleteValues(@Nonnull String entityName, int limit) {
+    return esSearchDAO.getAutoCompleteValues(entityName, limit);
+  }
+
   @Nonnull
   @Override
   public Map<String, Long> aggregateByValue(@Nullable String entityName, @Nonnull String field,
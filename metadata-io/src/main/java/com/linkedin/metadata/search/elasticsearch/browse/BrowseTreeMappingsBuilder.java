@@ -0,0 +1,29 @@
+package com.linkedin.metadata.search.elasticsearch.browse;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.HashMap;
+import java.util.Map;
+
+
+public class BrowseTreeMappingsBuilder {
+
+  private BrowseTreeMappingsBuilder() { }
+
+  public static Map<String, Object> getMappings() {
+    Map<String, Object> mappings = new HashMap<>();
+    mappings.put(ESBrowseTreeDAO.FIELD_ENTITY_TYPE, getMappingsForKeyword());
+    mappings.put(ESBrowseTreeDAO.FIELD_PATH, getMappingsForKeyword());
+    mappings.put(ESBrowseTreeDAO.FIELD_PARENT_PATH, getMappingsForKeyword());
+    mappings.put(ESBrowseTreeDAO.FIELD_URN, getMappingsForKeyword());
+    mappings.put(ESBrowseTreeDAO.FIELD_LEAF, getMappingsForBoolean());
+    return ImmutableMap.of("properties", mappings);
+  }
+
+  private static Map<String, Object> getMappingsForKeyword() {
+    return ImmutableMap.<String, Object>builder().put("type", "keyword").build();
+  }
+
+  private static Map<String, Object> getMappingsForBoolean() {
+    return ImmutableMap.<String, Object>builder().put("type", "boolean").build();
+  }
+}
@@ -0,0 +1,388 @@
+package com.linkedin.metadata.search.elasticsearch.browse;
+
+import com.codahale.metrics.Timer;
+import com.datahub.util.exception.ESQueryException;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.linkedin.common.BrowsePathEntry;
+import com.linkedin.common.BrowsePathsV2;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.browse.BrowseResultGroupV2;
+import com.linkedin.metadata.browse.BrowseResultGroupV2Array;
+import com.linkedin.metadata.browse.BrowseResultMetadata;
+import com.linkedin.metadata.browse.BrowseResultV2;
+import com.linkedin.metadata.search.elasticsearch.indexbuilder.ESIndexBuilder;
+import com.linkedin.metadata.search.elasticsearch.indexbuilder.ReindexConfig;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
+import com.linkedin.metadata.search.utils.SearchUtils;
+import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.action.delete.DeleteRequest;
+import org.elasticsearch.action.get.GetRequest;
+import org.elasticsearch.action.get.GetResponse;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.common.xcontent.XContentType;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.search.SearchHit;
+import org.elasticsearch.search.aggregations.AggregationBuilders;
+import org.elasticsearch.search.aggregations.BucketOrder;
+import org.elasticsearch.search.aggregations.PipelineAggregatorBuilders;
+import org.elasticsearch.search.aggregations.bucket.filter.Filter;
+import org.elasticsearch.search.aggregations.bucket.terms.Terms;
+import org.elasticsearch.search.aggregations.metrics.Cardinality;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.elasticsearch.search.fetch.subphase.FetchSourceContext;
+import org.elasticsearch.search.sort.SortOrder;
+
+
+/**
+ * DAO of the browse tree index, which materializes the browse paths V2 of the entities of each type.
+ *
+ * There is one membership document per entity and node of its path, keyed by both, so writing the path of an entity
+ * again leaves the index unchanged. Soft deleted entities have no memberships, matching the browse V2 aggregation. A
+ * browse level is served with a single query on the memberships of the children of its node, whose documents are
+ * counted by aggregation.
+ *
+ * The tree of an entity type is only served once it has been fully rebuilt from the search index, which is recorded
+ * by a marker document per entity type. Until then browse requests fall back to the aggregation over the search index.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ESBrowseTreeDAO {
+
+  public static final String INDEX_NAME = "browse_tree_v2";
+  static final String FIELD_ENTITY_TYPE = "entityType";
+  static final String FIELD_URN = "urn";
+  static final String FIELD_PATH = "path";
+  static final String FIELD_PARENT_PATH = "parentPath";
+  static final String FIELD_LEAF = "leaf";
+
+  private static final String BROWSE_PATH_V2 = "browsePathV2";
+  private static final String BROWSE_V2_DELIMITER = "␟";
+  private static final String REMOVED = "removed";
+  private static final String URN = "urn";
+  private static final String DOC_DELIMITER = "--";
+  private static final String REBUILT_MARKER_PREFIX = "rebuilt";
+  private static final String GROUP_AGG = "groups";
+  private static final String HAS_SUB_GROUPS_AGG = "hasSubGroups";
+  private static final String PAGE_AGG = "page";
+  private static final String NUM_GROUPS_AGG = "numGroups";
+  private static final int MAX_PRECISION_THRESHOLD = 40000;
+  private static final int REBUILD_PAGE_SIZE = 1000;
+
+  private final RestHighLevelClient client;
+  private final IndexConvention indexConvention;
+  private final ESBulkProcessor bulkProcessor;
+  private final ESIndexBuilder indexBuilder;
+  private final int numRetries;
+  // Entity types whose rebuild complete marker has been read
+  private final Set<String> rebuiltEntityTypes = ConcurrentHashMap.newKeySet();
+
+  @Value
+  private static class IndexedEntity {
+    @Nullable
+    String path;
+    boolean removed;
+  }
+
+  /**
+   * Builds the browse tree index. The tree of each entity type must then be rebuilt unless {@link #isRebuilt(String)}.
+   */
+  public void configure() throws IOException {
+    final ReindexConfig config = indexBuilder.buildReindexState(getIndexName(), BrowseTreeMappingsBuilder.getMappings(),
+        Collections.emptyMap());
+    indexBuilder.buildIndex(config);
+  }
+
+  /**
+   * Returns true if the browse tree of the entity type has been rebuilt completely, and is kept up to date since.
+   */
+  public boolean isRebuilt(@Nonnull String entityName) {
+    if (rebuiltEntityTypes.contains(entityName)) {
+      return true;
+    }
+    final GetResponse response;
+    try {
+      response = client.get(new GetRequest(getIndexName(), toRebuiltMarkerId(entityName))
+          .fetchSourceContext(FetchSourceContext.DO_NOT_FETCH_SOURCE), RequestOptions.DEFAULT);
+    } catch (IOException e) {
+      log.error("Failed to get the browse tree rebuild marker of entity {}: {}", entityName, e.getMessage());
+      return false;
+    }
+    if (response.isExists()) {
+      rebuiltEntityTypes.add(entityName);
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Returns the browse path V2 of the aspect, in the format stored in the search index.
+   */
+  @Nonnull
+  public static String toPath(@Nonnull BrowsePathsV2 browsePaths) {
+    return browsePaths.getPath()
+        .stream()
+        .map(BrowsePathEntry::getId)
+        .map(id -> BROWSE_V2_DELIMITER + id)
+        .collect(Collectors.joining());
+  }
+
+  /**
+   * Moves an entity from its previous browse path to its new one. The memberships of the new path are written whatever
+   * the previous path, so change logs which are replayed, e.g. by restore indices, leave the tree unchanged.
+   */
+  public void updateEntityPath(@Nonnull String entityName, @Nonnull Urn urn, @Nullable String oldPath,
+      @Nullable String newPath) {
+    if (Objects.equals(oldPath, newPath)) {
+      return;
+    }
+    final boolean removed = getIndexedEntity(entityName, urn).map(IndexedEntity::isRemoved).orElse(false);
+    final List<String> newNodes = removed ? Collections.emptyList() : getNodes(newPath);
+    getNodes(oldPath).stream()
+        .filter(node -> !newNodes.contains(node))
+        .forEach(node -> bulkProcessor.add(new DeleteRequest(getIndexName(), toDocId(entityName, urn, node))));
+    addMemberships(entityName, urn, newNodes);
+  }
+
+  /**
+   * Adds or removes an entity from the browse tree when it is restored or soft deleted.
+   */
+  public void updateEntityStatus(@Nonnull String entityName, @Nonnull Urn urn, boolean wasRemoved, boolean removed) {
+    if (wasRemoved == removed) {
+      return;
+    }
+    if (removed) {
+      removeEntity(entityName, urn);
+    } else {
+      final String path = getIndexedEntity(entityName, urn).map(IndexedEntity::getPath).orElse(null);
+      addMemberships(entityName, urn, getNodes(path));
+    }
+  }
+
+  /**
+   * Removes every membership of an entity from the browse tree.
+   */
+  public void removeEntity(@Nonnull String entityName, @Nonnull Urn urn) {
+    bulkProcessor.deleteByQuery(QueryBuilders.boolQuery()
+        .filter(QueryBuilders.termQuery(FIELD_ENTITY_TYPE, entityName))
+        .filter(QueryBuilders.termQuery(FIELD_URN, urn.toString())), false, getIndexName());
+  }
+
+  /**
+   * Returns the groups directly under the given path, or empty if the browse tree holds no entity under the path.
+   */
+  @Nonnull
+  public Optional<BrowseResultV2> browse(@Nonnull String entityName, @Nonnull String path, int start, int count) {
+    if (!isRebuilt(entityName)) {
+      MetricUtils.counter(this.getClass(), "browseTreeNotRebuilt").inc();
+      return Optional.empty();
+    }
+    // Every entity below the path has exactly one membership whose parent is the path: the one of its child node.
+    final SearchSourceBuilder searchSource = new SearchSourceBuilder()
+        .query(QueryBuilders.boolQuery()
+            .filter(QueryBuilders.termQuery(FIELD_ENTITY_TYPE, entityName))
+            .filter(QueryBuilders.termQuery(FIELD_PARENT_PATH, path)))
+        .aggregation(AggregationBuilders.terms(GROUP_AGG)
+            .field(FIELD_PATH)
+            .size(start + count)
+            .order(List.of(BucketOrder.count(false), BucketOrder.key(true)))
+            .subAggregation(AggregationBuilders.filter(HAS_SUB_GROUPS_AGG, QueryBuilders.termQuery(FIELD_LEAF, false)))
+            .subAggregation(PipelineAggregatorBuilders.bucketSort(PAGE_AGG, Collections.emptyList())
+                .from(start)
+                .size(count)))
+        .aggregation(AggregationBuilders.cardinality(NUM_GROUPS_AGG)
+            .field(FIELD_PATH)
+            .precisionThreshold(MAX_PRECISION_THRESHOLD))
+        .size(0)
+        .trackTotalHits(true);
+
+    final SearchResponse response;
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "browse").time()) {
+      response = client.search(new SearchRequest(getIndexName()).source(searchSource), RequestOptions.DEFAULT);
+    } catch (IOException e) {
+      log.error("Browse tree query failed: " + e.getMessage());
+      throw new ESQueryException("Browse tree query failed: ", e);
+    }
+
+    final long totalNumEntities = response.getHits().getTotalHits().value;
+    if (totalNumEntities == 0) {
+      MetricUtils.counter(this.getClass(), "browseNodeMissing").inc();
+      return Optional.empty();
+    }
+    final List<BrowseResultGroupV2> groups = new ArrayList<>();
+    final Terms groupAgg = response.getAggregations().get(GROUP_AGG);
+    for (Terms.Bucket bucket : groupAgg.getBuckets()) {
+      final Filter hasSubGroups = bucket.getAggregations().get(HAS_SUB_GROUPS_AGG);
+      groups.add(toBrowseResultGroup(bucket.getKeyAsString(), bucket.getDocCount(), hasSubGroups.getDocCount() > 0));
+    }
+    final Cardinality numGroups = response.getAggregations().get(NUM_GROUPS_AGG);
+    return Optional.of(new BrowseResultV2()
+        .setMetadata(new BrowseResultMetadata().setTotalNumEntities(totalNumEntities).setPath(path))
+        .setGroups(new BrowseResultGroupV2Array(groups))
+        .setNumGroups((int) numGroups.getValue())
+        .setFrom(start)
+        .setPageSize(count));
+  }
+
+  /**
+   * Recomputes the browse tree of an entity type from its search index, and then marks it as rebuilt. Updates applied
+   * to the same entity type while it is rebuilt may be lost.
+   */
+  public void rebuild(@Nonnull String entityName) throws IOException {
+    // The marker has the entity type, so it is deleted with the memberships and the tree is not served until rebuilt
+    rebuiltEntityTypes.remove(entityName);
+    bulkProcessor.deleteByQuery(QueryBuilders.termQuery(FIELD_ENTITY_TYPE, entityName), true, getIndexName());
+
+    final SearchSourceBuilder searchSource = new SearchSourceBuilder()
+        .query(QueryBuilders.boolQuery()
+            .filter(QueryBuilders.existsQuery(BROWSE_PATH_V2))
+            .mustNot(QueryBuilders.termQuery(REMOVED, true)))
+        .fetchSource(new String[]{URN, BROWSE_PATH_V2}, null)
+        .sort(URN, SortOrder.ASC)
+        .size(REBUILD_PAGE_SIZE);
+    long numEntities = 0;
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "rebuild").time()) {
+      SearchHit[] hits;
+      do {
+        hits = client.search(new SearchRequest(indexConvention.getEntityIndexName(entityName)).source(searchSource),
+            RequestOptions.DEFAULT).getHits().getHits();
+        for (SearchHit hit : hits) {
+          final Map<String, Object> source = hit.getSourceAsMap();
+          addMemberships(entityName, UrnUtils.getUrn((String) source.get(URN)),
+              getNodes((String) source.get(BROWSE_PATH_V2)));
+        }
+        if (hits.length > 0) {
+          searchSource.searchAfter(hits[hits.length - 1].getSortValues());
+        }
+        numEntities += hits.length;
+      } while (hits.length == REBUILD_PAGE_SIZE);
+      bulkProcessor.flush();
+      final ObjectNode marker = JsonNodeFactory.instance.objectNode();
+      marker.put(FIELD_ENTITY_TYPE, entityName);
+      client.index(new IndexRequest(getIndexName())
+          .id(toRebuiltMarkerId(entityName))
+          .source(marker.toString(), XContentType.JSON), RequestOptions.DEFAULT);
+    }
+    log.info("Rebuilt browse tree of entity {} with {} entities", entityName, numEntities);
+  }
+
+  private void addMemberships(@Nonnull String entityName, @Nonnull Urn urn, @Nonnull List<String> nodes) {
+    for (int i = 0; i < nodes.size(); i++) {
+      final String node = nodes.get(i);
+      bulkProcessor.add(new IndexRequest(getIndexName())
+          .id(toDocId(entityName, urn, node))
+          .source(toDocument(entityName, urn, node, i == nodes.size() - 1), XContentType.JSON));
+    }
+  }
+
+  /**
+   * Returns the nodes of the path, from the top level to the last one. The root node is not included: every entity
+   * with a path is below it.
+   */
+  @Nonnull
+  private static List<String> getNodes(@Nullable String path) {
+    if (path == null || path.isEmpty()) {
+      return Collections.emptyList();
+    }
+    final List<String> nodes = new ArrayList<>();
+    final StringBuilder node = new StringBuilder();
+    for (String name : path.substring(path.indexOf(BROWSE_V2_DELIMITER) + 1).split(BROWSE_V2_DELIMITER)) {
+      node.append(BROWSE_V2_DELIMITER).append(name);
+      nodes.add(node.toString());
+    }
+    return nodes;
+  }
+
+  @Nonnull
+  private Optional<IndexedEntity> getIndexedEntity(@Nonnull String entityName, @Nonnull Urn urn) {
+    final Optional<String> docId = SearchUtils.getDocId(urn);
+    if (!docId.isPresent()) {
+      return Optional.empty();
+    }
+    final GetRequest request = new GetRequest(indexConvention.getEntityIndexName(entityName), docId.get())
+        .fetchSourceContext(new FetchSourceContext(true, new String[]{BROWSE_PATH_V2, REMOVED}, null));
+    final GetResponse response;
+    try {
+      response = client.get(request, RequestOptions.DEFAULT);
+    } catch (IOException e) {
+      log.error("Failed to get search document of {}: {}", urn, e.getMessage());
+      throw new ESQueryException("Failed to get search document: ", e);
+    }
+    if (!response.isExists()) {
+      return Optional.empty();
+    }
+    final Map<String, Object> source = response.getSourceAsMap();
+    return Optional.of(new IndexedEntity((String) source.get(BROWSE_PATH_V2),
+        Boolean.TRUE.equals(source.get(REMOVED))));
+  }
+
+  private String getIndexName() {
+    return indexConvention.getIndexName(INDEX_NAME);
+  }
+
+  @Nonnull
+  private static String getParentPath(@Nonnull String path) {
+    return path.substring(0, Math.max(path.lastIndexOf(BROWSE_V2_DELIMITER), 0));
+  }
+
+  private static BrowseResultGroupV2 toBrowseResultGroup(@Nonnull String path, long count, boolean hasSubGroups) {
+    final String name = path.substring(path.lastIndexOf(BROWSE_V2_DELIMITER) + 1);
+    final BrowseResultGroupV2 group = new BrowseResultGroupV2()
+        .setName(name)
+        .setCount(count)
+        .setHasSubGroups(hasSubGroups);
+    if (name.startsWith("urn:li:")) {
+      group.setUrn(UrnUtils.getUrn(name));
+    }
+    return group;
+  }
+
+  private static String toDocument(@Nonnull String entityName, @Nonnull Urn urn, @Nonnull String path, boolean leaf) {
+    final ObjectNode document = JsonNodeFactory.instance.objectNode();
+    document.put(FIELD_ENTITY_TYPE, entityName);
+    document.put(FIELD_URN, urn.toString());
+    document.put(FIELD_PATH, path);
+    document.put(FIELD_PARENT_PATH, getParentPath(path));
+    document.put(FIELD_LEAF, leaf);
+    return document.toString();
+  }
+
+  private static String toRebuiltMarkerId(@Nonnull String entityName) {
+    return REBUILT_MARKER_PREFIX + DOC_DELIMITER + entityName;
+  }
+
+  private static String toDocId(@Nonnull String entityName, @Nonnull Urn urn, @Nonnull String path) {
+    final String rawDocId = entityName + DOC_DELIMITER + urn + DOC_DELIMITER + path;
+    try {
+      final MessageDigest md = MessageDigest.getInstance("MD5");
+      return Base64.getEncoder().encodeToString(md.digest(rawDocId.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("MD5 is not available", e);
+    }
+  }
+}
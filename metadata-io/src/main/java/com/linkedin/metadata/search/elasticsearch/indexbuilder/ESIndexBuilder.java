@@ -2,6 +2,7 @@ package com.linkedin.metadata.search.elasticsearch.indexbuilder;
 
 import com.google.common.collect.ImmutableMap;
 
+import com.linkedin.metadata.search.elasticsearch.update.ESScripts;
 import com.linkedin.metadata.search.utils.ESUtils;
 import com.linkedin.metadata.timeseries.BatchWriteOperationsOptions;
 import com.linkedin.metadata.version.GitVersion;
@@ -32,6 +33,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.http.client.config.RequestConfig;
 import org.elasticsearch.ElasticsearchException;
 import org.elasticsearch.action.admin.cluster.node.tasks.list.ListTasksRequest;
+import org.elasticsearch.action.admin.cluster.storedscripts.PutStoredScriptRequest;
 import org.elasticsearch.action.admin.indices.alias.IndicesAliasesRequest;
 import org.elasticsearch.action.admin.indices.alias.IndicesAliasesRequest.AliasActions;
 import org.elasticsearch.action.admin.indices.alias.get.GetAliasesRequest;
@@ -49,8 +51,12 @@ import org.elasticsearch.client.indices.GetIndexResponse;
 import org.elasticsearch.client.indices.GetMappingsRequest;
 import org.elasticsearch.client.indices.PutMappingRequest;
 import org.elasticsearch.client.tasks.TaskSubmissionResponse;
+import org.elasticsearch.common.bytes.BytesReference;
 import org.elasticsearch.common.settings.Settings;
 import org.elasticsearch.common.unit.TimeValue;
+import org.elasticsearch.common.xcontent.XContentBuilder;
+import org.elasticsearch.common.xcontent.XContentFactory;
+import org.elasticsearch.common.xcontent.XContentType;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
 import org.elasticsearch.index.reindex.ReindexRequest;
@@ -170,6 +176,26 @@ public class ESIndexBuilder {
     return builder.build();
   }
 
+  /**
+   * Installs the given scripts as stored Painless scripts, replacing any script with the same id.
+   */
+  public void buildStoredScripts(Collection<ESScripts.StoredScript> scripts) throws IOException {
+    for (ESScripts.StoredScript script : scripts) {
+      XContentBuilder content = XContentFactory.jsonBuilder()
+          .startObject()
+          .startObject("script")
+          .field("lang", "painless")
+          .field("source", script.getSource())
+          .endObject()
+          .endObject();
+      PutStoredScriptRequest request = new PutStoredScriptRequest()
+          .id(script.getId())
+          .content(BytesReference.bytes(content), XContentType.JSON);
+      _searchClient.putScript(request, RequestOptions.DEFAULT);
+      log.info("Stored script {}", script.getId());
+    }
+  }
+
   @Deprecated
   public void buildIndex(String indexName, Map<String, Object> mappings, Map<String, Object> settings) throws IOException {
     buildIndex(buildReindexState(indexName, mappings, settings));
@@ -1,6 +1,7 @@
 package com.linkedin.metadata.search.elasticsearch.indexbuilder;
 
 import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.search.elasticsearch.update.ESScripts;
 import com.linkedin.metadata.shared.ElasticSearchIndexed;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import java.io.IOException;
@@ -21,6 +22,11 @@ public class EntityIndexBuilders implements ElasticSearchIndexed {
 
   @Override
   public void reindexAll() {
+      try {
+          indexBuilder.buildStoredScripts(ESScripts.ALL);
+      } catch (IOException e) {
+          throw new RuntimeException(e);
+      }
       for (ReindexConfig config : getReindexConfigs()) {
           try {
               indexBuilder.buildIndex(config);
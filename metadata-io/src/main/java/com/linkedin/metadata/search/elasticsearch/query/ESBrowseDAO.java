@@ -19,6 +19,7 @@ import com.linkedin.metadata.config.search.custom.CustomSearchConfiguration;
 import com.linkedin.metadata.models.EntitySpec;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.query.filter.Filter;
+import com.linkedin.metadata.search.elasticsearch.browse.ESBrowseTreeDAO;
 import com.linkedin.metadata.search.elasticsearch.query.request.SearchRequestHandler;
 import com.linkedin.metadata.search.utils.ESUtils;
 import com.linkedin.metadata.search.utils.SearchUtils;
@@ -31,10 +32,12 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.StringUtils;
@@ -68,6 +71,10 @@ public class ESBrowseDAO {
   private final SearchConfiguration searchConfiguration;
   @Nullable
   private final CustomSearchConfiguration customSearchConfiguration;
+  // When set, unfiltered browse V2 requests are served from the materialized browse tree
+  @Setter
+  @Nullable
+  private ESBrowseTreeDAO browseTreeDAO;
 
   private static final String BROWSE_PATH = "browsePaths";
   private static final String BROWSE_PATH_DEPTH = "browsePaths.length";
@@ -364,6 +371,12 @@ public class ESBrowseDAO {
   }
 
   public BrowseResultV2 browseV2(@Nonnull String entityName, @Nonnull String path, @Nullable Filter filter, @Nonnull String input, int start, int count) {
+    if (browseTreeDAO != null && filter == null && (input.isEmpty() || input.equals("*"))) {
+      final Optional<BrowseResultV2> result = browseTreeDAO.browse(entityName, path, start, count);
+      if (result.isPresent()) {
+        return result.get();
+      }
+    }
     try {
       final SearchResponse groupsResponse;
       try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "esGroupSearch").time()) {
@@ -4,6 +4,8 @@ import com.codahale.metrics.Timer;
 import com.datahub.util.exception.ESQueryException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.google.common.annotations.VisibleForTesting;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.data.template.LongMap;
 import com.linkedin.metadata.config.search.SearchConfiguration;
 import com.linkedin.metadata.config.search.custom.CustomSearchConfiguration;
@@ -21,19 +23,27 @@ import com.linkedin.metadata.search.SearchResult;
 import com.linkedin.metadata.search.elasticsearch.query.request.AutocompleteRequestHandler;
 import com.linkedin.metadata.search.elasticsearch.query.request.SearchAfterWrapper;
 import com.linkedin.metadata.search.elasticsearch.query.request.SearchRequestHandler;
+import com.linkedin.metadata.search.utils.ESUtils;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import io.opentelemetry.extension.annotations.WithSpan;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.elasticsearch.ElasticsearchStatusException;
+import org.elasticsearch.action.search.MultiSearchRequest;
+import org.elasticsearch.action.search.MultiSearchResponse;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.client.Request;
@@ -41,6 +51,11 @@ import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.Response;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.elasticsearch.client.core.CountRequest;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.search.SearchHit;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.elasticsearch.search.sort.SortBuilders;
+import org.elasticsearch.search.sort.SortOrder;
 
 import static com.linkedin.metadata.Constants.*;
 import static com.linkedin.metadata.models.registry.template.util.TemplateUtil.*;
@@ -77,6 +92,42 @@ public class ESSearchDAO {
     }
   }
 
+  /**
+   * Returns the number of documents of each of the given entities, counted with a single multi search request.
+   * Entities whose count failed are left out of the result.
+   */
+  @Nonnull
+  public Map<String, Long> docCountPerEntity(@Nonnull Collection<String> entityNames) {
+    final List<String> names = new ArrayList<>(entityNames);
+    if (names.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    final MultiSearchRequest multiSearchRequest = new MultiSearchRequest();
+    for (String entityName : names) {
+      SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder()
+          .query(SearchRequestHandler.getFilterQuery(null))
+          .size(0)
+          .trackTotalHits(true);
+      multiSearchRequest.add(new SearchRequest(indexConvention.getIndexName(entityRegistry.getEntitySpec(entityName)))
+          .source(searchSourceBuilder));
+    }
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "docCountPerEntity").time()) {
+      final MultiSearchResponse.Item[] responses = client.msearch(multiSearchRequest, RequestOptions.DEFAULT).getResponses();
+      final Map<String, Long> docCounts = new HashMap<>();
+      for (int i = 0; i < responses.length; i++) {
+        if (responses[i].isFailure()) {
+          log.warn("Count query failed for entity {}: {}", names.get(i), responses[i].getFailureMessage());
+          continue;
+        }
+        docCounts.put(names.get(i), responses[i].getResponse().getHits().getTotalHits().value);
+      }
+      return docCounts;
+    } catch (IOException e) {
+      log.error("Count query failed:" + e.getMessage());
+      throw new ESQueryException("Count query failed:", e);
+    }
+  }
+
   @Nonnull
   @WithSpan
   private SearchResult executeAndExtract(@Nonnull EntitySpec entitySpec, @Nonnull SearchRequest searchRequest,
@@ -247,6 +298,73 @@ public class ESSearchDAO {
     }
   }
 
+  /**
+   * Returns the default autocomplete field values of the most popular documents of the given entity type, ranked by
+   * the search score fields of the entity.
+   *
+   * @param entityName name of the entity
+   * @param limit the max number of documents to return
+   * @return map of urn to the autocomplete field values of the document by field, in rank order
+   */
+  @Nonnull
+  public Map<Urn, Map<String, List<String>>> getAutoCompleteValues(@Nonnull String entityName, int limit) {
+    EntitySpec entitySpec = entityRegistry.getEntitySpec(entityName);
+    List<String> fields = AutocompleteRequestHandler.getBuilder(entitySpec).getDefaultAutocompleteFieldsWithoutUrn();
+
+    SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
+    searchSourceBuilder.query(QueryBuilders.boolQuery().mustNot(QueryBuilders.matchQuery("removed", true)));
+    searchSourceBuilder.fetchSource(Stream.concat(Stream.of("urn"), fields.stream()).toArray(String[]::new), null);
+    entitySpec.getSearchScoreFieldSpecs().forEach(fieldSpec -> searchSourceBuilder.sort(
+        SortBuilders.fieldSort(fieldSpec.getSearchScoreAnnotation().getFieldName())
+            .order(SortOrder.DESC)
+            .unmappedType("double")));
+    searchSourceBuilder.sort(SortBuilders.fieldSort("urn").order(SortOrder.ASC));
+
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "getAutoCompleteValues").time()) {
+      Map<Urn, Map<String, List<String>>> result = new LinkedHashMap<>();
+      // Pages are capped by index.max_result_window, so larger limits continue after the sort values of the last hit
+      Object[] searchAfter = null;
+      while (result.size() < limit) {
+        searchSourceBuilder.size(Math.min(limit - result.size(), ESUtils.MAX_RESULT_SIZE));
+        if (searchAfter != null) {
+          searchSourceBuilder.searchAfter(searchAfter);
+        }
+        SearchRequest searchRequest = new SearchRequest(indexConvention.getIndexName(entitySpec));
+        searchRequest.source(searchSourceBuilder);
+        SearchHit[] hits = client.search(searchRequest, RequestOptions.DEFAULT).getHits().getHits();
+        addAutoCompleteValues(hits, fields, result);
+        if (hits.length < searchSourceBuilder.size()) {
+          break;
+        }
+        searchAfter = hits[hits.length - 1].getSortValues();
+      }
+      return result;
+    } catch (Exception e) {
+      log.error("Auto complete values query failed:" + e.getMessage());
+      throw new ESQueryException("Auto complete values query failed:", e);
+    }
+  }
+
+  private static void addAutoCompleteValues(@Nonnull SearchHit[] hits, @Nonnull List<String> fields,
+      @Nonnull Map<Urn, Map<String, List<String>>> result) {
+    for (SearchHit hit : hits) {
+      Map<String, Object> source = hit.getSourceAsMap();
+      Map<String, List<String>> valuesByField = new LinkedHashMap<>();
+      for (String field : fields) {
+        Object value = source.get(field);
+        if (value instanceof String) {
+          valuesByField.put(field, List.of((String) value));
+        } else if (value instanceof List) {
+          valuesByField.put(field, ((List<?>) value).stream()
+              .filter(String.class::isInstance)
+              .map(String.class::cast)
+              .collect(Collectors.toList()));
+        }
+      }
+      result.put(UrnUtils.getUrn((String) source.get("urn")), valuesByField);
+    }
+  }
+
   /**
    * Returns number of documents per field value given the field and filters
    *
@@ -119,6 +119,13 @@ public class AutocompleteRequestHandler {
     return highlightBuilder;
   }
 
+  /**
+   * Returns the fields autocompleted when no field is requested, other than the urn.
+   */
+  public List<String> getDefaultAutocompleteFieldsWithoutUrn() {
+    return _defaultAutocompleteFields.stream().filter(fieldName -> !"urn".equals(fieldName)).collect(Collectors.toList());
+  }
+
   private List<String> getAutocompleteFields(@Nullable String field) {
     if (field != null && !field.isEmpty()) {
       return ImmutableList.of(field);
@@ -49,6 +49,7 @@ public class ESBulkProcessor implements Closeable {
     @Builder.Default
     private Integer bulkRequestsLimit = 500;
     @Builder.Default
+    @Getter
     private Integer bulkFlushPeriod = 1;
     @Builder.Default
     private Integer numRetries = 3;
@@ -0,0 +1,65 @@
+package com.linkedin.metadata.search.elasticsearch.update;
+
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import lombok.Value;
+import org.elasticsearch.script.Script;
+import org.elasticsearch.script.ScriptType;
+
+
+/**
+ * Registry of the Painless scripts used to update search documents.
+ *
+ * Scripts are installed as stored scripts when the indices are built, and values are passed to them as params, so
+ * Elasticsearch compiles each script once rather than once per distinct value. The version is part of the script id:
+ * changing a script means adding it under a new id, so that writers still using the previous version keep working
+ * while indices are rebuilt.
+ */
+public class ESScripts {
+
+  /**
+   * Saves the past N run ids which touched a particular URN in the search index. It only adds a new run id if it is
+   * not already stored inside the list. (List is unique AND ordered)
+   *
+   * Params: runId, maxRunIds
+   */
+  public static final StoredScript APPEND_RUN_ID = new StoredScript("datahub_append_run_id_v1",
+      "if (ctx._source.containsKey('runId')) { "
+          + "if (!ctx._source.runId.contains(params.runId)) { "
+          + "ctx._source.runId.add(params.runId); "
+          + "if (ctx._source.runId.length > params.maxRunIds) { ctx._source.runId.remove(0) } } "
+          + "} else { ctx._source.runId = [params.runId] }");
+
+  /**
+   * Sets the count contributed by a single usage event to a usage rollup, and recomputes the total count. Setting
+   * rather than adding the count keeps the rollup correct when an event is indexed again.
+   *
+   * Params: event, count, userEmail (optional)
+   */
+  public static final StoredScript SET_USAGE_CONTRIBUTION = new StoredScript("datahub_set_usage_contribution_v1",
+      "if (ctx._source.contributions == null) { ctx._source.contributions = [:] } "
+          + "ctx._source.contributions[params.event] = params.count; "
+          + "long total = 0; for (def count : ctx._source.contributions.values()) { total += count } "
+          + "ctx._source.count = total; "
+          + "if (params.userEmail != null) { ctx._source.userEmail = params.userEmail }");
+
+  public static final List<StoredScript> ALL = List.of(APPEND_RUN_ID, SET_USAGE_CONTRIBUTION);
+
+  private ESScripts() {
+  }
+
+  @Value
+  public static class StoredScript {
+    String id;
+    String source;
+
+    /**
+     * Returns a reference to this stored script with the given params.
+     */
+    @Nonnull
+    public Script withParams(@Nonnull Map<String, Object> params) {
+      return new Script(ScriptType.STORED, null, id, params);
+    }
+  }
+}
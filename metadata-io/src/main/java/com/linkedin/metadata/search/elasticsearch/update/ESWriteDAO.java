@@ -1,10 +1,17 @@
 package com.linkedin.metadata.search.elasticsearch.update;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.elasticsearch.action.delete.DeleteRequest;
 import org.elasticsearch.action.update.UpdateRequest;
@@ -18,7 +25,6 @@ import org.elasticsearch.script.Script;
 
 
 @Slf4j
-@RequiredArgsConstructor
 public class ESWriteDAO {
 
   private final EntityRegistry entityRegistry;
@@ -26,6 +32,20 @@ public class ESWriteDAO {
   private final IndexConvention indexConvention;
   private final ESBulkProcessor bulkProcessor;
   private final int numRetries;
+  // Run ids appended to each document within the last bulk flush period, keyed by index and document id
+  private final Cache<String, Set<String>> recentRunIds;
+
+  public ESWriteDAO(EntityRegistry entityRegistry, RestHighLevelClient searchClient, IndexConvention indexConvention,
+      ESBulkProcessor bulkProcessor, int numRetries) {
+    this.entityRegistry = entityRegistry;
+    this.searchClient = searchClient;
+    this.indexConvention = indexConvention;
+    this.bulkProcessor = bulkProcessor;
+    this.numRetries = numRetries;
+    this.recentRunIds = CacheBuilder.newBuilder()
+        .expireAfterWrite(bulkProcessor.getBulkFlushPeriod(), TimeUnit.SECONDS)
+        .build();
+  }
 
   /**
    * Updates or inserts the given search document.
@@ -70,6 +90,41 @@ public class ESWriteDAO {
     bulkProcessor.add(updateRequest);
   }
 
+  /**
+   * Applies a script to a particular document
+   */
+  public void applyScriptUpdate(@Nonnull String entityName, @Nonnull String docId, @Nonnull Script script) {
+    final String indexName = indexConvention.getIndexName(entityRegistry.getEntitySpec(entityName));
+    UpdateRequest updateRequest = new UpdateRequest(indexName, docId)
+            .detectNoop(false)
+            .scriptedUpsert(true)
+            .retryOnConflict(numRetries)
+            .script(script);
+    bulkProcessor.add(updateRequest);
+  }
+
+  /**
+   * Appends a run id to the run ids of a particular document, keeping at most the given number of run ids.
+   *
+   * Ingesting an entity appends the same run id once per aspect. Appends of a run id already appended to the document
+   * within the last bulk flush period are skipped, since the update sent for the first append carries it.
+   */
+  public void appendRunId(@Nonnull String entityName, @Nonnull String docId, @Nonnull String runId, int maxRunIds) {
+    final String indexName = indexConvention.getIndexName(entityRegistry.getEntitySpec(entityName));
+    final Set<String> runIds;
+    try {
+      runIds = recentRunIds.get(indexName + "/" + docId, ConcurrentHashMap::newKeySet);
+    } catch (ExecutionException e) {
+      throw new RuntimeException(e);
+    }
+    if (!runIds.add(runId)) {
+      MetricUtils.counter(this.getClass(), "appendRunIdSkipped").inc();
+      return;
+    }
+    applyScriptUpdate(entityName, docId,
+        ESScripts.APPEND_RUN_ID.withParams(Map.of("runId", runId, "maxRunIds", maxRunIds)));
+  }
+
   /**
    * Clear all documents in all the indices
    */
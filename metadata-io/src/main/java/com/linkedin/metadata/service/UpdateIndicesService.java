@@ -4,12 +4,14 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSet;
+import com.linkedin.common.BrowsePathsV2;
 import com.linkedin.common.InputField;
 import com.linkedin.common.InputFields;
 import com.linkedin.common.Status;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.dataset.DatasetUsageStatistics;
 import com.linkedin.dataset.FineGrainedLineage;
 import com.linkedin.dataset.UpstreamLineage;
 import com.linkedin.events.metadata.ChangeType;
@@ -28,10 +30,13 @@ import com.linkedin.metadata.query.filter.ConjunctiveCriterionArray;
 import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.query.filter.RelationshipDirection;
 import com.linkedin.metadata.search.EntitySearchService;
+import com.linkedin.metadata.search.cache.AutoCompletePrefixIndex;
+import com.linkedin.metadata.search.elasticsearch.browse.ESBrowseTreeDAO;
 import com.linkedin.metadata.search.transformer.SearchDocumentTransformer;
 import com.linkedin.metadata.search.utils.SearchUtils;
 import com.linkedin.metadata.systemmetadata.SystemMetadataService;
 import com.linkedin.metadata.timeseries.TimeseriesAspectService;
+import com.linkedin.metadata.timeseries.elastic.usage.ESUsageRollupDAO;
 import com.linkedin.metadata.timeseries.transformer.TimeseriesAspectTransformer;
 import com.linkedin.metadata.utils.EntityKeyUtils;
 import com.linkedin.metadata.utils.GenericRecordUtils;
@@ -73,6 +78,12 @@ public class UpdateIndicesService {
   private boolean _graphDiffMode;
   @Value("${featureFlags.searchServiceDiffModeEnabled:true}")
   private boolean _searchDiffMode;
+  @Nullable
+  private AutoCompletePrefixIndex _autoCompletePrefixIndex;
+  @Nullable
+  private ESBrowseTreeDAO _browseTreeDAO;
+  @Nullable
+  private ESUsageRollupDAO _usageRollupDAO;
 
   private static final Set<ChangeType> UPDATE_CHANGE_TYPES = ImmutableSet.of(
       ChangeType.UPSERT,
@@ -89,6 +100,27 @@ public class UpdateIndicesService {
     _searchDiffMode = searchDiffMode;
   }
 
+  /**
+   * Keeps the given in-memory auto complete index up to date with the search documents written.
+   */
+  public void setAutoCompletePrefixIndex(@Nullable AutoCompletePrefixIndex autoCompletePrefixIndex) {
+    _autoCompletePrefixIndex = autoCompletePrefixIndex;
+  }
+
+  /**
+   * Keeps the given browse tree up to date with the browse paths and statuses of entities.
+   */
+  public void setBrowseTreeDAO(@Nullable ESBrowseTreeDAO browseTreeDAO) {
+    _browseTreeDAO = browseTreeDAO;
+  }
+
+  /**
+   * Rolls up the dataset usage statistics indexed into the given weekly and monthly rollups.
+   */
+  public void setUsageRollupDAO(@Nullable ESUsageRollupDAO usageRollupDAO) {
+    _usageRollupDAO = usageRollupDAO;
+  }
+
   public UpdateIndicesService(
       GraphService graphService,
       EntitySearchService entitySearchService,
@@ -163,6 +195,7 @@ public class UpdateIndicesService {
 
     // Step 1. For all aspects, attempt to update Search
     updateSearchService(entitySpec.getName(), urn, aspectSpec, aspect, event.getSystemMetadata(), previousAspect);
+    updateBrowseTree(entitySpec.getName(), urn, aspectSpec, previousAspect, aspect);
 
     // Step 2. For all aspects, attempt to update Graph
     SystemMetadata systemMetadata = event.getSystemMetadata();
@@ -171,7 +204,7 @@ public class UpdateIndicesService {
         || !Boolean.parseBoolean(systemMetadata.getProperties().get(FORCE_INDEXING_KEY)))) {
       updateGraphServiceDiff(urn, aspectSpec, previousAspect, aspect, event);
     } else {
-      updateGraphService(urn, aspectSpec, aspect, event);
+      updateGraphService(urn, aspectSpec, previousAspect, aspect, event);
     }
   }
 
@@ -212,6 +245,13 @@ public class UpdateIndicesService {
     if (!aspectSpec.isTimeseries()) {
       deleteSystemMetadata(urn, aspectSpec, isDeletingKey);
       deleteGraphData(urn, aspectSpec, aspect, isDeletingKey, event);
+      if (isDeletingKey) {
+        if (_browseTreeDAO != null) {
+          _browseTreeDAO.removeEntity(entitySpec.getName(), urn);
+        }
+      } else {
+        updateBrowseTree(entitySpec.getName(), urn, aspectSpec, aspect, null);
+      }
       deleteSearchData(urn, entitySpec.getName(), aspectSpec, aspect, isDeletingKey);
     }
   }
@@ -309,22 +349,33 @@ public class UpdateIndicesService {
   private void updateGraphService(
       @Nonnull final Urn urn,
       @Nonnull final AspectSpec aspectSpec,
+      @Nullable final RecordTemplate previousAspect,
       @Nonnull final RecordTemplate aspect,
       @Nonnull final MetadataChangeLog event
   ) {
     Pair<List<Edge>, HashMap<Urn, Set<String>>> edgeAndRelationTypes =
         getEdgesAndRelationshipTypesFromAspect(urn, aspectSpec, aspect, event, true);
+    // The edges of the previous version may not be searchable yet, so they are removed by id
+    final List<Edge> previousEdges = previousAspect == null ? Collections.emptyList()
+        : getEdgesAndRelationshipTypesFromAspect(urn, aspectSpec, previousAspect, event, false).getFirst();
 
     final List<Edge> edgesToAdd = edgeAndRelationTypes.getFirst();
     final HashMap<Urn, Set<String>> urnToRelationshipTypesBeingAdded = edgeAndRelationTypes.getSecond();
 
     log.debug("Here's the relationship types found {}", urnToRelationshipTypesBeingAdded);
     if (urnToRelationshipTypesBeingAdded.size() > 0) {
+      final Map<Urn, List<Edge>> edgesBySource = edgesToAdd.stream()
+          .collect(Collectors.groupingBy(Edge::getSource));
+      final Map<Urn, List<Edge>> previousEdgesBySource = previousEdges.stream()
+          .collect(Collectors.groupingBy(Edge::getSource));
       for (Map.Entry<Urn, Set<String>> entry : urnToRelationshipTypesBeingAdded.entrySet()) {
-        _graphService.removeEdgesFromNode(entry.getKey(), new ArrayList<>(entry.getValue()),
-            newRelationshipFilter(new Filter().setOr(new ConjunctiveCriterionArray()), RelationshipDirection.OUTGOING));
+        _graphService.setEdgesFromNode(entry.getKey(), new ArrayList<>(entry.getValue()),
+            edgesBySource.getOrDefault(entry.getKey(), Collections.emptyList()),
+            previousEdgesBySource.getOrDefault(entry.getKey(), Collections.emptyList()));
       }
-      edgesToAdd.forEach(_graphService::addEdge);
+      edgesToAdd.stream()
+          .filter(edge -> !urnToRelationshipTypesBeingAdded.containsKey(edge.getSource()))
+          .forEach(_graphService::addEdge);
     }
   }
 
@@ -449,6 +500,29 @@ public class UpdateIndicesService {
     }
 
     _entitySearchService.upsertDocument(entityName, searchDocument.get(), docId.get());
+    if (_autoCompletePrefixIndex != null) {
+      _autoCompletePrefixIndex.upsertDocument(entityName, urn, searchDocument.get());
+    }
+  }
+
+  /**
+   * Update the browse tree when the browse path or the status of an entity changes. A null aspect means the aspect
+   * was deleted.
+   */
+  private void updateBrowseTree(String entityName, Urn urn, AspectSpec aspectSpec,
+      @Nullable RecordTemplate previousAspect, @Nullable RecordTemplate aspect) {
+    if (_browseTreeDAO == null) {
+      return;
+    }
+    if (aspectSpec.getName().equals(BROWSE_PATHS_V2_ASPECT_NAME)) {
+      _browseTreeDAO.updateEntityPath(entityName, urn,
+          previousAspect != null ? ESBrowseTreeDAO.toPath((BrowsePathsV2) previousAspect) : null,
+          aspect != null ? ESBrowseTreeDAO.toPath((BrowsePathsV2) aspect) : null);
+    } else if (aspectSpec.getName().equals(STATUS_ASPECT_NAME)) {
+      _browseTreeDAO.updateEntityStatus(entityName, urn,
+          previousAspect != null && ((Status) previousAspect).isRemoved(),
+          aspect != null && ((Status) aspect).isRemoved());
+    }
   }
 
   /**
@@ -466,6 +540,9 @@ public class UpdateIndicesService {
     documents.entrySet().forEach(document -> {
       _timeseriesAspectService.upsertDocument(entityType, aspectName, document.getKey(), document.getValue());
     });
+    if (_usageRollupDAO != null && aspectName.equals(DATASET_USAGE_STATISTICS_ASPECT_NAME)) {
+      _usageRollupDAO.addEvent(urn, (DatasetUsageStatistics) aspect);
+    }
   }
 
   private void updateSystemMetadata(SystemMetadata systemMetadata, Urn urn, AspectSpec aspectSpec, RecordTemplate aspect) {
@@ -524,6 +601,9 @@ public class UpdateIndicesService {
 
     if (isKeyAspect) {
       _entitySearchService.deleteDocument(entityName, docId);
+      if (_autoCompletePrefixIndex != null) {
+        _autoCompletePrefixIndex.remove(entityName, urn);
+      }
       return;
     }
 
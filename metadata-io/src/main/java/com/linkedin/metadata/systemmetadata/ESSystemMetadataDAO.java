@@ -79,6 +79,16 @@ public class ESSystemMetadataDAO {
     bulkProcessor.add(updateRequest);
   }
 
+  /**
+   * Deletes the given search document through the bulk processor, i.e. asynchronously and batched with other writes.
+   *
+   * @param docId the ID of the document
+   */
+  public void deleteDocument(@Nonnull final String docId) {
+    final DeleteRequest deleteRequest = new DeleteRequest(indexConvention.getIndexName(INDEX_NAME), docId);
+    bulkProcessor.add(deleteRequest);
+  }
+
   public DeleteResponse deleteByDocId(@Nonnull final String docId) {
     DeleteRequest deleteRequest = new DeleteRequest(indexConvention.getIndexName(INDEX_NAME), docId);
 
@@ -193,6 +203,35 @@ public class ESSystemMetadataDAO {
     return findByParams(Collections.singletonMap("runId", runId), includeSoftDeleted, from, size);
   }
 
+  /**
+   * Returns the documents of a run sorted by urn then aspect, which identify a document, after the given sort values.
+   */
+  public SearchResponse findByRunIdAfter(String runId, boolean includeSoftDeleted, @Nullable Object[] searchAfter,
+      int size) {
+    BoolQueryBuilder finalQuery = QueryBuilders.boolQuery();
+    finalQuery.must(QueryBuilders.termQuery("runId", runId));
+    if (!includeSoftDeleted) {
+      finalQuery.mustNot(QueryBuilders.termQuery("removed", "true"));
+    }
+
+    SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder()
+        .query(finalQuery)
+        .sort(new FieldSortBuilder("urn").order(SortOrder.ASC))
+        .sort(new FieldSortBuilder("aspect").order(SortOrder.ASC))
+        .size(size);
+    if (searchAfter != null) {
+      searchSourceBuilder.searchAfter(searchAfter);
+    }
+
+    SearchRequest searchRequest = new SearchRequest(indexConvention.getIndexName(INDEX_NAME)).source(searchSourceBuilder);
+    try {
+      return client.search(searchRequest, RequestOptions.DEFAULT);
+    } catch (IOException e) {
+      log.error("Error while searching by run id.", e);
+    }
+    return null;
+  }
+
   public SearchResponse findRuns(Integer pageOffset, Integer pageSize) {
 
     SearchRequest searchRequest = new SearchRequest();
@@ -91,7 +91,8 @@ public class ElasticSearchSystemMetadataService implements SystemMetadataService
 
   @Override
   public void deleteAspect(String urn, String aspect) {
-    _esDAO.deleteByUrnAspect(urn, aspect);
+    // Documents are keyed by urn & aspect, so there is no need for a delete by query.
+    _esDAO.deleteDocument(toDocId(urn, aspect));
   }
 
   @Override
@@ -137,6 +138,13 @@ public class ElasticSearchSystemMetadataService implements SystemMetadataService
     return findByParams(Collections.singletonMap(FIELD_RUNID, runId), includeSoftDeleted, from, size);
   }
 
+  @Override
+  public List<AspectRowSummary> findByRunIdAfter(String runId, boolean includeSoftDeleted, @Nullable String lastUrn,
+      @Nullable String lastAspect, int size) {
+    final Object[] searchAfter = lastUrn != null && lastAspect != null ? new Object[]{lastUrn, lastAspect} : null;
+    return toAspectRowSummaries(_esDAO.findByRunIdAfter(runId, includeSoftDeleted, searchAfter, size));
+  }
+
   @Override
   public List<AspectRowSummary> findByUrn(String urn, boolean includeSoftDeleted, int from, int size) {
     return findByParams(Collections.singletonMap(FIELD_URN, urn), includeSoftDeleted, from, size);
@@ -145,7 +153,10 @@ public class ElasticSearchSystemMetadataService implements SystemMetadataService
   @Override
   public List<AspectRowSummary> findByParams(Map<String, String> systemMetaParams, boolean includeSoftDeleted, int from,
       int size) {
-    SearchResponse searchResponse = _esDAO.findByParams(systemMetaParams, includeSoftDeleted, from, size);
+    return toAspectRowSummaries(_esDAO.findByParams(systemMetaParams, includeSoftDeleted, from, size));
+  }
+
+  private List<AspectRowSummary> toAspectRowSummaries(@Nullable SearchResponse searchResponse) {
     if (searchResponse != null) {
       SearchHits hits = searchResponse.getHits();
       List<AspectRowSummary> summaries = Arrays.stream(hits.getHits()).map(hit -> {
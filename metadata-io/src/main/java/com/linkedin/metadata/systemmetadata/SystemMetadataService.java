@@ -30,6 +30,15 @@ public interface SystemMetadataService {
 
   List<AspectRowSummary> findByRunId(String runId, boolean includeSoftDeleted, int from, int size);
 
+  /**
+   * Returns a page of the rows of a run, ordered by urn then aspect, starting after the given row.
+   *
+   * @param lastUrn the urn of the last row of the previous page, or null for the first page
+   * @param lastAspect the aspect of the last row of the previous page, or null for the first page
+   */
+  List<AspectRowSummary> findByRunIdAfter(String runId, boolean includeSoftDeleted, @Nullable String lastUrn,
+      @Nullable String lastAspect, int size);
+
   List<AspectRowSummary> findByUrn(String urn, boolean includeSoftDeleted, int from, int size);
 
   List<AspectRowSummary> findByParams(Map<String, String> systemMetaParams, boolean includeSoftDeleted, int from, int size);
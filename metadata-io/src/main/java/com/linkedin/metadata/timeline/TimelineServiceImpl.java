@@ -6,9 +6,13 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonpatch.JsonPatch;
 import com.github.fge.jsonpatch.diff.JsonDiff;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.entity.AspectCodec;
 import com.linkedin.metadata.entity.AspectDao;
 import com.linkedin.metadata.entity.EntityAspect;
+import com.linkedin.metadata.entity.EntityAspectIdentifier;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
 import com.linkedin.metadata.models.registry.EntityRegistry;
@@ -27,6 +31,7 @@ import com.linkedin.metadata.timeline.eventgenerator.GlossaryTermsChangeEventGen
 import com.linkedin.metadata.timeline.eventgenerator.InstitutionalMemoryChangeEventGenerator;
 import com.linkedin.metadata.timeline.eventgenerator.OwnershipChangeEventGenerator;
 import com.linkedin.metadata.timeline.eventgenerator.SchemaMetadataChangeEventGenerator;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -36,12 +41,13 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
-import java.util.TreeSet;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import lombok.Value;
 import org.apache.commons.collections.CollectionUtils;
 
 import static com.linkedin.common.urn.VersionedUrnUtils.*;
@@ -57,15 +63,26 @@ public class TimelineServiceImpl implements TimelineService {
   }
   private static final long FIRST_TRANSACTION_ID = 0;
   private static final String BUILD_VALUE_COMPUTED = "computed";
+  private static final int DEFAULT_CHANGE_TRANSACTION_CACHE_SIZE = 10000;
 
   private final AspectDao _aspectDao;
   private final EntityChangeEventGeneratorFactory _entityChangeEventGeneratorFactory;
   private final EntityRegistry _entityRegistry;
   private final HashMap<String, HashMap<ChangeCategory, Set<String>>> entityTypeElementAspectRegistry = new HashMap<>();
+  // Semantic diffs between two versions of an aspect, see ChangeTransactionKey. Empty if the versions do not differ.
+  private final Cache<ChangeTransactionKey, Optional<ChangeTransaction>> _changeTransactionCache;
 
   public TimelineServiceImpl(@Nonnull AspectDao aspectDao, @Nonnull EntityRegistry entityRegistry) {
+    this(aspectDao, entityRegistry, DEFAULT_CHANGE_TRANSACTION_CACHE_SIZE);
+  }
+
+  public TimelineServiceImpl(@Nonnull AspectDao aspectDao, @Nonnull EntityRegistry entityRegistry,
+      int changeTransactionCacheSize) {
     this._aspectDao = aspectDao;
     _entityRegistry = entityRegistry;
+    _changeTransactionCache = CacheBuilder.newBuilder()
+        .maximumSize(changeTransactionCacheSize)
+        .build();
 
     // TODO: Simplify this structure.
     // TODO: Load up from yaml file
@@ -199,23 +216,45 @@ public class TimelineServiceImpl implements TimelineService {
         .filter(aspectSpec -> !aspectSpec.isTimeseries())
         .map(AspectSpec::getName)
         .collect(Collectors.toSet());
-    List<EntityAspect> aspectsInRange = this._aspectDao.getAspectsInRange(urn, fullAspectNames, startTimeMillis,
-        endTimeMillis);
-
-    // Prepopulate with all versioned aspectNames -> ignore timeseries using
-    // registry
-    Map<String, TreeSet<EntityAspect>> aspectRowSetMap = constructAspectRowSetMap(urn, fullAspectNames, aspectsInRange);
-
-    Map<Long, SortedMap<String, Long>> timestampVersionCache = constructTimestampVersionCache(aspectRowSetMap);
-
-    // TODO: There are some extra steps happening here, we need to clean up how
-    // transactions get combined across differs
-    SortedMap<Long, List<ChangeTransaction>> semanticDiffs = aspectRowSetMap.entrySet()
-        .stream()
-        .filter(entry -> aspectNames.contains(entry.getKey()))
-        .map(Map.Entry::getValue)
-        .map(value -> computeDiffs(value, urn.getEntityType(), elementNames, rawDiffRequested))
-        .collect(TreeMap::new, this::combineComputedDiffsPerTransactionId, this::combineComputedDiffsPerTransactionId);
+
+    // Stream the versions of all aspects in range, diffing each version of a requested aspect against the previous one
+    // as it is read, so at most one version of each aspect is held in memory. Only the version numbers of all aspects
+    // are kept, to construct the version stamps.
+    Map<String, Long> nextVersions = _aspectDao.getNextVersions(urn.toString(), fullAspectNames);
+    Map<String, EntityAspect> previousValues = new HashMap<>();
+    Map<String, TreeMap<Long, Long>> aspectVersionsByTimestamp = new HashMap<>();
+    fullAspectNames.forEach(aspectName -> aspectVersionsByTimestamp.put(aspectName, new TreeMap<>()));
+    SortedMap<Long, List<ChangeTransaction>> semanticDiffs = new TreeMap<>();
+    this._aspectDao.forEachAspectInRange(urn, fullAspectNames, startTimeMillis, endTimeMillis, currentValue -> {
+      String aspectName = currentValue.getAspect();
+      EntityAspect previousValue = previousValues.get(aspectName);
+      if (previousValue == null) {
+        // Lookback by 1 from the oldest version in range
+        previousValue = getPreviousValue(urn, currentValue, nextVersions.get(aspectName));
+        addVersion(aspectVersionsByTimestamp, previousValue);
+      } else if (previousValue.getCreatedOn().equals(currentValue.getCreatedOn())) {
+        // Versions are identified by their creation time, skip duplicates
+        return;
+      }
+      addVersion(aspectVersionsByTimestamp, currentValue);
+      if (aspectNames.contains(aspectName)) {
+        semanticDiffs.computeIfAbsent(currentValue.getCreatedOn().getTime(), transactionId -> new ArrayList<>())
+            .addAll(computeDiff(previousValue, currentValue, urn.getEntityType(), elementNames, rawDiffRequested));
+      }
+      previousValues.put(aspectName, currentValue);
+    });
+
+    // Aspects which did not change in range are still part of the version stamps, at their latest version
+    Set<EntityAspectIdentifier> unchangedAspects = fullAspectNames.stream()
+        .filter(aspectName -> !previousValues.containsKey(aspectName))
+        .map(aspectName -> new EntityAspectIdentifier(urn.toString(), aspectName, ASPECT_LATEST_VERSION))
+        .collect(Collectors.toSet());
+    this._aspectDao.batchGet(unchangedAspects).values()
+        .forEach(latestValue -> addVersion(aspectVersionsByTimestamp, latestValue));
+
+    Map<Long, SortedMap<String, Long>> timestampVersionCache =
+        constructTimestampVersionCache(aspectVersionsByTimestamp);
+
     // TODO:Move this down
     assignSemanticVersions(semanticDiffs);
     List<ChangeTransaction> changeTransactions = semanticDiffs.values().stream().collect(ArrayList::new,
@@ -227,57 +266,28 @@ public class TimelineServiceImpl implements TimelineService {
   }
 
   /**
-   * Constructs a map from aspect name to a sorted set of DB aspects by created
-   * timestamp. Set includes all aspects
-   * relevant to an entity and does a lookback by 1 for all aspects, creating
-   * sentinel values for when the oldest aspect
-   * possible has been retrieved or no value exists in the DB for an aspect
-   * 
-   * @param urn             urn of the entity
-   * @param fullAspectNames full list of aspects relevant to the entity
-   * @param aspectsInRange  aspects returned by the range query by timestampm
-   * @return map constructed as described
+   * Returns the version of an aspect preceding the oldest version in the time range, or a sentinel value if the
+   * oldest version possible is in range.
+   *
+   * @param urn          urn of the entity
+   * @param oldestAspect the oldest version of the aspect in the time range
+   * @param nextVersion  the next version of the aspect
+   * @return the previous version as described
    */
-  private Map<String, TreeSet<EntityAspect>> constructAspectRowSetMap(Urn urn, Set<String> fullAspectNames,
-      List<EntityAspect> aspectsInRange) {
-    Map<String, TreeSet<EntityAspect>> aspectRowSetMap = new HashMap<>();
-    fullAspectNames.forEach(
-        aspectName -> aspectRowSetMap.put(aspectName, new TreeSet<>(Comparator.comparing(EntityAspect::getCreatedOn))));
-    aspectsInRange.forEach(row -> {
-      TreeSet<EntityAspect> rowList = aspectRowSetMap.get(row.getAspect());
-      rowList.add(row);
-    });
-
-    // we need to pull previous versions of these aspects that are currently at a 0
-    Map<String, Long> nextVersions = _aspectDao.getNextVersions(urn.toString(), fullAspectNames);
-
-    for (Map.Entry<String, TreeSet<EntityAspect>> aspectMinVersion : aspectRowSetMap.entrySet()) {
-      TreeSet<EntityAspect> aspectSet = aspectMinVersion.getValue();
+  private EntityAspect getPreviousValue(Urn urn, EntityAspect oldestAspect, long nextVersion) {
+    if (isOldestPossible(oldestAspect, nextVersion)) {
+      return createSentinel(oldestAspect.getAspect());
+    }
+    long versionToGet = (oldestAspect.getVersion() == 0L) ? nextVersion - 1 : oldestAspect.getVersion() - 1;
+    EntityAspect row = _aspectDao.getAspect(urn.toString(), oldestAspect.getAspect(), versionToGet);
+    return row != null ? row : createSentinel(oldestAspect.getAspect());
+  }
 
-      EntityAspect oldestAspect = null;
-      if (!aspectSet.isEmpty()) {
-        oldestAspect = aspectMinVersion.getValue().first();
-      }
-      Long nextVersion = nextVersions.get(aspectMinVersion.getKey());
-      // Fill out sentinel value if the oldest value possible has been retrieved, else
-      // get previous version prior to time range
-      if (oldestAspect != null && isOldestPossible(oldestAspect, nextVersion)) {
-        aspectMinVersion.getValue().add(createSentinel(aspectMinVersion.getKey()));
-      } else {
-        // get the next version
-        long versionToGet = 0;
-        if (oldestAspect != null) {
-          versionToGet = (oldestAspect.getVersion() == 0L) ? nextVersion - 1 : oldestAspect.getVersion() - 1;
-        }
-        EntityAspect row = _aspectDao.getAspect(urn.toString(), aspectMinVersion.getKey(), versionToGet);
-        if (row != null) {
-          aspectRowSetMap.get(row.getAspect()).add(row);
-        } else {
-          aspectMinVersion.getValue().add(createSentinel(aspectMinVersion.getKey()));
-        }
-      }
+  private void addVersion(Map<String, TreeMap<Long, Long>> aspectVersionsByTimestamp, EntityAspect aspect) {
+    if (!(aspect instanceof MissingEntityAspect)) {
+      aspectVersionsByTimestamp.get(aspect.getAspect())
+          .putIfAbsent(aspect.getCreatedOn().getTime(), aspect.getVersion());
     }
-    return aspectRowSetMap;
   }
 
   private boolean isOldestPossible(EntityAspect oldestAspect, long nextVersion) {
@@ -297,123 +307,96 @@ public class TimelineServiceImpl implements TimelineService {
   /**
    * Constructs a map from timestamp to a sorted map of aspect name -> version for
    * use in constructing the version stamp
-   * 
-   * @param aspectRowSetMap map constructed as described in
-   *                        {@link TimelineServiceImpl#constructAspectRowSetMap}
+   *
+   * @param aspectVersionsByTimestamp map from aspect name to the versions of the aspect by created timestamp
    * @return map as described
    */
   private Map<Long, SortedMap<String, Long>> constructTimestampVersionCache(
-      Map<String, TreeSet<EntityAspect>> aspectRowSetMap) {
-    Set<EntityAspect> aspects = aspectRowSetMap.values().stream()
-        .flatMap(TreeSet::stream)
-        .filter(aspect -> aspect.getVersion() != -1L)
+      Map<String, TreeMap<Long, Long>> aspectVersionsByTimestamp) {
+    Set<Long> timestamps = aspectVersionsByTimestamp.values().stream()
+        .flatMap(versions -> versions.keySet().stream())
         .collect(Collectors.toSet());
     Map<Long, SortedMap<String, Long>> timestampVersionCache = new HashMap<>();
-    for (EntityAspect aspect : aspects) {
-      if (timestampVersionCache.containsKey(aspect.getCreatedOn().getTime())) {
-        continue;
-      }
+    for (Long timestamp : timestamps) {
       SortedMap<String, Long> versionStampMap = new TreeMap<>(Comparator.naturalOrder());
-      for (TreeSet<EntityAspect> aspectSet : aspectRowSetMap.values()) {
-        EntityAspect maybeMatch = null;
-        for (EntityAspect aspect2 : aspectSet) {
-          if (aspect2 instanceof MissingEntityAspect) {
-            continue;
-          }
-          if (aspect.getCreatedOn().getTime() < aspect2.getCreatedOn().getTime()) {
-            // Can't match a higher timestamp, fall back to maybeMatch or empty
-            break;
-          }
-          if (aspect.getCreatedOn().getTime() == aspect2.getCreatedOn().getTime()) {
-            versionStampMap.put(aspect2.getAspect(), aspect2.getVersion());
-            maybeMatch = null;
-            break;
-          } else {
-            maybeMatch = aspect2;
-          }
-        }
-        if (maybeMatch != null) {
-          versionStampMap.put(maybeMatch.getAspect(), maybeMatch.getVersion());
+      // Each aspect is at the version created at the timestamp, or else the last one created before it
+      aspectVersionsByTimestamp.forEach((aspectName, versions) -> {
+        Map.Entry<Long, Long> version = versions.floorEntry(timestamp);
+        if (version != null) {
+          versionStampMap.put(aspectName, version.getValue());
         }
-      }
-      timestampVersionCache.put(aspect.getCreatedOn().getTime(), versionStampMap);
+      });
+      timestampVersionCache.put(timestamp, versionStampMap);
     }
     return timestampVersionCache;
   }
 
-  private SortedMap<Long, List<ChangeTransaction>> computeDiffs(TreeSet<EntityAspect> aspectTimeline,
-      String entityType, Set<ChangeCategory> elementNames, boolean rawDiffsRequested) {
-    EntityAspect previousValue = null;
-    SortedMap<Long, List<ChangeTransaction>> changeTransactionsMap = new TreeMap<>();
-    long transactionId;
-    for (EntityAspect currentValue : aspectTimeline) {
-      transactionId = currentValue.getCreatedOn().getTime();
-      if (previousValue != null) {
-        // we skip the first element and only compare once we have two in hand
-        changeTransactionsMap.put(transactionId,
-            computeDiff(previousValue, currentValue, entityType, elementNames, rawDiffsRequested));
-      }
-      previousValue = currentValue;
-    }
-    return changeTransactionsMap;
-  }
-
+  /**
+   * Computes the semantic diffs between two consecutive versions of an aspect. Diffs are cached, so only versions which
+   * were not diffed before are read & compared.
+   */
   private List<ChangeTransaction> computeDiff(@Nonnull EntityAspect previousValue, @Nonnull EntityAspect currentValue,
       String entityType, Set<ChangeCategory> elementNames, boolean rawDiffsRequested) {
     String aspectName = currentValue.getAspect();
 
     List<ChangeTransaction> semanticChangeTransactions = new ArrayList<>();
-    JsonPatch rawDiff = getRawDiff(previousValue, currentValue);
+    JsonPatch rawDiff = null;
     for (ChangeCategory element : elementNames) {
       EntityChangeEventGenerator entityChangeEventGenerator;
       entityChangeEventGenerator = _entityChangeEventGeneratorFactory.getGenerator(entityType, element, aspectName);
       if (entityChangeEventGenerator != null) {
-        try {
-          ChangeTransaction changeTransaction =
-              entityChangeEventGenerator.getSemanticDiff(previousValue, currentValue, element, rawDiff,
-                  rawDiffsRequested);
-          if (CollectionUtils.isNotEmpty(changeTransaction.getChangeEvents())) {
-            semanticChangeTransactions.add(changeTransaction);
+        ChangeTransactionKey key = ChangeTransactionKey.of(previousValue, currentValue, element, rawDiffsRequested);
+        Optional<ChangeTransaction> changeTransaction = _changeTransactionCache.getIfPresent(key);
+        if (changeTransaction == null) {
+          MetricUtils.counter(this.getClass(), "changeTransactionCacheMiss").inc();
+          if (rawDiff == null) {
+            rawDiff = getRawDiff(previousValue, currentValue);
           }
-        } catch (Exception e) {
-          semanticChangeTransactions.add(ChangeTransaction.builder()
-              .semVerChange(SemanticChangeType.EXCEPTIONAL)
-              .changeEvents(Collections.singletonList(ChangeEvent.builder()
-                  .description(String.format("%s:%s", e.getClass().getName(), e.getMessage()))
-                  .build()))
-              .build());
+          changeTransaction = computeChangeTransaction(entityChangeEventGenerator, previousValue, currentValue, element,
+              rawDiff, rawDiffsRequested);
+          _changeTransactionCache.put(key, changeTransaction);
+        } else {
+          MetricUtils.counter(this.getClass(), "changeTransactionCacheHit").inc();
         }
+        // The cached transaction must not be modified, e.g. when assigning semantic versions.
+        changeTransaction.map(ChangeTransaction::copy).ifPresent(semanticChangeTransactions::add);
       }
     }
     return semanticChangeTransactions;
   }
 
+  private Optional<ChangeTransaction> computeChangeTransaction(EntityChangeEventGenerator entityChangeEventGenerator,
+      EntityAspect previousValue, EntityAspect currentValue, ChangeCategory element, JsonPatch rawDiff,
+      boolean rawDiffsRequested) {
+    try {
+      ChangeTransaction changeTransaction =
+          entityChangeEventGenerator.getSemanticDiff(previousValue, currentValue, element, rawDiff,
+              rawDiffsRequested);
+      return CollectionUtils.isNotEmpty(changeTransaction.getChangeEvents()) ? Optional.of(changeTransaction)
+          : Optional.empty();
+    } catch (Exception e) {
+      return Optional.of(ChangeTransaction.builder()
+          .semVerChange(SemanticChangeType.EXCEPTIONAL)
+          .changeEvents(Collections.singletonList(ChangeEvent.builder()
+              .description(String.format("%s:%s", e.getClass().getName(), e.getMessage()))
+              .build()))
+          .build());
+    }
+  }
+
   private JsonPatch getRawDiff(EntityAspect previousValue, EntityAspect currentValue) {
     JsonNode prevNode = OBJECT_MAPPER.nullNode();
     try {
       if (previousValue.getVersion() != -1) {
-        prevNode = OBJECT_MAPPER.readTree(previousValue.getMetadata());
+        prevNode = OBJECT_MAPPER.readTree(AspectCodec.toJson(previousValue.getMetadata()));
       }
-      JsonNode currNode = OBJECT_MAPPER.readTree(currentValue.getMetadata());
+      JsonNode currNode = OBJECT_MAPPER.readTree(AspectCodec.toJson(currentValue.getMetadata()));
       return JsonDiff.asJsonPatch(prevNode, currNode);
     } catch (JsonProcessingException e) {
       throw new IllegalStateException(e);
     }
   }
 
-  private void combineComputedDiffsPerTransactionId(@Nonnull SortedMap<Long, List<ChangeTransaction>> semanticDiffs,
-      @Nonnull SortedMap<Long, List<ChangeTransaction>> computedDiffs) {
-    for (Map.Entry<Long, List<ChangeTransaction>> entry : computedDiffs.entrySet()) {
-      if (!semanticDiffs.containsKey(entry.getKey())) {
-        semanticDiffs.put(entry.getKey(), entry.getValue());
-      } else {
-        List<ChangeTransaction> transactions = semanticDiffs.get(entry.getKey());
-        transactions.addAll(entry.getValue());
-        semanticDiffs.put(entry.getKey(), transactions);
-      }
-    }
-  }
-
   private void assignSemanticVersions(SortedMap<Long, List<ChangeTransaction>> changeTransactionsMap) {
     SemanticVersion curGroupVersion = null;
     long transactionId = FIRST_TRANSACTION_ID - 1;
@@ -503,4 +486,26 @@ public class TimelineServiceImpl implements TimelineService {
     }
     return combinedChangeTransactions;
   }
+
+  /**
+   * Identifies the semantic diff of an element between two versions of an aspect. Versions are identified by their
+   * creation time rather than their version number, as the latest version is always number 0.
+   */
+  @Value
+  private static class ChangeTransactionKey {
+    String urn;
+    String aspect;
+    // -1 if there is no previous version.
+    long previousCreatedOn;
+    long currentCreatedOn;
+    ChangeCategory element;
+    boolean rawDiffRequested;
+
+    static ChangeTransactionKey of(EntityAspect previousValue, EntityAspect currentValue, ChangeCategory element,
+        boolean rawDiffRequested) {
+      return new ChangeTransactionKey(currentValue.getUrn(), currentValue.getAspect(),
+          previousValue.getVersion() == -1 ? -1 : previousValue.getCreatedOn().getTime(),
+          currentValue.getCreatedOn().getTime(), element, rawDiffRequested);
+    }
+  }
 }
@@ -3,6 +3,7 @@ package com.linkedin.metadata.timeline.data;
 import com.github.fge.jsonpatch.JsonPatch;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
@@ -31,4 +32,22 @@ public class ChangeTransaction {
   public void setSemVerChange(SemanticChangeType semVerChange) {
     this.semVerChange = semVerChange;
   }
+
+  /**
+   * Returns a copy of this transaction, which can be modified, e.g. combined with other transactions, without
+   * affecting this one.
+   */
+  public ChangeTransaction copy() {
+    return ChangeTransaction.builder()
+        .timestamp(timestamp)
+        .actor(actor)
+        .proxy(proxy)
+        .reporter(reporter)
+        .semVer(semVer)
+        .semVerChange(semVerChange)
+        .changeEvents(changeEvents == null ? null : new ArrayList<>(changeEvents))
+        .rawDiff(rawDiff)
+        .versionStamp(versionStamp)
+        .build();
+  }
 }
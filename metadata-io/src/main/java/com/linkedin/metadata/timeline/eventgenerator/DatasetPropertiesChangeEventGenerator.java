@@ -1,10 +1,10 @@
 package com.linkedin.metadata.timeline.eventgenerator;
 
-import com.datahub.util.RecordUtils;
 import com.github.fge.jsonpatch.JsonPatch;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.dataset.DatasetProperties;
+import com.linkedin.metadata.entity.AspectCodec;
 import com.linkedin.metadata.entity.EntityAspect;
 import com.linkedin.metadata.timeline.data.ChangeCategory;
 import com.linkedin.metadata.timeline.data.ChangeEvent;
@@ -64,7 +64,7 @@ public class DatasetPropertiesChangeEventGenerator extends EntityChangeEventGene
   @Nullable
   private static DatasetProperties getDatasetPropertiesFromAspect(EntityAspect entityAspect) {
     if (entityAspect != null && entityAspect.getMetadata() != null) {
-      return RecordUtils.toRecordTemplate(DatasetProperties.class, entityAspect.getMetadata());
+      return AspectCodec.decode(DatasetProperties.class, entityAspect.getMetadata());
     }
     return null;
   }
@@ -1,10 +1,10 @@
 package com.linkedin.metadata.timeline.eventgenerator;
 
-import com.datahub.util.RecordUtils;
 import com.github.fge.jsonpatch.JsonPatch;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.dataset.EditableDatasetProperties;
+import com.linkedin.metadata.entity.AspectCodec;
 import com.linkedin.metadata.entity.EntityAspect;
 import com.linkedin.metadata.timeline.data.ChangeCategory;
 import com.linkedin.metadata.timeline.data.ChangeEvent;
@@ -76,7 +76,7 @@ public class EditableDatasetPropertiesChangeEventGenerator
 
   private static EditableDatasetProperties getEditableDatasetPropertiesFromAspect(EntityAspect entityAspect) {
     if (entityAspect != null && entityAspect.getMetadata() != null) {
-      return RecordUtils.toRecordTemplate(EditableDatasetProperties.class, entityAspect.getMetadata());
+      return AspectCodec.decode(EditableDatasetProperties.class, entityAspect.getMetadata());
     }
     return null;
   }
@@ -1,12 +1,12 @@
 package com.linkedin.metadata.timeline.eventgenerator;
 
-import com.datahub.util.RecordUtils;
 import com.github.fge.jsonpatch.JsonPatch;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.GlobalTags;
 import com.linkedin.common.GlossaryTerms;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.entity.AspectCodec;
 import com.linkedin.metadata.entity.EntityAspect;
 import com.linkedin.metadata.timeline.data.ChangeCategory;
 import com.linkedin.metadata.timeline.data.ChangeEvent;
@@ -119,7 +119,7 @@ public class EditableSchemaMetadataChangeEventGenerator extends EntityChangeEven
 
   private static EditableSchemaMetadata getEditableSchemaMetadataFromAspect(EntityAspect entityAspect) {
     if (entityAspect != null && entityAspect.getMetadata() != null) {
-      return RecordUtils.toRecordTemplate(EditableSchemaMetadata.class, entityAspect.getMetadata());
+      return AspectCodec.decode(EditableSchemaMetadata.class, entityAspect.getMetadata());
     }
     return null;
   }
@@ -1,12 +1,12 @@
 package com.linkedin.metadata.timeline.eventgenerator;
 
-import com.datahub.util.RecordUtils;
 import com.github.fge.jsonpatch.JsonPatch;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.GlobalTags;
 import com.linkedin.common.TagAssociation;
 import com.linkedin.common.TagAssociationArray;
 import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.entity.AspectCodec;
 import com.linkedin.metadata.entity.EntityAspect;
 import com.linkedin.metadata.timeline.data.ChangeCategory;
 import com.linkedin.metadata.timeline.data.ChangeEvent;
@@ -117,7 +117,7 @@ public class GlobalTagsChangeEventGenerator extends EntityChangeEventGenerator<G
 
   private static GlobalTags getGlobalTagsFromAspect(EntityAspect entityAspect) {
     if (entityAspect != null && entityAspect.getMetadata() != null) {
-      return RecordUtils.toRecordTemplate(GlobalTags.class, entityAspect.getMetadata());
+      return AspectCodec.decode(GlobalTags.class, entityAspect.getMetadata());
     }
     return null;
   }
@@ -1,10 +1,10 @@
 package com.linkedin.metadata.timeline.eventgenerator;
 
-import com.datahub.util.RecordUtils;
 import com.github.fge.jsonpatch.JsonPatch;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.glossary.GlossaryTermInfo;
+import com.linkedin.metadata.entity.AspectCodec;
 import com.linkedin.metadata.entity.EntityAspect;
 import com.linkedin.metadata.timeline.data.ChangeCategory;
 import com.linkedin.metadata.timeline.data.ChangeEvent;
@@ -64,7 +64,7 @@ public class GlossaryTermInfoChangeEventGenerator extends EntityChangeEventGener
     @Nullable
     private static GlossaryTermInfo getGlossaryTermInfoFromAspect(EntityAspect entityAspect) {
         if (entityAspect != null && entityAspect.getMetadata() != null) {
-            return RecordUtils.toRecordTemplate(GlossaryTermInfo.class, entityAspect.getMetadata());
+            return AspectCodec.decode(GlossaryTermInfo.class, entityAspect.getMetadata());
         }
         return null;
     }
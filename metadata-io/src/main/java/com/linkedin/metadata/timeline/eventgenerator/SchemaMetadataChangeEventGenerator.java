@@ -1,11 +1,11 @@
 package com.linkedin.metadata.timeline.eventgenerator;
 
-import com.datahub.util.RecordUtils;
 import com.github.fge.jsonpatch.JsonPatch;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.urn.DatasetUrn;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.entity.AspectCodec;
 import com.linkedin.metadata.entity.EntityAspect;
 import com.linkedin.metadata.timeline.data.ChangeCategory;
 import com.linkedin.metadata.timeline.data.ChangeEvent;
@@ -395,7 +395,7 @@ public class SchemaMetadataChangeEventGenerator extends EntityChangeEventGenerat
 
   private static SchemaMetadata getSchemaMetadataFromAspect(EntityAspect entityAspect) {
     if (entityAspect != null && entityAspect.getMetadata() != null) {
-      return RecordUtils.toRecordTemplate(SchemaMetadata.class, entityAspect.getMetadata());
+      return AspectCodec.decode(SchemaMetadata.class, entityAspect.getMetadata());
     }
     return null;
   }
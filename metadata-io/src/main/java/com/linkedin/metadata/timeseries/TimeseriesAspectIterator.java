@@ -0,0 +1,44 @@
+package com.linkedin.metadata.timeseries;
+
+import com.google.common.collect.AbstractIterator;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.aspect.EnvelopedAspect;
+import com.linkedin.metadata.query.filter.Filter;
+import com.linkedin.metadata.query.filter.SortCriterion;
+import java.util.Iterator;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+
+/**
+ * Iterates over Time-Series aspect values a page at a time, so that only one page is held in memory.
+ */
+class TimeseriesAspectIterator extends AbstractIterator<EnvelopedAspect> {
+  private final Function<String, TimeseriesScrollResult> _nextPage;
+  private Iterator<EnvelopedAspect> _page;
+  @Nullable
+  private String _scrollId;
+  private boolean _lastPage = false;
+
+  TimeseriesAspectIterator(@Nonnull TimeseriesAspectService timeseriesAspectService, @Nonnull Urn urn,
+      @Nonnull String entityName, @Nonnull String aspectName, @Nullable Long startTimeMillis,
+      @Nullable Long endTimeMillis, @Nullable Filter filter, @Nullable SortCriterion sort, int pageSize) {
+    _nextPage = scrollId -> timeseriesAspectService.scrollAspectValues(urn, entityName, aspectName, startTimeMillis,
+        endTimeMillis, filter, sort, scrollId, pageSize);
+  }
+
+  @Override
+  protected EnvelopedAspect computeNext() {
+    while (_page == null || !_page.hasNext()) {
+      if (_lastPage) {
+        return endOfData();
+      }
+      final TimeseriesScrollResult result = _nextPage.apply(_scrollId);
+      _page = result.getValues().iterator();
+      _scrollId = result.getScrollId();
+      _lastPage = _scrollId == null;
+    }
+    return _page.next();
+  }
+}
@@ -10,7 +10,11 @@ import com.linkedin.timeseries.DeleteAspectValuesResult;
 import com.linkedin.timeseries.GenericTable;
 import com.linkedin.timeseries.GroupingBucket;
 import com.linkedin.timeseries.TimeseriesIndexSizeResult;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -97,6 +101,70 @@ public interface TimeseriesAspectService {
       @Nullable final Filter filter,
       @Nullable final SortCriterion sort);
 
+  /**
+   * Paged version of {@link #getAspectValues(Urn, String, String, Long, Long, Integer, Filter, SortCriterion)}: retrieves
+   * a page of Time-Series aspects, starting after the values of the previous page identified by the scroll id.
+   *
+   * @param scrollId the scroll id returned with the previous page, or null for the first page
+   * @param count the maximum number of values in the page
+   * @return the values of the page, with the scroll id of the next page, or a null scroll id if this is the last page
+   */
+  @Nonnull
+  TimeseriesScrollResult scrollAspectValues(
+      @Nonnull final Urn urn,
+      @Nonnull final String entityName,
+      @Nonnull final String aspectName,
+      @Nullable final Long startTimeMillis,
+      @Nullable final Long endTimeMillis,
+      @Nullable final Filter filter,
+      @Nullable final SortCriterion sort,
+      @Nullable final String scrollId,
+      final int count);
+
+  /**
+   * Streaming version of {@link #scrollAspectValues(Urn, String, String, Long, Long, Filter, SortCriterion, String, int)}:
+   * iterates over all the matching Time-Series aspects, fetching them a page at a time as the iterator is consumed.
+   *
+   * @param pageSize the number of values fetched at a time
+   */
+  @Nonnull
+  default Iterator<EnvelopedAspect> streamAspectValues(
+      @Nonnull final Urn urn,
+      @Nonnull final String entityName,
+      @Nonnull final String aspectName,
+      @Nullable final Long startTimeMillis,
+      @Nullable final Long endTimeMillis,
+      @Nullable final Filter filter,
+      @Nullable final SortCriterion sort,
+      final int pageSize) {
+    return new TimeseriesAspectIterator(this, urn, entityName, aspectName, startTimeMillis, endTimeMillis, filter, sort,
+        pageSize);
+  }
+
+  /**
+   * Batch version of {@link #getAspectValues(Urn, String, String, Long, Long, Integer, Filter, SortCriterion)}:
+   * retrieves the Time-Series Aspects of several entities of the same type, applying the limit to each entity.
+   *
+   * @param urns the urns of the entities to retrieve aspects for
+   * @return a map from each of the urns to its aspects. Urns without aspects are mapped to an empty list.
+   */
+  @Nonnull
+  default Map<Urn, List<EnvelopedAspect>> batchGetAspectValues(
+      @Nonnull final Set<Urn> urns,
+      @Nonnull final String entityName,
+      @Nonnull final String aspectName,
+      @Nullable final Long startTimeMillis,
+      @Nullable final Long endTimeMillis,
+      @Nullable final Integer limit,
+      @Nullable final Filter filter,
+      @Nullable final SortCriterion sort) {
+    final Map<Urn, List<EnvelopedAspect>> result = new HashMap<>();
+    for (Urn urn : urns) {
+      result.put(urn, getAspectValues(urn, entityName, aspectName, startTimeMillis, endTimeMillis, limit, filter, sort));
+    }
+    return result;
+  }
+
   /**
    * Perform a arbitrary aggregation query over a set of Time-Series aspects.
    * This is used to answer arbitrary questions about the Time-Series aspects that we have.
@@ -0,0 +1,17 @@
+package com.linkedin.metadata.timeseries;
+
+import com.linkedin.metadata.aspect.EnvelopedAspect;
+import java.util.List;
+import javax.annotation.Nullable;
+import lombok.Value;
+
+
+/**
+ * A page of Time-Series aspect values, with the scroll id of the next page if there may be more values.
+ */
+@Value
+public class TimeseriesScrollResult {
+  List<EnvelopedAspect> values;
+  @Nullable
+  String scrollId;
+}
@@ -18,14 +18,17 @@ import com.linkedin.metadata.query.filter.Criterion;
 import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.query.filter.SortCriterion;
 import com.linkedin.metadata.search.elasticsearch.indexbuilder.ReindexConfig;
+import com.linkedin.metadata.search.elasticsearch.query.request.SearchAfterWrapper;
 import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
 import com.linkedin.metadata.search.utils.ESUtils;
 import com.linkedin.metadata.search.utils.QueryUtils;
 import com.linkedin.metadata.shared.ElasticSearchIndexed;
 import com.linkedin.metadata.timeseries.BatchWriteOperationsOptions;
 import com.linkedin.metadata.timeseries.TimeseriesAspectService;
+import com.linkedin.metadata.timeseries.TimeseriesScrollResult;
 import com.linkedin.metadata.timeseries.elastic.indexbuilder.MappingsBuilder;
 import com.linkedin.metadata.timeseries.elastic.indexbuilder.TimeseriesAspectIndexBuilders;
+import com.linkedin.metadata.timeseries.elastic.indexbuilder.TimeseriesIndexPartitions;
 import com.linkedin.metadata.timeseries.elastic.query.ESAggregatedStatsDAO;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
@@ -42,15 +45,24 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.ElasticsearchStatusException;
+import org.elasticsearch.action.admin.indices.delete.DeleteIndexRequest;
+import org.elasticsearch.action.delete.DeleteRequest;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.action.support.IndicesOptions;
 import org.elasticsearch.action.update.UpdateRequest;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.RequestOptions;
@@ -58,15 +70,23 @@ import org.elasticsearch.client.Response;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.elasticsearch.client.core.CountRequest;
 import org.elasticsearch.client.core.CountResponse;
+import org.elasticsearch.client.indices.GetIndexRequest;
+import org.elasticsearch.client.indices.GetIndexResponse;
 import org.elasticsearch.client.tasks.TaskSubmissionResponse;
+import org.elasticsearch.cluster.metadata.AliasMetadata;
 import org.elasticsearch.common.unit.TimeValue;
 import org.elasticsearch.common.xcontent.XContentType;
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.rest.RestStatus;
 import org.elasticsearch.search.SearchHit;
 import org.elasticsearch.search.SearchHits;
+import org.elasticsearch.search.aggregations.AggregationBuilders;
+import org.elasticsearch.search.aggregations.bucket.terms.Terms;
+import org.elasticsearch.search.aggregations.metrics.TopHits;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.elasticsearch.search.sort.FieldSortBuilder;
 import org.elasticsearch.search.sort.SortBuilders;
 import org.elasticsearch.search.sort.SortOrder;
 
@@ -83,6 +103,11 @@ public class ElasticSearchTimeseriesAspectService implements TimeseriesAspectSer
   private static final String TIMESTAMP_FIELD = "timestampMillis";
   private static final String EVENT_FIELD = "event";
   private static final Integer DEFAULT_LIMIT = 10000;
+  // Default of the index.max_inner_result_window index setting, which caps the size of top_hits aggregations.
+  private static final int MAX_TOP_HITS_SIZE = 100;
+  private static final String URN_AGGREGATION = "urns";
+  private static final String TOP_HITS_AGGREGATION = "top_hits";
+  private static final String SCROLL_KEEP_ALIVE = "5m";
 
   private final IndexConvention _indexConvention;
   private final ESBulkProcessor _bulkProcessor;
@@ -91,18 +116,35 @@ public class ElasticSearchTimeseriesAspectService implements TimeseriesAspectSer
   private final RestHighLevelClient _searchClient;
   private final ESAggregatedStatsDAO _esAggregatedStatsDAO;
   private final EntityRegistry _entityRegistry;
+  private final TimeseriesIndexPartitions _partitions;
+  // Partitions known to exist with up to date mappings
+  private final Set<String> _builtPartitions = ConcurrentHashMap.newKeySet();
+  // Whether the unpartitioned index of each aspect holds documents, by index name
+  private final Map<String, Boolean> _unpartitionedIndexHasDocuments = new ConcurrentHashMap<>();
+  // Whether scrolls read from a point in time, which keeps pages consistent while documents are written
+  @Setter
+  private boolean pointInTimeEnabled = false;
 
   public ElasticSearchTimeseriesAspectService(@Nonnull RestHighLevelClient searchClient,
       @Nonnull IndexConvention indexConvention, @Nonnull TimeseriesAspectIndexBuilders indexBuilders,
       @Nonnull EntityRegistry entityRegistry, @Nonnull ESBulkProcessor bulkProcessor, int numRetries) {
+    this(searchClient, indexConvention, indexBuilders, entityRegistry, bulkProcessor, numRetries,
+        new TimeseriesIndexPartitions(indexConvention, false, 0));
+  }
+
+  public ElasticSearchTimeseriesAspectService(@Nonnull RestHighLevelClient searchClient,
+      @Nonnull IndexConvention indexConvention, @Nonnull TimeseriesAspectIndexBuilders indexBuilders,
+      @Nonnull EntityRegistry entityRegistry, @Nonnull ESBulkProcessor bulkProcessor, int numRetries,
+      @Nonnull TimeseriesIndexPartitions partitions) {
     _indexConvention = indexConvention;
     _indexBuilders = indexBuilders;
     _searchClient = searchClient;
     _bulkProcessor = bulkProcessor;
     _entityRegistry = entityRegistry;
     _numRetries = numRetries;
+    _partitions = partitions;
 
-    _esAggregatedStatsDAO = new ESAggregatedStatsDAO(indexConvention, searchClient, entityRegistry);
+    _esAggregatedStatsDAO = new ESAggregatedStatsDAO(partitions, searchClient, entityRegistry);
   }
 
   private static EnvelopedAspect parseDocument(@Nonnull SearchHit doc) {
@@ -134,6 +176,122 @@ public class ElasticSearchTimeseriesAspectService implements TimeseriesAspectSer
   @Override
   public void configure() {
     _indexBuilders.reindexAll();
+    if (_partitions.isEnabled()) {
+      // Apply mapping updates to the existing partitions as well
+      forEachTimeseriesAspect((entityName, aspectName) -> {
+        for (String partitionName : getPartitionNames(entityName, aspectName).keySet()) {
+          buildPartition(entityName, aspectName, partitionName);
+        }
+      });
+    }
+  }
+
+  /**
+   * Drops the time partitions older than the retention. Deleting whole indices rather than documents keeps the cost
+   * of retention independent of the number of documents.
+   */
+  public void applyRetention() {
+    if (!_partitions.isEnabled() || _partitions.getRetentionMonths() <= 0) {
+      return;
+    }
+    final long now = System.currentTimeMillis();
+    forEachTimeseriesAspect((entityName, aspectName) -> {
+      try {
+        for (Map.Entry<String, String> partition : getPartitionNames(entityName, aspectName).entrySet()) {
+          if (_partitions.isExpired(partition.getKey(), now)) {
+            dropPartition(partition.getKey(), partition.getValue());
+          }
+        }
+      } catch (Exception e) {
+        log.error("Failed to apply retention to the partitions of entity {} aspect {}", entityName, aspectName, e);
+        MetricUtils.exceptionCounter(this.getClass(), "retentionFailed", e);
+      }
+    });
+  }
+
+  private void dropPartition(@Nonnull String partitionName, @Nonnull String indexName) throws IOException {
+    try {
+      _searchClient.indices().delete(new DeleteIndexRequest(indexName), RequestOptions.DEFAULT);
+      MetricUtils.counter(this.getClass(), "partitionsDropped").inc();
+      log.info("Dropped expired timeseries partition {}", partitionName);
+    } catch (ElasticsearchStatusException e) {
+      // Retention runs on every instance, so another one may have dropped the partition first
+      if (e.status() != RestStatus.NOT_FOUND) {
+        throw e;
+      }
+      log.debug("Expired timeseries partition {} was already dropped", partitionName);
+    }
+    _builtPartitions.remove(partitionName);
+  }
+
+  /**
+   * Forgets which unpartitioned indices hold documents, so that they are counted again on the next write. Documents
+   * move out of an unpartitioned index as they are written to partitions, after which the deletes can stop.
+   */
+  public void refreshUnpartitionedIndexState() {
+    _unpartitionedIndexHasDocuments.clear();
+  }
+
+  private boolean unpartitionedIndexHasDocuments(@Nonnull String indexName) {
+    return _unpartitionedIndexHasDocuments.computeIfAbsent(indexName, name -> {
+      try {
+        return _searchClient.count(new CountRequest(name).indicesOptions(IndicesOptions.lenientExpandOpen()),
+            RequestOptions.DEFAULT).getCount() > 0;
+      } catch (IOException | RuntimeException e) {
+        // Deleting a document which does not exist is harmless, while skipping the delete would read it twice
+        log.warn("Failed to count the documents of {}, assuming it holds documents", name, e);
+        return true;
+      }
+    });
+  }
+
+  /**
+   * Returns the existing partitions of the given timeseries aspect, by partition name. The value is the concrete index
+   * behind the partition, which differs from the partition name once the partition has been reindexed.
+   */
+  private Map<String, String> getPartitionNames(@Nonnull String entityName, @Nonnull String aspectName) {
+    final String pattern =
+        _partitions.getPartitionPattern(_indexConvention.getTimeseriesAspectIndexName(entityName, aspectName));
+    try {
+      final GetIndexResponse response =
+          _searchClient.indices().get(new GetIndexRequest(pattern).indicesOptions(IndicesOptions.lenientExpandOpen()),
+              RequestOptions.DEFAULT);
+      final Map<String, String> partitionNames = new HashMap<>();
+      for (String index : response.getIndices()) {
+        final List<AliasMetadata> aliases = response.getAliases().getOrDefault(index, List.of());
+        partitionNames.put(aliases.isEmpty() ? index : aliases.get(0).alias(), index);
+      }
+      return partitionNames;
+    } catch (IOException e) {
+      throw new ESQueryException("Failed to list timeseries partitions " + pattern, e);
+    }
+  }
+
+  private void buildPartition(@Nonnull String entityName, @Nonnull String aspectName, @Nonnull String partitionName) {
+    if (_builtPartitions.contains(partitionName)) {
+      return;
+    }
+    try {
+      _indexBuilders.buildPartition(entityName, aspectName, partitionName);
+    } catch (ElasticsearchStatusException e) {
+      // Another instance created the partition first
+      if (e.status() != RestStatus.BAD_REQUEST || !e.getMessage().contains("resource_already_exists_exception")) {
+        throw e;
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to build timeseries partition " + partitionName, e);
+    }
+    _builtPartitions.add(partitionName);
+  }
+
+  private void forEachTimeseriesAspect(@Nonnull BiConsumer<String, String> consumer) {
+    for (Map.Entry<String, EntitySpec> entry : _entityRegistry.getEntitySpecs().entrySet()) {
+      for (AspectSpec aspectSpec : entry.getValue().getAspectSpecs()) {
+        if (aspectSpec.isTimeseries()) {
+          consumer.accept(entry.getKey(), aspectSpec.getName());
+        }
+      }
+    }
   }
 
   @Override
@@ -153,7 +311,18 @@ public class ElasticSearchTimeseriesAspectService implements TimeseriesAspectSer
   @Override
   public void upsertDocument(@Nonnull String entityName, @Nonnull String aspectName, @Nonnull String docId,
       @Nonnull JsonNode document) {
-    String indexName = _indexConvention.getTimeseriesAspectIndexName(entityName, aspectName);
+    final JsonNode timestamp = document.get(MappingsBuilder.TIMESTAMP_MILLIS_FIELD);
+    final String indexName = _partitions.getWriteIndexName(entityName, aspectName,
+        timestamp != null && timestamp.canConvertToLong() ? timestamp.asLong() : null);
+    final String unpartitionedIndexName = _indexConvention.getTimeseriesAspectIndexName(entityName, aspectName);
+    if (_partitions.isEnabled() && !indexName.equals(unpartitionedIndexName)) {
+      buildPartition(entityName, aspectName, indexName);
+      // The unpartitioned index is still read, so a document written there before partitioning was enabled would be
+      // returned twice. The partition replaces it.
+      if (unpartitionedIndexHasDocuments(unpartitionedIndexName)) {
+        _bulkProcessor.add(new DeleteRequest(unpartitionedIndexName, docId));
+      }
+    }
     final UpdateRequest updateRequest = new UpdateRequest(
             indexName, docId)
             .detectNoop(false)
@@ -168,12 +337,16 @@ public class ElasticSearchTimeseriesAspectService implements TimeseriesAspectSer
     List<TimeseriesIndexSizeResult> res = new ArrayList<>();
     try {
       String indicesPattern = _indexConvention.getAllTimeseriesAspectIndicesPattern();
+      if (_partitions.isEnabled()) {
+        indicesPattern += "," + _partitions.getPartitionPattern(indicesPattern);
+      }
       Response r = _searchClient.getLowLevelClient().performRequest(new Request("GET", indicesPattern + "/_stats"));
       JsonNode body = new ObjectMapper().readTree(r.getEntity().getContent());
       body.get("indices").fields().forEachRemaining(entry -> {
         TimeseriesIndexSizeResult elemResult = new TimeseriesIndexSizeResult();
         elemResult.setIndexName(entry.getKey());
-        Optional<Pair<String, String>> indexEntityAndAspect = _indexConvention.getEntityAndAspectName(entry.getKey());
+        Optional<Pair<String, String>> indexEntityAndAspect =
+            _indexConvention.getEntityAndAspectName(_partitions.getAspectIndexName(entry.getKey()));
         if (indexEntityAndAspect.isPresent()) {
           elemResult.setEntityName(indexEntityAndAspect.get().getFirst());
           elemResult.setAspectName(indexEntityAndAspect.get().getSecond());
@@ -217,8 +390,183 @@ public class ElasticSearchTimeseriesAspectService implements TimeseriesAspectSer
       @Nullable final Integer limit,
       @Nullable final Filter filter,
       @Nullable final SortCriterion sort) {
-    final BoolQueryBuilder filterQueryBuilder = QueryBuilders.boolQuery().must(ESUtils.buildFilterQuery(filter, true));
+    final BoolQueryBuilder filterQueryBuilder = buildAspectValuesQuery(startTimeMillis, endTimeMillis, filter);
     filterQueryBuilder.must(QueryBuilders.matchQuery("urn", urn.toString()));
+    final SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
+    searchSourceBuilder.query(filterQueryBuilder);
+    searchSourceBuilder.size(limit != null ? limit : DEFAULT_LIMIT);
+    searchSourceBuilder.sort(buildSort(sort));
+
+    final SearchRequest searchRequest = new SearchRequest();
+    searchRequest.source(searchSourceBuilder);
+    searchRequest.indices(_partitions.getReadIndexNames(entityName, aspectName, startTimeMillis, endTimeMillis));
+    searchRequest.indicesOptions(IndicesOptions.lenientExpandOpen());
+
+    log.debug("Search request is: " + searchRequest);
+    SearchHits hits;
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "searchAspectValues_search").time()) {
+      final SearchResponse searchResponse = _searchClient.search(searchRequest, RequestOptions.DEFAULT);
+      hits = searchResponse.getHits();
+    } catch (Exception e) {
+      log.error("Search query failed:", e);
+      throw new ESQueryException("Search query failed:", e);
+    }
+    return Arrays.stream(hits.getHits())
+        .map(ElasticSearchTimeseriesAspectService::parseDocument)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Pages through the aspects with search_after, sorting on the document id after the requested sort so that the
+   * position of the page is unique.
+   */
+  @Nonnull
+  @Override
+  public TimeseriesScrollResult scrollAspectValues(
+      @Nonnull final Urn urn,
+      @Nonnull final String entityName,
+      @Nonnull final String aspectName,
+      @Nullable final Long startTimeMillis,
+      @Nullable final Long endTimeMillis,
+      @Nullable final Filter filter,
+      @Nullable final SortCriterion sort,
+      @Nullable final String scrollId,
+      final int count) {
+    final String[] indexNames = _partitions.getReadIndexNames(entityName, aspectName, startTimeMillis, endTimeMillis);
+    Object[] searchAfter = null;
+    String pitId = null;
+    if (scrollId != null) {
+      final SearchAfterWrapper searchAfterWrapper = SearchAfterWrapper.fromScrollId(scrollId);
+      searchAfter = searchAfterWrapper.getSort();
+      if (pointInTimeEnabled && System.currentTimeMillis() + 10000 <= searchAfterWrapper.getExpirationTime()) {
+        pitId = searchAfterWrapper.getPitId();
+      }
+    }
+    if (pointInTimeEnabled && pitId == null) {
+      pitId = createPointInTime(indexNames);
+    }
+
+    final BoolQueryBuilder filterQueryBuilder = buildAspectValuesQuery(startTimeMillis, endTimeMillis, filter);
+    filterQueryBuilder.must(QueryBuilders.matchQuery("urn", urn.toString()));
+    final SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
+    searchSourceBuilder.query(filterQueryBuilder);
+    searchSourceBuilder.size(count);
+    searchSourceBuilder.sort(buildSort(sort));
+    searchSourceBuilder.sort(SortBuilders.fieldSort("_id").order(SortOrder.ASC));
+    ESUtils.setSearchAfter(searchSourceBuilder, searchAfter, pitId, SCROLL_KEEP_ALIVE);
+
+    final SearchRequest searchRequest = new SearchRequest();
+    searchRequest.source(searchSourceBuilder);
+    // A point in time is opened on the indices, so they are not specified on the request
+    if (pitId == null) {
+      searchRequest.indices(indexNames);
+      searchRequest.indicesOptions(IndicesOptions.lenientExpandOpen());
+    }
+
+    log.debug("Search request is: " + searchRequest);
+    final SearchHit[] hits;
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "scrollAspectValues_search").time()) {
+      final SearchResponse searchResponse = _searchClient.search(searchRequest, RequestOptions.DEFAULT);
+      hits = searchResponse.getHits().getHits();
+    } catch (Exception e) {
+      log.error("Search query failed:", e);
+      throw new ESQueryException("Search query failed:", e);
+    }
+
+    String nextScrollId = null;
+    if (hits.length == count && count > 0) {
+      final long expirationTime =
+          System.currentTimeMillis() + TimeValue.parseTimeValue(SCROLL_KEEP_ALIVE, "keepAlive").millis();
+      nextScrollId = new SearchAfterWrapper(hits[hits.length - 1].getSortValues(), pitId, expirationTime).toScrollId();
+    }
+    return new TimeseriesScrollResult(Arrays.stream(hits)
+        .map(ElasticSearchTimeseriesAspectService::parseDocument)
+        .collect(Collectors.toList()), nextScrollId);
+  }
+
+  private String createPointInTime(@Nonnull String[] indexNames) {
+    final Request request = new Request("POST", String.join(",", indexNames) + "/_pit");
+    request.addParameter("keep_alive", SCROLL_KEEP_ALIVE);
+    request.addParameter("ignore_unavailable", "true");
+    try {
+      final Response response = _searchClient.getLowLevelClient().performRequest(request);
+      return OBJECT_MAPPER.readTree(response.getEntity().getContent()).get("id").asText();
+    } catch (IOException e) {
+      log.error("Failed to generate PointInTime Identifier.", e);
+      throw new IllegalStateException("Failed to generate PointInTime Identifier.:", e);
+    }
+  }
+
+  /**
+   * Fetches the aspects of all urns in a single search: the matching documents are bucketed by urn, and the top
+   * documents of each bucket are returned. Falls back to one search per urn when the limit exceeds the number of hits
+   * a bucket can return.
+   */
+  @Nonnull
+  @Override
+  public Map<Urn, List<EnvelopedAspect>> batchGetAspectValues(
+      @Nonnull final Set<Urn> urns,
+      @Nonnull final String entityName,
+      @Nonnull final String aspectName,
+      @Nullable final Long startTimeMillis,
+      @Nullable final Long endTimeMillis,
+      @Nullable final Integer limit,
+      @Nullable final Filter filter,
+      @Nullable final SortCriterion sort) {
+    final int limitPerUrn = limit != null ? limit : DEFAULT_LIMIT;
+    if (urns.size() <= 1 || limitPerUrn > MAX_TOP_HITS_SIZE) {
+      return TimeseriesAspectService.super.batchGetAspectValues(urns, entityName, aspectName, startTimeMillis,
+          endTimeMillis, limit, filter, sort);
+    }
+    final Map<String, Urn> urnsByString = urns.stream().collect(Collectors.toMap(Urn::toString, urn -> urn));
+
+    final BoolQueryBuilder filterQueryBuilder = buildAspectValuesQuery(startTimeMillis, endTimeMillis, filter);
+    filterQueryBuilder.must(QueryBuilders.termsQuery(MappingsBuilder.URN_FIELD, urnsByString.keySet()));
+    final SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
+    searchSourceBuilder.query(filterQueryBuilder);
+    searchSourceBuilder.size(0);
+    searchSourceBuilder.aggregation(AggregationBuilders.terms(URN_AGGREGATION)
+        .field(MappingsBuilder.URN_FIELD)
+        .size(urns.size())
+        .subAggregation(AggregationBuilders.topHits(TOP_HITS_AGGREGATION)
+            .size(limitPerUrn)
+            .sort(buildSort(sort))));
+
+    final SearchRequest searchRequest = new SearchRequest();
+    searchRequest.source(searchSourceBuilder);
+    searchRequest.indices(_partitions.getReadIndexNames(entityName, aspectName, startTimeMillis, endTimeMillis));
+    searchRequest.indicesOptions(IndicesOptions.lenientExpandOpen());
+
+    log.debug("Search request is: " + searchRequest);
+    final Terms urnTerms;
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "batchSearchAspectValues_search").time()) {
+      final SearchResponse searchResponse = _searchClient.search(searchRequest, RequestOptions.DEFAULT);
+      urnTerms = searchResponse.getAggregations().get(URN_AGGREGATION);
+    } catch (Exception e) {
+      log.error("Search query failed:", e);
+      throw new ESQueryException("Search query failed:", e);
+    }
+
+    final Map<Urn, List<EnvelopedAspect>> result = new HashMap<>();
+    urns.forEach(urn -> result.put(urn, new ArrayList<>()));
+    for (Terms.Bucket bucket : urnTerms.getBuckets()) {
+      final Urn urn = urnsByString.get(bucket.getKeyAsString());
+      if (urn == null) {
+        continue;
+      }
+      final TopHits topHits = bucket.getAggregations().get(TOP_HITS_AGGREGATION);
+      Arrays.stream(topHits.getHits().getHits())
+          .map(ElasticSearchTimeseriesAspectService::parseDocument)
+          .forEach(result.get(urn)::add);
+    }
+    return result;
+  }
+
+  private static BoolQueryBuilder buildAspectValuesQuery(
+      @Nullable final Long startTimeMillis,
+      @Nullable final Long endTimeMillis,
+      @Nullable final Filter filter) {
+    final BoolQueryBuilder filterQueryBuilder = QueryBuilders.boolQuery().must(ESUtils.buildFilterQuery(filter, true));
     // NOTE: We are interested only in the un-exploded rows as only they carry the `event` payload.
     filterQueryBuilder.mustNot(QueryBuilders.termQuery(MappingsBuilder.IS_EXPLODED_FIELD, true));
     if (startTimeMillis != null) {
@@ -233,38 +581,18 @@ public class ElasticSearchTimeseriesAspectService implements TimeseriesAspectSer
           .setValue(endTimeMillis.toString());
       filterQueryBuilder.must(ESUtils.getQueryBuilderFromCriterion(endTimeCriterion, true));
     }
-    final SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
-    searchSourceBuilder.query(filterQueryBuilder);
-    searchSourceBuilder.size(limit != null ? limit : DEFAULT_LIMIT);
+    return filterQueryBuilder;
+  }
 
+  private static FieldSortBuilder buildSort(@Nullable final SortCriterion sort) {
     if (sort != null) {
       final SortOrder esSortOrder =
           (sort.getOrder() == com.linkedin.metadata.query.filter.SortOrder.ASCENDING) ? SortOrder.ASC
               : SortOrder.DESC;
-      searchSourceBuilder.sort(SortBuilders.fieldSort(sort.getField()).order(esSortOrder));
-    } else {
-      // By default, sort by the timestampMillis descending.
-      searchSourceBuilder.sort(SortBuilders.fieldSort("@timestamp").order(SortOrder.DESC));
+      return SortBuilders.fieldSort(sort.getField()).order(esSortOrder);
     }
-
-    final SearchRequest searchRequest = new SearchRequest();
-    searchRequest.source(searchSourceBuilder);
-
-    String indexName = _indexConvention.getTimeseriesAspectIndexName(entityName, aspectName);
-    searchRequest.indices(indexName);
-
-    log.debug("Search request is: " + searchRequest);
-    SearchHits hits;
-    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "searchAspectValues_search").time()) {
-      final SearchResponse searchResponse = _searchClient.search(searchRequest, RequestOptions.DEFAULT);
-      hits = searchResponse.getHits();
-    } catch (Exception e) {
-      log.error("Search query failed:", e);
-      throw new ESQueryException("Search query failed:", e);
-    }
-    return Arrays.stream(hits.getHits())
-        .map(ElasticSearchTimeseriesAspectService::parseDocument)
-        .collect(Collectors.toList());
+    // By default, sort by the timestampMillis descending.
+    return SortBuilders.fieldSort("@timestamp").order(SortOrder.DESC);
   }
 
   @Override
@@ -289,11 +617,11 @@ public class ElasticSearchTimeseriesAspectService implements TimeseriesAspectSer
   @Override
   public DeleteAspectValuesResult deleteAspectValues(@Nonnull String entityName, @Nonnull String aspectName,
       @Nonnull Filter filter) {
-    final String indexName = _indexConvention.getTimeseriesAspectIndexName(entityName, aspectName);
+    final String[] indexNames = _partitions.getAllIndexNames(entityName, aspectName);
     final BoolQueryBuilder filterQueryBuilder = ESUtils.buildFilterQuery(filter, true);
 
     final Optional<DeleteAspectValuesResult> result = _bulkProcessor
-            .deleteByQuery(filterQueryBuilder, false, DEFAULT_LIMIT, TimeValue.timeValueMinutes(10), indexName)
+            .deleteByQuery(filterQueryBuilder, false, DEFAULT_LIMIT, TimeValue.timeValueMinutes(10), indexNames)
             .map(response -> new DeleteAspectValuesResult().setNumDocsDeleted(response.getDeleted()));
 
     if (result.isPresent()) {
@@ -308,12 +636,12 @@ public class ElasticSearchTimeseriesAspectService implements TimeseriesAspectSer
   @Override
   public String deleteAspectValuesAsync(@Nonnull String entityName, @Nonnull String aspectName, @Nonnull Filter filter,
       @Nonnull BatchWriteOperationsOptions options) {
-    final String indexName = _indexConvention.getTimeseriesAspectIndexName(entityName, aspectName);
+    final String[] indexNames = _partitions.getAllIndexNames(entityName, aspectName);
     final BoolQueryBuilder filterQueryBuilder = ESUtils.buildFilterQuery(filter, true);
     final int batchSize = options.getBatchSize() > 0 ? options.getBatchSize() : DEFAULT_LIMIT;
     TimeValue timeout = options.getTimeoutSeconds() > 0 ? TimeValue.timeValueSeconds(options.getTimeoutSeconds()) : null;
     final Optional<TaskSubmissionResponse> result = _bulkProcessor
-        .deleteByQueryAsync(filterQueryBuilder, false, batchSize, timeout, indexName);
+        .deleteByQueryAsync(filterQueryBuilder, false, batchSize, timeout, indexNames);
 
     if (result.isPresent()) {
       return result.get().getTask();
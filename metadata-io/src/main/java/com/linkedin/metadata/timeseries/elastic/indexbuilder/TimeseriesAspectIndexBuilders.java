@@ -1,5 +1,6 @@
 package com.linkedin.metadata.timeseries.elastic.indexbuilder;
 
+import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.search.elasticsearch.indexbuilder.ESIndexBuilder;
@@ -38,6 +39,15 @@ public class TimeseriesAspectIndexBuilders implements ElasticSearchIndexed {
     }
   }
 
+  /**
+   * Creates the time partition of the given timeseries aspect, or updates its mappings if it already exists.
+   */
+  public void buildPartition(String entityName, String aspectName, String partitionName) throws IOException {
+    AspectSpec aspectSpec = _entityRegistry.getEntitySpec(entityName).getAspectSpec(aspectName);
+    _indexBuilder.buildIndex(
+        _indexBuilder.buildReindexState(partitionName, MappingsBuilder.getMappings(aspectSpec), Collections.emptyMap()));
+  }
+
   public String reindexAsync(String index, @Nullable QueryBuilder filterQuery, BatchWriteOperationsOptions options)
       throws Exception {
     Optional<Pair<String, String>> entityAndAspect = _indexConvention.getEntityAndAspectName(index);
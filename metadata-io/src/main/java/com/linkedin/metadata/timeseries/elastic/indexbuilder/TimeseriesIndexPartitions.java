@@ -0,0 +1,218 @@
+package com.linkedin.metadata.timeseries.elastic.indexbuilder;
+
+import com.linkedin.metadata.query.filter.ConjunctiveCriterion;
+import com.linkedin.metadata.query.filter.Criterion;
+import com.linkedin.metadata.query.filter.CriterionArray;
+import com.linkedin.metadata.query.filter.Filter;
+import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+
+/**
+ * Naming and routing of the monthly time partitions of the timeseries aspect indices.
+ *
+ * When enabled, each document is written to the partition of the month of its timestampMillis, named after the
+ * aspect index followed by the month, e.g. dataset_datasetprofileaspect_v1-2023.01. Queries bounded in time are only
+ * sent to the partitions overlapping the bounds, and old data is dropped a whole partition at a time.
+ *
+ * The unpartitioned aspect index is still read, so the documents written before partitioning was enabled remain
+ * visible until they are deleted.
+ */
+@RequiredArgsConstructor
+public class TimeseriesIndexPartitions {
+  private static final String PARTITION_DELIMITER = "-";
+  private static final DateTimeFormatter PARTITION_FORMAT = DateTimeFormatter.ofPattern("yyyy.MM");
+  // Queries spanning more partitions than this are sent to the partition pattern instead of to each partition
+  private static final int MAX_ROUTED_PARTITIONS = 24;
+
+  private final IndexConvention _indexConvention;
+  @Getter
+  private final boolean enabled;
+  // Number of whole months kept before the current one, 0 to keep every partition
+  @Getter
+  private final int retentionMonths;
+
+  /**
+   * Returns the index a document with the given timestamp is written to.
+   */
+  @Nonnull
+  public String getWriteIndexName(@Nonnull String entityName, @Nonnull String aspectName,
+      @Nullable Long timestampMillis) {
+    final String indexName = _indexConvention.getTimeseriesAspectIndexName(entityName, aspectName);
+    if (!enabled || timestampMillis == null) {
+      return indexName;
+    }
+    return getPartitionName(indexName, toMonth(timestampMillis));
+  }
+
+  /**
+   * Returns the indices holding the documents with a timestamp within the optional bounds.
+   */
+  @Nonnull
+  public String[] getReadIndexNames(@Nonnull String entityName, @Nonnull String aspectName,
+      @Nullable Long startTimeMillis, @Nullable Long endTimeMillis) {
+    final String indexName = _indexConvention.getTimeseriesAspectIndexName(entityName, aspectName);
+    if (!enabled) {
+      return new String[]{indexName};
+    }
+    if (startTimeMillis == null || endTimeMillis == null) {
+      return new String[]{indexName, getPartitionPattern(indexName)};
+    }
+    if (startTimeMillis > endTimeMillis) {
+      return new String[]{indexName};
+    }
+    final YearMonth first = toMonth(startTimeMillis);
+    final YearMonth last = toMonth(endTimeMillis);
+    if (first.plusMonths(MAX_ROUTED_PARTITIONS).isBefore(last)) {
+      return new String[]{indexName, getPartitionPattern(indexName)};
+    }
+    final List<String> indexNames = new ArrayList<>();
+    indexNames.add(indexName);
+    for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+      indexNames.add(getPartitionName(indexName, month));
+    }
+    return indexNames.toArray(new String[0]);
+  }
+
+  /**
+   * Returns the indices holding the documents matching the filter, using the timestampMillis criteria of the filter
+   * as bounds.
+   */
+  @Nonnull
+  public String[] getReadIndexNames(@Nonnull String entityName, @Nonnull String aspectName, @Nullable Filter filter) {
+    final Optional<Long> start = getBound(filter, true);
+    final Optional<Long> end = getBound(filter, false);
+    return getReadIndexNames(entityName, aspectName, start.orElse(null), end.orElse(null));
+  }
+
+  /**
+   * Returns the indices to delete documents from: the aspect index and all of its partitions.
+   */
+  @Nonnull
+  public String[] getAllIndexNames(@Nonnull String entityName, @Nonnull String aspectName) {
+    return getReadIndexNames(entityName, aspectName, null, null);
+  }
+
+  @Nonnull
+  public String getPartitionPattern(@Nonnull String indexName) {
+    return indexName + PARTITION_DELIMITER + "*";
+  }
+
+  /**
+   * Returns true if the given partition only holds documents older than the retention.
+   */
+  public boolean isExpired(@Nonnull String partitionName, long nowMillis) {
+    if (retentionMonths <= 0) {
+      return false;
+    }
+    final Optional<YearMonth> month = getPartitionMonth(partitionName);
+    return month.isPresent() && month.get().isBefore(toMonth(nowMillis).minusMonths(retentionMonths));
+  }
+
+  /**
+   * Returns the aspect index of the given index: the index without its partition suffix, if any.
+   */
+  @Nonnull
+  public String getAspectIndexName(@Nonnull String indexName) {
+    if (!getPartitionMonth(indexName).isPresent()) {
+      return indexName;
+    }
+    return indexName.substring(0, indexName.lastIndexOf(PARTITION_DELIMITER));
+  }
+
+  @Nonnull
+  static Optional<YearMonth> getPartitionMonth(@Nonnull String partitionName) {
+    final int delimiter = partitionName.lastIndexOf(PARTITION_DELIMITER);
+    if (delimiter < 0) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(YearMonth.parse(partitionName.substring(delimiter + 1), PARTITION_FORMAT));
+    } catch (DateTimeParseException e) {
+      return Optional.empty();
+    }
+  }
+
+  private static String getPartitionName(@Nonnull String indexName, @Nonnull YearMonth month) {
+    return indexName + PARTITION_DELIMITER + month.format(PARTITION_FORMAT);
+  }
+
+  private static YearMonth toMonth(long timeMillis) {
+    return YearMonth.from(Instant.ofEpochMilli(timeMillis).atZone(ZoneOffset.UTC));
+  }
+
+  /**
+   * Returns the lower or upper bound on timestampMillis of the filter. The filter is only bounded if every one of its
+   * conjunctions is.
+   */
+  private static Optional<Long> getBound(@Nullable Filter filter, boolean lower) {
+    if (filter == null) {
+      return Optional.empty();
+    }
+    final List<CriterionArray> conjunctions = new ArrayList<>();
+    if (filter.getOr() != null) {
+      filter.getOr().stream().map(ConjunctiveCriterion::getAnd).forEach(conjunctions::add);
+    } else if (filter.getCriteria() != null) {
+      conjunctions.add(filter.getCriteria());
+    }
+    if (conjunctions.isEmpty()) {
+      return Optional.empty();
+    }
+    Long bound = null;
+    for (CriterionArray conjunction : conjunctions) {
+      final Optional<Long> conjunctionBound = getBound(conjunction, lower);
+      if (conjunctionBound.isEmpty()) {
+        return Optional.empty();
+      }
+      bound = bound == null ? conjunctionBound.get()
+          : lower ? Math.min(bound, conjunctionBound.get()) : Math.max(bound, conjunctionBound.get());
+    }
+    return Optional.of(bound);
+  }
+
+  private static Optional<Long> getBound(@Nonnull CriterionArray conjunction, boolean lower) {
+    Long bound = null;
+    for (Criterion criterion : conjunction) {
+      if (!MappingsBuilder.TIMESTAMP_MILLIS_FIELD.equals(criterion.getField()) || criterion.isNegated()) {
+        continue;
+      }
+      final long value;
+      try {
+        value = Long.parseLong(criterion.getValue());
+      } catch (NumberFormatException e) {
+        continue;
+      }
+      switch (criterion.getCondition()) {
+        case EQUAL:
+          break;
+        case GREATER_THAN:
+        case GREATER_THAN_OR_EQUAL_TO:
+          if (!lower) {
+            continue;
+          }
+          break;
+        case LESS_THAN:
+        case LESS_THAN_OR_EQUAL_TO:
+          if (lower) {
+            continue;
+          }
+          break;
+        default:
+          continue;
+      }
+      bound = bound == null ? value : lower ? Math.max(bound, value) : Math.min(bound, value);
+    }
+    return Optional.ofNullable(bound);
+  }
+}
@@ -13,7 +13,7 @@ import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.search.utils.ESUtils;
 import com.linkedin.metadata.timeseries.elastic.indexbuilder.MappingsBuilder;
-import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
+import com.linkedin.metadata.timeseries.elastic.indexbuilder.TimeseriesIndexPartitions;
 import com.linkedin.timeseries.AggregationSpec;
 import com.linkedin.timeseries.GenericTable;
 import com.linkedin.timeseries.GroupingBucket;
@@ -32,6 +32,7 @@ import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.action.support.IndicesOptions;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.elasticsearch.index.query.BoolQueryBuilder;
@@ -62,13 +63,13 @@ public class ESAggregatedStatsDAO {
       ES_AGGREGATION_PREFIX + ES_MAX_AGGREGATION_PREFIX + ES_FIELD_TIMESTAMP;
   private static final int MAX_TERM_BUCKETS = 24 * 60; // minutes in a day.
 
-  private final IndexConvention _indexConvention;
+  private final TimeseriesIndexPartitions _partitions;
   private final RestHighLevelClient _searchClient;
   private final EntityRegistry _entityRegistry;
 
-  public ESAggregatedStatsDAO(@Nonnull IndexConvention indexConvention, @Nonnull RestHighLevelClient searchClient,
+  public ESAggregatedStatsDAO(@Nonnull TimeseriesIndexPartitions partitions, @Nonnull RestHighLevelClient searchClient,
       @Nonnull EntityRegistry entityRegistry) {
-    _indexConvention = indexConvention;
+    _partitions = partitions;
     _searchClient = searchClient;
     _entityRegistry = entityRegistry;
   }
@@ -365,8 +366,9 @@ public class ESAggregatedStatsDAO {
     final SearchRequest searchRequest = new SearchRequest();
     searchRequest.source(searchSourceBuilder);
 
-    final String indexName = _indexConvention.getTimeseriesAspectIndexName(entityName, aspectName);
-    searchRequest.indices(indexName);
+    // Only the partitions overlapping the time range of the filter are searched
+    searchRequest.indices(_partitions.getReadIndexNames(entityName, aspectName, filter));
+    searchRequest.indicesOptions(IndicesOptions.lenientExpandOpen());
 
     log.debug("Search request is: " + searchRequest);
 
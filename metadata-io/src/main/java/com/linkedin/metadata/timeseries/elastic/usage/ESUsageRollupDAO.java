@@ -0,0 +1,321 @@
+package com.linkedin.metadata.timeseries.elastic.usage;
+
+import com.codahale.metrics.Timer;
+import com.datahub.util.exception.ESQueryException;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.ImmutableMap;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.dataset.DatasetFieldUsageCounts;
+import com.linkedin.dataset.DatasetUsageStatistics;
+import com.linkedin.dataset.DatasetUserUsageCounts;
+import com.linkedin.metadata.search.elasticsearch.indexbuilder.ESIndexBuilder;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
+import com.linkedin.metadata.search.elasticsearch.update.ESScripts;
+import com.linkedin.metadata.timeseries.elastic.usage.UsageRollupPlanner.Granularity;
+import com.linkedin.metadata.timeseries.elastic.usage.UsageRollupPlanner.Period;
+import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.usage.FieldUsageCounts;
+import com.linkedin.usage.UserUsageCounts;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.ElasticsearchStatusException;
+import org.elasticsearch.action.get.GetRequest;
+import org.elasticsearch.action.get.GetResponse;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.action.support.WriteRequest;
+import org.elasticsearch.action.update.UpdateRequest;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.common.xcontent.XContentType;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.rest.RestStatus;
+import org.elasticsearch.search.aggregations.AggregationBuilders;
+import org.elasticsearch.search.aggregations.BucketOrder;
+import org.elasticsearch.search.aggregations.bucket.terms.Terms;
+import org.elasticsearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
+import org.elasticsearch.search.aggregations.metrics.Sum;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+
+
+/**
+ * DAO of the weekly and monthly rollups of dataset usage statistics.
+ *
+ * There is one document per dataset, period and user or field, holding the usage count of each event of the period.
+ * Events are rolled up as they are indexed, so usage over a long time range only aggregates a few documents per user
+ * and field instead of one per event.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ESUsageRollupDAO {
+
+  public static final String INDEX_NAME = "dataset_usage_rollup_v1";
+  private static final String FIELD_URN = "urn";
+  private static final String FIELD_PERIOD = "period";
+  private static final String FIELD_DIMENSION = "dimension";
+  private static final String FIELD_KEY = "key";
+  private static final String FIELD_USER_EMAIL = "userEmail";
+  private static final String FIELD_COUNT = "count";
+  private static final String FIELD_CONTRIBUTIONS = "contributions";
+  private static final String FIELD_VALID_FROM_MILLIS = "validFromMillis";
+  private static final String VALID_FROM_DOC_ID = "validFrom";
+  private static final String DIMENSION_USER = "user";
+  private static final String DIMENSION_FIELD = "field";
+  private static final String KEY_AGG = "keys";
+  private static final String COUNT_AGG = "count";
+  private static final String USER_EMAIL_AGG = "userEmail";
+  private static final String DOC_DELIMITER = "--";
+  // Same bucket limit as the aggregations on the raw usage events
+  private static final int MAX_TERM_BUCKETS = 24 * 60;
+  private static final long VALID_FROM_CHECK_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+  private final RestHighLevelClient client;
+  private final IndexConvention indexConvention;
+  private final ESBulkProcessor bulkProcessor;
+  private final ESIndexBuilder indexBuilder;
+  private final int numRetries;
+  // When disabled, events are not rolled up and usage is only read from the raw events
+  @Getter
+  private final boolean enabled;
+  // Start of the rollups set in the configuration, or null to start them on the first startup with rollups enabled
+  @Nullable
+  private final Long configuredValidFromMillis;
+  // Rollups of periods starting before this time are incomplete and are not used. No rollup is used until configured.
+  private volatile long validFromMillis = Long.MAX_VALUE;
+  private volatile long validFromCheckedMillis = 0;
+
+  /**
+   * Builds the rollup index and script, and sets the time from which the rollups are complete. Unless configured, this
+   * is the first startup with rollups enabled of an instance consuming change logs, persisted in the index: events
+   * indexed before it were not rolled up, so older periods are aggregated from the raw events.
+   *
+   * @param consumesChangeLogs whether this instance rolls up the usage events of the change logs. Other instances only
+   *                           use the rollups once a consumer has persisted the time they start from.
+   */
+  public void configure(boolean consumesChangeLogs) throws IOException {
+    indexBuilder.buildIndex(indexBuilder.buildReindexState(getIndexName(), getMappings(), Collections.emptyMap()));
+    indexBuilder.buildStoredScripts(List.of(ESScripts.SET_USAGE_CONTRIBUTION));
+    if (configuredValidFromMillis != null) {
+      validFromMillis = configuredValidFromMillis;
+    } else if (consumesChangeLogs) {
+      validFromMillis = getOrCreateValidFromMillis();
+    } else {
+      getValidFromMillis();
+    }
+    if (validFromMillis != Long.MAX_VALUE) {
+      log.info("Usage rollups are used for periods starting from {}", validFromMillis);
+    } else {
+      log.info("Usage rollups are not used until a change log consumer starts rolling up events");
+    }
+  }
+
+  /**
+   * Returns the start of the periods whose rollups are complete, or Long.MAX_VALUE while no instance rolls up events.
+   */
+  public long getValidFromMillis() {
+    final long now = System.currentTimeMillis();
+    if (validFromMillis == Long.MAX_VALUE && configuredValidFromMillis == null
+        && now - validFromCheckedMillis >= VALID_FROM_CHECK_INTERVAL_MILLIS) {
+      validFromCheckedMillis = now;
+      try {
+        final GetResponse existing =
+            client.get(new GetRequest(getIndexName(), VALID_FROM_DOC_ID), RequestOptions.DEFAULT);
+        if (existing.isExists()) {
+          validFromMillis = ((Number) existing.getSourceAsMap().get(FIELD_VALID_FROM_MILLIS)).longValue();
+        }
+      } catch (IOException | ElasticsearchStatusException e) {
+        log.warn("Failed to read the start of the usage rollups: {}", e.getMessage());
+      }
+    }
+    return validFromMillis;
+  }
+
+  /**
+   * Adds the user and field counts of a usage event to the rollups of the week and month containing it.
+   */
+  public void addEvent(@Nonnull Urn urn, @Nonnull DatasetUsageStatistics event) {
+    if (!enabled) {
+      return;
+    }
+    String eventKey = String.valueOf(event.getTimestampMillis());
+    if (event.hasEventGranularity()) {
+      eventKey += "-" + event.getEventGranularity().getMultiple() + event.getEventGranularity().getUnit();
+    }
+    for (Granularity granularity : Granularity.values()) {
+      final Period period = new Period(granularity, granularity.getStart(event.getTimestampMillis()));
+      if (period.getStartMillis() < validFromMillis) {
+        continue;
+      }
+      if (event.hasUserCounts()) {
+        for (DatasetUserUsageCounts userCounts : event.getUserCounts()) {
+          setContribution(urn, period, DIMENSION_USER, userCounts.getUser().toString(), userCounts.getUserEmail(),
+              eventKey, userCounts.getCount());
+        }
+      }
+      if (event.hasFieldCounts()) {
+        for (DatasetFieldUsageCounts fieldCounts : event.getFieldCounts()) {
+          setContribution(urn, period, DIMENSION_FIELD, fieldCounts.getFieldPath(), null, eventKey,
+              fieldCounts.getCount());
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the usage counts of each user of the dataset over the given periods, highest first.
+   */
+  @Nonnull
+  public List<UserUsageCounts> getUserUsageCounts(@Nonnull Urn urn, @Nonnull List<Period> periods) {
+    final List<UserUsageCounts> userUsageCounts = new ArrayList<>();
+    for (Terms.Bucket bucket : aggregate(urn, periods, DIMENSION_USER)) {
+      final UserUsageCounts userUsageCount = new UserUsageCounts()
+          .setUser(UrnUtils.getUrn(bucket.getKeyAsString()))
+          .setCount((int) ((Sum) bucket.getAggregations().get(COUNT_AGG)).getValue());
+      final Terms userEmails = bucket.getAggregations().get(USER_EMAIL_AGG);
+      if (!userEmails.getBuckets().isEmpty()) {
+        userUsageCount.setUserEmail(userEmails.getBuckets().get(0).getKeyAsString());
+      }
+      userUsageCounts.add(userUsageCount);
+    }
+    return userUsageCounts;
+  }
+
+  /**
+   * Returns the usage counts of each field of the dataset over the given periods, highest first.
+   */
+  @Nonnull
+  public List<FieldUsageCounts> getFieldUsageCounts(@Nonnull Urn urn, @Nonnull List<Period> periods) {
+    return aggregate(urn, periods, DIMENSION_FIELD).stream()
+        .map(bucket -> new FieldUsageCounts()
+            .setFieldName(bucket.getKeyAsString())
+            .setCount((int) ((Sum) bucket.getAggregations().get(COUNT_AGG)).getValue()))
+        .collect(Collectors.toList());
+  }
+
+  private List<? extends Terms.Bucket> aggregate(@Nonnull Urn urn, @Nonnull List<Period> periods,
+      @Nonnull String dimension) {
+    if (periods.isEmpty()) {
+      return Collections.emptyList();
+    }
+    final TermsAggregationBuilder keys = AggregationBuilders.terms(KEY_AGG)
+        .field(FIELD_KEY)
+        .size(MAX_TERM_BUCKETS)
+        .order(BucketOrder.aggregation(COUNT_AGG, false))
+        .subAggregation(AggregationBuilders.sum(COUNT_AGG).field(FIELD_COUNT));
+    if (DIMENSION_USER.equals(dimension)) {
+      keys.subAggregation(AggregationBuilders.terms(USER_EMAIL_AGG).field(FIELD_USER_EMAIL).size(1));
+    }
+    final SearchSourceBuilder searchSource = new SearchSourceBuilder()
+        .query(QueryBuilders.boolQuery()
+            .filter(QueryBuilders.termQuery(FIELD_URN, urn.toString()))
+            .filter(QueryBuilders.termQuery(FIELD_DIMENSION, dimension))
+            .filter(QueryBuilders.termsQuery(FIELD_PERIOD,
+                periods.stream().map(Period::getId).collect(Collectors.toList()))))
+        .aggregation(keys)
+        .size(0);
+
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "aggregate").time()) {
+      final SearchResponse response =
+          client.search(new SearchRequest(getIndexName()).source(searchSource), RequestOptions.DEFAULT);
+      final Terms terms = response.getAggregations().get(KEY_AGG);
+      return terms.getBuckets();
+    } catch (IOException e) {
+      log.error("Usage rollup query failed: " + e.getMessage());
+      throw new ESQueryException("Usage rollup query failed: ", e);
+    }
+  }
+
+  private void setContribution(@Nonnull Urn urn, @Nonnull Period period, @Nonnull String dimension,
+      @Nonnull String key, @Nullable String userEmail, @Nonnull String eventKey, int count) {
+    final Map<String, Object> params = new HashMap<>();
+    params.put("event", eventKey);
+    params.put(FIELD_COUNT, count);
+    params.put(FIELD_USER_EMAIL, userEmail);
+
+    final ObjectNode document = JsonNodeFactory.instance.objectNode();
+    document.put(FIELD_URN, urn.toString());
+    document.put(FIELD_PERIOD, period.getId());
+    document.put(FIELD_DIMENSION, dimension);
+    document.put(FIELD_KEY, key);
+    document.put(FIELD_COUNT, 0);
+    document.putObject(FIELD_CONTRIBUTIONS);
+
+    bulkProcessor.add(new UpdateRequest(getIndexName(), toDocId(urn, period, dimension, key))
+        .script(ESScripts.SET_USAGE_CONTRIBUTION.withParams(params))
+        .scriptedUpsert(true)
+        .upsert(document.toString(), XContentType.JSON)
+        .retryOnConflict(numRetries));
+  }
+
+  private long getOrCreateValidFromMillis() throws IOException {
+    final GetResponse existing = client.get(new GetRequest(getIndexName(), VALID_FROM_DOC_ID), RequestOptions.DEFAULT);
+    if (existing.isExists()) {
+      return ((Number) existing.getSourceAsMap().get(FIELD_VALID_FROM_MILLIS)).longValue();
+    }
+    final long now = System.currentTimeMillis();
+    final ObjectNode document = JsonNodeFactory.instance.objectNode();
+    document.put(FIELD_VALID_FROM_MILLIS, now);
+    try {
+      client.index(new IndexRequest(getIndexName())
+          .id(VALID_FROM_DOC_ID)
+          .source(document.toString(), XContentType.JSON)
+          .create(true)
+          .setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE), RequestOptions.DEFAULT);
+      return now;
+    } catch (ElasticsearchStatusException e) {
+      if (e.status() != RestStatus.CONFLICT) {
+        throw e;
+      }
+      // Created concurrently by another instance
+      return getOrCreateValidFromMillis();
+    }
+  }
+
+  private String getIndexName() {
+    return indexConvention.getIndexName(INDEX_NAME);
+  }
+
+  private static Map<String, Object> getMappings() {
+    final Map<String, Object> keyword = ImmutableMap.of("type", "keyword");
+    final Map<String, Object> mappings = new HashMap<>();
+    mappings.put(FIELD_URN, keyword);
+    mappings.put(FIELD_PERIOD, keyword);
+    mappings.put(FIELD_DIMENSION, keyword);
+    mappings.put(FIELD_KEY, keyword);
+    mappings.put(FIELD_USER_EMAIL, keyword);
+    mappings.put(FIELD_COUNT, ImmutableMap.of("type", "long"));
+    mappings.put(FIELD_CONTRIBUTIONS, ImmutableMap.of("type", "object", "enabled", false));
+    mappings.put(FIELD_VALID_FROM_MILLIS, ImmutableMap.of("type", "long"));
+    return ImmutableMap.of("properties", mappings);
+  }
+
+  private static String toDocId(@Nonnull Urn urn, @Nonnull Period period, @Nonnull String dimension,
+      @Nonnull String key) {
+    final String rawDocId = String.join(DOC_DELIMITER, urn.toString(), period.getId(), dimension, key);
+    try {
+      final MessageDigest md = MessageDigest.getInstance("MD5");
+      return Base64.getEncoder().encodeToString(md.digest(rawDocId.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("MD5 is not available", e);
+    }
+  }
+}
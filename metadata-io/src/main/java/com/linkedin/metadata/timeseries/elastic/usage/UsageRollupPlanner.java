@@ -0,0 +1,125 @@
+package com.linkedin.metadata.timeseries.elastic.usage;
+
+import com.linkedin.util.Pair;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nonnull;
+import lombok.Value;
+
+
+/**
+ * Splits a usage time range into the rollup periods it fully covers and the raw time ranges left around them.
+ *
+ * Calendar months are used first, then ISO weeks for the parts of the range outside of the months. Periods are in UTC
+ * and only periods starting at or after the time rollups became valid are used.
+ */
+public class UsageRollupPlanner {
+
+  public enum Granularity {
+    WEEK,
+    MONTH;
+
+    /**
+     * Returns the start of the period of this granularity containing the given time.
+     */
+    public long getStart(long timeMillis) {
+      final ZonedDateTime time = Instant.ofEpochMilli(timeMillis).atZone(ZoneOffset.UTC).truncatedTo(ChronoUnit.DAYS);
+      final ZonedDateTime start = this == WEEK
+          ? time.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+          : time.withDayOfMonth(1);
+      return start.toInstant().toEpochMilli();
+    }
+
+    /**
+     * Returns the start of the period following the one starting at the given time.
+     */
+    public long getNext(long startMillis) {
+      final ZonedDateTime start = Instant.ofEpochMilli(startMillis).atZone(ZoneOffset.UTC);
+      return (this == WEEK ? start.plusWeeks(1) : start.plusMonths(1)).toInstant().toEpochMilli();
+    }
+  }
+
+  @Value
+  public static class Period {
+    Granularity granularity;
+    long startMillis;
+
+    /**
+     * Identifier of the period, stored on the rollup documents.
+     */
+    public String getId() {
+      return granularity + "-" + startMillis;
+    }
+  }
+
+  @Value
+  public static class Plan {
+    List<Period> periods;
+    // Inclusive [start, end] time ranges which must be read from the raw events
+    List<Pair<Long, Long>> rawRanges;
+  }
+
+  private UsageRollupPlanner() {
+  }
+
+  /**
+   * Plans the inclusive time range [startMillis, endMillis].
+   */
+  @Nonnull
+  public static Plan plan(long startMillis, long endMillis, long validFromMillis) {
+    final List<Period> periods = new ArrayList<>();
+    final List<Pair<Long, Long>> rawRanges = new ArrayList<>();
+    final long rollupStart = Math.max(startMillis, validFromMillis);
+    if (rollupStart > startMillis) {
+      addRaw(rawRanges, startMillis, Math.min(endMillis, rollupStart - 1));
+    }
+    cover(Granularity.MONTH, rollupStart, endMillis, periods, rawRanges);
+    return new Plan(periods, rawRanges);
+  }
+
+  private static void cover(@Nonnull Granularity granularity, long startMillis, long endMillis,
+      @Nonnull List<Period> periods, @Nonnull List<Pair<Long, Long>> rawRanges) {
+    if (startMillis > endMillis) {
+      return;
+    }
+    long first = granularity.getStart(startMillis);
+    if (first < startMillis) {
+      first = granularity.getNext(first);
+    }
+    final List<Period> covered = new ArrayList<>();
+    long next = first;
+    while (granularity.getNext(next) - 1 <= endMillis) {
+      covered.add(new Period(granularity, next));
+      next = granularity.getNext(next);
+    }
+
+    if (covered.isEmpty()) {
+      coverRemainder(granularity, startMillis, endMillis, periods, rawRanges);
+      return;
+    }
+    coverRemainder(granularity, startMillis, first - 1, periods, rawRanges);
+    periods.addAll(covered);
+    coverRemainder(granularity, next, endMillis, periods, rawRanges);
+  }
+
+  private static void coverRemainder(@Nonnull Granularity granularity, long startMillis, long endMillis,
+      @Nonnull List<Period> periods, @Nonnull List<Pair<Long, Long>> rawRanges) {
+    if (granularity == Granularity.MONTH) {
+      cover(Granularity.WEEK, startMillis, endMillis, periods, rawRanges);
+    } else {
+      addRaw(rawRanges, startMillis, endMillis);
+    }
+  }
+
+  private static void addRaw(@Nonnull List<Pair<Long, Long>> rawRanges, long startMillis, long endMillis) {
+    if (startMillis <= endMillis) {
+      rawRanges.add(Pair.of(startMillis, endMillis));
+    }
+  }
+}
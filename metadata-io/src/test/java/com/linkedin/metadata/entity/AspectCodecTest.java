@@ -0,0 +1,94 @@
+package com.linkedin.metadata.entity;
+
+import com.datahub.util.RecordUtils;
+import com.linkedin.common.urn.DataPlatformUrn;
+import com.linkedin.data.template.DataTemplateUtil;
+import com.linkedin.identity.CorpUserInfo;
+import com.linkedin.metadata.AspectGenerationUtils;
+import com.linkedin.schema.MySqlDDL;
+import com.linkedin.schema.SchemaField;
+import com.linkedin.schema.SchemaFieldArray;
+import com.linkedin.schema.SchemaFieldDataType;
+import com.linkedin.schema.SchemaMetadata;
+import com.linkedin.schema.StringType;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class AspectCodecTest {
+
+  @Test
+  public void testRoundTrip() {
+    CorpUserInfo aspect = AspectGenerationUtils.createCorpUserInfo("email@test.com");
+    for (AspectCodec.Format format : AspectCodec.Format.values()) {
+      String encoded = AspectCodec.encode(aspect, format);
+      assertEquals(AspectCodec.getFormat(encoded), format);
+      assertTrue(DataTemplateUtil.areEqual(AspectCodec.decode(CorpUserInfo.class, encoded), aspect));
+      assertTrue(DataTemplateUtil.areEqual(
+          RecordUtils.toRecordTemplate(CorpUserInfo.class, AspectCodec.toJson(encoded)), aspect));
+    }
+  }
+
+  @Test
+  public void testJsonIsUnchanged() {
+    CorpUserInfo aspect = AspectGenerationUtils.createCorpUserInfo("email@test.com");
+    String json = RecordUtils.toJsonString(aspect);
+    assertEquals(AspectCodec.encode(aspect, AspectCodec.Format.JSON), json);
+    assertEquals(AspectCodec.toJson(json), json);
+  }
+
+  @Test
+  public void testConvert() {
+    CorpUserInfo aspect = AspectGenerationUtils.createCorpUserInfo("email@test.com");
+    String json = RecordUtils.toJsonString(aspect);
+    for (AspectCodec.Format from : AspectCodec.Format.values()) {
+      for (AspectCodec.Format to : AspectCodec.Format.values()) {
+        String converted = AspectCodec.convert(AspectCodec.convert(json, from), to);
+        assertEquals(AspectCodec.getFormat(converted), to);
+        assertTrue(DataTemplateUtil.areEqual(AspectCodec.decode(CorpUserInfo.class, converted), aspect));
+      }
+    }
+  }
+
+  @Test
+  public void testDeflatedIsSmaller() {
+    SchemaMetadata aspect = createSchemaMetadata();
+
+    String json = AspectCodec.encode(aspect, AspectCodec.Format.JSON);
+    String deflated = AspectCodec.encode(aspect, AspectCodec.Format.PSON_DEFLATE);
+    assertTrue(deflated.length() < json.length() / 2,
+        String.format("Deflated length %s, JSON length %s", deflated.length(), json.length()));
+  }
+
+  @Test
+  public void testPlainPsonIsNotCompact() {
+    SchemaMetadata aspect = createSchemaMetadata();
+
+    // Plain PSON is base64 encoded, so it saves little or nothing over JSON. Only deflating makes rows smaller.
+    String json = AspectCodec.encode(aspect, AspectCodec.Format.JSON);
+    String pson = AspectCodec.encode(aspect, AspectCodec.Format.PSON);
+    String deflated = AspectCodec.encode(aspect, AspectCodec.Format.PSON_DEFLATE);
+    assertTrue(pson.length() > json.length() / 2,
+        String.format("PSON length %s, JSON length %s", pson.length(), json.length()));
+    assertTrue(deflated.length() < pson.length(),
+        String.format("Deflated length %s, PSON length %s", deflated.length(), pson.length()));
+  }
+
+  private static SchemaMetadata createSchemaMetadata() {
+    SchemaFieldArray fields = new SchemaFieldArray();
+    for (int i = 0; i < 100; i++) {
+      fields.add(new SchemaField()
+          .setFieldPath("column" + i)
+          .setDescription("Description of column " + i)
+          .setType(new SchemaFieldDataType().setType(SchemaFieldDataType.Type.create(new StringType())))
+          .setNativeDataType("string"));
+    }
+    return new SchemaMetadata().setSchemaName("testSchema")
+        .setPlatformSchema(SchemaMetadata.PlatformSchema.create(new MySqlDDL().setTableSchema("foo")))
+        .setPlatform(new DataPlatformUrn("hive"))
+        .setHash("")
+        .setVersion(0L)
+        .setFields(fields);
+  }
+}
@@ -76,6 +76,36 @@ abstract public class AspectMigrationsDaoTest<T extends AspectMigrationsDao> {
     }
   }
 
+  @Test
+  public void testListUrnsAfter() throws AssertionError {
+    final int totalAspects = 30;
+    final int pageSize = 25;
+    final int lastPageSize = 5;
+    Map<Urn, CorpUserKey> ingestedAspects = AspectIngestionUtils.ingestCorpUserKeyAspects(_entityService, totalAspects);
+    List<String> ingestedUrns = ingestedAspects.keySet().stream().map(Urn::toString).collect(Collectors.toList());
+
+    List<String> page1Urns = ImmutableList.copyOf(_migrationsDao.listUrnsAfter(null, pageSize));
+
+    // validate first page
+    assertEquals(page1Urns.size(), pageSize);
+    List<String> seenUrns = new ArrayList<>(page1Urns);
+
+    List<String> page2Urns = ImmutableList.copyOf(_migrationsDao.listUrnsAfter(page1Urns.get(pageSize - 1), pageSize));
+
+    // validate last page
+    assertEquals(page2Urns.size(), lastPageSize);
+    seenUrns.addAll(page2Urns);
+
+    // validate the page after the last one is empty
+    assertEquals(ImmutableList.copyOf(_migrationsDao.listUrnsAfter(page2Urns.get(lastPageSize - 1), pageSize)).size(),
+        0);
+
+    // validate all ingested URNs were returned exactly once
+    for (String urn : ingestedUrns) {
+      assertEquals(seenUrns.stream().filter(u -> u.equals(urn)).count(), 1);
+    }
+  }
+
   @Test
   public void testCountEntities() throws AssertionError {
     AspectIngestionUtils.ingestCorpUserInfoAspects(_entityService, 11);
@@ -54,6 +54,7 @@ import com.linkedin.retention.DataHubRetentionConfig;
 import com.linkedin.retention.Retention;
 import com.linkedin.retention.VersionBasedRetention;
 import com.linkedin.util.Pair;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -859,6 +860,67 @@ abstract public class EntityServiceTest<T_AD extends AspectDao, T_RS extends Ret
         assertTrue(DataTemplateUtil.areEqual(null, readNewRecentAspect));
     }
 
+    @Test
+    public void testRollbackMultipleAspects() throws AssertionError {
+        Urn entityUrn1 = UrnUtils.getUrn("urn:li:corpuser:test1");
+        Urn entityUrn2 = UrnUtils.getUrn("urn:li:corpuser:test2");
+        Urn entityUrn3 = UrnUtils.getUrn("urn:li:corpuser:test3");
+
+        SystemMetadata metadata1 = AspectGenerationUtils.createSystemMetadata(1625792689, "run-123");
+        SystemMetadata metadata2 = AspectGenerationUtils.createSystemMetadata(1635792689, "run-456");
+        SystemMetadata metadata3 = AspectGenerationUtils.createSystemMetadata(1645792689, "run-789");
+
+        String aspectName = AspectGenerationUtils.getAspectName(new CorpUserInfo());
+
+        // Entity #1 is written by run-123, then twice by run-456
+        CorpUserInfo writeAspect1 = AspectGenerationUtils.createCorpUserInfo("email1@test.com");
+        _entityService.ingestAspect(entityUrn1, aspectName, writeAspect1, TEST_AUDIT_STAMP, metadata1);
+        _entityService.ingestAspect(entityUrn1, aspectName, AspectGenerationUtils.createCorpUserInfo("email1a@test.com"),
+            TEST_AUDIT_STAMP, metadata2);
+        _entityService.ingestAspect(entityUrn1, aspectName, AspectGenerationUtils.createCorpUserInfo("email1b@test.com"),
+            TEST_AUDIT_STAMP, metadata2);
+
+        // Entity #2 is only written by run-456
+        _entityService.ingestAspect(entityUrn2, aspectName, AspectGenerationUtils.createCorpUserInfo("email2@test.com"),
+            TEST_AUDIT_STAMP, metadata2);
+
+        // Entity #3 is written by run-456, then overwritten by run-789
+        _entityService.ingestAspect(entityUrn3, aspectName, AspectGenerationUtils.createCorpUserInfo("email3@test.com"),
+            TEST_AUDIT_STAMP, metadata2);
+        CorpUserInfo writeAspect3Overwrite = AspectGenerationUtils.createCorpUserInfo("email3.overwrite@test.com");
+        _entityService.ingestAspect(entityUrn3, aspectName, writeAspect3Overwrite, TEST_AUDIT_STAMP, metadata3);
+
+        List<AspectRowSummary> rowsToRollback = new ArrayList<>();
+        for (Urn entityUrn : ImmutableList.of(entityUrn1, entityUrn2, entityUrn3)) {
+            AspectRowSummary row = new AspectRowSummary();
+            row.setRunId("run-456");
+            row.setAspectName(aspectName);
+            row.setUrn(entityUrn.toString());
+            rowsToRollback.add(row);
+        }
+
+        clearInvocations(_mockProducer);
+        RollbackRunResult result = _entityService.rollbackRun(rowsToRollback, "run-456", true);
+
+        assertEquals(result.getRowsRolledBack().size(), 2);
+
+        // Both versions written by run-456 are gone, and the version written by run-123 is the latest again
+        assertTrue(DataTemplateUtil.areEqual(writeAspect1, _entityService.getAspect(entityUrn1, aspectName, 0)));
+        assertNull(_entityService.getAspect(entityUrn1, aspectName, 1));
+        assertNull(_entityService.getAspect(entityUrn1, aspectName, 2));
+
+        assertNull(_entityService.getAspect(entityUrn2, aspectName, 0));
+
+        assertTrue(DataTemplateUtil.areEqual(writeAspect3Overwrite, _entityService.getAspect(entityUrn3, aspectName, 0)));
+
+        ArgumentCaptor<MetadataChangeLog> mclCaptor = ArgumentCaptor.forClass(MetadataChangeLog.class);
+        verify(_mockProducer, times(1)).produceMetadataChangeLog(Mockito.eq(entityUrn1), Mockito.any(), mclCaptor.capture());
+        assertEquals(mclCaptor.getValue().getChangeType(), ChangeType.UPSERT);
+        verify(_mockProducer, times(1)).produceMetadataChangeLog(Mockito.eq(entityUrn2), Mockito.any(), mclCaptor.capture());
+        assertEquals(mclCaptor.getValue().getChangeType(), ChangeType.DELETE);
+        verify(_mockProducer, times(0)).produceMetadataChangeLog(Mockito.eq(entityUrn3), Mockito.any(), Mockito.any());
+    }
+
     @Test
     public void testRollbackUrn() throws AssertionError {
         Urn entityUrn1 = UrnUtils.getUrn("urn:li:corpuser:test1");
@@ -1319,6 +1381,156 @@ abstract public class EntityServiceTest<T_AD extends AspectDao, T_RS extends Ret
         assertEquals(UI_SOURCE, captor.getValue().getSystemMetadata().getProperties().get(APP_SOURCE));
     }
 
+    @Test
+    public void testIngestProposals() throws Exception {
+        Urn entityUrn1 = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:foo,bar1,PROD)");
+        Urn entityUrn2 = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:foo,bar2,PROD)");
+        DatasetProperties datasetProperties1 = new DatasetProperties().setName("Foo Bar 1");
+        DatasetProperties datasetProperties2 = new DatasetProperties().setName("Foo Bar 2");
+
+        List<EntityService.IngestProposalResult> results = _entityService.ingestProposals(ImmutableList.of(
+            createProposal(entityUrn1, "datasetProperties", datasetProperties1),
+            createProposal(entityUrn2, "datasetProperties", datasetProperties2)), TEST_AUDIT_STAMP, false);
+
+        assertEquals(results.size(), 2);
+        assertEquals(results.get(0).getUrn(), entityUrn1);
+        assertTrue(results.get(0).isDidUpdate());
+        assertEquals(results.get(1).getUrn(), entityUrn2);
+        assertTrue(results.get(1).isDidUpdate());
+        assertTrue(DataTemplateUtil.areEqual(datasetProperties1, _entityService.getLatestAspect(entityUrn1, "datasetProperties")));
+        assertTrue(DataTemplateUtil.areEqual(datasetProperties2, _entityService.getLatestAspect(entityUrn2, "datasetProperties")));
+        verify(_mockProducer, times(1)).produceMetadataChangeLog(Mockito.eq(entityUrn1), Mockito.any(), Mockito.any());
+        verify(_mockProducer, times(1)).produceMetadataChangeLog(Mockito.eq(entityUrn2), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testIngestProposalsValidatesBeforeWriting() throws Exception {
+        Urn entityUrn1 = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:foo,bar1,PROD)");
+        Urn entityUrn2 = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:foo,bar2,PROD)");
+        DatasetProperties datasetProperties = new DatasetProperties().setName("Foo Bar");
+
+        // The second proposal targets an unknown aspect, so no proposal of the batch is written.
+        assertThrows(RuntimeException.class, () -> _entityService.ingestProposals(ImmutableList.of(
+            createProposal(entityUrn1, "datasetProperties", datasetProperties),
+            createProposal(entityUrn2, "unknownAspect", datasetProperties)), TEST_AUDIT_STAMP, false));
+
+        assertNull(_entityService.getLatestAspect(entityUrn1, "datasetProperties"));
+        verify(_mockProducer, times(0)).produceMetadataChangeLog(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testIngestProposalsIsolatesPatchFailures() throws Exception {
+        Urn entityUrn1 = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:foo,bar1,PROD)");
+        Urn entityUrn2 = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:foo,bar2,PROD)");
+        DatasetProperties datasetProperties = new DatasetProperties().setName("Foo Bar");
+
+        // The test registry has no aspect templates, so the patch of an absent aspect fails to apply.
+        MetadataChangeProposal patchProposal = new MetadataChangeProposal();
+        patchProposal.setEntityUrn(entityUrn2);
+        patchProposal.setChangeType(ChangeType.PATCH);
+        patchProposal.setEntityType(entityUrn2.getEntityType());
+        patchProposal.setAspectName(GLOBAL_TAGS_ASPECT_NAME);
+        patchProposal.setAspect(new GenericAspect()
+            .setContentType(GenericRecordUtils.JSON)
+            .setValue(ByteString.copyString(
+                "[{\"op\":\"add\",\"path\":\"/tags/urn:li:tag:foo\",\"value\":{\"tag\":\"urn:li:tag:foo\"}}]",
+                StandardCharsets.UTF_8)));
+
+        List<EntityService.IngestProposalResult> results = _entityService.ingestProposals(ImmutableList.of(
+            createProposal(entityUrn1, "datasetProperties", datasetProperties),
+            patchProposal), TEST_AUDIT_STAMP, false);
+
+        assertTrue(results.get(0).isDidUpdate());
+        assertNull(results.get(0).getFailure());
+        assertFalse(results.get(1).isDidUpdate());
+        assertNotNull(results.get(1).getFailure());
+        assertTrue(DataTemplateUtil.areEqual(datasetProperties, _entityService.getLatestAspect(entityUrn1, "datasetProperties")));
+        assertNull(_entityService.getLatestAspect(entityUrn2, GLOBAL_TAGS_ASPECT_NAME));
+        verify(_mockProducer, times(1)).produceMetadataChangeLog(Mockito.eq(entityUrn1), Mockito.any(), Mockito.any());
+        verify(_mockProducer, times(0)).produceMetadataChangeLog(Mockito.eq(entityUrn2), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testExists() throws Exception {
+        Urn entityUrn = UrnUtils.getUrn("urn:li:corpuser:exists");
+        Urn missingUrn = UrnUtils.getUrn("urn:li:corpuser:missing");
+        _entityService.ingestAspect(entityUrn, "corpUserInfo", AspectGenerationUtils.createCorpUserInfo("email@test.com"),
+            TEST_AUDIT_STAMP, AspectGenerationUtils.createSystemMetadata());
+
+        assertTrue(_entityService.exists(entityUrn));
+        assertFalse(_entityService.exists(missingUrn));
+    }
+
+    @Test
+    public void testExistsWithExistenceFilter() throws Exception {
+        Urn existingUrn = UrnUtils.getUrn("urn:li:corpuser:existing");
+        Urn ingestedUrn = UrnUtils.getUrn("urn:li:corpuser:ingested");
+        Urn missingUrn = UrnUtils.getUrn("urn:li:corpuser:missing");
+        _entityService.ingestAspect(existingUrn, "corpUserInfo", AspectGenerationUtils.createCorpUserInfo("email@test.com"),
+            TEST_AUDIT_STAMP, AspectGenerationUtils.createSystemMetadata());
+
+        EntityExistenceFilter filter = new EntityExistenceFilter((AspectMigrationsDao) _aspectDao, 1000, 0.01, 1);
+        _entityService.setExistenceFilter(filter);
+        // Every entity may exist until the filter has been built.
+        assertTrue(filter.mightExist(missingUrn.toString()));
+
+        filter.rebuild();
+        assertTrue(filter.mightExist(existingUrn.toString()));
+        assertFalse(filter.mightExist(missingUrn.toString()));
+        assertTrue(_entityService.exists(existingUrn));
+        assertFalse(_entityService.exists(missingUrn));
+
+        // Entities ingested after the build are added to the filter.
+        _entityService.ingestAspect(ingestedUrn, "corpUserInfo", AspectGenerationUtils.createCorpUserInfo("email@test.com"),
+            TEST_AUDIT_STAMP, AspectGenerationUtils.createSystemMetadata());
+        assertTrue(filter.mightExist(ingestedUrn.toString()));
+        assertTrue(_entityService.exists(ingestedUrn));
+    }
+
+    @Test
+    public void testIngestGetAspectInBinaryFormat() throws Exception {
+        Urn entityUrn = UrnUtils.getUrn("urn:li:corpuser:binary");
+        String aspectName = "corpUserInfo";
+        CorpUserInfo jsonAspect = AspectGenerationUtils.createCorpUserInfo("email@test.com");
+        _entityService.ingestAspect(entityUrn, aspectName, jsonAspect, TEST_AUDIT_STAMP,
+            AspectGenerationUtils.createSystemMetadata());
+
+        // Aspects written as JSON stay readable once the format changes
+        _entityService.setAspectFormat(AspectCodec.Format.PSON_DEFLATE);
+        assertTrue(DataTemplateUtil.areEqual(_entityService.getLatestAspect(entityUrn, aspectName), jsonAspect));
+
+        CorpUserInfo binaryAspect = AspectGenerationUtils.createCorpUserInfo("email2@test.com");
+        _entityService.ingestAspect(entityUrn, aspectName, binaryAspect, TEST_AUDIT_STAMP,
+            AspectGenerationUtils.createSystemMetadata());
+
+        EntityAspect latest = _aspectDao.getAspect(entityUrn.toString(), aspectName, ASPECT_LATEST_VERSION);
+        assertEquals(AspectCodec.getFormat(latest.getMetadata()), AspectCodec.Format.PSON_DEFLATE);
+        assertEquals(AspectCodec.getFormat(latest.getSystemMetadata()), AspectCodec.Format.PSON_DEFLATE);
+        assertTrue(DataTemplateUtil.areEqual(_entityService.getLatestAspect(entityUrn, aspectName), binaryAspect));
+        assertTrue(DataTemplateUtil.areEqual(_entityService.getAspect(entityUrn, aspectName, 1), jsonAspect));
+    }
+
+    @Test
+    public void testForEachAspectInRange() throws Exception {
+        Urn entityUrn = UrnUtils.getUrn("urn:li:corpuser:inRange");
+        String aspectName = "corpUserInfo";
+        for (int i = 1; i <= 3; i++) {
+            AuditStamp auditStamp = new AuditStamp().setTime(1000L * i).setActor(TEST_AUDIT_STAMP.getActor());
+            _entityService.ingestAspect(entityUrn, aspectName,
+                AspectGenerationUtils.createCorpUserInfo("email" + i + "@test.com"), auditStamp,
+                AspectGenerationUtils.createSystemMetadata());
+        }
+
+        // The versions created at 2000 & 3000, oldest first
+        List<EntityAspect> aspects = new ArrayList<>();
+        _aspectDao.forEachAspectInRange(entityUrn, Collections.singleton(aspectName), 1500L, 4000L, aspects::add);
+        assertEquals(aspects.size(), 2);
+        assertEquals(aspects.get(0).getVersion(), 2);
+        assertEquals(aspects.get(0).getCreatedOn().getTime(), 2000L);
+        assertEquals(aspects.get(1).getVersion(), ASPECT_LATEST_VERSION);
+        assertEquals(aspects.get(1).getCreatedOn().getTime(), 3000L);
+    }
+
     @Nonnull
     protected com.linkedin.entity.Entity createCorpUserEntity(Urn entityUrn, String email) throws Exception {
         CorpuserUrn corpuserUrn = CorpuserUrn.createFromUrn(entityUrn);
@@ -1334,6 +1546,17 @@ abstract public class EntityServiceTest<T_AD extends AspectDao, T_RS extends Ret
         return entity;
     }
 
+    @Nonnull
+    protected MetadataChangeProposal createProposal(Urn entityUrn, String aspectName, RecordTemplate aspect) {
+        MetadataChangeProposal mcp = new MetadataChangeProposal();
+        mcp.setEntityUrn(entityUrn);
+        mcp.setChangeType(ChangeType.UPSERT);
+        mcp.setEntityType(entityUrn.getEntityType());
+        mcp.setAspectName(aspectName);
+        mcp.setAspect(GenericRecordUtils.serializeAspect(aspect));
+        return mcp;
+    }
+
     protected <T extends RecordTemplate> Pair<String, RecordTemplate> getAspectRecordPair(T aspect, Class<T> clazz)
         throws Exception {
         final ObjectMapper objectMapper = new ObjectMapper();
@@ -1332,6 +1332,81 @@ abstract public class GraphServiceTestBase extends AbstractTestNGSpringContextTe
     assertEqualsAnyOrder(relatedOutgoingEntitiesAfterRemove, relatedOutgoingEntitiesBeforeRemove);
   }
 
+  @Test
+  public void testSetEdgesFromNode() throws Exception {
+    GraphService service = getPopulatedGraphService();
+
+    // datasetTwo is downstream of datasetOne and owned by userOne, replace its downstreamOf edges only
+    service.setEdgesFromNode(
+            datasetTwoUrn,
+            Collections.singletonList(downstreamOf),
+            Arrays.asList(
+                    new Edge(datasetTwoUrn, datasetThreeUrn, downstreamOf, null, null, null, null, null),
+                    new Edge(datasetTwoUrn, datasetFourUrn, downstreamOf, null, null, null, null, null)
+            )
+    );
+    syncAfterWrite();
+
+    RelatedEntitiesResult relatedOutgoingEntities = service.findRelatedEntities(
+            anyType, newFilter("urn", datasetTwoUrnString),
+            anyType, EMPTY_FILTER,
+            Arrays.asList(downstreamOf, hasOwner, knowsUser), outgoingRelationships,
+            0, 100);
+    assertEqualsAnyOrder(
+            relatedOutgoingEntities,
+            Arrays.asList(downstreamOfDatasetThreeRelatedEntity, downstreamOfDatasetFourRelatedEntity,
+                    hasOwnerUserOneRelatedEntity)
+    );
+
+    // edges that are no longer set are removed
+    service.setEdgesFromNode(
+            datasetTwoUrn,
+            Collections.singletonList(downstreamOf),
+            Collections.singletonList(new Edge(datasetTwoUrn, datasetThreeUrn, downstreamOf, null, null, null, null, null))
+    );
+    syncAfterWrite();
+
+    relatedOutgoingEntities = service.findRelatedEntities(
+            anyType, newFilter("urn", datasetTwoUrnString),
+            anyType, EMPTY_FILTER,
+            Arrays.asList(downstreamOf, hasOwner, knowsUser), outgoingRelationships,
+            0, 100);
+    assertEqualsAnyOrder(
+            relatedOutgoingEntities,
+            Arrays.asList(downstreamOfDatasetThreeRelatedEntity, hasOwnerUserOneRelatedEntity)
+    );
+  }
+
+  @Test
+  public void testSetEdgesFromNodeRemovesUnrefreshedPreviousEdges() throws Exception {
+    GraphService service = getPopulatedGraphService();
+
+    Edge downstreamOfDatasetThree = new Edge(datasetTwoUrn, datasetThreeUrn, downstreamOf, null, null, null, null, null);
+    service.setEdgesFromNode(
+            datasetTwoUrn,
+            Collections.singletonList(downstreamOf),
+            Collections.singletonList(downstreamOfDatasetThree)
+    );
+    // the edge set above may not be visible to searches yet, so it is passed as a previous edge
+    service.setEdgesFromNode(
+            datasetTwoUrn,
+            Collections.singletonList(downstreamOf),
+            Collections.singletonList(new Edge(datasetTwoUrn, datasetFourUrn, downstreamOf, null, null, null, null, null)),
+            Collections.singletonList(downstreamOfDatasetThree)
+    );
+    syncAfterWrite();
+
+    RelatedEntitiesResult relatedOutgoingEntities = service.findRelatedEntities(
+            anyType, newFilter("urn", datasetTwoUrnString),
+            anyType, EMPTY_FILTER,
+            Arrays.asList(downstreamOf, hasOwner, knowsUser), outgoingRelationships,
+            0, 100);
+    assertEqualsAnyOrder(
+            relatedOutgoingEntities,
+            Arrays.asList(downstreamOfDatasetFourRelatedEntity, hasOwnerUserOneRelatedEntity)
+    );
+  }
+
   @Test
   public void testRemoveNode() throws Exception {
     GraphService service = getPopulatedGraphService();
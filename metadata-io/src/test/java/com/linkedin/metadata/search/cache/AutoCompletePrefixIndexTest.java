@@ -0,0 +1,122 @@
+package com.linkedin.metadata.search.cache;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.config.cache.AutoCompleteCacheConfiguration;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.models.registry.SnapshotEntityRegistry;
+import com.linkedin.metadata.query.AutoCompleteEntity;
+import com.linkedin.metadata.query.AutoCompleteResult;
+import com.linkedin.metadata.search.EntitySearchService;
+import com.linkedin.metadata.snapshot.Snapshot;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.mockito.Mockito;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+
+public class AutoCompletePrefixIndexTest {
+  private static final String ENTITY_NAME = "dataset";
+  private static final Urn URN1 = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,sales_orders,PROD)");
+  private static final Urn URN2 = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,salary,PROD)");
+  private static final Urn URN3 = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,customers,PROD)");
+
+  private final EntityRegistry _entityRegistry = new SnapshotEntityRegistry(new Snapshot());
+
+  private AutoCompletePrefixIndex buildIndex(int maxEntriesPerEntity) {
+    Map<String, List<String>> urn1Values = new LinkedHashMap<>();
+    urn1Values.put("name", List.of("Sales Orders"));
+    urn1Values.put("id", List.of("sales_orders"));
+    Map<Urn, Map<String, List<String>>> values = new LinkedHashMap<>();
+    values.put(URN1, urn1Values);
+    values.put(URN2, Map.of("name", List.of("salary")));
+    values.put(URN3, Map.of("name", List.of("customers")));
+
+    EntitySearchService entitySearchService = Mockito.mock(EntitySearchService.class);
+    Mockito.when(entitySearchService.getAutoCompleteValues(ENTITY_NAME, maxEntriesPerEntity)).thenReturn(values);
+
+    AutoCompleteCacheConfiguration config = new AutoCompleteCacheConfiguration();
+    config.setMaxEntriesPerEntity(maxEntriesPerEntity);
+    config.setMaxPrefixLength(3);
+    AutoCompletePrefixIndex index = new AutoCompletePrefixIndex(_entityRegistry, entitySearchService, config);
+    index.refresh();
+    return index;
+  }
+
+  private static List<Urn> getUrns(AutoCompleteResult result) {
+    return result.getEntities().stream().map(AutoCompleteEntity::getUrn).collect(Collectors.toList());
+  }
+
+  @Test
+  public void testAutoComplete() {
+    AutoCompletePrefixIndex index = buildIndex(10);
+
+    Optional<AutoCompleteResult> result = index.autoComplete(ENTITY_NAME, "Sal", 10);
+    assertTrue(result.isPresent());
+    assertEquals(getUrns(result.get()), List.of(URN1, URN2));
+    assertEquals(result.get().getSuggestions(), List.of("Sales Orders", "salary"));
+
+    result = index.autoComplete(ENTITY_NAME, "ord", 10);
+    assertTrue(result.isPresent());
+    assertEquals(getUrns(result.get()), List.of(URN1));
+
+    result = index.autoComplete(ENTITY_NAME, "sal", 1);
+    assertTrue(result.isPresent());
+    assertEquals(getUrns(result.get()), List.of(URN1));
+
+    // Longer prefixes and inputs with several tokens are left to Elasticsearch
+    assertFalse(index.autoComplete(ENTITY_NAME, "sales", 10).isPresent());
+    assertFalse(index.autoComplete(ENTITY_NAME, "s o", 10).isPresent());
+  }
+
+  @Test
+  public void testAutoCompleteIncompleteIndex() {
+    // The index holds only the top entities, so prefixes matching fewer entities than requested are not served
+    AutoCompletePrefixIndex index = buildIndex(3);
+
+    assertFalse(index.autoComplete(ENTITY_NAME, "cus", 10).isPresent());
+    Optional<AutoCompleteResult> result = index.autoComplete(ENTITY_NAME, "sal", 2);
+    assertTrue(result.isPresent());
+    assertEquals(getUrns(result.get()), List.of(URN1, URN2));
+  }
+
+  @Test
+  public void testUpsertAndRemove() {
+    AutoCompletePrefixIndex index = buildIndex(10);
+
+    index.upsertDocument(ENTITY_NAME, URN3, "{\"name\": \"Sales Customers\"}");
+    assertEquals(getUrns(index.autoComplete(ENTITY_NAME, "sal", 10).get()), List.of(URN1, URN2, URN3));
+
+    // Documents without auto complete fields leave the entity unchanged
+    index.upsertDocument(ENTITY_NAME, URN3, "{\"description\": \"foo\"}");
+    assertEquals(getUrns(index.autoComplete(ENTITY_NAME, "sal", 10).get()), List.of(URN1, URN2, URN3));
+
+    index.upsertDocument(ENTITY_NAME, URN1, "{\"removed\": true}");
+    assertEquals(getUrns(index.autoComplete(ENTITY_NAME, "sal", 10).get()), List.of(URN2, URN3));
+
+    index.remove(ENTITY_NAME, URN2);
+    assertEquals(getUrns(index.autoComplete(ENTITY_NAME, "sal", 10).get()), List.of(URN3));
+  }
+
+  @Test
+  public void testUpsertMergesFields() {
+    AutoCompletePrefixIndex index = buildIndex(10);
+
+    // A document written for one aspect only replaces the values of its own fields
+    index.upsertDocument(ENTITY_NAME, URN1, "{\"name\": \"Orders\"}");
+    Optional<AutoCompleteResult> result = index.autoComplete(ENTITY_NAME, "sal", 10);
+    assertEquals(getUrns(result.get()), List.of(URN1, URN2));
+    assertEquals(result.get().getSuggestions(), List.of("sales_orders", "salary"));
+    assertEquals(getUrns(index.autoComplete(ENTITY_NAME, "ord", 10).get()), List.of(URN1));
+
+    index.upsertDocument(ENTITY_NAME, URN1, "{\"id\": \"orders\"}");
+    assertEquals(getUrns(index.autoComplete(ENTITY_NAME, "sal", 10).get()), List.of(URN2));
+  }
+}
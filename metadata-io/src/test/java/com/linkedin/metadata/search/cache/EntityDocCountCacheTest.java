@@ -0,0 +1,63 @@
+package com.linkedin.metadata.search.cache;
+
+import com.datahub.test.Snapshot;
+import com.linkedin.metadata.config.cache.EntityDocCountCacheConfiguration;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.models.registry.SnapshotEntityRegistry;
+import com.linkedin.metadata.search.EntitySearchService;
+import java.util.List;
+import java.util.Map;
+import org.mockito.Mockito;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+public class EntityDocCountCacheTest {
+  private static final String ENTITY_NAME = "testEntity";
+
+  private final EntityRegistry _entityRegistry = new SnapshotEntityRegistry(new Snapshot());
+
+  private static EntityDocCountCacheConfiguration getConfig(long ttlSeconds) {
+    EntityDocCountCacheConfiguration config = new EntityDocCountCacheConfiguration();
+    config.setTtlSeconds(ttlSeconds);
+    return config;
+  }
+
+  @Test
+  public void testLoadsOnceWithinTtl() {
+    EntitySearchService entitySearchService = Mockito.mock(EntitySearchService.class);
+    Mockito.when(entitySearchService.docCountPerEntity(any())).thenReturn(Map.of(ENTITY_NAME, 2L));
+    EntityDocCountCache cache = new EntityDocCountCache(_entityRegistry, entitySearchService, getConfig(600));
+
+    assertEquals(cache.getEntityDocCount(), Map.of(ENTITY_NAME, 2L));
+    assertEquals(cache.getNonEmptyEntities(), List.of(ENTITY_NAME));
+    Mockito.verify(entitySearchService, Mockito.times(1)).docCountPerEntity(any());
+    Mockito.verify(entitySearchService, Mockito.never()).docCount(any());
+  }
+
+  @Test
+  public void testRefreshesInBackground() throws InterruptedException {
+    EntitySearchService entitySearchService = Mockito.mock(EntitySearchService.class);
+    Mockito.when(entitySearchService.docCountPerEntity(any()))
+        .thenReturn(Map.of(ENTITY_NAME, 2L))
+        .thenThrow(new RuntimeException("count failed"))
+        .thenReturn(Map.of(ENTITY_NAME, 0L));
+    EntityDocCountCache cache = new EntityDocCountCache(_entityRegistry, entitySearchService, getConfig(0));
+
+    assertEquals(cache.getEntityDocCount(), Map.of(ENTITY_NAME, 2L));
+
+    // A failed refresh keeps serving the previous counts
+    assertEquals(cache.getEntityDocCount(), Map.of(ENTITY_NAME, 2L));
+    Mockito.verify(entitySearchService, Mockito.timeout(5000).times(2)).docCountPerEntity(any());
+
+    long deadline = System.currentTimeMillis() + 5000;
+    while (!cache.getEntityDocCount().get(ENTITY_NAME).equals(0L) && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(cache.getEntityDocCount(), Map.of(ENTITY_NAME, 0L));
+    assertTrue(cache.getNonEmptyEntities().isEmpty());
+  }
+}
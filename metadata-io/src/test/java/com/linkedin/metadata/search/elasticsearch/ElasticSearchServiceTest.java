@@ -21,8 +21,12 @@ import com.linkedin.metadata.search.elasticsearch.query.ESBrowseDAO;
 import com.linkedin.metadata.search.elasticsearch.query.ESSearchDAO;
 import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
 import com.linkedin.metadata.search.elasticsearch.update.ESWriteDAO;
+import com.linkedin.metadata.search.utils.SearchUtils;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import com.linkedin.metadata.utils.elasticsearch.IndexConventionImpl;
+import org.elasticsearch.action.get.GetRequest;
+import org.elasticsearch.action.get.GetResponse;
+import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
@@ -32,6 +36,7 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.util.List;
 import javax.annotation.Nonnull;
 
 import static com.linkedin.metadata.Constants.*;
@@ -209,4 +214,28 @@ public class ElasticSearchServiceTest extends AbstractTestNGSpringContextTests {
     assertEquals(_elasticSearchService.docCount(ENTITY_NAME), 0);
     assertEquals(_elasticSearchService.aggregateByValue(ENTITY_NAME, "textField", null, 10).size(), 0);
   }
+
+  @Test
+  public void testAppendRunId() throws Exception {
+    Urn urn = new TestEntityUrn("test", "urn1", "VALUE_1");
+    String docId = SearchUtils.getDocId(urn).get();
+    ObjectNode document = JsonNodeFactory.instance.objectNode();
+    document.set("urn", JsonNodeFactory.instance.textNode(urn.toString()));
+    document.set("keyPart1", JsonNodeFactory.instance.textNode("test"));
+    _elasticSearchService.upsertDocument(ENTITY_NAME, document.toString(), docId);
+    syncAfterWrite(_bulkProcessor);
+
+    _elasticSearchService.appendRunId(ENTITY_NAME, urn, "run1");
+    _elasticSearchService.appendRunId(ENTITY_NAME, urn, "run1");
+    _elasticSearchService.appendRunId(ENTITY_NAME, urn, "run2");
+    syncAfterWrite(_bulkProcessor);
+
+    GetResponse response = _searchClient.get(
+        new GetRequest(_indexConvention.getIndexName(_entityRegistry.getEntitySpec(ENTITY_NAME)), docId),
+        RequestOptions.DEFAULT);
+    assertEquals(response.getSourceAsMap().get("runId"), List.of("run1", "run2"));
+
+    _elasticSearchService.deleteDocument(ENTITY_NAME, docId);
+    syncAfterWrite(_bulkProcessor);
+  }
 }
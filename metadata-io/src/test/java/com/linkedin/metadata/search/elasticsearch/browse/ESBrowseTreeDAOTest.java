@@ -0,0 +1,148 @@
+package com.linkedin.metadata.search.elasticsearch.browse;
+
+import com.linkedin.common.BrowsePathEntry;
+import com.linkedin.common.BrowsePathEntryArray;
+import com.linkedin.common.BrowsePathsV2;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.search.elasticsearch.indexbuilder.ESIndexBuilder;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
+import com.linkedin.metadata.utils.elasticsearch.IndexConventionImpl;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.delete.DeleteRequest;
+import org.elasticsearch.action.get.GetResponse;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.mockito.ArgumentCaptor;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+
+public class ESBrowseTreeDAOTest {
+  private static final String ENTITY_NAME = "dataset";
+  private static final Urn URN = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,test,PROD)");
+
+  private RestHighLevelClient _mockClient;
+  private ESBulkProcessor _mockBulkProcessor;
+  private GetResponse _mockGetResponse;
+  private ESBrowseTreeDAO _browseTreeDAO;
+
+  @BeforeMethod
+  public void setup() throws Exception {
+    _mockClient = mock(RestHighLevelClient.class);
+    _mockBulkProcessor = mock(ESBulkProcessor.class);
+    _mockGetResponse = mock(GetResponse.class);
+    when(_mockClient.get(any(), eq(RequestOptions.DEFAULT))).thenReturn(_mockGetResponse);
+    _browseTreeDAO = new ESBrowseTreeDAO(_mockClient, new IndexConventionImpl("es_browse_tree_dao_test"),
+        _mockBulkProcessor, mock(ESIndexBuilder.class), 3);
+  }
+
+  /**
+   * Returns the memberships written by path, with whether the path is the last node, and the number of memberships
+   * deleted.
+   */
+  private Map<String, Object> getMemberships() {
+    ArgumentCaptor<DocWriteRequest> captor = ArgumentCaptor.forClass(DocWriteRequest.class);
+    verify(_mockBulkProcessor, atLeast(0)).add(captor.capture());
+    Map<String, Object> memberships = new HashMap<>();
+    int deleted = 0;
+    for (DocWriteRequest request : captor.getAllValues()) {
+      if (request instanceof DeleteRequest) {
+        deleted++;
+        continue;
+      }
+      Map<String, Object> source = ((IndexRequest) request).sourceAsMap();
+      assertEquals(source.get(ESBrowseTreeDAO.FIELD_URN), URN.toString());
+      memberships.put((String) source.get(ESBrowseTreeDAO.FIELD_PATH), source.get(ESBrowseTreeDAO.FIELD_LEAF));
+    }
+    if (deleted > 0) {
+      memberships.put("deleted", deleted);
+    }
+    return memberships;
+  }
+
+  @Test
+  public void testToPath() {
+    BrowsePathsV2 browsePaths = new BrowsePathsV2().setPath(new BrowsePathEntryArray(
+        new BrowsePathEntry().setId("foo"), new BrowsePathEntry().setId("bar")));
+    assertEquals(ESBrowseTreeDAO.toPath(browsePaths), "␟foo␟bar");
+    assertEquals(ESBrowseTreeDAO.toPath(new BrowsePathsV2().setPath(new BrowsePathEntryArray())), "");
+  }
+
+  @Test
+  public void testAddEntity() {
+    when(_mockGetResponse.isExists()).thenReturn(false);
+    _browseTreeDAO.updateEntityPath(ENTITY_NAME, URN, null, "␟foo␟bar");
+
+    assertEquals(getMemberships(), Map.of("␟foo", false, "␟foo␟bar", true));
+  }
+
+  @Test
+  public void testAddEntityIsIdempotent() {
+    when(_mockGetResponse.isExists()).thenReturn(false);
+    _browseTreeDAO.updateEntityPath(ENTITY_NAME, URN, null, "␟foo␟bar");
+    _browseTreeDAO.updateEntityPath(ENTITY_NAME, URN, null, "␟foo␟bar");
+
+    // Replayed change logs write the same documents again
+    ArgumentCaptor<DocWriteRequest> captor = ArgumentCaptor.forClass(DocWriteRequest.class);
+    verify(_mockBulkProcessor, times(4)).add(captor.capture());
+    List<String> ids = captor.getAllValues().stream().map(DocWriteRequest::id).collect(Collectors.toList());
+    assertEquals(ids.subList(0, 2), ids.subList(2, 4));
+  }
+
+  @Test
+  public void testMoveEntity() {
+    when(_mockGetResponse.isExists()).thenReturn(false);
+    _browseTreeDAO.updateEntityPath(ENTITY_NAME, URN, "␟foo␟bar", "␟foo␟baz");
+
+    // Only the membership of the node left is deleted
+    assertEquals(getMemberships(), Map.of("␟foo", false, "␟foo␟baz", true, "deleted", 1));
+  }
+
+  @Test
+  public void testBrowseFallsBackUntilRebuilt() throws Exception {
+    when(_mockGetResponse.isExists()).thenReturn(false);
+    assertFalse(_browseTreeDAO.browse(ENTITY_NAME, "", 0, 10).isPresent());
+    verify(_mockClient, never()).search(any(SearchRequest.class), any(RequestOptions.class));
+
+    // The rebuild complete marker is only read until it is found
+    when(_mockGetResponse.isExists()).thenReturn(true);
+    assertTrue(_browseTreeDAO.isRebuilt(ENTITY_NAME));
+    assertTrue(_browseTreeDAO.isRebuilt(ENTITY_NAME));
+    verify(_mockClient, times(2)).get(any(), eq(RequestOptions.DEFAULT));
+  }
+
+  @Test
+  public void testSoftDeletedEntity() {
+    when(_mockGetResponse.isExists()).thenReturn(true);
+    when(_mockGetResponse.getSourceAsMap()).thenReturn(Map.of("browsePathV2", "␟foo", "removed", true));
+
+    // Soft deleted entities have no memberships
+    _browseTreeDAO.updateEntityPath(ENTITY_NAME, URN, null, "␟foo␟bar");
+    verify(_mockBulkProcessor, never()).add(any());
+    _browseTreeDAO.updateEntityStatus(ENTITY_NAME, URN, false, true);
+    verify(_mockBulkProcessor).deleteByQuery(any(), eq(false), any());
+
+    // Restoring the entity adds the memberships of its indexed path
+    _browseTreeDAO.updateEntityStatus(ENTITY_NAME, URN, true, false);
+    assertEquals(getMemberships(), Map.of("␟foo", true));
+  }
+}
@@ -22,6 +22,7 @@ import java.util.List;
 
 import static com.linkedin.metadata.ESTestConfiguration.syncAfterWrite;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 @Import(ESTestConfiguration.class)
 public class ElasticSearchSystemMetadataServiceTest extends AbstractTestNGSpringContextTests {
@@ -136,6 +137,31 @@ public class ElasticSearchSystemMetadataServiceTest extends AbstractTestNGSpring
     rows.forEach(row -> assertEquals(row.getRunId(), "abc-456"));
   }
 
+  @Test
+  public void testFindByRunIdAfter() throws Exception {
+    SystemMetadata metadata1 = new SystemMetadata();
+    metadata1.setRunId("abc-123");
+    metadata1.setLastObserved(Long.valueOf(120L));
+
+    _client.insert(metadata1, "urn:li:chart:1", "chartKey");
+    _client.insert(metadata1, "urn:li:chart:1", "Ownership");
+    _client.insert(metadata1, "urn:li:chart:2", "chartKey");
+
+    syncAfterWrite(_bulkProcessor);
+
+    List<AspectRowSummary> firstPage = _client.findByRunIdAfter("abc-123", false, null, null, 2);
+    assertEquals(firstPage.size(), 2);
+    assertEquals(firstPage.get(0).getUrn(), "urn:li:chart:1");
+    assertEquals(firstPage.get(0).getAspectName(), "Ownership");
+    assertEquals(firstPage.get(1).getUrn(), "urn:li:chart:1");
+    assertEquals(firstPage.get(1).getAspectName(), "chartKey");
+
+    List<AspectRowSummary> secondPage = _client.findByRunIdAfter("abc-123", false, "urn:li:chart:1", "chartKey", 2);
+    assertEquals(secondPage.size(), 1);
+    assertEquals(secondPage.get(0).getUrn(), "urn:li:chart:2");
+    assertEquals(secondPage.get(0).getAspectName(), "chartKey");
+  }
+
   @Test
   public void testDelete() throws Exception {
     SystemMetadata metadata1 = new SystemMetadata();
@@ -168,6 +194,28 @@ public class ElasticSearchSystemMetadataServiceTest extends AbstractTestNGSpring
     rows.forEach(row -> assertEquals(row.getRunId(), "abc-456"));
   }
 
+  @Test
+  public void testDeleteAspect() throws Exception {
+    SystemMetadata metadata1 = new SystemMetadata();
+    metadata1.setRunId("abc-123");
+    metadata1.setLastObserved(Long.valueOf(120L));
+
+    _client.insert(metadata1, "urn:li:chart:1", "chartKey");
+    _client.insert(metadata1, "urn:li:chart:1", "ChartInfo");
+    _client.insert(metadata1, "urn:li:chart:2", "ChartInfo");
+
+    syncAfterWrite(_bulkProcessor);
+
+    _client.deleteAspect("urn:li:chart:1", "ChartInfo");
+
+    syncAfterWrite(_bulkProcessor);
+
+    List<AspectRowSummary> rows = _client.findByRunId("abc-123", false, 0, ESUtils.MAX_RESULT_SIZE);
+
+    assertEquals(rows.size(), 2);
+    assertTrue(rows.stream().noneMatch(row -> row.getUrn().equals("urn:li:chart:1") && row.getAspectName().equals("ChartInfo")));
+  }
+
   @Test
   public void testInsertNullData() throws Exception {
     _client.insert(null, "urn:li:chart:1", "chartKey");
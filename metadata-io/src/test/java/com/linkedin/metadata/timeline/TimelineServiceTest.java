@@ -37,6 +37,7 @@ import java.util.Map;
 import java.util.Set;
 
 import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
 
 
 /**
@@ -110,6 +111,48 @@ abstract public class TimelineServiceTest<T_AD extends AspectDao> {
     //Assert.assertEquals(changes.get(1).getTimestamp(), timestamps.get(5).getTime().longValue());
   }
 
+  @Test
+  public void testGetTimelineRepeatedly() throws Exception {
+    Urn entityUrn = Urn.createFromString(
+        "urn:li:dataset:(urn:li:dataPlatform:hive,fooDb.fooTable" + System.currentTimeMillis() + ",PROD)");
+    String aspectName = "schemaMetadata";
+
+    for (int i = 7; i > 1; i--) {
+      AuditStamp daysAgo = createTestAuditStamp(i);
+      _entityService.ingestAspects(entityUrn,
+          Collections.singletonList(new Pair<>(aspectName, getSchemaMetadata("Description for day " + i))), daysAgo,
+          getSystemMetadata(daysAgo, "run-" + i));
+    }
+
+    Set<ChangeCategory> elements = Collections.singleton(ChangeCategory.TECHNICAL_SCHEMA);
+    long startTime = createTestAuditStamp(10).getTime();
+    List<ChangeTransaction> first = _entityTimelineService.getTimeline(entityUrn, elements, startTime, 0, null, null,
+        false);
+    // The second computation is served from cached diffs, which must not have been modified by the first.
+    List<ChangeTransaction> second = _entityTimelineService.getTimeline(entityUrn, elements, startTime, 0, null, null,
+        false);
+    assertTimelinesEqual(second, first);
+
+    // Only the diff against the new version is computed.
+    AuditStamp oneDayAgo = createTestAuditStamp(1);
+    _entityService.ingestAspects(entityUrn,
+        Collections.singletonList(new Pair<>(aspectName, getSchemaMetadata("Description for day 1"))), oneDayAgo,
+        getSystemMetadata(oneDayAgo, "run-1"));
+    List<ChangeTransaction> third = _entityTimelineService.getTimeline(entityUrn, elements, startTime, 0, null, null,
+        false);
+    assertTimelinesEqual(third.subList(0, first.size()), first);
+  }
+
+  private static void assertTimelinesEqual(List<ChangeTransaction> actual, List<ChangeTransaction> expected) {
+    assertEquals(actual.size(), expected.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(actual.get(i).getTimestamp(), expected.get(i).getTimestamp());
+      assertEquals(actual.get(i).getSemVer(), expected.get(i).getSemVer());
+      assertEquals(actual.get(i).getSemVerChange(), expected.get(i).getSemVerChange());
+      assertEquals(actual.get(i).getChangeEvents().size(), expected.get(i).getChangeEvents().size());
+    }
+  }
+
   private static AuditStamp createTestAuditStamp(int daysAgo) {
     try {
       Long timestamp = System.currentTimeMillis() - (daysAgo * 24 * 60 * 60 * 1000L);
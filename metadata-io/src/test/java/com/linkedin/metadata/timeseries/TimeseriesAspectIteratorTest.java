@@ -0,0 +1,63 @@
+package com.linkedin.metadata.timeseries;
+
+import com.google.common.collect.ImmutableList;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.aspect.EnvelopedAspect;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+
+public class TimeseriesAspectIteratorTest {
+  private static final Urn URN = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,SampleHiveDataset,PROD)");
+  private static final String ENTITY_NAME = "dataset";
+  private static final String ASPECT_NAME = "datasetProfile";
+
+  @Test
+  public void testIteratesOverAllPages() {
+    final TimeseriesAspectService service = mock(TimeseriesAspectService.class);
+    final EnvelopedAspect first = new EnvelopedAspect();
+    final EnvelopedAspect second = new EnvelopedAspect();
+    final EnvelopedAspect third = new EnvelopedAspect();
+    when(service.scrollAspectValues(eq(URN), eq(ENTITY_NAME), eq(ASPECT_NAME), any(), any(), any(), any(), isNull(),
+        anyInt())).thenReturn(new TimeseriesScrollResult(ImmutableList.of(first, second), "page2"));
+    when(service.scrollAspectValues(eq(URN), eq(ENTITY_NAME), eq(ASPECT_NAME), any(), any(), any(), any(),
+        eq("page2"), anyInt())).thenReturn(new TimeseriesScrollResult(ImmutableList.of(third), null));
+
+    final Iterator<EnvelopedAspect> values =
+        new TimeseriesAspectIterator(service, URN, ENTITY_NAME, ASPECT_NAME, null, null, null, null, 2);
+    final List<EnvelopedAspect> result = new ArrayList<>();
+    values.forEachRemaining(result::add);
+
+    assertEquals(result.size(), 3);
+    assertEquals(result.get(0), first);
+    assertEquals(result.get(2), third);
+    verify(service, times(2)).scrollAspectValues(any(), any(), any(), any(), any(), any(), any(), any(), anyInt());
+  }
+
+  @Test
+  public void testEmptyResult() {
+    final TimeseriesAspectService service = mock(TimeseriesAspectService.class);
+    when(service.scrollAspectValues(any(), any(), any(), any(), any(), any(), any(), any(), anyInt()))
+        .thenReturn(new TimeseriesScrollResult(Collections.emptyList(), null));
+
+    final Iterator<EnvelopedAspect> values =
+        new TimeseriesAspectIterator(service, URN, ENTITY_NAME, ASPECT_NAME, null, null, null, null, 2);
+
+    assertFalse(values.hasNext());
+  }
+}
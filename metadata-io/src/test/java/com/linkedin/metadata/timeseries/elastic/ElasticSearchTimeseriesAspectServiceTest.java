@@ -10,6 +10,7 @@ import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.linkedin.common.urn.TestEntityUrn;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.data.template.StringArray;
@@ -340,6 +341,24 @@ public class ElasticSearchTimeseriesAspectServiceTest extends AbstractTestNGSpri
     validateAspectValues(resultAspects, 0);
   }
 
+  @Test(groups = {"getAspectValues"}, dependsOnGroups = {"upsert"})
+  public void testBatchGetAspectTimeseriesValues() {
+    int expectedNumRows = 5;
+    Urn nonExistingUrn = new TestEntityUrn("missing", "missing", "missing");
+    Map<Urn, List<EnvelopedAspect>> resultAspects =
+        _elasticSearchTimeseriesAspectService.batchGetAspectValues(ImmutableSet.of(TEST_URN, nonExistingUrn),
+            ENTITY_NAME, ASPECT_NAME, null, null, expectedNumRows, null, null);
+    assertEquals(resultAspects.size(), 2);
+    validateAspectValues(resultAspects.get(TEST_URN), expectedNumRows);
+    validateAspectValues(resultAspects.get(nonExistingUrn), 0);
+
+    // The latest aspects come first, as with a single urn.
+    List<EnvelopedAspect> singleUrnAspects =
+        _elasticSearchTimeseriesAspectService.getAspectValues(TEST_URN, ENTITY_NAME, ASPECT_NAME, null, null,
+            expectedNumRows, null);
+    assertEquals(resultAspects.get(TEST_URN), singleUrnAspects);
+  }
+
   /*
    * Tests for getAggregatedStats API
    */
@@ -0,0 +1,110 @@
+package com.linkedin.metadata.timeseries.elastic.indexbuilder;
+
+import com.linkedin.metadata.query.filter.Condition;
+import com.linkedin.metadata.query.filter.ConjunctiveCriterion;
+import com.linkedin.metadata.query.filter.ConjunctiveCriterionArray;
+import com.linkedin.metadata.query.filter.Criterion;
+import com.linkedin.metadata.query.filter.CriterionArray;
+import com.linkedin.metadata.query.filter.Filter;
+import com.linkedin.metadata.utils.elasticsearch.IndexConventionImpl;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.Optional;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+
+public class TimeseriesIndexPartitionsTest {
+  private static final String ENTITY_NAME = "dataset";
+  private static final String ASPECT_NAME = "datasetProfile";
+  private static final String INDEX_NAME = "dataset_datasetprofileaspect_v1";
+
+  private final TimeseriesIndexPartitions _partitions =
+      new TimeseriesIndexPartitions(new IndexConventionImpl(null), true, 3);
+
+  private static long millis(String time) {
+    return Instant.parse(time).toEpochMilli();
+  }
+
+  private static Criterion timestampCriterion(Condition condition, long value) {
+    return new Criterion().setField("timestampMillis").setCondition(condition).setValue(String.valueOf(value));
+  }
+
+  @Test
+  public void testDisabled() {
+    TimeseriesIndexPartitions partitions = new TimeseriesIndexPartitions(new IndexConventionImpl(null), false, 3);
+
+    assertEquals(partitions.getWriteIndexName(ENTITY_NAME, ASPECT_NAME, millis("2023-01-15T00:00:00Z")), INDEX_NAME);
+    assertEquals(partitions.getReadIndexNames(ENTITY_NAME, ASPECT_NAME, millis("2023-01-15T00:00:00Z"),
+        millis("2023-02-15T00:00:00Z")), new String[]{INDEX_NAME});
+  }
+
+  @Test
+  public void testWriteIndexName() {
+    assertEquals(_partitions.getWriteIndexName(ENTITY_NAME, ASPECT_NAME, millis("2023-01-31T23:59:59Z")),
+        INDEX_NAME + "-2023.01");
+    assertEquals(_partitions.getWriteIndexName(ENTITY_NAME, ASPECT_NAME, millis("2023-02-01T00:00:00Z")),
+        INDEX_NAME + "-2023.02");
+    assertEquals(_partitions.getWriteIndexName(ENTITY_NAME, ASPECT_NAME, null), INDEX_NAME);
+  }
+
+  @Test
+  public void testReadIndexNames() {
+    assertEquals(_partitions.getReadIndexNames(ENTITY_NAME, ASPECT_NAME, millis("2022-12-15T00:00:00Z"),
+            millis("2023-02-01T00:00:00Z")),
+        new String[]{INDEX_NAME, INDEX_NAME + "-2022.12", INDEX_NAME + "-2023.01", INDEX_NAME + "-2023.02"});
+    assertEquals(_partitions.getReadIndexNames(ENTITY_NAME, ASPECT_NAME, millis("2023-01-15T00:00:00Z"), null),
+        new String[]{INDEX_NAME, INDEX_NAME + "-*"});
+    assertEquals(_partitions.getReadIndexNames(ENTITY_NAME, ASPECT_NAME, millis("2010-01-01T00:00:00Z"),
+        millis("2023-01-01T00:00:00Z")), new String[]{INDEX_NAME, INDEX_NAME + "-*"});
+  }
+
+  @Test
+  public void testReadIndexNamesFromFilter() {
+    Filter filter = new Filter().setOr(new ConjunctiveCriterionArray(
+        new ConjunctiveCriterion().setAnd(new CriterionArray(
+            new Criterion().setField("urn").setValue("urn:li:dataset:(urn:li:dataPlatform:hive,test,PROD)"),
+            timestampCriterion(Condition.GREATER_THAN_OR_EQUAL_TO, millis("2023-01-15T00:00:00Z")),
+            timestampCriterion(Condition.LESS_THAN_OR_EQUAL_TO, millis("2023-01-20T00:00:00Z")))),
+        new ConjunctiveCriterion().setAnd(new CriterionArray(
+            timestampCriterion(Condition.GREATER_THAN, millis("2023-02-10T00:00:00Z")),
+            timestampCriterion(Condition.LESS_THAN, millis("2023-02-20T00:00:00Z"))))));
+    assertEquals(_partitions.getReadIndexNames(ENTITY_NAME, ASPECT_NAME, filter),
+        new String[]{INDEX_NAME, INDEX_NAME + "-2023.01", INDEX_NAME + "-2023.02"});
+
+    // A conjunction without an upper bound leaves the filter unbounded
+    Filter unbounded = new Filter().setOr(new ConjunctiveCriterionArray(
+        new ConjunctiveCriterion().setAnd(new CriterionArray(
+            timestampCriterion(Condition.GREATER_THAN_OR_EQUAL_TO, millis("2023-01-15T00:00:00Z")),
+            timestampCriterion(Condition.LESS_THAN_OR_EQUAL_TO, millis("2023-01-20T00:00:00Z")))),
+        new ConjunctiveCriterion().setAnd(new CriterionArray(
+            timestampCriterion(Condition.GREATER_THAN, millis("2023-02-10T00:00:00Z"))))));
+    assertEquals(_partitions.getReadIndexNames(ENTITY_NAME, ASPECT_NAME, unbounded),
+        new String[]{INDEX_NAME, INDEX_NAME + "-*"});
+    assertEquals(_partitions.getReadIndexNames(ENTITY_NAME, ASPECT_NAME, (Filter) null),
+        new String[]{INDEX_NAME, INDEX_NAME + "-*"});
+  }
+
+  @Test
+  public void testAspectIndexName() {
+    assertEquals(_partitions.getAspectIndexName(INDEX_NAME + "-2023.01"), INDEX_NAME);
+    assertEquals(_partitions.getAspectIndexName(INDEX_NAME), INDEX_NAME);
+  }
+
+  @Test
+  public void testRetention() {
+    long now = millis("2023-06-10T00:00:00Z");
+    assertEquals(TimeseriesIndexPartitions.getPartitionMonth(INDEX_NAME + "-2023.02"),
+        Optional.of(YearMonth.of(2023, 2)));
+    assertTrue(_partitions.isExpired(INDEX_NAME + "-2023.02", now));
+    assertFalse(_partitions.isExpired(INDEX_NAME + "-2023.03", now));
+    assertFalse(_partitions.isExpired(INDEX_NAME + "-2023.06", now));
+    assertFalse(_partitions.isExpired(INDEX_NAME, now));
+
+    TimeseriesIndexPartitions keepAll = new TimeseriesIndexPartitions(new IndexConventionImpl(null), true, 0);
+    assertFalse(keepAll.isExpired(INDEX_NAME + "-2000.01", now));
+  }
+}
@@ -0,0 +1,85 @@
+package com.linkedin.metadata.timeseries.elastic.usage;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.dataset.DatasetFieldUsageCounts;
+import com.linkedin.dataset.DatasetFieldUsageCountsArray;
+import com.linkedin.dataset.DatasetUsageStatistics;
+import com.linkedin.dataset.DatasetUserUsageCounts;
+import com.linkedin.dataset.DatasetUserUsageCountsArray;
+import com.linkedin.metadata.ESTestConfiguration;
+import com.linkedin.metadata.search.elasticsearch.indexbuilder.ESIndexBuilder;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
+import com.linkedin.metadata.timeseries.elastic.usage.UsageRollupPlanner.Granularity;
+import com.linkedin.metadata.timeseries.elastic.usage.UsageRollupPlanner.Period;
+import com.linkedin.metadata.utils.elasticsearch.IndexConventionImpl;
+import com.linkedin.usage.FieldUsageCounts;
+import com.linkedin.usage.UserUsageCounts;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.testng.AbstractTestNGSpringContextTests;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static com.linkedin.metadata.ESTestConfiguration.syncAfterWrite;
+import static org.testng.Assert.assertEquals;
+
+
+@Import(ESTestConfiguration.class)
+public class ESUsageRollupDAOTest extends AbstractTestNGSpringContextTests {
+  private static final Urn DATASET_URN = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,rollup,PROD)");
+  private static final Urn USER_URN = UrnUtils.getUrn("urn:li:corpuser:rollup");
+
+  @Autowired
+  private RestHighLevelClient _searchClient;
+  @Autowired
+  private ESBulkProcessor _bulkProcessor;
+  @Autowired
+  private ESIndexBuilder _esIndexBuilder;
+
+  private ESUsageRollupDAO _usageRollupDAO;
+
+  @BeforeClass
+  public void setup() throws Exception {
+    _usageRollupDAO = new ESUsageRollupDAO(_searchClient, new IndexConventionImpl("es_usage_rollup_dao_test"),
+        _bulkProcessor, _esIndexBuilder, 3, true, 0L);
+    _usageRollupDAO.configure(true);
+  }
+
+  private static DatasetUsageStatistics createEvent(long timestampMillis, int userCount, int fieldCount) {
+    return new DatasetUsageStatistics()
+        .setTimestampMillis(timestampMillis)
+        .setUserCounts(new DatasetUserUsageCountsArray(Collections.singletonList(
+            new DatasetUserUsageCounts().setUser(USER_URN).setCount(userCount))))
+        .setFieldCounts(new DatasetFieldUsageCountsArray(Collections.singletonList(
+            new DatasetFieldUsageCounts().setFieldPath("column").setCount(fieldCount))));
+  }
+
+  @Test
+  public void testReindexedEventIsCountedOnce() throws Exception {
+    long monday = Instant.parse("2023-01-02T00:00:00Z").toEpochMilli();
+    long tuesday = Instant.parse("2023-01-03T00:00:00Z").toEpochMilli();
+    List<Period> week = Collections.singletonList(new Period(Granularity.WEEK, monday));
+
+    _usageRollupDAO.addEvent(DATASET_URN, createEvent(monday, 3, 2));
+    _usageRollupDAO.addEvent(DATASET_URN, createEvent(tuesday, 4, 1));
+    // Indexing an event again, e.g. from restore indices, replaces its contribution
+    _usageRollupDAO.addEvent(DATASET_URN, createEvent(monday, 3, 2));
+    _usageRollupDAO.addEvent(DATASET_URN, createEvent(tuesday, 5, 1));
+    syncAfterWrite(_bulkProcessor);
+
+    List<UserUsageCounts> userUsageCounts = _usageRollupDAO.getUserUsageCounts(DATASET_URN, week);
+    assertEquals(userUsageCounts.size(), 1);
+    assertEquals(userUsageCounts.get(0).getUser(), USER_URN);
+    assertEquals(userUsageCounts.get(0).getCount().intValue(), 8);
+
+    List<FieldUsageCounts> fieldUsageCounts = _usageRollupDAO.getFieldUsageCounts(DATASET_URN, week);
+    assertEquals(fieldUsageCounts.size(), 1);
+    assertEquals(fieldUsageCounts.get(0).getFieldName(), "column");
+    assertEquals(fieldUsageCounts.get(0).getCount().intValue(), 3);
+  }
+}
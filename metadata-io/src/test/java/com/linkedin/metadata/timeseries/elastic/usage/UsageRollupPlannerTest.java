@@ -0,0 +1,77 @@
+package com.linkedin.metadata.timeseries.elastic.usage;
+
+import com.linkedin.metadata.timeseries.elastic.usage.UsageRollupPlanner.Granularity;
+import com.linkedin.metadata.timeseries.elastic.usage.UsageRollupPlanner.Period;
+import com.linkedin.metadata.timeseries.elastic.usage.UsageRollupPlanner.Plan;
+import com.linkedin.util.Pair;
+import java.time.Instant;
+import java.util.List;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+
+public class UsageRollupPlannerTest {
+
+  private static long millis(String time) {
+    return Instant.parse(time).toEpochMilli();
+  }
+
+  @Test
+  public void testPeriodStarts() {
+    long wednesday = millis("2023-01-04T12:00:00Z");
+    assertEquals(Granularity.WEEK.getStart(wednesday), millis("2023-01-02T00:00:00Z"));
+    assertEquals(Granularity.MONTH.getStart(wednesday), millis("2023-01-01T00:00:00Z"));
+    assertEquals(Granularity.WEEK.getNext(millis("2023-01-30T00:00:00Z")), millis("2023-02-06T00:00:00Z"));
+    assertEquals(Granularity.MONTH.getNext(millis("2023-01-01T00:00:00Z")), millis("2023-02-01T00:00:00Z"));
+  }
+
+  @Test
+  public void testWholeMonths() {
+    Plan plan = UsageRollupPlanner.plan(millis("2023-01-01T00:00:00Z"), millis("2023-04-01T00:00:00Z") - 1, 0);
+
+    assertEquals(plan.getPeriods(), List.of(
+        new Period(Granularity.MONTH, millis("2023-01-01T00:00:00Z")),
+        new Period(Granularity.MONTH, millis("2023-02-01T00:00:00Z")),
+        new Period(Granularity.MONTH, millis("2023-03-01T00:00:00Z"))));
+    assertEquals(plan.getRawRanges(), List.of());
+  }
+
+  @Test
+  public void testMonthsWeeksAndRawRanges() {
+    Plan plan = UsageRollupPlanner.plan(millis("2023-01-04T12:00:00Z"), millis("2023-03-15T00:00:00Z"), 0);
+
+    assertEquals(plan.getPeriods(), List.of(
+        new Period(Granularity.WEEK, millis("2023-01-09T00:00:00Z")),
+        new Period(Granularity.WEEK, millis("2023-01-16T00:00:00Z")),
+        new Period(Granularity.WEEK, millis("2023-01-23T00:00:00Z")),
+        new Period(Granularity.MONTH, millis("2023-02-01T00:00:00Z")),
+        new Period(Granularity.WEEK, millis("2023-03-06T00:00:00Z"))));
+    assertEquals(plan.getRawRanges(), List.of(
+        Pair.of(millis("2023-01-04T12:00:00Z"), millis("2023-01-09T00:00:00Z") - 1),
+        Pair.of(millis("2023-01-30T00:00:00Z"), millis("2023-02-01T00:00:00Z") - 1),
+        Pair.of(millis("2023-03-01T00:00:00Z"), millis("2023-03-06T00:00:00Z") - 1),
+        Pair.of(millis("2023-03-13T00:00:00Z"), millis("2023-03-15T00:00:00Z"))));
+  }
+
+  @Test
+  public void testShortRangeIsRaw() {
+    Plan plan = UsageRollupPlanner.plan(millis("2023-01-04T00:00:00Z"), millis("2023-01-06T00:00:00Z"), 0);
+
+    assertEquals(plan.getPeriods(), List.of());
+    assertEquals(plan.getRawRanges(),
+        List.of(Pair.of(millis("2023-01-04T00:00:00Z"), millis("2023-01-06T00:00:00Z"))));
+  }
+
+  @Test
+  public void testRangeBeforeValidFromIsRaw() {
+    Plan plan = UsageRollupPlanner.plan(millis("2023-01-01T00:00:00Z"), millis("2023-04-01T00:00:00Z") - 1,
+        millis("2023-02-01T00:00:00Z"));
+
+    assertEquals(plan.getPeriods(), List.of(
+        new Period(Granularity.MONTH, millis("2023-02-01T00:00:00Z")),
+        new Period(Granularity.MONTH, millis("2023-03-01T00:00:00Z"))));
+    assertEquals(plan.getRawRanges(),
+        List.of(Pair.of(millis("2023-01-01T00:00:00Z"), millis("2023-02-01T00:00:00Z") - 1)));
+  }
+}
@@ -8,6 +8,7 @@ import com.linkedin.metadata.EventUtils;
 import com.linkedin.metadata.kafka.config.MetadataChangeLogProcessorCondition;
 import com.linkedin.metadata.kafka.hook.MetadataChangeLogHook;
 import com.linkedin.metadata.kafka.hook.UpdateIndicesHook;
+import com.linkedin.metadata.kafka.hook.authorization.AuthorizationCacheHook;
 import com.linkedin.metadata.kafka.hook.event.EntityChangeEventGeneratorHook;
 import com.linkedin.metadata.kafka.hook.ingestion.IngestionSchedulerHook;
 import com.linkedin.metadata.kafka.hook.siblings.SiblingAssociationHook;
@@ -36,7 +37,8 @@ import org.springframework.stereotype.Component;
     IngestionSchedulerHook.class,
     EntityChangeEventGeneratorHook.class,
     KafkaEventConsumerFactory.class,
-    SiblingAssociationHook.class
+    SiblingAssociationHook.class,
+    AuthorizationCacheHook.class
 })
 @EnableKafka
 public class MetadataChangeLogProcessor {
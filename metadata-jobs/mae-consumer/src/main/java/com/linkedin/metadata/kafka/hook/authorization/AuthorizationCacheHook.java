@@ -0,0 +1,152 @@
+package com.linkedin.metadata.kafka.hook.authorization;
+
+import com.datahub.authorization.ActorMembershipCache;
+import com.datahub.authorization.DataHubAuthorizer;
+import com.google.common.annotations.VisibleForTesting;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.gms.factory.entityregistry.EntityRegistryFactory;
+import com.linkedin.metadata.kafka.hook.MetadataChangeLogHook;
+import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.utils.EntityKeyUtils;
+import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import com.linkedin.policy.DataHubPolicyInfo;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Import;
+import org.springframework.stereotype.Component;
+
+import static com.linkedin.metadata.Constants.*;
+
+
+/**
+ * This hook evicts entries of the caches held by the {@link DataHubAuthorizer} when the metadata they were
+ * computed from changes, and applies policy creations, updates and deletions to its policy cache incrementally.
+ *
+ * The hook is only active when the authorizer lives in the same process as the MCL consumer (i.e. GMS with the
+ * embedded MAE consumer). Standalone consumers have no authorizer to invalidate, so caches there rely on their TTLs.
+ *
+ * The MCL consumer group is shared by all the GMS replicas, so each change is only seen, and evicted, by the replica
+ * consuming its partition. The other replicas keep serving their cached entries until the TTL expires: with more than
+ * one replica, freshness of the membership, decision and resource caches is bounded by their TTLs, and that of the
+ * policy cache by its refresh interval.
+ */
+@Slf4j
+@Component
+@Singleton
+@Import({EntityRegistryFactory.class})
+public class AuthorizationCacheHook implements MetadataChangeLogHook {
+
+  private final EntityRegistry _entityRegistry;
+  private final DataHubAuthorizer _dataHubAuthorizer;
+
+  @Autowired
+  public AuthorizationCacheHook(
+      @Nonnull final EntityRegistry entityRegistry,
+      @Nullable @Qualifier("dataHubAuthorizer") final DataHubAuthorizer dataHubAuthorizer
+  ) {
+    _entityRegistry = entityRegistry;
+    _dataHubAuthorizer = dataHubAuthorizer;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return _dataHubAuthorizer != null;
+  }
+
+  @Override
+  public void invoke(@Nonnull MetadataChangeLog event) {
+    if (isPolicyUpdate(event)) {
+      final Urn policyUrn = getUrnFromEvent(event);
+      if (ChangeType.DELETE.equals(event.getChangeType())) {
+        log.debug("Received delete of policy info {}. Removing policy from cache.", policyUrn);
+        _dataHubAuthorizer.removePolicy(policyUrn);
+      } else {
+        log.debug("Received {} of policy {}. Updating policy in cache.", event.getChangeType(), policyUrn);
+        _dataHubAuthorizer.upsertPolicy(policyUrn, getPolicyInfoFromEvent(event));
+      }
+    } else if (isPolicyDeleted(event)) {
+      final Urn policyUrn = getUrnFromEvent(event);
+      log.debug("Received delete of policy {}. Removing policy from cache.", policyUrn);
+      _dataHubAuthorizer.removePolicy(policyUrn);
+    } else if (isActorMembershipChange(event)) {
+      final Urn actor = getUrnFromEvent(event);
+      log.debug("Received {} of {} for actor {}. Evicting cached membership.", event.getChangeType(),
+          event.getAspectName(), actor);
+      _dataHubAuthorizer.invalidateActorMembership(actor);
+    } else if (isResourceFieldChange(event)) {
+      final Urn resource = getUrnFromEvent(event);
+      log.debug("Received {} of {} for resource {}. Evicting cached resource fields.", event.getChangeType(),
+          event.getAspectName(), resource);
+      _dataHubAuthorizer.invalidateResource(resource);
+    }
+  }
+
+  private boolean isPolicyUpdate(final MetadataChangeLog event) {
+    return POLICY_ENTITY_NAME.equals(event.getEntityType())
+        && DATAHUB_POLICY_INFO_ASPECT_NAME.equals(event.getAspectName())
+        && (ChangeType.UPSERT.equals(event.getChangeType())
+        || ChangeType.CREATE.equals(event.getChangeType())
+        || ChangeType.DELETE.equals(event.getChangeType()));
+  }
+
+  private boolean isPolicyDeleted(final MetadataChangeLog event) {
+    return POLICY_ENTITY_NAME.equals(event.getEntityType())
+        && DATAHUB_POLICY_KEY_ASPECT_NAME.equals(event.getAspectName())
+        && ChangeType.DELETE.equals(event.getChangeType());
+  }
+
+  /**
+   * Returns true if the event changes the groups or roles of a user, including the removal of the user itself.
+   */
+  private boolean isActorMembershipChange(final MetadataChangeLog event) {
+    return CORP_USER_ENTITY_NAME.equals(event.getEntityType())
+        && (ActorMembershipCache.MEMBERSHIP_ASPECT_NAMES.contains(event.getAspectName())
+        || CORP_USER_KEY_ASPECT_NAME.equals(event.getAspectName()));
+  }
+
+  /**
+   * Returns true if the event changes a field that policies can match resources on, i.e. the owners or the domains.
+   */
+  private boolean isResourceFieldChange(final MetadataChangeLog event) {
+    return OWNERSHIP_ASPECT_NAME.equals(event.getAspectName()) || DOMAINS_ASPECT_NAME.equals(event.getAspectName());
+  }
+
+  /**
+   * Extracts and returns an {@link Urn} from a {@link MetadataChangeLog}. Extracts from either an entityUrn
+   * or entityKey field, depending on which is present.
+   */
+  private Urn getUrnFromEvent(final MetadataChangeLog event) {
+    EntitySpec entitySpec;
+    try {
+      entitySpec = _entityRegistry.getEntitySpec(event.getEntityType());
+    } catch (IllegalArgumentException e) {
+      log.error("Error while processing entity type {}: {}", event.getEntityType(), e.toString());
+      throw new RuntimeException("Failed to get urn from MetadataChangeLog event. Skipping processing.", e);
+    }
+    return EntityKeyUtils.getUrnFromLog(event, entitySpec.getKeyAspectSpec());
+  }
+
+  /**
+   * Deserializes and returns an instance of {@link DataHubPolicyInfo} extracted from a {@link MetadataChangeLog} event.
+   * The incoming event is expected to have a populated "aspect" field.
+   */
+  private DataHubPolicyInfo getPolicyInfoFromEvent(final MetadataChangeLog event) {
+    final EntitySpec entitySpec = _entityRegistry.getEntitySpec(POLICY_ENTITY_NAME);
+    return (DataHubPolicyInfo) GenericRecordUtils.deserializeAspect(
+        event.getAspect().getValue(),
+        event.getAspect().getContentType(),
+        entitySpec.getAspectSpec(DATAHUB_POLICY_INFO_ASPECT_NAME));
+  }
+
+  @VisibleForTesting
+  DataHubAuthorizer authorizer() {
+    return _dataHubAuthorizer;
+  }
+}
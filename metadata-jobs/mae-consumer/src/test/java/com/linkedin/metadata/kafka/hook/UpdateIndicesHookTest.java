@@ -30,9 +30,6 @@ import com.linkedin.metadata.key.ChartKey;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
 import com.linkedin.metadata.models.registry.EntityRegistry;
-import com.linkedin.metadata.query.filter.ConjunctiveCriterionArray;
-import com.linkedin.metadata.query.filter.Filter;
-import com.linkedin.metadata.query.filter.RelationshipDirection;
 import com.linkedin.metadata.search.EntitySearchService;
 import com.linkedin.metadata.search.transformer.SearchDocumentTransformer;
 import com.linkedin.metadata.service.UpdateIndicesService;
@@ -55,7 +52,6 @@ import java.util.Collections;
 import static com.linkedin.metadata.Constants.*;
 import static com.linkedin.metadata.kafka.hook.EntityRegistryTestUtil.ENTITY_REGISTRY;
 import static com.linkedin.metadata.kafka.hook.MCLProcessingTestDataGenerator.*;
-import static com.linkedin.metadata.search.utils.QueryUtils.newRelationshipFilter;
 
 public class UpdateIndicesHookTest {
 //  going to want a test where we have an upstreamLineage aspect with finegrained, check that we call _graphService.addEdge for each edge
@@ -122,12 +118,14 @@ public class UpdateIndicesHookTest {
     _updateIndicesHook.invoke(event);
 
     Edge edge = new Edge(downstreamUrn, upstreamUrn, DOWNSTREAM_OF, null, null, null, null, null);
-    Mockito.verify(_mockGraphService, Mockito.times(1)).addEdge(Mockito.eq(edge));
-    Mockito.verify(_mockGraphService, Mockito.times(1)).removeEdgesFromNode(
+    Mockito.verify(_mockGraphService, Mockito.times(1)).setEdgesFromNode(
         Mockito.eq(downstreamUrn),
         Mockito.eq(new ArrayList<>(Collections.singleton(DOWNSTREAM_OF))),
-        Mockito.eq(newRelationshipFilter(new Filter().setOr(new ConjunctiveCriterionArray()), RelationshipDirection.OUTGOING))
+        Mockito.eq(Collections.singletonList(edge)),
+        Mockito.eq(Collections.emptyList())
     );
+    Mockito.verify(_mockGraphService, Mockito.never()).addEdge(Mockito.any());
+    Mockito.verify(_mockGraphService, Mockito.never()).removeEdgesFromNode(Mockito.any(), Mockito.any(), Mockito.any());
   }
 
   @Test
@@ -139,12 +137,14 @@ public class UpdateIndicesHookTest {
     _updateIndicesHook.invoke(event);
 
     Edge edge = new Edge(downstreamUrn, upstreamUrn, DOWNSTREAM_OF, null, null, null, null, null);
-    Mockito.verify(_mockGraphService, Mockito.times(1)).addEdge(Mockito.eq(edge));
-    Mockito.verify(_mockGraphService, Mockito.times(1)).removeEdgesFromNode(
+    Mockito.verify(_mockGraphService, Mockito.times(1)).setEdgesFromNode(
         Mockito.eq(downstreamUrn),
         Mockito.eq(new ArrayList<>(Collections.singleton(DOWNSTREAM_OF))),
-        Mockito.eq(newRelationshipFilter(new Filter().setOr(new ConjunctiveCriterionArray()), RelationshipDirection.OUTGOING))
+        Mockito.eq(Collections.singletonList(edge)),
+        Mockito.eq(Collections.emptyList())
     );
+    Mockito.verify(_mockGraphService, Mockito.never()).addEdge(Mockito.any());
+    Mockito.verify(_mockGraphService, Mockito.never()).removeEdgesFromNode(Mockito.any(), Mockito.any(), Mockito.any());
     Mockito.verify(_mockEntitySearchService, Mockito.times(1))
         .upsertDocument(Mockito.eq(DATASET_ENTITY_NAME), Mockito.any(),
             Mockito.eq(URLEncoder.encode("urn:li:dataset:(urn:li:dataPlatform:hive,SampleCypressHiveDataset,PROD)",
@@ -172,12 +172,14 @@ public class UpdateIndicesHookTest {
     Urn downstreamUrn = UrnUtils.getUrn(String.format("urn:li:schemaField:(%s,%s)", TEST_CHART_URN, downstreamFieldPath));
 
     Edge edge = new Edge(downstreamUrn, upstreamUrn, DOWNSTREAM_OF, null, null, null, null, null);
-    Mockito.verify(_mockGraphService, Mockito.times(1)).addEdge(Mockito.eq(edge));
-    Mockito.verify(_mockGraphService, Mockito.times(1)).removeEdgesFromNode(
+    Mockito.verify(_mockGraphService, Mockito.times(1)).setEdgesFromNode(
         Mockito.eq(downstreamUrn),
         Mockito.eq(new ArrayList<>(Collections.singleton(DOWNSTREAM_OF))),
-        Mockito.eq(newRelationshipFilter(new Filter().setOr(new ConjunctiveCriterionArray()), RelationshipDirection.OUTGOING))
+        Mockito.eq(Collections.singletonList(edge)),
+        Mockito.eq(Collections.emptyList())
     );
+    Mockito.verify(_mockGraphService, Mockito.never()).addEdge(Mockito.any());
+    Mockito.verify(_mockGraphService, Mockito.never()).removeEdgesFromNode(Mockito.any(), Mockito.any(), Mockito.any());
   }
 
   @Test
@@ -0,0 +1,121 @@
+package com.linkedin.metadata.kafka.hook.authorization;
+
+import com.datahub.authorization.DataHubAuthorizer;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.models.registry.SnapshotEntityRegistry;
+import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import com.linkedin.policy.DataHubActorFilter;
+import com.linkedin.policy.DataHubPolicyInfo;
+import org.mockito.Mockito;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static com.linkedin.metadata.Constants.*;
+import static org.testng.Assert.*;
+
+
+public class AuthorizationCacheHookTest {
+  private static final Urn TEST_USER_URN = UrnUtils.getUrn("urn:li:corpuser:datahub");
+  private static final Urn TEST_POLICY_URN = UrnUtils.getUrn("urn:li:dataHubPolicy:test");
+
+  private AuthorizationCacheHook _authorizationCacheHook;
+
+  @BeforeMethod
+  public void setupTest() {
+    DataHubAuthorizer mockAuthorizer = Mockito.mock(DataHubAuthorizer.class);
+    _authorizationCacheHook = new AuthorizationCacheHook(SnapshotEntityRegistry.getInstance(), mockAuthorizer);
+  }
+
+  @Test
+  public void testDisabledWithoutAuthorizer() {
+    assertFalse(new AuthorizationCacheHook(SnapshotEntityRegistry.getInstance(), null).isEnabled());
+    assertTrue(_authorizationCacheHook.isEnabled());
+  }
+
+  @Test
+  public void testInvokeMembershipChange() {
+    for (String aspectName : new String[]{GROUP_MEMBERSHIP_ASPECT_NAME, NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME,
+        ROLE_MEMBERSHIP_ASPECT_NAME}) {
+      MetadataChangeLog event = new MetadataChangeLog();
+      event.setEntityType(CORP_USER_ENTITY_NAME);
+      event.setAspectName(aspectName);
+      event.setChangeType(ChangeType.UPSERT);
+      event.setEntityUrn(TEST_USER_URN);
+      _authorizationCacheHook.invoke(event);
+    }
+    Mockito.verify(_authorizationCacheHook.authorizer(), Mockito.times(3)).invalidateActorMembership(TEST_USER_URN);
+  }
+
+  @Test
+  public void testInvokeUserDeleted() {
+    MetadataChangeLog event = new MetadataChangeLog();
+    event.setEntityType(CORP_USER_ENTITY_NAME);
+    event.setAspectName(CORP_USER_KEY_ASPECT_NAME);
+    event.setChangeType(ChangeType.DELETE);
+    event.setEntityUrn(TEST_USER_URN);
+    _authorizationCacheHook.invoke(event);
+    Mockito.verify(_authorizationCacheHook.authorizer(), Mockito.times(1)).invalidateActorMembership(TEST_USER_URN);
+  }
+
+  @Test
+  public void testInvokeUnrelatedAspect() {
+    MetadataChangeLog event = new MetadataChangeLog();
+    event.setEntityType(CORP_USER_ENTITY_NAME);
+    event.setAspectName(CORP_USER_INFO_ASPECT_NAME);
+    event.setChangeType(ChangeType.UPSERT);
+    event.setEntityUrn(TEST_USER_URN);
+    _authorizationCacheHook.invoke(event);
+    Mockito.verifyNoInteractions(_authorizationCacheHook.authorizer());
+  }
+
+  @Test
+  public void testInvokePolicyUpsert() {
+    final DataHubPolicyInfo policyInfo = new DataHubPolicyInfo()
+        .setDisplayName("Test policy")
+        .setType("METADATA")
+        .setState("ACTIVE")
+        .setPrivileges(new StringArray("EDIT_ENTITY_TAGS"))
+        .setActors(new DataHubActorFilter().setAllUsers(true))
+        .setEditable(true);
+    MetadataChangeLog event = new MetadataChangeLog();
+    event.setEntityType(POLICY_ENTITY_NAME);
+    event.setAspectName(DATAHUB_POLICY_INFO_ASPECT_NAME);
+    event.setChangeType(ChangeType.UPSERT);
+    event.setEntityUrn(TEST_POLICY_URN);
+    event.setAspect(GenericRecordUtils.serializeAspect(policyInfo));
+    _authorizationCacheHook.invoke(event);
+    Mockito.verify(_authorizationCacheHook.authorizer(), Mockito.times(1)).upsertPolicy(TEST_POLICY_URN, policyInfo);
+    Mockito.verify(_authorizationCacheHook.authorizer(), Mockito.never()).invalidateCache();
+  }
+
+  @Test
+  public void testInvokePolicyDeleted() {
+    for (String aspectName : new String[]{DATAHUB_POLICY_INFO_ASPECT_NAME, DATAHUB_POLICY_KEY_ASPECT_NAME}) {
+      MetadataChangeLog event = new MetadataChangeLog();
+      event.setEntityType(POLICY_ENTITY_NAME);
+      event.setAspectName(aspectName);
+      event.setChangeType(ChangeType.DELETE);
+      event.setEntityUrn(TEST_POLICY_URN);
+      _authorizationCacheHook.invoke(event);
+    }
+    Mockito.verify(_authorizationCacheHook.authorizer(), Mockito.times(2)).removePolicy(TEST_POLICY_URN);
+  }
+
+  @Test
+  public void testInvokeOwnershipChange() {
+    final Urn datasetUrn = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,test,PROD)");
+    for (String aspectName : new String[]{OWNERSHIP_ASPECT_NAME, DOMAINS_ASPECT_NAME}) {
+      MetadataChangeLog event = new MetadataChangeLog();
+      event.setEntityType(DATASET_ENTITY_NAME);
+      event.setAspectName(aspectName);
+      event.setChangeType(ChangeType.UPSERT);
+      event.setEntityUrn(datasetUrn);
+      _authorizationCacheHook.invoke(event);
+    }
+    Mockito.verify(_authorizationCacheHook.authorizer(), Mockito.times(2)).invalidateResource(datasetUrn);
+  }
+}
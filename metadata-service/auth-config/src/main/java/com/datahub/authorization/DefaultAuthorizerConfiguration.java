@@ -13,4 +13,16 @@ public class DefaultAuthorizerConfiguration {
    * The duration between policies cache refreshes.
    */
   private int cacheRefreshIntervalSecs;
+  /**
+   * How long the group & role membership of an actor is cached. 0 disables the cache.
+   */
+  private int membershipCacheTtlSecs;
+  /**
+   * How long the result of an authorization request is cached. 0 disables the cache.
+   */
+  private int decisionCacheTtlSecs;
+  /**
+   * How long the owners & domains of a resource are cached. 0 disables the cache.
+   */
+  private int resourceCacheTtlSecs;
 }
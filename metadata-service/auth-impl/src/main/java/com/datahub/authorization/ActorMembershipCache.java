@@ -0,0 +1,137 @@
+package com.datahub.authorization;
+
+import com.datahub.authentication.Authentication;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableSet;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.entity.EntityResponse;
+import com.linkedin.entity.EnvelopedAspectMap;
+import com.linkedin.entity.client.EntityClient;
+import com.linkedin.identity.GroupMembership;
+import com.linkedin.identity.NativeGroupMembership;
+import com.linkedin.identity.RoleMembership;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import static com.linkedin.metadata.Constants.*;
+
+
+/**
+ * A cache of the groups and roles an actor belongs to, shared across authorization requests.
+ *
+ * Membership is resolved with a single batchGetV2 call for the groupMembership, nativeGroupMembership and
+ * roleMembership aspects of the actor. Entries expire after a fixed TTL and are invalidated whenever one
+ * of those aspects changes (see {@link #invalidate(Urn)}).
+ */
+@Slf4j
+public class ActorMembershipCache {
+
+  /**
+   * The set of corp user aspects which determine the groups and roles of an actor.
+   */
+  public static final Set<String> MEMBERSHIP_ASPECT_NAMES = ImmutableSet.of(
+      GROUP_MEMBERSHIP_ASPECT_NAME,
+      NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME,
+      ROLE_MEMBERSHIP_ASPECT_NAME);
+
+  private static final int DEFAULT_MAX_SIZE = 10000;
+
+  private final Authentication _systemAuthentication;
+  private final EntityClient _entityClient;
+  private final LoadingCache<Urn, ActorMembership> _cache;
+
+  public ActorMembershipCache(
+      @Nonnull final Authentication systemAuthentication,
+      @Nonnull final EntityClient entityClient,
+      final int ttlSeconds) {
+    this(systemAuthentication, entityClient, ttlSeconds, DEFAULT_MAX_SIZE);
+  }
+
+  public ActorMembershipCache(
+      @Nonnull final Authentication systemAuthentication,
+      @Nonnull final EntityClient entityClient,
+      final int ttlSeconds,
+      final int maxSize) {
+    _systemAuthentication = systemAuthentication;
+    _entityClient = entityClient;
+    _cache = CacheBuilder.newBuilder()
+        .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+        .maximumSize(maxSize)
+        .build(new CacheLoader<Urn, ActorMembership>() {
+          @Override
+          public ActorMembership load(@Nonnull final Urn actor) throws Exception {
+            return fetchMembership(actor);
+          }
+        });
+  }
+
+  /**
+   * Returns the groups, both external and native, that the actor belongs to.
+   */
+  @Nonnull
+  public Set<Urn> getGroups(@Nonnull final Urn actor) throws ExecutionException {
+    return _cache.get(actor).getGroups();
+  }
+
+  /**
+   * Returns the roles assigned to the actor.
+   */
+  @Nonnull
+  public Set<Urn> getRoles(@Nonnull final Urn actor) throws ExecutionException {
+    return _cache.get(actor).getRoles();
+  }
+
+  /**
+   * Evicts the cached membership of a single actor. Should be invoked when a membership aspect of the actor changes.
+   */
+  public void invalidate(@Nonnull final Urn actor) {
+    _cache.invalidate(actor);
+  }
+
+  public void invalidateAll() {
+    _cache.invalidateAll();
+  }
+
+  private ActorMembership fetchMembership(final Urn actor) throws Exception {
+    final EntityResponse corpUser = _entityClient.batchGetV2(CORP_USER_ENTITY_NAME, Collections.singleton(actor),
+        MEMBERSHIP_ASPECT_NAMES, _systemAuthentication).get(actor);
+    if (corpUser == null || !corpUser.hasAspects()) {
+      return new ActorMembership(Collections.emptySet(), Collections.emptySet());
+    }
+    final EnvelopedAspectMap aspectMap = corpUser.getAspects();
+
+    final Set<Urn> groups = new HashSet<>();
+    if (aspectMap.containsKey(GROUP_MEMBERSHIP_ASPECT_NAME)) {
+      groups.addAll(
+          new GroupMembership(aspectMap.get(GROUP_MEMBERSHIP_ASPECT_NAME).getValue().data()).getGroups());
+    }
+    if (aspectMap.containsKey(NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME)) {
+      groups.addAll(
+          new NativeGroupMembership(aspectMap.get(NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME).getValue().data())
+              .getNativeGroups());
+    }
+
+    final Set<Urn> roles = new HashSet<>();
+    if (aspectMap.containsKey(ROLE_MEMBERSHIP_ASPECT_NAME)) {
+      RoleMembership roleMembership = new RoleMembership(aspectMap.get(ROLE_MEMBERSHIP_ASPECT_NAME).getValue().data());
+      if (roleMembership.hasRoles()) {
+        roles.addAll(roleMembership.getRoles());
+      }
+    }
+    return new ActorMembership(Collections.unmodifiableSet(groups), Collections.unmodifiableSet(roles));
+  }
+
+  @Value
+  private static class ActorMembership {
+    Set<Urn> groups;
+    Set<Urn> roles;
+  }
+}
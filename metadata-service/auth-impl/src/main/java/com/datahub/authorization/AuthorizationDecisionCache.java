@@ -0,0 +1,113 @@
+package com.datahub.authorization;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Value;
+
+
+/**
+ * A short-lived cache of the results of {@link DataHubAuthorizer#authorize(AuthorizationRequest)}.
+ *
+ * Decisions are grouped by resource, so that a change to the ownership or domain of a resource only evicts the
+ * decisions made about that resource. Each decision also remembers the {@link PolicyIndex} it was computed against,
+ * and is ignored once the policies have changed.
+ *
+ * A decision is only stored if nothing was invalidated while it was being computed, since it may otherwise have been
+ * computed from metadata which is already stale.
+ */
+class AuthorizationDecisionCache {
+
+  // Bucket for requests which are not about a particular resource, i.e. platform privileges.
+  private static final String NO_RESOURCE = "";
+  private static final int DEFAULT_MAX_RESOURCES = 10000;
+
+  private final Cache<String, Map<AuthorizationRequest, Decision>> _decisionsByResource;
+  // Incremented on every invalidation.
+  private final AtomicLong _invalidations = new AtomicLong();
+
+  AuthorizationDecisionCache(final int ttlSeconds) {
+    _decisionsByResource = CacheBuilder.newBuilder()
+        .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+        .maximumSize(DEFAULT_MAX_RESOURCES)
+        .build();
+  }
+
+  /**
+   * Returns a stamp to be passed to {@link #put} once the decision for a request has been computed.
+   */
+  long stamp() {
+    return _invalidations.get();
+  }
+
+  /**
+   * Returns the cached result of the request, or null if there is no result computed against the given policies.
+   */
+  @Nullable
+  AuthorizationResult get(@Nonnull final AuthorizationRequest request, @Nonnull final PolicyIndex policies) {
+    final Map<AuthorizationRequest, Decision> decisions = _decisionsByResource.getIfPresent(resourceKey(request));
+    final Decision decision = decisions == null ? null : decisions.get(request);
+    if (decision == null || decision.getPolicies() != policies) {
+      MetricUtils.counter(AuthorizationDecisionCache.class, "decisionCacheMiss").inc();
+      return null;
+    }
+    MetricUtils.counter(AuthorizationDecisionCache.class, "decisionCacheHit").inc();
+    return decision.getResult();
+  }
+
+  void put(
+      @Nonnull final AuthorizationRequest request,
+      @Nonnull final PolicyIndex policies,
+      @Nonnull final AuthorizationResult result,
+      final long stamp) {
+    if (stamp != _invalidations.get()) {
+      return;
+    }
+    try {
+      _decisionsByResource.get(resourceKey(request), ConcurrentHashMap::new).put(request, new Decision(policies, result));
+    } catch (ExecutionException e) {
+      // Cannot happen: creating a map does not throw.
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Evicts every decision made about a resource.
+   */
+  void invalidateResource(@Nonnull final String resourceUrn) {
+    _invalidations.incrementAndGet();
+    _decisionsByResource.invalidate(resourceUrn);
+  }
+
+  /**
+   * Evicts every decision made for an actor. This is a scan of the whole cache, which is acceptable as membership
+   * changes are rare compared to authorization requests.
+   */
+  void invalidateActor(@Nonnull final String actorUrn) {
+    _invalidations.incrementAndGet();
+    _decisionsByResource.asMap().values()
+        .forEach(decisions -> decisions.keySet().removeIf(request -> actorUrn.equals(request.getActorUrn())));
+  }
+
+  void invalidateAll() {
+    _invalidations.incrementAndGet();
+    _decisionsByResource.invalidateAll();
+  }
+
+  private static String resourceKey(final AuthorizationRequest request) {
+    return request.getResourceSpec().map(ResourceSpec::getResource).orElse(NO_RESOURCE);
+  }
+
+  @Value
+  private static class Decision {
+    PolicyIndex policies;
+    AuthorizationResult result;
+  }
+}
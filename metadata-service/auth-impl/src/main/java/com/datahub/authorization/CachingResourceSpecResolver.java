@@ -0,0 +1,65 @@
+package com.datahub.authorization;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nonnull;
+
+
+/**
+ * A {@link ResourceSpecResolver} which shares {@link ResolvedResourceSpec}s across authorization requests for a short
+ * time. Field values of a {@link ResolvedResourceSpec} are fetched lazily and then memoized, so the owners and domains
+ * of a hot resource are only fetched once per TTL.
+ *
+ * Entries are evicted when the ownership or domains of the resource change (see {@link #invalidate(String)}).
+ */
+public class CachingResourceSpecResolver implements ResourceSpecResolver {
+
+  private static final int DEFAULT_MAX_SIZE = 10000;
+
+  private final ResourceSpecResolver _delegate;
+  // Keyed by resource urn, so that invalidation does not depend on the resource type used by the caller.
+  private final Cache<String, ResolvedResourceSpec> _cache;
+  // Incremented on every invalidation.
+  private final AtomicLong _invalidations = new AtomicLong();
+
+  public CachingResourceSpecResolver(@Nonnull final ResourceSpecResolver delegate, final int ttlSeconds) {
+    _delegate = delegate;
+    _cache = CacheBuilder.newBuilder()
+        .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+        .maximumSize(DEFAULT_MAX_SIZE)
+        .build();
+  }
+
+  @Override
+  public ResolvedResourceSpec resolve(ResourceSpec resourceSpec) {
+    final ResolvedResourceSpec cached = _cache.getIfPresent(resourceSpec.getResource());
+    if (cached != null && cached.getSpec().equals(resourceSpec)) {
+      MetricUtils.counter(CachingResourceSpecResolver.class, "resourceSpecCacheHit").inc();
+      return cached;
+    }
+    MetricUtils.counter(CachingResourceSpecResolver.class, "resourceSpecCacheMiss").inc();
+    final long stamp = _invalidations.get();
+    final ResolvedResourceSpec resolved = _delegate.resolve(resourceSpec);
+    // Do not publish a spec if the resource was invalidated concurrently, as its values may be stale.
+    if (stamp == _invalidations.get()) {
+      _cache.put(resourceSpec.getResource(), resolved);
+    }
+    return resolved;
+  }
+
+  /**
+   * Evicts the resolved spec of a resource. Should be invoked when the ownership or domains of the resource change.
+   */
+  public void invalidate(@Nonnull final String resourceUrn) {
+    _invalidations.incrementAndGet();
+    _cache.invalidate(resourceUrn);
+  }
+
+  public void invalidateAll() {
+    _invalidations.incrementAndGet();
+    _cache.invalidateAll();
+  }
+}
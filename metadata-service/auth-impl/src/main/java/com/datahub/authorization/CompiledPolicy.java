@@ -0,0 +1,65 @@
+package com.datahub.authorization;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.authorization.PoliciesConfig;
+import com.linkedin.policy.DataHubPolicyInfo;
+import java.util.Collections;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+
+/**
+ * A {@link DataHubPolicyInfo} together with its pre-parsed resource filter.
+ *
+ * Instances are compared by identity: each refresh of the policy cache compiles new instances.
+ */
+public class CompiledPolicy {
+
+  private final Urn _urn;
+  private final DataHubPolicyInfo _policyInfo;
+  private final ResourceFilterMatcher _resourceFilter;
+
+  public CompiledPolicy(@Nullable final Urn urn, @Nonnull final DataHubPolicyInfo policyInfo) {
+    _urn = urn;
+    _policyInfo = policyInfo;
+    _resourceFilter = policyInfo.getResources() == null ? null : ResourceFilterMatcher.compile(policyInfo.getResources());
+  }
+
+  /**
+   * The urn of the policy, or null if it is not known.
+   */
+  @Nullable
+  public Urn getUrn() {
+    return _urn;
+  }
+
+  @Nonnull
+  public DataHubPolicyInfo getPolicyInfo() {
+    return _policyInfo;
+  }
+
+  /**
+   * The compiled resource filter of the policy, or null if the policy has no resource filter.
+   */
+  @Nullable
+  public ResourceFilterMatcher getResourceFilter() {
+    return _resourceFilter;
+  }
+
+  public boolean isActive() {
+    return !PoliciesConfig.INACTIVE_POLICY_STATE.equals(_policyInfo.getState());
+  }
+
+  /**
+   * Returns the resource types the policy can apply to, or an empty set if it can apply to any resource
+   * (or to no resource at all).
+   */
+  @Nonnull
+  public Set<String> getResourceTypes() {
+    if (PoliciesConfig.PLATFORM_POLICY_TYPE.equals(_policyInfo.getType()) || _resourceFilter == null) {
+      return Collections.emptySet();
+    }
+    return _resourceFilter.getResourceTypes();
+  }
+}
@@ -8,8 +8,9 @@ import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.entity.client.EntityClient;
 import com.linkedin.metadata.authorization.PoliciesConfig;
 import com.linkedin.policy.DataHubPolicyInfo;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -17,6 +18,7 @@ import java.util.Optional;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -48,14 +50,18 @@ public class DataHubAuthorizer implements Authorizer {
   // Credentials used to make / authorize requests as the internal system actor.
   private final Authentication _systemAuthentication;
 
-  // Maps privilege name to the associated set of policies for fast access.
-  // Not concurrent data structure because writes are always against the entire thing.
-  private final Map<String, List<DataHubPolicyInfo>> _policyCache = new HashMap<>(); // Shared Policy Cache.
+  // Immutable index of the compiled policies, keyed by privilege, resource type and actor for fast access.
+  // Replaced copy-on-write on refresh or incremental change, so reads never need to lock.
+  private final PolicyCache _policyCache = new PolicyCache();
 
   private final ScheduledExecutorService _refreshExecutorService = Executors.newScheduledThreadPool(1);
   private final PolicyRefreshRunnable _policyRefreshRunnable;
   private final PolicyEngine _policyEngine;
+  private final ActorMembershipCache _actorMembershipCache;
+  private final AuthorizationDecisionCache _decisionCache;
+  private final int _resourceCacheTtlSeconds;
   private ResourceSpecResolver _resourceSpecResolver;
+  private CachingResourceSpecResolver _cachingResourceSpecResolver;
   private AuthorizationMode _mode;
 
   public static final String ALL = "ALL";
@@ -66,9 +72,45 @@ public class DataHubAuthorizer implements Authorizer {
       final int delayIntervalSeconds,
       final int refreshIntervalSeconds,
       final AuthorizationMode mode) {
+    this(systemAuthentication, entityClient, delayIntervalSeconds, refreshIntervalSeconds, 0, mode);
+  }
+
+  public DataHubAuthorizer(
+      final Authentication systemAuthentication,
+      final EntityClient entityClient,
+      final int delayIntervalSeconds,
+      final int refreshIntervalSeconds,
+      final int membershipCacheTtlSeconds,
+      final AuthorizationMode mode) {
+    this(systemAuthentication, entityClient, delayIntervalSeconds, refreshIntervalSeconds, membershipCacheTtlSeconds,
+        0, 0, mode);
+  }
+
+  /**
+   * @param membershipCacheTtlSeconds how long the group & role membership of an actor is cached across requests.
+   *                                  A value of 0 disables the cache.
+   * @param decisionCacheTtlSeconds how long the result of an authorization request is cached across requests.
+   *                                A value of 0 disables the cache.
+   * @param resourceCacheTtlSeconds how long the resolved owners & domains of a resource are cached across requests.
+   *                                A value of 0 disables the cache.
+   */
+  public DataHubAuthorizer(
+      final Authentication systemAuthentication,
+      final EntityClient entityClient,
+      final int delayIntervalSeconds,
+      final int refreshIntervalSeconds,
+      final int membershipCacheTtlSeconds,
+      final int decisionCacheTtlSeconds,
+      final int resourceCacheTtlSeconds,
+      final AuthorizationMode mode) {
     _systemAuthentication = Objects.requireNonNull(systemAuthentication);
     _mode = Objects.requireNonNull(mode);
-    _policyEngine = new PolicyEngine(systemAuthentication, Objects.requireNonNull(entityClient));
+    _actorMembershipCache = membershipCacheTtlSeconds > 0
+        ? new ActorMembershipCache(systemAuthentication, Objects.requireNonNull(entityClient), membershipCacheTtlSeconds)
+        : null;
+    _decisionCache = decisionCacheTtlSeconds > 0 ? new AuthorizationDecisionCache(decisionCacheTtlSeconds) : null;
+    _resourceCacheTtlSeconds = resourceCacheTtlSeconds;
+    _policyEngine = new PolicyEngine(systemAuthentication, Objects.requireNonNull(entityClient), _actorMembershipCache);
     _policyRefreshRunnable = new PolicyRefreshRunnable(systemAuthentication, new PolicyFetcher(entityClient), _policyCache);
     _refreshExecutorService.scheduleAtFixedRate(_policyRefreshRunnable, delayIntervalSeconds, refreshIntervalSeconds, TimeUnit.SECONDS);
   }
@@ -77,6 +119,10 @@ public class DataHubAuthorizer implements Authorizer {
   public void init(@Nonnull Map<String, Object> authorizerConfig, @Nonnull AuthorizerContext ctx) {
     // Pass. No static config.
     _resourceSpecResolver = Objects.requireNonNull(ctx.getResourceSpecResolver());
+    if (_resourceCacheTtlSeconds > 0) {
+      _cachingResourceSpecResolver = new CachingResourceSpecResolver(_resourceSpecResolver, _resourceCacheTtlSeconds);
+      _resourceSpecResolver = _cachingResourceSpecResolver;
+    }
   }
 
   public AuthorizationResult authorize(@Nonnull final AuthorizationRequest request) {
@@ -86,17 +132,59 @@ public class DataHubAuthorizer implements Authorizer {
       return new AuthorizationResult(request, AuthorizationResult.Type.ALLOW, null);
     }
 
-    Optional<ResolvedResourceSpec> resolvedResourceSpec = request.getResourceSpec().map(_resourceSpecResolver::resolve);
+    // 1. Short circuit: If policies are disabled, allow any privilege which has at least one policy.
+    if (AuthorizationMode.ALLOW_ALL.equals(mode())) {
+      final List<CompiledPolicy> privilegePolicies = _policyCache.get().getPolicies(request.getPrivilege());
+      if (!privilegePolicies.isEmpty()) {
+        return new AuthorizationResult(request, AuthorizationResult.Type.ALLOW,
+            String.format("Granted by policy with type: %s", privilegePolicies.get(0).getPolicyInfo().getType()));
+      }
+      return new AuthorizationResult(request, AuthorizationResult.Type.DENY, null);
+    }
 
-    // 1. Fetch the policies relevant to the requested privilege.
-    final List<DataHubPolicyInfo> policiesToEvaluate = _policyCache.getOrDefault(request.getPrivilege(), new ArrayList<>());
+    // 2. Reuse a recent decision for the same request, if it was made against the current policies.
+    if (_decisionCache == null) {
+      return evaluateRequest(request, _policyCache.get());
+    }
+    final PolicyIndex policies = _policyCache.get();
+    final AuthorizationResult cached = _decisionCache.get(request, policies);
+    if (cached != null) {
+      return cached;
+    }
+    final long stamp = _decisionCache.stamp();
+    final AuthorizationResult result = evaluateRequest(request, policies);
+    _decisionCache.put(request, policies, result, stamp);
+    return result;
+  }
 
-    // 2. Evaluate each policy.
-    for (DataHubPolicyInfo policy : policiesToEvaluate) {
-      if (isRequestGranted(policy, request, resolvedResourceSpec)) {
+  private AuthorizationResult evaluateRequest(final AuthorizationRequest request, final PolicyIndex policies) {
+    final Urn actor;
+    try {
+      // Currently Actor must be an urn. Consider whether this contract should be pushed up.
+      actor = Urn.createFromString(request.getActorUrn());
+    } catch (URISyntaxException e) {
+      log.error(String.format("Failed to bind actor %s to an URN. Actors must be URNs. Denying the authorization request",
+          request.getActorUrn()));
+      return new AuthorizationResult(request, AuthorizationResult.Type.DENY, null);
+    }
+
+    Optional<ResolvedResourceSpec> resolvedResourceSpec = request.getResourceSpec().map(_resourceSpecResolver::resolve);
+    final PolicyEngine.PolicyEvaluationContext context = new PolicyEngine.PolicyEvaluationContext();
+
+    // 3. Fetch the policies which may grant the requested privilege to the actor on the resource.
+    final Collection<CompiledPolicy> policiesToEvaluate = policies.getCandidatePolicies(
+        request.getPrivilege(),
+        request.getResourceSpec().map(ResourceSpec::getType),
+        actor,
+        () -> _policyEngine.resolveGroups(actor, context),
+        () -> _policyEngine.resolveRoles(actor, context));
+
+    // 4. Evaluate each policy.
+    for (CompiledPolicy policy : policiesToEvaluate) {
+      if (isRequestGranted(policy, actor, request, resolvedResourceSpec, context)) {
         // Short circuit if policy has granted privileges to this actor.
         return new AuthorizationResult(request, AuthorizationResult.Type.ALLOW,
-            String.format("Granted by policy with type: %s", policy.getType()));
+            String.format("Granted by policy with type: %s", policy.getPolicyInfo().getType()));
       }
     }
     return new AuthorizationResult(request, AuthorizationResult.Type.DENY,  null);
@@ -105,7 +193,7 @@ public class DataHubAuthorizer implements Authorizer {
   public List<String> getGrantedPrivileges(final String actorUrn, final Optional<ResourceSpec> resourceSpec) {
 
     // 1. Fetch all policies
-    final List<DataHubPolicyInfo> policiesToEvaluate = _policyCache.getOrDefault(ALL, new ArrayList<>());
+    final List<DataHubPolicyInfo> policiesToEvaluate = toPolicyInfos(_policyCache.get().getPolicies());
 
     Optional<ResolvedResourceSpec> resolvedResourceSpec = resourceSpec.map(_resourceSpecResolver::resolve);
 
@@ -120,7 +208,7 @@ public class DataHubAuthorizer implements Authorizer {
       final String privilege,
       final Optional<ResourceSpec> resourceSpec) {
     // Step 1: Find policies granting the privilege.
-    final List<DataHubPolicyInfo> policiesToEvaluate = _policyCache.getOrDefault(privilege, new ArrayList<>());
+    final List<DataHubPolicyInfo> policiesToEvaluate = toPolicyInfos(_policyCache.get().getPolicies(privilege));
 
     Optional<ResolvedResourceSpec> resolvedResourceSpec = resourceSpec.map(_resourceSpecResolver::resolve);
 
@@ -154,13 +242,54 @@ public class DataHubAuthorizer implements Authorizer {
   }
 
   /**
-   * Invalidates the policy cache and fires off a refresh thread. Should be invoked
-   * when a policy is created, modified, or deleted.
+   * Invalidates the policy cache and fires off a refresh thread which reloads all policies.
+   *
+   * Prefer {@link #upsertPolicy} and {@link #removePolicy} when the changed policy is known.
    */
   public void invalidateCache() {
     _refreshExecutorService.execute(_policyRefreshRunnable);
   }
 
+  /**
+   * Applies the creation or update of a single policy to the policy cache, without reloading all policies.
+   */
+  public void upsertPolicy(@Nonnull final Urn policyUrn, @Nonnull final DataHubPolicyInfo policyInfo) {
+    _policyCache.upsert(policyUrn, policyInfo);
+  }
+
+  /**
+   * Applies the deletion of a single policy to the policy cache, without reloading all policies.
+   */
+  public void removePolicy(@Nonnull final Urn policyUrn) {
+    _policyCache.remove(policyUrn);
+  }
+
+  /**
+   * Evicts the cached group & role membership of an actor. Should be invoked when the groupMembership,
+   * nativeGroupMembership or roleMembership aspect of the actor changes.
+   */
+  public void invalidateActorMembership(@Nonnull final Urn actor) {
+    if (_actorMembershipCache != null) {
+      _actorMembershipCache.invalidate(actor);
+    }
+    if (_decisionCache != null) {
+      _decisionCache.invalidateActor(actor.toString());
+    }
+  }
+
+  /**
+   * Evicts the cached owners & domains of a resource, and the cached decisions made about it. Should be invoked when
+   * the ownership or domains aspect of the resource changes.
+   */
+  public void invalidateResource(@Nonnull final Urn resource) {
+    if (_cachingResourceSpecResolver != null) {
+      _cachingResourceSpecResolver.invalidate(resource.toString());
+    }
+    if (_decisionCache != null) {
+      _decisionCache.invalidateResource(resource.toString());
+    }
+  }
+
   public AuthorizationMode mode() {
     return _mode;
   }
@@ -180,24 +309,31 @@ public class DataHubAuthorizer implements Authorizer {
   /**
    * Returns true if a policy grants the requested privilege for a given actor and resource.
    */
-  private boolean isRequestGranted(final DataHubPolicyInfo policy, final AuthorizationRequest request, final Optional<ResolvedResourceSpec> resourceSpec) {
-    if (AuthorizationMode.ALLOW_ALL.equals(mode())) {
-      return true;
-    }
+  private boolean isRequestGranted(
+      final CompiledPolicy policy,
+      final Urn actor,
+      final AuthorizationRequest request,
+      final Optional<ResolvedResourceSpec> resourceSpec,
+      final PolicyEngine.PolicyEvaluationContext context) {
     final PolicyEngine.PolicyEvaluationResult result = _policyEngine.evaluatePolicy(
         policy,
-        request.getActorUrn(),
+        actor,
         request.getPrivilege(),
-        resourceSpec
+        resourceSpec,
+        context
     );
     return result.isGranted();
   }
 
+  private static List<DataHubPolicyInfo> toPolicyInfos(final List<CompiledPolicy> policies) {
+    return policies.stream().map(CompiledPolicy::getPolicyInfo).collect(Collectors.toList());
+  }
+
   /**
    * A {@link Runnable} used to periodically fetch a new instance of the policies Cache.
    *
-   * Currently, the refresh logic is not very smart. When the cache is invalidated, we simply re-fetch the
-   * entire cache using Policies stored in the backend.
+   * Individual policy changes are applied incrementally (see {@link #upsertPolicy}), so this full reload of the
+   * Policies stored in the backend is only a safety net for missed changes.
    */
   @VisibleForTesting
   @RequiredArgsConstructor
@@ -205,13 +341,14 @@ public class DataHubAuthorizer implements Authorizer {
 
     private final Authentication _systemAuthentication;
     private final PolicyFetcher _policyFetcher;
-    private final Map<String, List<DataHubPolicyInfo>> _policyCache;
+    private final PolicyCache _policyCache;
 
     @Override
     public void run() {
       try {
-        // Populate new cache and swap.
-        Map<String, List<DataHubPolicyInfo>> newCache = new HashMap<>();
+        // Populate new index and swap.
+        _policyCache.beginReload();
+        final List<CompiledPolicy> policies = new ArrayList<>();
 
         int start = 0;
         int count = 30;
@@ -222,41 +359,24 @@ public class DataHubAuthorizer implements Authorizer {
             final PolicyFetcher.PolicyFetchResult
                 policyFetchResult = _policyFetcher.fetchPolicies(start, count, _systemAuthentication);
 
-            addPoliciesToCache(newCache, policyFetchResult.getPolicies());
+            policyFetchResult.getPolicies()
+                .forEach(policy -> policies.add(new CompiledPolicy(policy.getUrn(), policy.getPolicyInfo())));
 
             total = policyFetchResult.getTotal();
             start = start + count;
           } catch (Exception e) {
             log.error(
                 "Failed to retrieve policy urns! Skipping updating policy cache until next refresh. start: {}, count: {}", start, count, e);
+            _policyCache.abortReload();
             return;
           }
-          synchronized (_policyCache) {
-            _policyCache.clear();
-            _policyCache.putAll(newCache);
-          }
         }
+        _policyCache.completeReload(policies);
         log.debug(String.format("Successfully fetched %s policies.", total));
       } catch (Exception e) {
+        _policyCache.abortReload();
         log.error("Caught exception while loading Policy cache. Will retry on next scheduled attempt.", e);
       }
     }
-
-    private void addPoliciesToCache(final Map<String, List<DataHubPolicyInfo>> cache,
-        final List<PolicyFetcher.Policy> policies) {
-      policies.forEach(policy -> addPolicyToCache(cache, policy.getPolicyInfo()));
-    }
-
-    private void addPolicyToCache(final Map<String, List<DataHubPolicyInfo>> cache, final DataHubPolicyInfo policy) {
-      final List<String> privileges = policy.getPrivileges();
-      for (String privilege : privileges) {
-        List<DataHubPolicyInfo> existingPolicies = cache.getOrDefault(privilege, new ArrayList<>());
-        existingPolicies.add(policy);
-        cache.put(privilege, existingPolicies);
-      }
-      List<DataHubPolicyInfo> existingPolicies = cache.getOrDefault(ALL, new ArrayList<>());
-      existingPolicies.add(policy);
-      cache.put(ALL, existingPolicies);
-    }
   }
 }
@@ -0,0 +1,93 @@
+package com.datahub.authorization;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.policy.DataHubPolicyInfo;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+
+/**
+ * Holds the current {@link PolicyIndex} of the {@link DataHubAuthorizer}.
+ *
+ * The index is replaced copy-on-write, so readers never lock. It is updated in two ways:
+ *
+ * - incrementally, when a single policy is created, updated or deleted ({@link #upsert} / {@link #remove})
+ * - in full, by the periodic reload of all policies ({@link #beginReload} / {@link #completeReload})
+ *
+ * A full reload reads policies over a window of time, so it may miss incremental changes applied while it was in
+ * progress. Those changes are recorded and replayed on top of the reloaded policies before the result is published.
+ */
+class PolicyCache {
+
+  private final Object _lock = new Object();
+  private volatile PolicyIndex _index = PolicyIndex.EMPTY;
+
+  // Incremental changes applied since the in-flight reload began, or null if no reload is in flight.
+  @Nullable
+  private List<UnaryOperator<PolicyIndex>> _changesDuringReload;
+
+  @Nonnull
+  PolicyIndex get() {
+    return _index;
+  }
+
+  /**
+   * Adds the policy, or replaces the existing policy with the same urn.
+   */
+  void upsert(@Nonnull final Urn policyUrn, @Nonnull final DataHubPolicyInfo policyInfo) {
+    final CompiledPolicy policy = new CompiledPolicy(policyUrn, policyInfo);
+    apply(index -> index.withPolicy(policy));
+  }
+
+  void remove(@Nonnull final Urn policyUrn) {
+    apply(index -> index.withoutPolicy(policyUrn));
+  }
+
+  /**
+   * Marks the start of a full reload. Policies should only be fetched after this has been invoked.
+   */
+  void beginReload() {
+    synchronized (_lock) {
+      _changesDuringReload = new ArrayList<>();
+    }
+  }
+
+  /**
+   * Publishes the reloaded policies, together with any incremental change applied since {@link #beginReload()}.
+   */
+  void completeReload(@Nonnull final Collection<CompiledPolicy> policies) {
+    final PolicyIndex reloaded = new PolicyIndex(policies);
+    synchronized (_lock) {
+      PolicyIndex index = reloaded;
+      if (_changesDuringReload != null) {
+        for (UnaryOperator<PolicyIndex> change : _changesDuringReload) {
+          index = change.apply(index);
+        }
+      }
+      _index = index;
+      _changesDuringReload = null;
+    }
+  }
+
+  /**
+   * Abandons an in-flight reload, leaving the current index in place.
+   */
+  void abortReload() {
+    synchronized (_lock) {
+      _changesDuringReload = null;
+    }
+  }
+
+  private void apply(final UnaryOperator<PolicyIndex> change) {
+    synchronized (_lock) {
+      _index = change.apply(_index);
+      if (_changesDuringReload != null) {
+        _changesDuringReload.add(change);
+      }
+    }
+  }
+}
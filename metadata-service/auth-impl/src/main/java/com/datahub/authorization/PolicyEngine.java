@@ -6,7 +6,6 @@ import com.linkedin.common.Owner;
 import com.linkedin.common.Ownership;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
-import com.linkedin.data.template.StringArray;
 import com.linkedin.entity.EntityResponse;
 import com.linkedin.entity.EnvelopedAspect;
 import com.linkedin.entity.EnvelopedAspectMap;
@@ -19,10 +18,6 @@ import com.linkedin.metadata.authorization.PoliciesConfig;
 import com.linkedin.policy.DataHubActorFilter;
 import com.linkedin.policy.DataHubPolicyInfo;
 import com.linkedin.policy.DataHubResourceFilter;
-import com.linkedin.policy.PolicyMatchCondition;
-import com.linkedin.policy.PolicyMatchCriterion;
-import com.linkedin.policy.PolicyMatchCriterionArray;
-import com.linkedin.policy.PolicyMatchFilter;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -34,18 +29,31 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import static com.linkedin.metadata.Constants.*;
 
 
 @Slf4j
-@RequiredArgsConstructor
 public class PolicyEngine {
 
   private final Authentication _systemAuthentication;
   private final EntityClient _entityClient;
+  // Optional cache of actor group & role membership shared across evaluations.
+  private final ActorMembershipCache _actorMembershipCache;
+
+  public PolicyEngine(final Authentication systemAuthentication, final EntityClient entityClient) {
+    this(systemAuthentication, entityClient, null);
+  }
+
+  public PolicyEngine(
+      final Authentication systemAuthentication,
+      final EntityClient entityClient,
+      @Nullable final ActorMembershipCache actorMembershipCache) {
+    _systemAuthentication = systemAuthentication;
+    _entityClient = entityClient;
+    _actorMembershipCache = actorMembershipCache;
+  }
 
   public PolicyEvaluationResult evaluatePolicy(
       final DataHubPolicyInfo policy,
@@ -87,6 +95,32 @@ public class PolicyEngine {
     return PolicyEvaluationResult.GRANTED;
   }
 
+  /**
+   * Evaluates a pre-compiled policy. The provided context may be shared across the evaluation of several policies
+   * for the same actor, so that the actor's groups and roles are resolved at most once.
+   */
+  public PolicyEvaluationResult evaluatePolicy(
+      final CompiledPolicy policy,
+      final Urn actor,
+      final String privilege,
+      final Optional<ResolvedResourceSpec> resource,
+      final PolicyEvaluationContext context) {
+    final DataHubPolicyInfo policyInfo = policy.getPolicyInfo();
+    log.debug("Evaluating policy {}", policyInfo.getDisplayName());
+
+    if (!isPrivilegeMatch(privilege, policyInfo.getPrivileges(), context)) {
+      log.debug("Policy denied based on irrelevant privileges {} for {}", policyInfo.getPrivileges(), privilege);
+      return PolicyEvaluationResult.DENIED;
+    }
+
+    if (!isPolicyApplicable(policyInfo, policy.getResourceFilter(), actor, resource, context)) {
+      log.debug("Policy does not applicable for actor {} and resource {}", actor, resource);
+      return PolicyEvaluationResult.DENIED;
+    }
+
+    return PolicyEvaluationResult.GRANTED;
+  }
+
   public PolicyActors getMatchingActors(
       final DataHubPolicyInfo policy,
       final Optional<ResolvedResourceSpec> resource) {
@@ -130,6 +164,16 @@ public class PolicyEngine {
       final Optional<ResolvedResourceSpec> resource,
       final PolicyEvaluationContext context
   ) {
+    return isPolicyApplicable(policy, compileResourceFilter(policy.getResources()), actor, resource, context);
+  }
+
+  private boolean isPolicyApplicable(
+      final DataHubPolicyInfo policy,
+      final @Nullable ResourceFilterMatcher resourceFilter,
+      final Urn actor,
+      final Optional<ResolvedResourceSpec> resource,
+      final PolicyEvaluationContext context
+  ) {
 
     // If policy is inactive, simply return DENY.
     if (PoliciesConfig.INACTIVE_POLICY_STATE.equals(policy.getState())) {
@@ -137,7 +181,7 @@ public class PolicyEngine {
     }
 
     // If the resource is not in scope, deny the request.
-    if (!isResourceMatch(policy.getType(), policy.getResources(), resource, context)) {
+    if (!isResourceMatch(policy.getType(), resourceFilter, resource, context)) {
       return false;
     }
 
@@ -169,7 +213,7 @@ public class PolicyEngine {
    * resource filter defined on the policy.
    */
   public Boolean policyMatchesResource(final DataHubPolicyInfo policy, final Optional<ResolvedResourceSpec> resourceSpec) {
-    return isResourceMatch(policy.getType(), policy.getResources(), resourceSpec,
+    return isResourceMatch(policy.getType(), compileResourceFilter(policy.getResources()), resourceSpec,
         new PolicyEvaluationContext());
   }
 
@@ -188,7 +232,7 @@ public class PolicyEngine {
    */
   private boolean isResourceMatch(
       final String policyType,
-      final @Nullable DataHubResourceFilter policyResourceFilter,
+      final @Nullable ResourceFilterMatcher policyResourceFilter,
       final Optional<ResolvedResourceSpec> requestResource,
       final PolicyEvaluationContext context) {
     if (PoliciesConfig.PLATFORM_POLICY_TYPE.equals(policyType)) {
@@ -204,56 +248,12 @@ public class PolicyEngine {
       log.debug("Resource filter present in policy, but no resource spec provided.");
       return false;
     }
-    final PolicyMatchFilter filter = getFilter(policyResourceFilter);
-    return checkFilter(filter, requestResource.get());
-  }
-
-  /**
-   * Get filter object from policy resource filter. Make sure it is backward compatible by constructing PolicyMatchFilter object
-   * from other fields if the filter field is not set
-   */
-  private PolicyMatchFilter getFilter(DataHubResourceFilter policyResourceFilter) {
-    if (policyResourceFilter.hasFilter()) {
-      return policyResourceFilter.getFilter();
-    }
-    PolicyMatchCriterionArray criteria = new PolicyMatchCriterionArray();
-    if (policyResourceFilter.hasType()) {
-      criteria.add(new PolicyMatchCriterion().setField(ResourceFieldType.RESOURCE_TYPE.name())
-          .setValues(new StringArray(Collections.singletonList(policyResourceFilter.getType()))));
-    }
-    if (policyResourceFilter.hasType() && policyResourceFilter.hasResources()
-        && !policyResourceFilter.isAllResources()) {
-      criteria.add(
-          new PolicyMatchCriterion().setField(ResourceFieldType.RESOURCE_URN.name()).setValues(policyResourceFilter.getResources()));
-    }
-    return new PolicyMatchFilter().setCriteria(criteria);
-  }
-
-  private boolean checkFilter(final PolicyMatchFilter filter, final ResolvedResourceSpec resource) {
-    return filter.getCriteria().stream().allMatch(criterion -> checkCriterion(criterion, resource));
-  }
-
-  private boolean checkCriterion(final PolicyMatchCriterion criterion, final ResolvedResourceSpec resource) {
-    ResourceFieldType resourceFieldType;
-    try {
-      resourceFieldType = ResourceFieldType.valueOf(criterion.getField().toUpperCase());
-    } catch (IllegalArgumentException e) {
-      log.error("Unsupported field type {}", criterion.getField());
-      return false;
-    }
-
-    Set<String> fieldValues = resource.getFieldValues(resourceFieldType);
-    return criterion.getValues()
-        .stream()
-        .anyMatch(filterValue -> checkCondition(fieldValues, filterValue, criterion.getCondition()));
+    return policyResourceFilter.matches(requestResource.get());
   }
 
-  private boolean checkCondition(Set<String> fieldValues, String filterValue, PolicyMatchCondition condition) {
-    if (condition == PolicyMatchCondition.EQUALS) {
-      return fieldValues.contains(filterValue);
-    }
-    log.error("Unsupported condition {}", condition);
-    return false;
+  @Nullable
+  private static ResourceFilterMatcher compileResourceFilter(final @Nullable DataHubResourceFilter policyResourceFilter) {
+    return policyResourceFilter == null ? null : ResourceFilterMatcher.compile(policyResourceFilter);
   }
 
   /**
@@ -371,11 +371,22 @@ public class PolicyEngine {
         .anyMatch(actorRoles::contains);
   }
 
-  private Set<Urn> resolveRoles(Urn actor, PolicyEvaluationContext context) {
+  Set<Urn> resolveRoles(Urn actor, PolicyEvaluationContext context) {
     if (context.roles != null) {
       return context.roles;
     }
 
+    if (_actorMembershipCache != null) {
+      try {
+        final Set<Urn> roles = _actorMembershipCache.getRoles(actor);
+        context.setRoles(roles);
+        return roles;
+      } catch (Exception e) {
+        log.error(String.format("Failed to fetch %s for urn %s", ROLE_MEMBERSHIP_ASPECT_NAME, actor), e);
+        return new HashSet<>();
+      }
+    }
+
     Set<Urn> roles = new HashSet<>();
     final EnvelopedAspectMap aspectMap;
 
@@ -403,11 +414,22 @@ public class PolicyEngine {
     return roles;
   }
 
-  private Set<Urn> resolveGroups(Urn actor, PolicyEvaluationContext context) {
+  Set<Urn> resolveGroups(Urn actor, PolicyEvaluationContext context) {
     if (context.groups != null) {
       return context.groups;
     }
 
+    if (_actorMembershipCache != null) {
+      try {
+        final Set<Urn> groups = _actorMembershipCache.getGroups(actor);
+        context.setGroups(groups);
+        return groups;
+      } catch (Exception e) {
+        throw new RuntimeException(String.format("Failed to fetch %s and %s for urn %s", GROUP_MEMBERSHIP_ASPECT_NAME,
+            NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME, actor), e);
+      }
+    }
+
     Set<Urn> groups = new HashSet<>();
     final EnvelopedAspectMap aspectMap;
 
@@ -435,7 +457,6 @@ public class PolicyEngine {
     return groups;
   }
 
-  // TODO: Optimization - Cache the group membership. Refresh periodically.
   private Optional<GroupMembership> resolveGroupMembership(final EnvelopedAspectMap aspectMap) {
     if (aspectMap.containsKey(GROUP_MEMBERSHIP_ASPECT_NAME)) {
       return Optional.of(new GroupMembership(aspectMap.get(GROUP_MEMBERSHIP_ASPECT_NAME).getValue().data()));
@@ -0,0 +1,210 @@
+package com.datahub.authorization;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.policy.DataHubActorFilter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+
+
+/**
+ * An immutable index of {@link CompiledPolicy}s, built once per policy cache refresh. Incremental changes
+ * produce a new index through {@link #withPolicy(CompiledPolicy)} and {@link #withoutPolicy(Urn)}.
+ *
+ * Active policies are indexed by privilege, then by resource type, then by the kind of actor they grant access to
+ * (specific users, specific groups, specific roles, all users / all groups, resource owners). Looking up the
+ * candidates for an authorization request therefore only touches policies which can possibly grant it. Candidates
+ * still need to be fully evaluated by the {@link PolicyEngine}.
+ */
+public class PolicyIndex {
+
+  public static final PolicyIndex EMPTY = new PolicyIndex(Collections.emptyList());
+
+  private static final String ANY_RESOURCE_TYPE = "*";
+
+  // All policies, active or not, in fetch order.
+  private final List<CompiledPolicy> _policies;
+  // Privilege -> all policies including the privilege, active or not.
+  private final Map<String, List<CompiledPolicy>> _policiesByPrivilege;
+  // Privilege -> resource type (or ANY_RESOURCE_TYPE) -> active policies by actor.
+  private final Map<String, Map<String, ActorIndex>> _actorIndices;
+
+  public PolicyIndex(@Nonnull final Collection<CompiledPolicy> policies) {
+    _policies = ImmutableList.copyOf(policies);
+
+    final Map<String, ImmutableList.Builder<CompiledPolicy>> byPrivilege = new HashMap<>();
+    final Map<String, Map<String, ActorIndex.Builder>> actorIndexBuilders = new HashMap<>();
+    for (CompiledPolicy policy : _policies) {
+      final Set<String> resourceTypes = policy.getResourceTypes().isEmpty()
+          ? Collections.singleton(ANY_RESOURCE_TYPE) : policy.getResourceTypes();
+      for (String privilege : new LinkedHashSet<>(policy.getPolicyInfo().getPrivileges())) {
+        byPrivilege.computeIfAbsent(privilege, k -> ImmutableList.builder()).add(policy);
+        if (!policy.isActive()) {
+          continue;
+        }
+        for (String resourceType : resourceTypes) {
+          actorIndexBuilders.computeIfAbsent(privilege, k -> new HashMap<>())
+              .computeIfAbsent(resourceType, k -> new ActorIndex.Builder())
+              .add(policy);
+        }
+      }
+    }
+
+    final ImmutableMap.Builder<String, List<CompiledPolicy>> policiesByPrivilege = ImmutableMap.builder();
+    byPrivilege.forEach((privilege, builder) -> policiesByPrivilege.put(privilege, builder.build()));
+    _policiesByPrivilege = policiesByPrivilege.build();
+
+    final ImmutableMap.Builder<String, Map<String, ActorIndex>> actorIndices = ImmutableMap.builder();
+    actorIndexBuilders.forEach((privilege, byType) -> {
+      final ImmutableMap.Builder<String, ActorIndex> indexByType = ImmutableMap.builder();
+      byType.forEach((type, builder) -> indexByType.put(type, builder.build()));
+      actorIndices.put(privilege, indexByType.build());
+    });
+    _actorIndices = actorIndices.build();
+  }
+
+  /**
+   * Returns every policy in the index, active or not.
+   */
+  @Nonnull
+  public List<CompiledPolicy> getPolicies() {
+    return _policies;
+  }
+
+  /**
+   * Returns every policy including the privilege, active or not.
+   */
+  @Nonnull
+  public List<CompiledPolicy> getPolicies(@Nonnull final String privilege) {
+    return _policiesByPrivilege.getOrDefault(privilege, Collections.emptyList());
+  }
+
+  /**
+   * Returns a copy of this index in which the policy with the same urn, if any, is replaced by the given policy.
+   */
+  @Nonnull
+  public PolicyIndex withPolicy(@Nonnull final CompiledPolicy policy) {
+    final List<CompiledPolicy> policies = new ArrayList<>(_policies.size() + 1);
+    boolean replaced = false;
+    for (CompiledPolicy existing : _policies) {
+      if (!replaced && policy.getUrn() != null && policy.getUrn().equals(existing.getUrn())) {
+        policies.add(policy);
+        replaced = true;
+      } else {
+        policies.add(existing);
+      }
+    }
+    if (!replaced) {
+      policies.add(policy);
+    }
+    return new PolicyIndex(policies);
+  }
+
+  /**
+   * Returns a copy of this index without the policy with the given urn.
+   */
+  @Nonnull
+  public PolicyIndex withoutPolicy(@Nonnull final Urn policyUrn) {
+    return new PolicyIndex(_policies.stream()
+        .filter(policy -> !policyUrn.equals(policy.getUrn()))
+        .collect(Collectors.toList()));
+  }
+
+  /**
+   * Returns the active policies which may grant the privilege to the actor on a resource of the given type.
+   *
+   * @param groups lazily resolves the groups of the actor. Only invoked if a candidate policy is keyed by group.
+   * @param roles lazily resolves the roles of the actor. Only invoked if a candidate policy is keyed by role.
+   */
+  @Nonnull
+  public Collection<CompiledPolicy> getCandidatePolicies(
+      @Nonnull final String privilege,
+      @Nonnull final Optional<String> resourceType,
+      @Nonnull final Urn actor,
+      @Nonnull final Supplier<Set<Urn>> groups,
+      @Nonnull final Supplier<Set<Urn>> roles) {
+    final Map<String, ActorIndex> byType = _actorIndices.get(privilege);
+    if (byType == null) {
+      return Collections.emptyList();
+    }
+    final Set<CompiledPolicy> candidates = new LinkedHashSet<>();
+    final ActorIndex anyType = byType.get(ANY_RESOURCE_TYPE);
+    if (anyType != null) {
+      anyType.collect(actor, groups, roles, candidates);
+    }
+    final ActorIndex typed = resourceType.map(byType::get).orElse(null);
+    if (typed != null) {
+      typed.collect(actor, groups, roles, candidates);
+    }
+    return candidates;
+  }
+
+  /**
+   * Active policies for a single privilege and resource type, keyed by the actors they apply to.
+   */
+  private static class ActorIndex {
+    // Policies which may apply to any actor: all users, all groups, or resource owners.
+    private final List<CompiledPolicy> _anyActor;
+    private final ImmutableListMultimap<Urn, CompiledPolicy> _byUser;
+    private final ImmutableListMultimap<Urn, CompiledPolicy> _byGroup;
+    private final ImmutableListMultimap<Urn, CompiledPolicy> _byRole;
+
+    private ActorIndex(Builder builder) {
+      _anyActor = builder._anyActor.build();
+      _byUser = builder._byUser.build();
+      _byGroup = builder._byGroup.build();
+      _byRole = builder._byRole.build();
+    }
+
+    void collect(Urn actor, Supplier<Set<Urn>> groups, Supplier<Set<Urn>> roles, Set<CompiledPolicy> candidates) {
+      candidates.addAll(_anyActor);
+      candidates.addAll(_byUser.get(actor));
+      if (!_byGroup.isEmpty()) {
+        groups.get().forEach(group -> candidates.addAll(_byGroup.get(group)));
+      }
+      if (!_byRole.isEmpty()) {
+        roles.get().forEach(role -> candidates.addAll(_byRole.get(role)));
+      }
+    }
+
+    private static class Builder {
+      private final ImmutableList.Builder<CompiledPolicy> _anyActor = ImmutableList.builder();
+      private final ImmutableListMultimap.Builder<Urn, CompiledPolicy> _byUser = ImmutableListMultimap.builder();
+      private final ImmutableListMultimap.Builder<Urn, CompiledPolicy> _byGroup = ImmutableListMultimap.builder();
+      private final ImmutableListMultimap.Builder<Urn, CompiledPolicy> _byRole = ImmutableListMultimap.builder();
+
+      void add(CompiledPolicy policy) {
+        final DataHubActorFilter actors = policy.getPolicyInfo().getActors();
+        if (actors.isAllUsers() || actors.isAllGroups() || actors.isResourceOwners()) {
+          _anyActor.add(policy);
+          return;
+        }
+        if (actors.hasUsers()) {
+          actors.getUsers().forEach(user -> _byUser.put(user, policy));
+        }
+        if (actors.hasGroups()) {
+          actors.getGroups().forEach(group -> _byGroup.put(group, policy));
+        }
+        if (actors.hasRoles()) {
+          actors.getRoles().forEach(role -> _byRole.put(role, policy));
+        }
+      }
+
+      ActorIndex build() {
+        return new ActorIndex(this);
+      }
+    }
+  }
+}
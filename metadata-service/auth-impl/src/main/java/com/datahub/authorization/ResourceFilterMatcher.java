@@ -0,0 +1,120 @@
+package com.datahub.authorization;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.policy.DataHubResourceFilter;
+import com.linkedin.policy.PolicyMatchCondition;
+import com.linkedin.policy.PolicyMatchCriterion;
+import com.linkedin.policy.PolicyMatchCriterionArray;
+import com.linkedin.policy.PolicyMatchFilter;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * A pre-parsed form of a policy's {@link PolicyMatchFilter}, which can be matched against resolved resources
+ * repeatedly without re-reading the underlying record.
+ */
+@Slf4j
+public class ResourceFilterMatcher {
+
+  private final List<CriterionMatcher> _criteria;
+
+  private ResourceFilterMatcher(final List<CriterionMatcher> criteria) {
+    _criteria = criteria;
+  }
+
+  /**
+   * Compiles the resource filter of a policy. Make sure it is backward compatible by constructing the
+   * PolicyMatchFilter from the other fields if the filter field is not set.
+   */
+  @Nonnull
+  public static ResourceFilterMatcher compile(@Nonnull final DataHubResourceFilter policyResourceFilter) {
+    return compile(getFilter(policyResourceFilter));
+  }
+
+  @Nonnull
+  public static ResourceFilterMatcher compile(@Nonnull final PolicyMatchFilter filter) {
+    final ImmutableList.Builder<CriterionMatcher> criteria = ImmutableList.builder();
+    filter.getCriteria().forEach(criterion -> criteria.add(CriterionMatcher.compile(criterion)));
+    return new ResourceFilterMatcher(criteria.build());
+  }
+
+  /**
+   * Returns true if all criteria of the filter match the resource.
+   */
+  public boolean matches(@Nonnull final ResolvedResourceSpec resource) {
+    return _criteria.stream().allMatch(criterion -> criterion.matches(resource));
+  }
+
+  /**
+   * Returns the resource types this filter is restricted to, or an empty set if it may match any type.
+   */
+  @Nonnull
+  public Set<String> getResourceTypes() {
+    return _criteria.stream()
+        .filter(criterion -> criterion._fieldType == ResourceFieldType.RESOURCE_TYPE
+            && criterion._condition == PolicyMatchCondition.EQUALS)
+        .findFirst()
+        .map(criterion -> criterion._values)
+        .orElse(Collections.emptySet());
+  }
+
+  private static PolicyMatchFilter getFilter(final DataHubResourceFilter policyResourceFilter) {
+    if (policyResourceFilter.hasFilter()) {
+      return policyResourceFilter.getFilter();
+    }
+    PolicyMatchCriterionArray criteria = new PolicyMatchCriterionArray();
+    if (policyResourceFilter.hasType()) {
+      criteria.add(new PolicyMatchCriterion().setField(ResourceFieldType.RESOURCE_TYPE.name())
+          .setValues(new StringArray(Collections.singletonList(policyResourceFilter.getType()))));
+    }
+    if (policyResourceFilter.hasType() && policyResourceFilter.hasResources()
+        && !policyResourceFilter.isAllResources()) {
+      criteria.add(
+          new PolicyMatchCriterion().setField(ResourceFieldType.RESOURCE_URN.name()).setValues(policyResourceFilter.getResources()));
+    }
+    return new PolicyMatchFilter().setCriteria(criteria);
+  }
+
+  private static class CriterionMatcher {
+    // Null if the criterion field is not supported, in which case the criterion never matches.
+    @Nullable
+    private final ResourceFieldType _fieldType;
+    private final PolicyMatchCondition _condition;
+    private final Set<String> _values;
+
+    private CriterionMatcher(@Nullable ResourceFieldType fieldType, PolicyMatchCondition condition, Set<String> values) {
+      _fieldType = fieldType;
+      _condition = condition;
+      _values = values;
+    }
+
+    static CriterionMatcher compile(final PolicyMatchCriterion criterion) {
+      ResourceFieldType resourceFieldType;
+      try {
+        resourceFieldType = ResourceFieldType.valueOf(criterion.getField().toUpperCase());
+      } catch (IllegalArgumentException e) {
+        log.error("Unsupported field type {}", criterion.getField());
+        resourceFieldType = null;
+      }
+      if (criterion.getCondition() != PolicyMatchCondition.EQUALS) {
+        log.error("Unsupported condition {}", criterion.getCondition());
+      }
+      return new CriterionMatcher(resourceFieldType, criterion.getCondition(), ImmutableSet.copyOf(criterion.getValues()));
+    }
+
+    boolean matches(final ResolvedResourceSpec resource) {
+      if (_fieldType == null || _condition != PolicyMatchCondition.EQUALS) {
+        return false;
+      }
+      final Set<String> fieldValues = resource.getFieldValues(_fieldType);
+      return _values.stream().anyMatch(fieldValues::contains);
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package com.datahub.authorization;
+
+import java.util.Collections;
+import java.util.Optional;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class AuthorizationDecisionCacheTest {
+
+  private static final String ACTOR = "urn:li:corpuser:test";
+  private static final String RESOURCE = "urn:li:dataset:test";
+  private static final AuthorizationRequest REQUEST = new AuthorizationRequest(ACTOR, "EDIT_ENTITY_TAGS",
+      Optional.of(new ResourceSpec("dataset", RESOURCE)));
+  private static final AuthorizationResult RESULT = new AuthorizationResult(REQUEST, AuthorizationResult.Type.ALLOW, null);
+
+  @Test
+  public void testGetAndPut() {
+    final AuthorizationDecisionCache cache = new AuthorizationDecisionCache(60);
+    final PolicyIndex policies = new PolicyIndex(Collections.emptyList());
+    assertNull(cache.get(REQUEST, policies));
+
+    cache.put(REQUEST, policies, RESULT, cache.stamp());
+    assertSame(cache.get(REQUEST, policies), RESULT);
+
+    // Decisions made against other policies are ignored.
+    assertNull(cache.get(REQUEST, new PolicyIndex(Collections.emptyList())));
+  }
+
+  @Test
+  public void testInvalidation() {
+    final AuthorizationDecisionCache cache = new AuthorizationDecisionCache(60);
+    final PolicyIndex policies = new PolicyIndex(Collections.emptyList());
+
+    cache.put(REQUEST, policies, RESULT, cache.stamp());
+    cache.invalidateResource("urn:li:dataset:other");
+    assertSame(cache.get(REQUEST, policies), RESULT);
+    cache.invalidateResource(RESOURCE);
+    assertNull(cache.get(REQUEST, policies));
+
+    cache.put(REQUEST, policies, RESULT, cache.stamp());
+    cache.invalidateActor("urn:li:corpuser:other");
+    assertSame(cache.get(REQUEST, policies), RESULT);
+    cache.invalidateActor(ACTOR);
+    assertNull(cache.get(REQUEST, policies));
+  }
+
+  @Test
+  public void testDecisionNotStoredIfInvalidatedDuringEvaluation() {
+    final AuthorizationDecisionCache cache = new AuthorizationDecisionCache(60);
+    final PolicyIndex policies = new PolicyIndex(Collections.emptyList());
+
+    final long stamp = cache.stamp();
+    cache.invalidateResource(RESOURCE);
+    cache.put(REQUEST, policies, RESULT, stamp);
+    assertNull(cache.get(REQUEST, policies));
+  }
+}
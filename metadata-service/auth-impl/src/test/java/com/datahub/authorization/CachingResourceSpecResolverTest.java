@@ -0,0 +1,33 @@
+package com.datahub.authorization;
+
+import java.util.Collections;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+
+public class CachingResourceSpecResolverTest {
+
+  private static final ResourceSpec RESOURCE_SPEC = new ResourceSpec("dataset", "urn:li:dataset:test");
+
+  @Test
+  public void testResolveIsCachedUntilInvalidated() {
+    final ResourceSpecResolver delegate = mock(ResourceSpecResolver.class);
+    when(delegate.resolve(any())).thenAnswer(
+        invocation -> new ResolvedResourceSpec(invocation.getArgument(0), Collections.emptyMap()));
+    final CachingResourceSpecResolver resolver = new CachingResourceSpecResolver(delegate, 60);
+
+    final ResolvedResourceSpec resolved = resolver.resolve(RESOURCE_SPEC);
+    assertSame(resolver.resolve(RESOURCE_SPEC), resolved);
+    verify(delegate, times(1)).resolve(RESOURCE_SPEC);
+
+    // A different type for the same resource is not served from the cache.
+    final ResourceSpec otherType = new ResourceSpec("other", RESOURCE_SPEC.getResource());
+    assertEquals(resolver.resolve(otherType).getSpec(), otherType);
+
+    resolver.invalidate(RESOURCE_SPEC.getResource());
+    assertNotSame(resolver.resolve(RESOURCE_SPEC), resolved);
+    verify(delegate, times(2)).resolve(RESOURCE_SPEC);
+  }
+}
@@ -205,6 +205,27 @@ public class DataHubAuthorizerTest {
     assertEquals(_dataHubAuthorizer.authorize(request).getType(), AuthorizationResult.Type.DENY);
   }
 
+  @Test
+  public void testUpsertAndRemovePolicy() throws Exception {
+    ResourceSpec resourceSpec = new ResourceSpec("dataset", "urn:li:dataset:test");
+
+    AuthorizationRequest request = new AuthorizationRequest(
+        "urn:li:corpuser:test",
+        "EDIT_ENTITY_OWNERS",
+        Optional.of(resourceSpec)
+    );
+
+    assertEquals(_dataHubAuthorizer.authorize(request).getType(), AuthorizationResult.Type.DENY);
+
+    // Activate the inactive policy, without reloading all policies.
+    final Urn inactivePolicyUrn = Urn.createFromString("urn:li:dataHubPolicy:1");
+    _dataHubAuthorizer.upsertPolicy(inactivePolicyUrn, createDataHubPolicyInfo(true, ImmutableList.of("EDIT_ENTITY_OWNERS")));
+    assertEquals(_dataHubAuthorizer.authorize(request).getType(), AuthorizationResult.Type.ALLOW);
+
+    _dataHubAuthorizer.removePolicy(inactivePolicyUrn);
+    assertEquals(_dataHubAuthorizer.authorize(request).getType(), AuthorizationResult.Type.DENY);
+  }
+
   @Test
   public void testAuthorizedActorsActivePolicy() throws Exception {
     final AuthorizedActors actors =
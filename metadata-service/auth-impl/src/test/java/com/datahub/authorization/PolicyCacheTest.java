@@ -0,0 +1,86 @@
+package com.datahub.authorization;
+
+import com.google.common.collect.ImmutableList;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.policy.DataHubActorFilter;
+import com.linkedin.policy.DataHubPolicyInfo;
+import java.util.stream.Collectors;
+import org.testng.annotations.Test;
+
+import static com.linkedin.metadata.authorization.PoliciesConfig.*;
+import static org.testng.Assert.*;
+
+
+public class PolicyCacheTest {
+
+  private static final Urn POLICY_1 = UrnUtils.getUrn("urn:li:dataHubPolicy:1");
+  private static final Urn POLICY_2 = UrnUtils.getUrn("urn:li:dataHubPolicy:2");
+  private static final Urn POLICY_3 = UrnUtils.getUrn("urn:li:dataHubPolicy:3");
+
+  @Test
+  public void testUpsertAndRemove() {
+    final PolicyCache cache = new PolicyCache();
+    cache.upsert(POLICY_1, policy("EDIT_ENTITY_TAGS"));
+    cache.upsert(POLICY_2, policy("EDIT_ENTITY_TAGS"));
+    final PolicyIndex before = cache.get();
+
+    cache.upsert(POLICY_1, policy("EDIT_ENTITY_OWNERS"));
+    assertEquals(urns(cache.get()), ImmutableList.of(POLICY_1, POLICY_2));
+    assertEquals(cache.get().getPolicies("EDIT_ENTITY_OWNERS").size(), 1);
+    assertEquals(cache.get().getPolicies("EDIT_ENTITY_TAGS").size(), 1);
+
+    cache.remove(POLICY_2);
+    assertEquals(urns(cache.get()), ImmutableList.of(POLICY_1));
+
+    // Previously published indices are never modified.
+    assertEquals(urns(before), ImmutableList.of(POLICY_1, POLICY_2));
+    assertEquals(before.getPolicies("EDIT_ENTITY_TAGS").size(), 2);
+  }
+
+  @Test
+  public void testChangesDuringReloadAreNotLost() {
+    final PolicyCache cache = new PolicyCache();
+    cache.upsert(POLICY_1, policy("EDIT_ENTITY_TAGS"));
+
+    cache.beginReload();
+    // The reload read its policies before these changes were made.
+    cache.upsert(POLICY_3, policy("EDIT_ENTITY_TAGS"));
+    cache.remove(POLICY_2);
+    cache.completeReload(ImmutableList.of(
+        new CompiledPolicy(POLICY_1, policy("EDIT_ENTITY_TAGS")),
+        new CompiledPolicy(POLICY_2, policy("EDIT_ENTITY_TAGS"))));
+
+    assertEquals(urns(cache.get()), ImmutableList.of(POLICY_1, POLICY_3));
+
+    // Changes are only replayed onto the reload they overlapped with.
+    cache.beginReload();
+    cache.completeReload(ImmutableList.of(new CompiledPolicy(POLICY_1, policy("EDIT_ENTITY_TAGS"))));
+    assertEquals(urns(cache.get()), ImmutableList.of(POLICY_1));
+  }
+
+  @Test
+  public void testAbortReload() {
+    final PolicyCache cache = new PolicyCache();
+    cache.beginReload();
+    cache.upsert(POLICY_1, policy("EDIT_ENTITY_TAGS"));
+    cache.abortReload();
+    assertEquals(urns(cache.get()), ImmutableList.of(POLICY_1));
+  }
+
+  private static ImmutableList<Urn> urns(PolicyIndex index) {
+    return ImmutableList.copyOf(index.getPolicies().stream().map(CompiledPolicy::getUrn).collect(Collectors.toList()));
+  }
+
+  private static DataHubPolicyInfo policy(String privilege) {
+    final DataHubPolicyInfo policyInfo = new DataHubPolicyInfo();
+    policyInfo.setType(PLATFORM_POLICY_TYPE);
+    policyInfo.setState(ACTIVE_POLICY_STATE);
+    policyInfo.setPrivileges(new StringArray(privilege));
+    policyInfo.setDisplayName("Test policy");
+    policyInfo.setEditable(true);
+    policyInfo.setActors(new DataHubActorFilter().setAllUsers(true));
+    return policyInfo;
+  }
+}
@@ -294,6 +294,51 @@ public class PolicyEngineTest {
         any(), any());
   }
 
+  @Test
+  public void testEvaluatePolicyActorFilterGroupAndRoleMatchWithMembershipCache() throws Exception {
+    final ActorMembershipCache membershipCache =
+        new ActorMembershipCache(Mockito.mock(Authentication.class), _entityClient, 60);
+    final PolicyEngine cachingPolicyEngine =
+        new PolicyEngine(Mockito.mock(Authentication.class), _entityClient, membershipCache);
+
+    final DataHubPolicyInfo dataHubPolicyInfo = new DataHubPolicyInfo();
+    dataHubPolicyInfo.setType(METADATA_POLICY_TYPE);
+    dataHubPolicyInfo.setState(ACTIVE_POLICY_STATE);
+    dataHubPolicyInfo.setPrivileges(new StringArray("EDIT_ENTITY_TAGS"));
+    dataHubPolicyInfo.setDisplayName("My Test Display");
+    dataHubPolicyInfo.setDescription("My test display!");
+    dataHubPolicyInfo.setEditable(true);
+
+    final DataHubActorFilter actorFilter = new DataHubActorFilter();
+    actorFilter.setGroups(new UrnArray(Urn.createFromString("urn:li:corpGroup:someOtherGroup")));
+    actorFilter.setRoles(new UrnArray(Urn.createFromString("urn:li:dataHubRole:admin")));
+    actorFilter.setResourceOwners(false);
+    actorFilter.setAllUsers(false);
+    actorFilter.setAllGroups(false);
+    dataHubPolicyInfo.setActors(actorFilter);
+
+    final DataHubResourceFilter resourceFilter = new DataHubResourceFilter();
+    resourceFilter.setAllResources(true);
+    resourceFilter.setType("dataset");
+    dataHubPolicyInfo.setResources(resourceFilter);
+
+    ResolvedResourceSpec resourceSpec = buildResourceResolvers("dataset", RESOURCE_URN);
+    // Groups and roles are resolved together, and re-used across evaluations.
+    assertTrue(cachingPolicyEngine.evaluatePolicy(dataHubPolicyInfo, AUTHORIZED_PRINCIPAL, "EDIT_ENTITY_TAGS",
+        Optional.of(resourceSpec)).isGranted());
+    assertTrue(cachingPolicyEngine.evaluatePolicy(dataHubPolicyInfo, AUTHORIZED_PRINCIPAL, "EDIT_ENTITY_TAGS",
+        Optional.of(resourceSpec)).isGranted());
+    verify(_entityClient, times(1)).batchGetV2(eq(CORP_USER_ENTITY_NAME), eq(Collections.singleton(authorizedUserUrn)),
+        eq(ActorMembershipCache.MEMBERSHIP_ASPECT_NAMES), any());
+
+    // Invalidation forces the membership to be fetched again.
+    membershipCache.invalidate(authorizedUserUrn);
+    assertTrue(cachingPolicyEngine.evaluatePolicy(dataHubPolicyInfo, AUTHORIZED_PRINCIPAL, "EDIT_ENTITY_TAGS",
+        Optional.of(resourceSpec)).isGranted());
+    verify(_entityClient, times(2)).batchGetV2(eq(CORP_USER_ENTITY_NAME), eq(Collections.singleton(authorizedUserUrn)),
+        eq(ActorMembershipCache.MEMBERSHIP_ASPECT_NAMES), any());
+  }
+
   @Test
   public void testEvaluatePolicyActorFilterGroupNoMatch() throws Exception {
 
@@ -0,0 +1,94 @@
+package com.datahub.authorization;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.linkedin.common.UrnArray;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.policy.DataHubActorFilter;
+import com.linkedin.policy.DataHubPolicyInfo;
+import com.linkedin.policy.DataHubResourceFilter;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.testng.annotations.Test;
+
+import static com.linkedin.metadata.authorization.PoliciesConfig.*;
+import static org.testng.Assert.*;
+
+
+public class PolicyIndexTest {
+
+  private static final String PRIVILEGE = "EDIT_ENTITY_TAGS";
+  private static final Urn USER = UrnUtils.getUrn("urn:li:corpuser:user1");
+  private static final Urn OTHER_USER = UrnUtils.getUrn("urn:li:corpuser:user2");
+  private static final Urn GROUP = UrnUtils.getUrn("urn:li:corpGroup:group1");
+  private static final Urn ROLE = UrnUtils.getUrn("urn:li:dataHubRole:Editor");
+
+  @Test
+  public void testCandidatesByActor() {
+    final CompiledPolicy userPolicy = compile(policy(actors().setUsers(new UrnArray(USER)), "dataset", true));
+    final CompiledPolicy otherUserPolicy = compile(policy(actors().setUsers(new UrnArray(OTHER_USER)), "dataset", true));
+    final CompiledPolicy groupPolicy = compile(policy(actors().setGroups(new UrnArray(GROUP)), "dataset", true));
+    final CompiledPolicy rolePolicy = compile(policy(actors().setRoles(new UrnArray(ROLE)), null, true));
+    final CompiledPolicy allUsersPolicy = compile(policy(actors().setAllUsers(true), "chart", true));
+    final CompiledPolicy inactivePolicy = compile(policy(actors().setUsers(new UrnArray(USER)), "dataset", false));
+
+    final PolicyIndex index = new PolicyIndex(
+        ImmutableList.of(userPolicy, otherUserPolicy, groupPolicy, rolePolicy, allUsersPolicy, inactivePolicy));
+
+    final Collection<CompiledPolicy> datasetCandidates = index.getCandidatePolicies(PRIVILEGE, Optional.of("dataset"),
+        USER, () -> ImmutableSet.of(GROUP), () -> ImmutableSet.of(ROLE));
+    assertEquals(ImmutableSet.copyOf(datasetCandidates), ImmutableSet.of(userPolicy, groupPolicy, rolePolicy));
+
+    final Collection<CompiledPolicy> chartCandidates = index.getCandidatePolicies(PRIVILEGE, Optional.of("chart"),
+        USER, Collections::emptySet, Collections::emptySet);
+    assertEquals(ImmutableSet.copyOf(chartCandidates), ImmutableSet.of(allUsersPolicy));
+
+    assertTrue(index.getCandidatePolicies("OTHER_PRIVILEGE", Optional.of("dataset"), USER, Collections::emptySet,
+        Collections::emptySet).isEmpty());
+
+    // Inactive policies are not candidates, but are still listed for the privilege.
+    assertEquals(index.getPolicies(PRIVILEGE).size(), 6);
+  }
+
+  @Test
+  public void testMembershipOnlyResolvedWhenNeeded() {
+    final CompiledPolicy userPolicy = compile(policy(actors().setUsers(new UrnArray(USER)), "dataset", true));
+    final PolicyIndex index = new PolicyIndex(ImmutableList.of(userPolicy));
+
+    final AtomicInteger resolutions = new AtomicInteger();
+    final Supplier<Set<Urn>> groups = () -> {
+      resolutions.incrementAndGet();
+      return Collections.emptySet();
+    };
+    index.getCandidatePolicies(PRIVILEGE, Optional.of("dataset"), USER, groups, groups);
+    assertEquals(resolutions.get(), 0);
+  }
+
+  private static CompiledPolicy compile(DataHubPolicyInfo policyInfo) {
+    return new CompiledPolicy(null, policyInfo);
+  }
+
+  private static DataHubActorFilter actors() {
+    return new DataHubActorFilter().setResourceOwners(false).setAllUsers(false).setAllGroups(false);
+  }
+
+  private static DataHubPolicyInfo policy(DataHubActorFilter actors, String resourceType, boolean active) {
+    final DataHubPolicyInfo policyInfo = new DataHubPolicyInfo();
+    policyInfo.setType(METADATA_POLICY_TYPE);
+    policyInfo.setState(active ? ACTIVE_POLICY_STATE : INACTIVE_POLICY_STATE);
+    policyInfo.setPrivileges(new StringArray(PRIVILEGE));
+    policyInfo.setDisplayName("Test policy");
+    policyInfo.setEditable(true);
+    policyInfo.setActors(actors);
+    if (resourceType != null) {
+      policyInfo.setResources(new DataHubResourceFilter().setAllResources(true).setType(resourceType));
+    }
+    return policyInfo;
+  }
+}
@@ -32,6 +32,15 @@ public class DataHubAuthorizerFactory {
   @Value("${authorization.defaultAuthorizer.cacheRefreshIntervalSecs}")
   private Integer policyCacheRefreshIntervalSeconds;
 
+  @Value("${authorization.defaultAuthorizer.membershipCacheTtlSecs:60}")
+  private Integer membershipCacheTtlSeconds;
+
+  @Value("${authorization.defaultAuthorizer.decisionCacheTtlSecs:10}")
+  private Integer decisionCacheTtlSeconds;
+
+  @Value("${authorization.defaultAuthorizer.resourceCacheTtlSecs:10}")
+  private Integer resourceCacheTtlSeconds;
+
   @Value("${authorization.defaultAuthorizer.enabled:true}")
   private Boolean policiesEnabled;
 
@@ -44,6 +53,7 @@ public class DataHubAuthorizerFactory {
         : DataHubAuthorizer.AuthorizationMode.ALLOW_ALL;
 
     return new DataHubAuthorizer(systemAuthentication, entityClient, 10,
-        policyCacheRefreshIntervalSeconds, mode);
+        policyCacheRefreshIntervalSeconds, membershipCacheTtlSeconds, decisionCacheTtlSeconds, resourceCacheTtlSeconds,
+        mode);
   }
 }
@@ -0,0 +1,54 @@
+package com.linkedin.gms.factory.entity;
+
+import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
+import com.linkedin.metadata.entity.AspectDao;
+import com.linkedin.metadata.entity.AspectMigrationsDao;
+import com.linkedin.metadata.entity.EntityExistenceFilter;
+import com.linkedin.metadata.entity.EntityService;
+import javax.annotation.Nonnull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.PropertySource;
+
+
+@Configuration
+@PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
+public class EntityExistenceFilterFactory {
+
+  @Autowired
+  @Qualifier("entityService")
+  private EntityService _entityService;
+
+  @Value("${entityService.existenceFilter.expectedInsertions:10000000}")
+  private Integer _expectedInsertions;
+
+  @Value("${entityService.existenceFilter.falsePositiveProbability:0.01}")
+  private Double _falsePositiveProbability;
+
+  @Value("${entityService.existenceFilter.pageSize:10000}")
+  private Integer _pageSize;
+
+  @Value("${entityService.existenceFilter.rebuildIntervalSeconds:3600}")
+  private Long _rebuildIntervalSeconds;
+
+  @Bean(name = "entityExistenceFilter")
+  @DependsOn({"entityAspectDao", "entityService"})
+  @ConditionalOnProperty(name = "entityService.existenceFilter.enabled", havingValue = "true")
+  @Nonnull
+  protected EntityExistenceFilter createInstance(@Qualifier("entityAspectDao") AspectDao aspectDao) {
+    if (!(aspectDao instanceof AspectMigrationsDao)) {
+      throw new IllegalStateException(
+          String.format("Cannot build the entity existence filter: %s does not list urns", aspectDao.getClass()));
+    }
+    EntityExistenceFilter filter = new EntityExistenceFilter((AspectMigrationsDao) aspectDao, _expectedInsertions,
+        _falsePositiveProbability, _pageSize);
+    filter.start(_rebuildIntervalSeconds);
+    _entityService.setExistenceFilter(filter);
+    return filter;
+  }
+}
@@ -9,7 +9,9 @@ import com.datahub.authentication.post.PostService;
 import com.linkedin.datahub.graphql.GmsGraphQLEngine;
 import com.linkedin.datahub.graphql.GmsGraphQLEngineArgs;
 import com.linkedin.datahub.graphql.GraphQLEngine;
+import com.linkedin.datahub.graphql.analytics.service.AnalyticsChartCache;
 import com.linkedin.datahub.graphql.analytics.service.AnalyticsService;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.metadata.client.JavaEntityClient;
 import com.linkedin.gms.factory.auth.DataHubTokenServiceFactory;
 import com.linkedin.gms.factory.common.GitVersionFactory;
@@ -38,6 +40,8 @@ import com.linkedin.metadata.timeseries.TimeseriesAspectService;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import com.linkedin.metadata.version.GitVersion;
 import com.linkedin.usage.UsageClient;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import javax.annotation.Nonnull;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -164,16 +168,64 @@ public class GraphQLEngineFactory {
   @Value("${platformAnalytics.enabled}") // TODO: Migrate to DATAHUB_ANALYTICS_ENABLED
   private Boolean isAnalyticsEnabled;
 
+  @Value("${platformAnalytics.chartCache.maxSize:1000}")
+  private Integer analyticsChartCacheMaxSize;
+
+  @Value("${platformAnalytics.chartCache.openResultTtlSeconds:60}")
+  private Long analyticsChartOpenResultTtlSeconds;
+
+  @Value("${platformAnalytics.chartCache.closedBucketDelaySeconds:600}")
+  private Long analyticsChartClosedBucketDelaySeconds;
+
+  @Value("${graphQL.query.documentCacheSize:1000}")
+  private Integer documentCacheSize;
+
+  @Value("${graphQL.query.complexityLimit:0}")
+  private Integer maxQueryComplexity;
+
+  @Value("${graphQL.query.maxDataLoaderBatches:0}")
+  private Integer maxDataLoaderBatches;
+
+  @Value("${graphQL.query.maxResolverCalls:0}")
+  private Integer maxResolverCalls;
+
+  @Value("${graphQL.concurrency.maxThreads:0}")
+  private Integer executorMaxThreads;
+
+  @Value("${graphQL.concurrency.queueSize:1000}")
+  private Integer executorQueueSize;
+
+  @Value("${graphQL.concurrency.virtualThreads:false}")
+  private Boolean executorVirtualThreads;
+
+
+  /**
+   * The executor running DataLoader batches & asynchronous resolvers, shut down with the application context.
+   */
+  @Bean(name = "graphQLExecutorService", destroyMethod = "shutdown")
+  @Nonnull
+  protected ExecutorService getGraphQLExecutorService() {
+    if (executorMaxThreads > 0) {
+      return GraphQLConcurrencyUtils.newExecutorService(executorMaxThreads, executorQueueSize, executorVirtualThreads);
+    }
+    // Shutting down the common pool has no effect
+    return ForkJoinPool.commonPool();
+  }
 
   @Bean(name = "graphQLEngine")
   @Nonnull
-  protected GraphQLEngine getInstance() {
+  protected GraphQLEngine getInstance(
+      @Qualifier("graphQLExecutorService") final ExecutorService graphQLExecutorService) {
     GmsGraphQLEngineArgs args = new GmsGraphQLEngineArgs();
     args.setEntityClient(_entityClient);
     args.setGraphClient(_graphClient);
     args.setUsageClient(_usageClient);
     if (isAnalyticsEnabled) {
-      args.setAnalyticsService(new AnalyticsService(elasticClient, indexConvention));
+      final AnalyticsChartCache chartCache = analyticsChartCacheMaxSize > 0
+          ? new AnalyticsChartCache(analyticsChartCacheMaxSize, analyticsChartOpenResultTtlSeconds,
+              analyticsChartClosedBucketDelaySeconds)
+          : null;
+      args.setAnalyticsService(new AnalyticsService(elasticClient, indexConvention, chartCache));
     }
     args.setEntityService(_entityService);
     args.setRecommendationsService(_recommendationsService);
@@ -205,8 +257,13 @@ public class GraphQLEngineFactory {
     args.setQueryService(_queryService);
     args.setFeatureFlags(_configProvider.getFeatureFlags());
     args.setDataProductService(_dataProductService);
+    GraphQLConcurrencyUtils.setExecutorService(graphQLExecutorService);
     return new GmsGraphQLEngine(
             args
-    ).builder().build();
+    ).builder()
+        .setDocumentCacheSize(documentCacheSize)
+        .setMaxQueryComplexity(maxQueryComplexity)
+        .setQueryBudget(maxDataLoaderBatches, maxResolverCalls)
+        .build();
   }
 }
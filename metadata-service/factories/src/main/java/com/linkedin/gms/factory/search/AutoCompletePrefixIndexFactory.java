@@ -0,0 +1,51 @@
+package com.linkedin.gms.factory.search;
+
+import com.linkedin.gms.factory.config.ConfigurationProvider;
+import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.search.EntitySearchService;
+import com.linkedin.metadata.search.cache.AutoCompletePrefixIndex;
+import com.linkedin.metadata.search.client.CachingEntitySearchService;
+import com.linkedin.metadata.service.UpdateIndicesService;
+import javax.annotation.Nonnull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+
+@Configuration
+@PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
+public class AutoCompletePrefixIndexFactory {
+
+  @Autowired
+  @Qualifier("entityRegistry")
+  private EntityRegistry entityRegistry;
+
+  @Autowired
+  @Qualifier("entitySearchService")
+  private EntitySearchService entitySearchService;
+
+  @Autowired
+  @Qualifier("cachingEntitySearchService")
+  private CachingEntitySearchService cachingEntitySearchService;
+
+  @Autowired(required = false)
+  private UpdateIndicesService updateIndicesService;
+
+  @Bean(name = "autoCompletePrefixIndex", destroyMethod = "stop")
+  @ConditionalOnProperty(name = "cache.search.autoComplete.enabled", havingValue = "true")
+  @Nonnull
+  protected AutoCompletePrefixIndex getInstance(ConfigurationProvider configurationProvider) {
+    AutoCompletePrefixIndex index = new AutoCompletePrefixIndex(entityRegistry, entitySearchService,
+        configurationProvider.getCache().getSearch().getAutoComplete());
+    index.start();
+    cachingEntitySearchService.setAutoCompletePrefixIndex(index);
+    if (updateIndicesService != null) {
+      updateIndicesService.setAutoCompletePrefixIndex(index);
+    }
+    return index;
+  }
+}
@@ -0,0 +1,74 @@
+package com.linkedin.gms.factory.search;
+
+import com.linkedin.gms.factory.entityregistry.EntityRegistryFactory;
+import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
+import com.linkedin.metadata.Constants;
+import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.search.elasticsearch.ElasticSearchService;
+import com.linkedin.metadata.search.elasticsearch.browse.ESBrowseTreeDAO;
+import com.linkedin.metadata.service.UpdateIndicesService;
+import java.io.IOException;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
+
+
+@Slf4j
+@Configuration
+@PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
+@Import({BaseElasticSearchComponentsFactory.class, EntityRegistryFactory.class, ElasticSearchServiceFactory.class})
+public class BrowseTreeFactory {
+
+  @Autowired
+  @Qualifier("baseElasticSearchComponents")
+  private BaseElasticSearchComponentsFactory.BaseElasticSearchComponents components;
+
+  @Autowired
+  @Qualifier("entityRegistry")
+  private EntityRegistry entityRegistry;
+
+  @Autowired
+  @Qualifier("elasticSearchService")
+  private ElasticSearchService elasticSearchService;
+
+  @Autowired(required = false)
+  private UpdateIndicesService updateIndicesService;
+
+  @Bean(name = "browseTreeDAO")
+  @ConditionalOnProperty(name = "searchService.browseTree.enabled", havingValue = "true")
+  @Nonnull
+  protected ESBrowseTreeDAO getInstance() throws IOException {
+    ESBrowseTreeDAO browseTreeDAO = new ESBrowseTreeDAO(components.getSearchClient(), components.getIndexConvention(),
+        components.getBulkProcessor(), components.getIndexBuilder(), components.getNumRetries());
+    browseTreeDAO.configure();
+    // Rebuilds interrupted by a restart are redone: the tree of an entity type is only served once its rebuild completed
+    Thread rebuild = new Thread(() -> rebuildAll(browseTreeDAO), "browse-tree-rebuild");
+    rebuild.setDaemon(true);
+    rebuild.start();
+    elasticSearchService.setBrowseTreeDAO(browseTreeDAO);
+    if (updateIndicesService != null) {
+      updateIndicesService.setBrowseTreeDAO(browseTreeDAO);
+    }
+    return browseTreeDAO;
+  }
+
+  private void rebuildAll(@Nonnull ESBrowseTreeDAO browseTreeDAO) {
+    for (EntitySpec entitySpec : entityRegistry.getEntitySpecs().values()) {
+      if (!entitySpec.hasAspect(Constants.BROWSE_PATHS_V2_ASPECT_NAME) || browseTreeDAO.isRebuilt(entitySpec.getName())) {
+        continue;
+      }
+      try {
+        browseTreeDAO.rebuild(entitySpec.getName());
+      } catch (Exception e) {
+        log.error("Failed to rebuild the browse tree of entity {}", entitySpec.getName(), e);
+      }
+    }
+  }
+}
@@ -6,6 +6,7 @@ import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.timeline.TimelineService;
 import com.linkedin.metadata.timeline.TimelineServiceImpl;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
@@ -18,10 +19,13 @@ import javax.annotation.Nonnull;
 @PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
 public class TimelineServiceFactory {
 
+  @Value("${timelineService.changeTransactionCacheSize:10000}")
+  private Integer _changeTransactionCacheSize;
+
   @Bean(name = "timelineService")
   @DependsOn({"entityAspectDao", "entityService", "entityRegistry"})
   @Nonnull
   protected TimelineService timelineService(@Qualifier("entityAspectDao") AspectDao aspectDao, EntityRegistry entityRegistry) {
-    return new TimelineServiceImpl(aspectDao, entityRegistry);
+    return new TimelineServiceImpl(aspectDao, entityRegistry, _changeTransactionCacheSize);
   }
 }
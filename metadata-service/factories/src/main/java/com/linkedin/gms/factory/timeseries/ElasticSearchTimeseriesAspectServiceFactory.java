@@ -1,24 +1,35 @@
 package com.linkedin.gms.factory.timeseries;
 
+import com.linkedin.gms.factory.config.ConfigurationProvider;
 import com.linkedin.gms.factory.entityregistry.EntityRegistryFactory;
 import com.linkedin.gms.factory.search.BaseElasticSearchComponentsFactory;
 import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.timeseries.elastic.ElasticSearchTimeseriesAspectService;
 import com.linkedin.metadata.timeseries.elastic.indexbuilder.TimeseriesAspectIndexBuilders;
+import com.linkedin.metadata.timeseries.elastic.indexbuilder.TimeseriesIndexPartitions;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.PropertySource;
 
+import static com.linkedin.metadata.Constants.*;
+
 
 @Configuration
 @PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
 @Import({BaseElasticSearchComponentsFactory.class, EntityRegistryFactory.class})
 public class ElasticSearchTimeseriesAspectServiceFactory {
+  private static final long RETENTION_INTERVAL_HOURS = 24;
+  private static final long UNPARTITIONED_INDEX_CHECK_INTERVAL_HOURS = 1;
+
   @Autowired
   @Qualifier("baseElasticSearchComponents")
   private BaseElasticSearchComponentsFactory.BaseElasticSearchComponents components;
@@ -27,11 +38,41 @@ public class ElasticSearchTimeseriesAspectServiceFactory {
   @Qualifier("entityRegistry")
   private EntityRegistry entityRegistry;
 
+  @Autowired
+  private ConfigurationProvider configurationProvider;
+
+  @Value("${elasticsearch.timeseries.partitioning.enabled:false}")
+  private boolean partitioningEnabled;
+
+  @Value("${elasticsearch.timeseries.partitioning.retentionMonths:0}")
+  private int retentionMonths;
+
   @Bean(name = "elasticSearchTimeseriesAspectService")
   @Nonnull
   protected ElasticSearchTimeseriesAspectService getInstance() {
-    return new ElasticSearchTimeseriesAspectService(components.getSearchClient(), components.getIndexConvention(),
-        new TimeseriesAspectIndexBuilders(components.getIndexBuilder(), entityRegistry,
-            components.getIndexConvention()), entityRegistry, components.getBulkProcessor(), components.getNumRetries());
+    TimeseriesIndexPartitions partitions =
+        new TimeseriesIndexPartitions(components.getIndexConvention(), partitioningEnabled, retentionMonths);
+    ElasticSearchTimeseriesAspectService timeseriesAspectService =
+        new ElasticSearchTimeseriesAspectService(components.getSearchClient(), components.getIndexConvention(),
+            new TimeseriesAspectIndexBuilders(components.getIndexBuilder(), entityRegistry,
+                components.getIndexConvention()), entityRegistry, components.getBulkProcessor(),
+            components.getNumRetries(), partitions);
+    timeseriesAspectService.setPointInTimeEnabled(configurationProvider.getFeatureFlags().isPointInTimeCreationEnabled()
+        && ELASTICSEARCH_IMPLEMENTATION_ELASTICSEARCH.equalsIgnoreCase(
+            configurationProvider.getElasticSearch().getImplementation()));
+    if (partitioningEnabled) {
+      ScheduledExecutorService partitionExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "timeseries-partition-maintenance");
+        thread.setDaemon(true);
+        return thread;
+      });
+      partitionExecutor.scheduleWithFixedDelay(timeseriesAspectService::refreshUnpartitionedIndexState,
+          UNPARTITIONED_INDEX_CHECK_INTERVAL_HOURS, UNPARTITIONED_INDEX_CHECK_INTERVAL_HOURS, TimeUnit.HOURS);
+      if (retentionMonths > 0) {
+        partitionExecutor.scheduleWithFixedDelay(timeseriesAspectService::applyRetention, 0, RETENTION_INTERVAL_HOURS,
+            TimeUnit.HOURS);
+      }
+    }
+    return timeseriesAspectService;
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+package com.linkedin.gms.factory.timeseries;
+
+import com.linkedin.gms.factory.search.BaseElasticSearchComponentsFactory;
+import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
+import com.linkedin.metadata.service.UpdateIndicesService;
+import com.linkedin.metadata.timeseries.elastic.usage.ESUsageRollupDAO;
+import java.io.IOException;
+import javax.annotation.Nonnull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
+
+
+@Configuration
+@PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
+@Import({BaseElasticSearchComponentsFactory.class})
+public class UsageRollupDAOFactory {
+  @Autowired
+  @Qualifier("baseElasticSearchComponents")
+  private BaseElasticSearchComponentsFactory.BaseElasticSearchComponents components;
+
+  @Autowired(required = false)
+  private UpdateIndicesService updateIndicesService;
+
+  @Value("${usageRollups.enabled:false}")
+  private boolean enabled;
+
+  // Whether this instance runs the MCL consumer, which rolls up the usage events
+  @Value("#{'${MAE_CONSUMER_ENABLED:false}' == 'true' or '${MCL_CONSUMER_ENABLED:false}' == 'true'}")
+  private boolean consumesChangeLogs;
+
+  // Unset by default: rollups are then used from the first startup with rollups enabled
+  @Value("${usageRollups.validFromMillis:#{null}}")
+  private Long validFromMillis;
+
+  @Bean(name = "usageRollupDAO")
+  @Nonnull
+  protected ESUsageRollupDAO getInstance() throws IOException {
+    ESUsageRollupDAO usageRollupDAO = new ESUsageRollupDAO(components.getSearchClient(),
+        components.getIndexConvention(), components.getBulkProcessor(), components.getIndexBuilder(),
+        components.getNumRetries(), enabled, validFromMillis);
+    if (enabled) {
+      usageRollupDAO.configure(consumesChangeLogs);
+      if (updateIndicesService != null) {
+        updateIndicesService.setUsageRollupDAO(usageRollupDAO);
+      }
+    }
+    return usageRollupDAO;
+  }
+}
@@ -9,6 +9,7 @@ import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.datahub.graphql.CachingPreparsedDocumentProvider;
 import com.linkedin.datahub.graphql.GraphQLEngine;
 import com.linkedin.datahub.graphql.exception.DataHubGraphQLError;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
@@ -69,13 +70,22 @@ public class GraphQLController {
       return CompletableFuture.completedFuture(new ResponseEntity<>(HttpStatus.BAD_REQUEST));
     }
 
+    /*
+     * Extract "extensions" map. May contain the hash of a persisted query, in which case "query" can be omitted.
+     */
+    JsonNode extensionsJson = bodyJson.get("extensions");
+    final Map<String, Object> extensions = (extensionsJson != null && extensionsJson.isObject())
+      ? new ObjectMapper().convertValue(extensionsJson, new TypeReference<Map<String, Object>>() { })
+      : Collections.emptyMap();
+
     /*
      * Extract "query" field
      */
     JsonNode queryJson = bodyJson.get("query");
-    if (queryJson == null) {
+    if (queryJson == null && !extensions.containsKey(CachingPreparsedDocumentProvider.PERSISTED_QUERY_EXTENSION)) {
       return CompletableFuture.completedFuture(new ResponseEntity<>(HttpStatus.BAD_REQUEST));
     }
+    final String query = queryJson != null ? queryJson.asText() : "";
 
     /*
      * Extract "variables" map
@@ -85,7 +95,8 @@ public class GraphQLController {
       ? new ObjectMapper().convertValue(variablesJson, new TypeReference<Map<String, Object>>() { })
       : Collections.emptyMap();
 
-    log.debug(String.format("Executing graphQL query: %s, variables: %s", queryJson, variables));
+    log.debug(String.format("Executing graphQL query: %s, variables: %s, extensions: %s", queryJson, variables,
+        extensions));
 
     /*
      * Init QueryContext
@@ -100,7 +111,7 @@ public class GraphQLController {
       /*
        * Execute GraphQL Query
        */
-      ExecutionResult executionResult = _engine.execute(queryJson.asText(), variables, context);
+      ExecutionResult executionResult = _engine.execute(query, variables, extensions, context);
 
       if (executionResult.getErrors().size() != 0) {
         // There were GraphQL errors. Report in error logs.
@@ -167,10 +178,21 @@ public class GraphQLController {
                 parentResolver = resolvers.stream().filter(resolver -> resolver.get("parentType").equals("Query")).findFirst();
         String fieldName = parentResolver.isPresent() ? (String) parentResolver.get().get("fieldName") : "UNKNOWN";
         MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), fieldName)).update(totalDuration);
+        // Parsing & validation are skipped, and not traced, when the query document was cached.
+        submitPhaseDuration(tracingMap.get("parsing"), "parse");
+        submitPhaseDuration(tracingMap.get("validation"), "validate");
       }
     } catch (Exception e) {
       MetricUtils.get().counter(MetricRegistry.name(this.getClass(), "submitMetrics", "exception")).inc();
       log.error("Unable to submit metrics for GraphQL call.", e);
     }
   }
+
+  @SuppressWarnings("unchecked")
+  private void submitPhaseDuration(Object phaseTracing, String phase) {
+    if (phaseTracing instanceof Map && ((Map<String, Object>) phaseTracing).get("duration") instanceof Number) {
+      long duration = ((Number) ((Map<String, Object>) phaseTracing).get("duration")).longValue();
+      MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), phase)).update(TimeUnit.NANOSECONDS.toMillis(duration));
+    }
+  }
 }
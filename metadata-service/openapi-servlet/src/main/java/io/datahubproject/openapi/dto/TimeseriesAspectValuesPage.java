@@ -0,0 +1,20 @@
+package io.datahubproject.openapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TimeseriesAspectValuesPage {
+  @JsonProperty("values")
+  private List<JsonNode> values;
+  // Absent on the last page
+  @JsonProperty("scrollId")
+  private String scrollId;
+}
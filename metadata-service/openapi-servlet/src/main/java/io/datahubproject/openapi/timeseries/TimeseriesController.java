@@ -0,0 +1,135 @@
+package io.datahubproject.openapi.timeseries;
+
+import com.datahub.authentication.Authentication;
+import com.datahub.authentication.AuthenticationContext;
+import com.datahub.authorization.AuthUtil;
+import com.datahub.authorization.AuthorizerChain;
+import com.datahub.authorization.ConjunctivePrivilegeGroup;
+import com.datahub.authorization.DisjunctivePrivilegeGroup;
+import com.datahub.authorization.ResourceSpec;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.aspect.EnvelopedAspect;
+import com.linkedin.metadata.authorization.PoliciesConfig;
+import com.linkedin.metadata.timeseries.TimeseriesAspectService;
+import com.linkedin.metadata.timeseries.TimeseriesScrollResult;
+import io.datahubproject.openapi.dto.TimeseriesAspectValuesPage;
+import io.datahubproject.openapi.exception.UnauthorizedException;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/timeseries/v1")
+@Slf4j
+@Tag(name = "Timeseries", description = "APIs for reading the timeseries aspects of entities")
+public class TimeseriesController {
+
+  private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+  private static final int MAX_PAGE_SIZE = 10000;
+
+  private final TimeseriesAspectService _timeseriesAspectService;
+  private final ObjectMapper _objectMapper;
+  private final AuthorizerChain _authorizerChain;
+
+  @Value("${authorization.restApiAuthorization:false}")
+  private boolean restApiAuthorizationEnabled;
+
+  /**
+   * Returns a page of the values of a timeseries aspect, most recent first, with the scroll id of the next page.
+   */
+  @GetMapping(value = "/{entityName}/{aspectName}", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<TimeseriesAspectValuesPage> getAspectValues(
+      @PathVariable("entityName") String entityName,
+      @PathVariable("aspectName") String aspectName,
+      @Parameter(name = "urn", required = true, description = "The urn of the entity")
+      @RequestParam("urn") @Nonnull String rawUrn,
+      @RequestParam(name = "startTimeMillis", required = false) @Nullable Long startTimeMillis,
+      @RequestParam(name = "endTimeMillis", required = false) @Nullable Long endTimeMillis,
+      @Parameter(name = "scrollId", description = "The scroll id returned with the previous page")
+      @RequestParam(name = "scrollId", required = false) @Nullable String scrollId,
+      @RequestParam(name = "count", defaultValue = "1000") int count) throws URISyntaxException {
+    final Urn urn = authorize(rawUrn);
+    final TimeseriesScrollResult result = _timeseriesAspectService.scrollAspectValues(urn, entityName, aspectName,
+        startTimeMillis, endTimeMillis, null, null, scrollId, Math.min(count, MAX_PAGE_SIZE));
+    final List<JsonNode> values = result.getValues().stream().map(this::toJson).collect(Collectors.toList());
+    return ResponseEntity.ok(TimeseriesAspectValuesPage.builder()
+        .values(values)
+        .scrollId(result.getScrollId())
+        .build());
+  }
+
+  /**
+   * Streams all the values of a timeseries aspect, most recent first, as newline delimited JSON. Values are fetched a
+   * page at a time while the response is written, so exports of any size are served in constant memory.
+   */
+  @GetMapping(value = "/{entityName}/{aspectName}/export", produces = NDJSON_MEDIA_TYPE)
+  public ResponseEntity<StreamingResponseBody> exportAspectValues(
+      @PathVariable("entityName") String entityName,
+      @PathVariable("aspectName") String aspectName,
+      @Parameter(name = "urn", required = true, description = "The urn of the entity")
+      @RequestParam("urn") @Nonnull String rawUrn,
+      @RequestParam(name = "startTimeMillis", required = false) @Nullable Long startTimeMillis,
+      @RequestParam(name = "endTimeMillis", required = false) @Nullable Long endTimeMillis,
+      @RequestParam(name = "pageSize", defaultValue = "1000") int pageSize) throws URISyntaxException {
+    final Urn urn = authorize(rawUrn);
+    final Iterator<EnvelopedAspect> values = _timeseriesAspectService.streamAspectValues(urn, entityName, aspectName,
+        startTimeMillis, endTimeMillis, null, null, Math.min(pageSize, MAX_PAGE_SIZE));
+    final StreamingResponseBody body = (OutputStream outputStream) -> {
+      while (values.hasNext()) {
+        _objectMapper.writeValue(outputStream, toJson(values.next()));
+        outputStream.write('\n');
+      }
+      outputStream.flush();
+    };
+    return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON_MEDIA_TYPE)).body(body);
+  }
+
+  private Urn authorize(@Nonnull String rawUrn) throws URISyntaxException {
+    // Have to decode here because of frontend routing, does No-op for already unencoded through direct API access
+    final Urn urn = Urn.createFromString(URLDecoder.decode(rawUrn, StandardCharsets.UTF_8));
+    Authentication authentication = AuthenticationContext.getAuthentication();
+    String actorUrnStr = authentication.getActor().toUrnStr();
+    DisjunctivePrivilegeGroup orGroup = new DisjunctivePrivilegeGroup(ImmutableList.of(
+        new ConjunctivePrivilegeGroup(ImmutableList.of(PoliciesConfig.GET_TIMESERIES_ASPECT_PRIVILEGE.getType()))));
+    if (restApiAuthorizationEnabled && !AuthUtil.isAuthorized(_authorizerChain, actorUrnStr,
+        Optional.of(new ResourceSpec(urn.getEntityType(), urn.toString())), orGroup)) {
+      throw new UnauthorizedException(actorUrnStr + " is unauthorized to get timeseries aspects of " + urn);
+    }
+    return urn;
+  }
+
+  private JsonNode toJson(@Nonnull EnvelopedAspect value) {
+    try {
+      return _objectMapper.readTree(value.getAspect().getValue().asString(StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to parse timeseries aspect value", e);
+    }
+  }
+}
@@ -29,6 +29,8 @@ import com.linkedin.mxe.SystemMetadata;
 import com.linkedin.r2.RemoteInvocationException;
 import java.net.URISyntaxException;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -59,6 +61,31 @@ public interface EntityClient {
       @Nullable final Set<String> aspectNames,
       @Nonnull final Authentication authentication) throws RemoteInvocationException, URISyntaxException;
 
+  /**
+   * Batch gets the latest aspects of urns of any entity type, fetching a different set of aspects for each urn. By
+   * default, urns fetching the same aspects are gathered into one batch get per entity type.
+   *
+   * @param aspectNamesByUrn map of urn to the aspects to fetch for it, or to null to fetch all of its aspects
+   */
+  @Nonnull
+  default Map<Urn, EntityResponse> batchGetV2(
+      @Nonnull final Map<Urn, Set<String>> aspectNamesByUrn,
+      @Nonnull final Authentication authentication) throws RemoteInvocationException, URISyntaxException {
+    final Map<String, Map<Set<String>, Set<Urn>>> urnsByEntityAndAspects = new HashMap<>();
+    aspectNamesByUrn.forEach((urn, aspectNames) -> urnsByEntityAndAspects
+        .computeIfAbsent(urn.getEntityType(), entityName -> new HashMap<>())
+        .computeIfAbsent(aspectNames, names -> new HashSet<>())
+        .add(urn));
+
+    final Map<Urn, EntityResponse> entities = new HashMap<>();
+    for (Map.Entry<String, Map<Set<String>, Set<Urn>>> entityEntry : urnsByEntityAndAspects.entrySet()) {
+      for (Map.Entry<Set<String>, Set<Urn>> aspectsEntry : entityEntry.getValue().entrySet()) {
+        entities.putAll(batchGetV2(entityEntry.getKey(), aspectsEntry.getValue(), aspectsEntry.getKey(), authentication));
+      }
+    }
+    return entities;
+  }
+
   @Nonnull
   Map<Urn, EntityResponse> batchGetVersionedV2(
       @Nonnull String entityName,
@@ -23,6 +23,7 @@ import com.linkedin.metadata.query.filter.SortCriterion;
 import com.linkedin.metadata.restli.RestliUtil;
 import com.linkedin.metadata.search.EntitySearchService;
 import com.linkedin.metadata.timeseries.TimeseriesAspectService;
+import com.linkedin.metadata.timeseries.TimeseriesScrollResult;
 import com.linkedin.metadata.utils.EntityKeyUtils;
 import com.linkedin.mxe.MetadataChangeProposal;
 import com.linkedin.mxe.SystemMetadata;
@@ -60,6 +61,7 @@ import static com.linkedin.metadata.resources.restli.RestliUtils.*;
 public class AspectResource extends CollectionResourceTaskTemplate<String, VersionedAspect> {
 
   private static final String ACTION_GET_TIMESERIES_ASPECT = "getTimeseriesAspectValues";
+  private static final String ACTION_SCROLL_TIMESERIES_ASPECT = "scrollTimeseriesAspectValues";
   private static final String ACTION_INGEST_PROPOSAL = "ingestProposal";
   private static final String ACTION_GET_COUNT = "getCount";
   private static final String PARAM_ENTITY = "entity";
@@ -72,6 +74,8 @@ public class AspectResource extends CollectionResourceTaskTemplate<String, Versi
 
   private static final String ASYNC_INGEST_DEFAULT_NAME = "ASYNC_INGEST_DEFAULT";
   private static final String UNSET = "unset";
+  // Same bound as the Elasticsearch max result window of a single page
+  private static final int MAX_SCROLL_PAGE_SIZE = 10000;
 
   private final Clock _clock = Clock.systemUTC();
 
@@ -170,6 +174,53 @@ public class AspectResource extends CollectionResourceTaskTemplate<String, Versi
     }, MetricRegistry.name(this.getClass(), "getTimeseriesAspectValues"));
   }
 
+  /**
+   * Pages through the timeseries aspect values: each response holds up to count values, and the scroll id to pass to
+   * fetch the next page, unless it is the last one.
+   */
+  @Action(name = ACTION_SCROLL_TIMESERIES_ASPECT)
+  @Nonnull
+  @WithSpan
+  public Task<GetTimeseriesAspectValuesResponse> scrollTimeseriesAspectValues(
+      @ActionParam(PARAM_URN) @Nonnull String urnStr, @ActionParam(PARAM_ENTITY) @Nonnull String entityName,
+      @ActionParam(PARAM_ASPECT) @Nonnull String aspectName,
+      @ActionParam(PARAM_START_TIME_MILLIS) @Optional @Nullable Long startTimeMillis,
+      @ActionParam(PARAM_END_TIME_MILLIS) @Optional @Nullable Long endTimeMillis,
+      @ActionParam(PARAM_FILTER) @Optional @Nullable Filter filter,
+      @ActionParam(PARAM_SORT) @Optional @Nullable SortCriterion sort,
+      @ActionParam(PARAM_SCROLL_ID) @Optional @Nullable String scrollId,
+      @ActionParam(PARAM_COUNT) @Optional("1000") int count) throws URISyntaxException {
+    log.info(
+        "Scroll Timeseries Aspect values for aspect {} for entity {} with startTimeMillis {}, endTimeMillis {} and count {}.",
+        aspectName, entityName, startTimeMillis, endTimeMillis, count);
+    final Urn urn = Urn.createFromString(urnStr);
+    return RestliUtil.toTask(() -> {
+      Authentication authentication = AuthenticationContext.getAuthentication();
+      if (Boolean.parseBoolean(System.getenv(REST_API_AUTHORIZATION_ENABLED_ENV))
+          && !isAuthorized(authentication, _authorizer, ImmutableList.of(PoliciesConfig.GET_TIMESERIES_ASPECT_PRIVILEGE),
+          new ResourceSpec(urn.getEntityType(), urn.toString()))) {
+        throw new RestLiServiceException(HttpStatus.S_401_UNAUTHORIZED, "User is unauthorized to get timeseries aspect for " + urn);
+      }
+      final TimeseriesScrollResult result = _timeseriesAspectService.scrollAspectValues(urn, entityName, aspectName,
+          startTimeMillis, endTimeMillis, filter, sort, scrollId, Math.min(count, MAX_SCROLL_PAGE_SIZE));
+      GetTimeseriesAspectValuesResponse response = new GetTimeseriesAspectValuesResponse();
+      response.setEntityName(entityName);
+      response.setAspectName(aspectName);
+      if (startTimeMillis != null) {
+        response.setStartTimeMillis(startTimeMillis);
+      }
+      if (endTimeMillis != null) {
+        response.setEndTimeMillis(endTimeMillis);
+      }
+      response.setLimit(count);
+      response.setValues(new EnvelopedAspectArray(result.getValues()));
+      if (result.getScrollId() != null) {
+        response.setScrollId(result.getScrollId());
+      }
+      return response;
+    }, MetricRegistry.name(this.getClass(), "scrollTimeseriesAspectValues"));
+  }
+
   @Action(name = ACTION_INGEST_PROPOSAL)
   @Nonnull
   @WithSpan
@@ -45,7 +45,6 @@ import io.opentelemetry.extension.annotations.WithSpan;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -70,7 +69,6 @@ public class BatchIngestionRunResource extends CollectionResourceTaskTemplate<St
   private static final boolean DEFAULT_INCLUDE_SOFT_DELETED = false;
   private static final boolean DEFAULT_HARD_DELETE = false;
   private static final Integer ELASTIC_MAX_PAGE_SIZE = 10000;
-  private static final Integer ELASTIC_BATCH_DELETE_SLEEP_SEC = 5;
   private static final String ROLLING_BACK_STATUS = "ROLLING_BACK";
   private static final String ROLLED_BACK_STATUS = "ROLLED_BACK";
   private static final String ROLLBACK_FAILED_STATUS = "ROLLBACK_FAILED";
@@ -121,7 +119,8 @@ public class BatchIngestionRunResource extends CollectionResourceTaskTemplate<St
 
         RollbackResponse response = new RollbackResponse();
         List<AspectRowSummary> aspectRowsToDelete;
-        aspectRowsToDelete = _systemMetadataService.findByRunId(runId, doHardDelete, 0, ESUtils.MAX_RESULT_SIZE);
+        aspectRowsToDelete =
+            _systemMetadataService.findByRunIdAfter(runId, doHardDelete, null, null, ESUtils.MAX_RESULT_SIZE);
         Set<String> urns = aspectRowsToDelete.stream().collect(Collectors.groupingBy(AspectRowSummary::getUrn)).keySet();
         List<java.util.Optional<ResourceSpec>> resourceSpecs = urns.stream()
             .map(UrnUtils::getUrn)
@@ -189,16 +188,26 @@ public class BatchIngestionRunResource extends CollectionResourceTaskTemplate<St
         RollbackRunResult rollbackRunResult = _entityService.rollbackRun(aspectRowsToDelete, runId, doHardDelete);
         final List<AspectRowSummary> deletedRows = rollbackRunResult.getRowsRolledBack();
         int rowsDeletedFromEntityDeletion = rollbackRunResult.getRowsDeletedFromEntityDeletion();
-
-        // since elastic limits how many rows we can access at once, we need to iteratively delete
-        while (aspectRowsToDelete.size() >= ELASTIC_MAX_PAGE_SIZE) {
-          sleep(ELASTIC_BATCH_DELETE_SLEEP_SEC);
-          aspectRowsToDelete = _systemMetadataService.findByRunId(runId, doHardDelete, 0, ESUtils.MAX_RESULT_SIZE);
-          log.info("{} remaining rows to delete...", stringifyRowCount(aspectRowsToDelete.size()));
+        log.info("rolled back {} rows so far", deletedRows.size());
+
+        final List<AspectRowSummary> keyAspects =
+            aspectRowsToDelete.stream().filter(AspectRowSummary::isKeyAspect).collect(Collectors.toList());
+
+        // since elastic limits how many rows we can access at once, we need to iteratively delete. Pages continue
+        // after the last (urn, aspect) seen, so rows whose change logs have not updated the index yet are not fetched
+        // again, and rows which could not be rolled back do not stop the remaining ones.
+        List<AspectRowSummary> page = aspectRowsToDelete;
+        while (page.size() >= ELASTIC_MAX_PAGE_SIZE) {
+          final AspectRowSummary lastRow = page.get(page.size() - 1);
+          page = _systemMetadataService.findByRunIdAfter(runId, doHardDelete, lastRow.getUrn(), lastRow.getAspectName(),
+              ESUtils.MAX_RESULT_SIZE);
+          log.info("{} remaining rows to delete...", stringifyRowCount(page.size()));
           log.info("deleting...");
-          rollbackRunResult = _entityService.rollbackRun(aspectRowsToDelete, runId, doHardDelete);
+          rollbackRunResult = _entityService.rollbackRun(page, runId, doHardDelete);
           deletedRows.addAll(rollbackRunResult.getRowsRolledBack());
           rowsDeletedFromEntityDeletion += rollbackRunResult.getRowsDeletedFromEntityDeletion();
+          page.stream().filter(AspectRowSummary::isKeyAspect).forEach(keyAspects::add);
+          log.info("rolled back {} rows so far", deletedRows.size());
         }
 
         // Rollback timeseries aspects
@@ -208,11 +217,6 @@ public class BatchIngestionRunResource extends CollectionResourceTaskTemplate<St
         log.info("finished deleting {} rows", deletedRows.size());
         int aspectsReverted = deletedRows.size() + rowsDeletedFromEntityDeletion;
 
-        final Map<Boolean, List<AspectRowSummary>> aspectsSplitByIsKeyAspects =
-            aspectRowsToDelete.stream().collect(Collectors.partitioningBy(AspectRowSummary::isKeyAspect));
-
-        final List<AspectRowSummary> keyAspects = aspectsSplitByIsKeyAspects.get(true);
-
         final long entitiesDeleted = keyAspects.size();
         final long affectedEntities =
             deletedRows.stream().collect(Collectors.groupingBy(AspectRowSummary::getUrn)).keySet().size();
@@ -269,14 +273,6 @@ public class BatchIngestionRunResource extends CollectionResourceTaskTemplate<St
     }
   }
 
-  private void sleep(Integer seconds) {
-    try {
-      TimeUnit.SECONDS.sleep(seconds);
-    } catch (InterruptedException e) {
-      e.printStackTrace();
-    }
-  }
-
   private void updateExecutionRequestStatus(String runId, String status) {
     try {
       final Urn executionRequestUrn = EntityKeyUtils.convertEntityKeyToUrn(new ExecutionRequestKey().setId(runId), Constants.EXECUTION_REQUEST_ENTITY_NAME);
@@ -9,6 +9,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.linkedin.common.WindowDuration;
 import com.linkedin.common.urn.Urn;
@@ -30,7 +31,10 @@ import com.linkedin.metadata.query.filter.CriterionArray;
 import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.restli.RestliUtil;
 import com.linkedin.metadata.timeseries.TimeseriesAspectService;
+import com.linkedin.metadata.timeseries.elastic.usage.ESUsageRollupDAO;
+import com.linkedin.metadata.timeseries.elastic.usage.UsageRollupPlanner;
 import com.linkedin.metadata.timeseries.transformer.TimeseriesAspectTransformer;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.parseq.Task;
 import com.linkedin.restli.common.HttpStatus;
 import com.linkedin.restli.server.RestLiServiceException;
@@ -45,6 +49,7 @@ import com.linkedin.timeseries.GenericTable;
 import com.linkedin.timeseries.GroupingBucket;
 import com.linkedin.timeseries.GroupingBucketType;
 import com.linkedin.timeseries.TimeWindowSize;
+import com.linkedin.util.Pair;
 import com.linkedin.usage.FieldUsageCounts;
 import com.linkedin.usage.FieldUsageCountsArray;
 import com.linkedin.usage.UsageAggregation;
@@ -59,9 +64,13 @@ import io.opentelemetry.extension.annotations.WithSpan;
 import java.net.URISyntaxException;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Named;
 import lombok.Getter;
@@ -104,6 +113,10 @@ public class UsageStats extends SimpleResourceTemplate<UsageAggregation> {
   @Named("timeseriesAspectService")
   private TimeseriesAspectService _timeseriesAspectService;
 
+  @Inject
+  @Named("usageRollupDAO")
+  private ESUsageRollupDAO _usageRollupDAO;
+
   @Inject
   @Named("entityRegistry")
   private EntityRegistry _entityRegistry;
@@ -309,6 +322,92 @@ public class UsageStats extends SimpleResourceTemplate<UsageAggregation> {
     return aggregations;
   }
 
+  /**
+   * Computes the aggregations from the weekly and monthly rollups fully covered by the time range, and from the raw
+   * usage events for the rest of the range.
+   */
+  private UsageQueryResultAggregations getRollupAggregations(@Nonnull String resource, long startTime, long endTime) {
+    Urn resourceUrn = UrnUtils.getUrn(resource);
+    UsageRollupPlanner.Plan plan =
+        UsageRollupPlanner.plan(startTime, endTime, _usageRollupDAO.getValidFromMillis());
+    MetricUtils.counter(this.getClass(), "rollupPeriods").inc(plan.getPeriods().size());
+    MetricUtils.counter(this.getClass(), "rollupRawRanges").inc(plan.getRawRanges().size());
+
+    List<UserUsageCounts> userUsageCounts =
+        new ArrayList<>(_usageRollupDAO.getUserUsageCounts(resourceUrn, plan.getPeriods()));
+    List<FieldUsageCounts> fieldUsageCounts =
+        new ArrayList<>(_usageRollupDAO.getFieldUsageCounts(resourceUrn, plan.getPeriods()));
+    for (Pair<Long, Long> rawRange : plan.getRawRanges()) {
+      Filter rawFilter = buildFilter(resource, rawRange.getFirst(), rawRange.getSecond());
+      userUsageCounts.addAll(getUserUsageCounts(rawFilter));
+      fieldUsageCounts.addAll(getFieldUsageCounts(rawFilter));
+    }
+    return mergeAggregations(userUsageCounts, fieldUsageCounts);
+  }
+
+  /**
+   * Merges the counts of the same user or field from the different rollup periods and raw ranges, highest first.
+   */
+  @VisibleForTesting
+  static UsageQueryResultAggregations mergeAggregations(@Nonnull List<UserUsageCounts> userUsageCounts,
+      @Nonnull List<FieldUsageCounts> fieldUsageCounts) {
+    Map<Urn, UserUsageCounts> usersByUrn = new LinkedHashMap<>();
+    for (UserUsageCounts userUsageCount : userUsageCounts) {
+      UserUsageCounts merged = usersByUrn.get(userUsageCount.getUser());
+      if (merged == null) {
+        usersByUrn.put(userUsageCount.getUser(), userUsageCount);
+        continue;
+      }
+      merged.setCount(getCount(merged) + getCount(userUsageCount));
+      if (!merged.hasUserEmail() && userUsageCount.hasUserEmail()) {
+        merged.setUserEmail(userUsageCount.getUserEmail());
+      }
+    }
+    Map<String, Integer> countsByField = new LinkedHashMap<>();
+    for (FieldUsageCounts fieldUsageCount : fieldUsageCounts) {
+      countsByField.merge(fieldUsageCount.getFieldName(), fieldUsageCount.getCount(), Integer::sum);
+    }
+
+    UsageQueryResultAggregations aggregations = new UsageQueryResultAggregations();
+    aggregations.setUsers(new UserUsageCountsArray(usersByUrn.values()
+        .stream()
+        .sorted(Comparator.comparingInt(UsageStats::getCount).reversed())
+        .collect(Collectors.toList())));
+    aggregations.setUniqueUserCount(usersByUrn.size());
+    aggregations.setFields(new FieldUsageCountsArray(countsByField.entrySet()
+        .stream()
+        .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+        .map(entry -> new FieldUsageCounts().setFieldName(entry.getKey()).setCount(entry.getValue()))
+        .collect(Collectors.toList())));
+    return aggregations;
+  }
+
+  private static int getCount(@Nonnull UserUsageCounts userUsageCount) {
+    return userUsageCount.hasCount() ? userUsageCount.getCount() : 0;
+  }
+
+  private static Filter buildFilter(@Nonnull String resource, @Nullable Long startTime, @Nullable Long endTime) {
+    Filter filter = new Filter();
+    ArrayList<Criterion> criteria = new ArrayList<>();
+    Criterion hasUrnCriterion = new Criterion().setField("urn").setCondition(Condition.EQUAL).setValue(resource);
+    criteria.add(hasUrnCriterion);
+    if (startTime != null) {
+      Criterion startTimeCriterion = new Criterion().setField(ES_FIELD_TIMESTAMP)
+          .setCondition(Condition.GREATER_THAN_OR_EQUAL_TO)
+          .setValue(startTime.toString());
+      criteria.add(startTimeCriterion);
+    }
+    if (endTime != null) {
+      Criterion endTimeCriterion = new Criterion().setField(ES_FIELD_TIMESTAMP)
+          .setCondition(Condition.LESS_THAN_OR_EQUAL_TO)
+          .setValue(endTime.toString());
+      criteria.add(endTimeCriterion);
+    }
+
+    filter.setOr(new ConjunctiveCriterionArray(new ConjunctiveCriterion().setAnd(new CriterionArray(criteria))));
+    return filter;
+  }
+
   @Action(name = ACTION_QUERY)
   @Nonnull
   @WithSpan
@@ -328,30 +427,16 @@ public class UsageStats extends SimpleResourceTemplate<UsageAggregation> {
             "User is unauthorized to query usage.");
       }
       // 1. Populate the filter. This is common for all queries.
-      Filter filter = new Filter();
-      ArrayList<Criterion> criteria = new ArrayList<>();
-      Criterion hasUrnCriterion = new Criterion().setField("urn").setCondition(Condition.EQUAL).setValue(resource);
-      criteria.add(hasUrnCriterion);
-      if (startTime != null) {
-        Criterion startTimeCriterion = new Criterion().setField(ES_FIELD_TIMESTAMP)
-            .setCondition(Condition.GREATER_THAN_OR_EQUAL_TO)
-            .setValue(startTime.toString());
-        criteria.add(startTimeCriterion);
-      }
-      if (endTime != null) {
-        Criterion endTimeCriterion = new Criterion().setField(ES_FIELD_TIMESTAMP)
-            .setCondition(Condition.LESS_THAN_OR_EQUAL_TO)
-            .setValue(endTime.toString());
-        criteria.add(endTimeCriterion);
-      }
-      
-      filter.setOr(new ConjunctiveCriterionArray(new ConjunctiveCriterion().setAnd(new CriterionArray(criteria))));
+      Filter filter = buildFilter(resource, startTime, endTime);
 
       // 2. Get buckets.
       UsageAggregationArray buckets = getBuckets(filter, resource, duration);
 
-      // 3. Get aggregations.
-      UsageQueryResultAggregations aggregations = getAggregations(filter);
+      // 3. Get aggregations. Bounded ranges are served from the usage rollups when they are enabled.
+      UsageQueryResultAggregations aggregations =
+          _usageRollupDAO.isEnabled() && startTime != null && endTime != null
+              ? getRollupAggregations(resource, startTime, endTime)
+              : getAggregations(filter);
 
       // 4. Compute totalSqlQuery count from the buckets itself.
       // We want to avoid issuing an additional query with a sum aggregation.
@@ -0,0 +1,45 @@
+package com.linkedin.metadata.resources.usage;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.usage.FieldUsageCounts;
+import com.linkedin.usage.UsageQueryResultAggregations;
+import com.linkedin.usage.UserUsageCounts;
+import java.util.Arrays;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+
+public class UsageStatsTest {
+  private static final Urn USER_ONE = UrnUtils.getUrn("urn:li:corpuser:one");
+  private static final Urn USER_TWO = UrnUtils.getUrn("urn:li:corpuser:two");
+
+  @Test
+  public void testMergeAggregations() {
+    // The same user and field counted in a rollup period and in a raw range
+    UsageQueryResultAggregations aggregations = UsageStats.mergeAggregations(
+        Arrays.asList(
+            new UserUsageCounts().setUser(USER_ONE).setCount(2),
+            new UserUsageCounts().setUser(USER_TWO).setCount(3),
+            new UserUsageCounts().setUser(USER_ONE).setCount(4).setUserEmail("one@test.com")),
+        Arrays.asList(
+            new FieldUsageCounts().setFieldName("a").setCount(1),
+            new FieldUsageCounts().setFieldName("b").setCount(5),
+            new FieldUsageCounts().setFieldName("a").setCount(6)));
+
+    assertEquals(aggregations.getUniqueUserCount().intValue(), 2);
+    assertEquals(aggregations.getUsers().size(), 2);
+    assertEquals(aggregations.getUsers().get(0).getUser(), USER_ONE);
+    assertEquals(aggregations.getUsers().get(0).getCount().intValue(), 6);
+    assertEquals(aggregations.getUsers().get(0).getUserEmail(), "one@test.com");
+    assertEquals(aggregations.getUsers().get(1).getUser(), USER_TWO);
+    assertEquals(aggregations.getUsers().get(1).getCount().intValue(), 3);
+
+    assertEquals(aggregations.getFields().size(), 2);
+    assertEquals(aggregations.getFields().get(0).getFieldName(), "a");
+    assertEquals(aggregations.getFields().get(0).getCount().intValue(), 7);
+    assertEquals(aggregations.getFields().get(1).getFieldName(), "b");
+    assertEquals(aggregations.getFields().get(1).getCount().intValue(), 5);
+  }
+}
@@ -7,6 +7,7 @@ import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.query.filter.SortCriterion;
 import com.linkedin.metadata.timeseries.BatchWriteOperationsOptions;
 import com.linkedin.metadata.timeseries.TimeseriesAspectService;
+import com.linkedin.metadata.timeseries.TimeseriesScrollResult;
 import com.linkedin.timeseries.AggregationSpec;
 import com.linkedin.timeseries.DeleteAspectValuesResult;
 import com.linkedin.timeseries.GenericTable;
@@ -59,6 +60,14 @@ public class MockTimeseriesAspectService implements TimeseriesAspectService {
     return List.of();
   }
 
+  @Nonnull
+  @Override
+  public TimeseriesScrollResult scrollAspectValues(@Nonnull Urn urn, @Nonnull String entityName,
+      @Nonnull String aspectName, @Nullable Long startTimeMillis, @Nullable Long endTimeMillis,
+      @Nullable Filter filter, @Nullable SortCriterion sort, @Nullable String scrollId, int count) {
+    return new TimeseriesScrollResult(List.of(), null);
+  }
+
   @Nonnull
   @Override
   public GenericTable getAggregatedStats(@Nonnull String entityName, @Nonnull String aspectName,
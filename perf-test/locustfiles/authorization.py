@@ -0,0 +1,42 @@
+import json
+import random
+
+from locust import HttpUser, constant, task
+
+# Every field of EntityPrivileges is backed by an authorization check against the dataset, so each request issues
+# several checks for the same actor & resource. A small pool of datasets keeps the resources hot.
+NUM_DATASETS = 100
+
+QUERY = """
+query getDatasetPrivileges($urn: String!) {
+  dataset(urn: $urn) {
+    urn
+    privileges {
+      canEditLineage
+      canEditEmbed
+      canEditQueries
+    }
+  }
+}
+"""
+
+
+class AuthorizationUser(HttpUser):
+    wait_time = constant(0)
+
+    @task
+    def privileges(self):
+        id = random.randint(1, NUM_DATASETS)
+        self.client.request_name = "/api/graphql?[dataset privileges]"
+        self.client.post(
+            "/api/graphql",
+            json.dumps(
+                {
+                    "query": QUERY,
+                    "variables": {
+                        "urn": f"urn:li:dataset:(urn:li:dataPlatform:bigquery,test_dataset_{id},PROD)"
+                    },
+                }
+            ),
+            headers={"Content-Type": "application/json"},
+        )